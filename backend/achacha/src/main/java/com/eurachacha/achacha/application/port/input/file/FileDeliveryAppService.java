@@ -0,0 +1,9 @@
+package com.eurachacha.achacha.application.port.input.file;
+
+import com.eurachacha.achacha.application.port.input.file.dto.response.ThumbnailCookieResponseDto;
+
+public interface FileDeliveryAppService {
+
+	// 썸네일 조회용 CloudFront 서명 쿠키 발급 (세션당 한 번)
+	ThumbnailCookieResponseDto issueThumbnailCookie();
+}
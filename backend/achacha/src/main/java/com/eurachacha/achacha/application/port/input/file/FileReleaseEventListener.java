@@ -0,0 +1,7 @@
+package com.eurachacha.achacha.application.port.input.file;
+
+import com.eurachacha.achacha.application.service.file.event.FileReleasedEvent;
+
+public interface FileReleaseEventListener {
+	void handleFileReleased(FileReleasedEvent event);
+}
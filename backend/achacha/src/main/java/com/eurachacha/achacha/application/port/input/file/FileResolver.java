@@ -0,0 +1,19 @@
+package com.eurachacha.achacha.application.port.input.file;
+
+import java.util.Collection;
+import java.util.Map;
+
+import com.eurachacha.achacha.application.port.input.file.dto.FileKey;
+import com.eurachacha.achacha.domain.model.file.enums.FileType;
+
+public interface FileResolver {
+
+	// 여러 파일 키의 URL을 한 번에 조회 (파일이 없는 키는 결과에 포함되지 않음)
+	Map<FileKey, String> resolveUrls(Collection<FileKey> keys);
+
+	// 단일 파일 키의 URL 조회 (파일이 없으면 null)
+	String resolveUrl(FileKey key);
+
+	// 이미 조회된 파일 경로의 URL 생성 (경로가 없으면 null)
+	String resolvePathUrl(String filePath, FileType fileType);
+}
@@ -0,0 +1,7 @@
+package com.eurachacha.achacha.application.port.input.file;
+
+public interface StagedFileSweepAppService {
+
+	// 오래된 임시 업로드 파일 정리 (DB에 등록된 파일은 확정, 등록되지 않은 파일은 삭제)
+	void sweepStagedFiles();
+}
@@ -0,0 +1,11 @@
+package com.eurachacha.achacha.application.port.input.file.dto;
+
+import com.eurachacha.achacha.domain.model.file.enums.FileType;
+
+// 파일 조회 키 (참조 엔티티 타입, 참조 엔티티 id, 파일 타입)
+public record FileKey(String referenceEntityType, Integer referenceEntityId, FileType fileType) {
+
+	public static FileKey of(String referenceEntityType, Integer referenceEntityId, FileType fileType) {
+		return new FileKey(referenceEntityType, referenceEntityId, fileType);
+	}
+}
@@ -0,0 +1,21 @@
+package com.eurachacha.achacha.application.port.input.file.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThumbnailCookieResponseDto {
+	// 쿠키 모드 사용 여부 (false면 목록의 썸네일 URL이 각각 서명되어 있음)
+	private Boolean enabled;
+	private Map<String, String> cookies;
+	private String cookieDomain;
+	private LocalDateTime expiresAt;
+}
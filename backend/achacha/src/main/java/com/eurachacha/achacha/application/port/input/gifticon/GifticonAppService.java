@@ -1,11 +1,16 @@
 package com.eurachacha.achacha.application.port.input.gifticon;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
 import org.springframework.web.multipart.MultipartFile;
 
 import com.eurachacha.achacha.application.port.input.gifticon.dto.request.GifticonSaveRequestDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.AvailableGifticonDetailResponseDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.AvailableGifticonsResponseDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.GifticonBarcodeResponseDto;
+import com.eurachacha.achacha.application.port.input.gifticon.dto.response.GifticonMetadataBatchResultDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.GifticonMetadataResponseDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.UsedGifticonDetailResponseDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.UsedGifticonsResponseDto;
@@ -15,13 +20,19 @@ import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonUsedSortType;
 
 public interface GifticonAppService {
-	GifticonMetadataResponseDto extractGifticonMetadata(MultipartFile image, GifticonType gifticonType);
+	// 외부 API 호출을 기다리지 않고 추출 결과를 비동기로 반환
+	CompletableFuture<GifticonMetadataResponseDto> extractGifticonMetadata(MultipartFile image,
+		GifticonType gifticonType);
+
+	// 여러 이미지의 추출 결과를 끝나는 순서대로 listener에 전달하고, 모두 끝나면 완료
+	CompletableFuture<Void> extractGifticonMetadataBatch(List<MultipartFile> images, GifticonType gifticonType,
+		Consumer<GifticonMetadataBatchResultDto> listener);
 
 	void saveGifticon(GifticonSaveRequestDto requestDto, MultipartFile originalImage,
 		MultipartFile thumbnailImage, MultipartFile barcodeImage);
 
 	AvailableGifticonsResponseDto getAvailableGifticons(GifticonScopeType scope, GifticonType type,
-		GifticonSortType sort, Integer page, Integer size);
+		GifticonSortType sort, Integer page, Integer size, String cursor);
 
 	AvailableGifticonDetailResponseDto getAvailableGifticonDetail(Integer gifticonId);
 
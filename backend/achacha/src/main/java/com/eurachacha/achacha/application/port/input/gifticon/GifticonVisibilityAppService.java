@@ -0,0 +1,30 @@
+package com.eurachacha.achacha.application.port.input.gifticon;
+
+import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
+
+/**
+ * 사용자별 기프티콘 조회 모델(user_gifticon_visibility) 갱신
+ * 기프티콘의 소유자, 공유 상태, 사용 여부가 바뀌는 쓰기 경로에서 같은 트랜잭션 안에서 호출
+ */
+public interface GifticonVisibilityAppService {
+	// 기프티콘 현재 상태 기준으로 조회 행 재생성
+	void refreshGifticon(Gifticon gifticon);
+
+	// 쉐어박스 참여 시 공유된 기프티콘 조회 행 추가
+	void addParticipant(Integer userId, Integer shareBoxId);
+
+	// 쉐어박스 탈퇴 시 조회 행 정리 (탈퇴자의 공유 기프티콘은 내 보관함으로 전환)
+	void removeParticipant(Integer userId, Integer shareBoxId);
+
+	// 쉐어박스 삭제 시 조회 행 정리 (공유 기프티콘은 각 소유자의 내 보관함으로 전환)
+	void removeShareBox(Integer shareBoxId);
+
+	// 전체 재구성 (누락, 불일치 행 복구)
+	void rebuildAll();
+
+	// 최초 재구성이 완료되지 않았으면 마지막 위치부터 이어서 재구성 (서버 시작 시)
+	void initialize();
+
+	// 최초 재구성 완료 여부 (완료 전에는 목록과 접근 확인을 참여 정보 기준으로 판단)
+	boolean isReady();
+}
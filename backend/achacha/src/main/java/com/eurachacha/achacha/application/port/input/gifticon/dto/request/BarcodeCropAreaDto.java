@@ -0,0 +1,30 @@
+package com.eurachacha.achacha.application.port.input.gifticon.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 원본 이미지 기준 바코드 영역 (픽셀, EXIF 방향을 적용한 화면에 보이는 방향 기준)
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BarcodeCropAreaDto {
+	@NotNull(message = "바코드 영역 x 좌표는 필수입니다")
+	@Min(value = 0, message = "바코드 영역 x 좌표는 0 이상이어야 합니다")
+	private Integer x;
+
+	@NotNull(message = "바코드 영역 y 좌표는 필수입니다")
+	@Min(value = 0, message = "바코드 영역 y 좌표는 0 이상이어야 합니다")
+	private Integer y;
+
+	@NotNull(message = "바코드 영역 너비는 필수입니다")
+	@Positive(message = "바코드 영역 너비는 0보다 커야 합니다")
+	private Integer width;
+
+	@NotNull(message = "바코드 영역 높이는 필수입니다")
+	@Positive(message = "바코드 영역 높이는 0보다 커야 합니다")
+	private Integer height;
+}
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -38,4 +39,8 @@ public class GifticonSaveRequestDto {
 
 	@NotBlank(message = "OCR 학습 데이터 ID는 필수입니다")
 	private String ocrTrainingDataId;
+
+	// 바코드 이미지를 보내지 않는 경우 원본 이미지에서 잘라낼 영역
+	@Valid
+	private BarcodeCropAreaDto barcodeCropArea;
 }
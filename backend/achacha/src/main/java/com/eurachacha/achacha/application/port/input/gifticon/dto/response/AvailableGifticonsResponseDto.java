@@ -15,4 +15,5 @@ public class AvailableGifticonsResponseDto {
 	private List<AvailableGifticonResponseDto> gifticons;
 	private Boolean hasNextPage;
 	private Integer nextPage;
+	private String nextCursor;
 }
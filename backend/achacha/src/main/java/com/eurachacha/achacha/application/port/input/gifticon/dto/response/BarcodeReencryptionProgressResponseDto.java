@@ -0,0 +1,28 @@
+package com.eurachacha.achacha.application.port.input.gifticon.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.eurachacha.achacha.domain.model.gifticon.enums.BarcodeReencryptionMode;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BarcodeReencryptionProgressResponseDto {
+	private BarcodeReencryptionMode mode;
+	private Boolean running;
+	private Boolean completed;
+	private Integer lastId;
+	private Long processedCount;
+	private Long skippedCount;
+	private Long failedCount;
+	// 현재 실행 기준 초당 처리 건수
+	private Double rowsPerSecond;
+	private LocalDateTime startedAt;
+	private LocalDateTime updatedAt;
+}
@@ -0,0 +1,20 @@
+package com.eurachacha.achacha.application.port.input.gifticon.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@ToString
+public class GifticonMetadataBatchResultDto {
+	private Integer index; // 요청한 이미지 순서 (0부터)
+	private GifticonMetadataResponseDto metadata; // 추출 결과 (실패한 경우 null)
+	private String errorCode; // 실패한 경우 에러 코드
+	private String errorMessage; // 실패한 경우 에러 메시지
+}
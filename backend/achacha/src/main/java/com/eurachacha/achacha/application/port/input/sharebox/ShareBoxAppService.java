@@ -41,4 +41,7 @@ public interface ShareBoxAppService {
 
 	UsedGifticonsResponseDto getShareBoxUsedGifticons(Integer shareBoxId, GifticonType type,
 		GifticonUsedSortType sort, Integer page, Integer size);
+
+	// 쉐어박스별 사용가능 기프티콘 수 불일치 보정
+	void syncGifticonCounts();
 }
@@ -6,4 +6,7 @@ public interface SecurityServicePort {
 	boolean isLoggedIn();
 
 	User getLoggedInUser();
+
+	// 사용자 조회 없이 인증 정보의 사용자 id만 반환
+	Integer getLoggedInUserId();
 }
@@ -0,0 +1,15 @@
+package com.eurachacha.achacha.application.port.output.file;
+
+import java.util.Collection;
+import java.util.Map;
+
+import com.eurachacha.achacha.application.port.input.file.dto.FileKey;
+
+// 파일 키별 저장 경로 캐시 (File 행은 저장 후 변경되지 않으므로 만료 전까지 그대로 사용)
+public interface FilePathCachePort {
+
+	// 캐시에 있는 키의 경로만 반환
+	Map<FileKey, String> getAll(Collection<FileKey> keys);
+
+	void putAll(Map<FileKey, String> paths);
+}
@@ -1,5 +1,6 @@
 package com.eurachacha.achacha.application.port.output.file;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,5 +19,17 @@ public interface FileRepository {
 	List<File> findAllByReferenceEntityTypeAndReferenceEntityIdInAndType(
 		String referenceEntityType, List<Integer> ids, FileType type);
 
+	List<File> findAllByReferenceEntityTypeInAndReferenceEntityIdInAndTypeIn(
+		Collection<String> referenceEntityTypes, Collection<Integer> ids, Collection<FileType> types);
+
+	List<File> findAllByPathIn(Collection<String> paths);
+
+	List<File> findAllByContentHashIn(Collection<String> contentHashes);
+
+	// 같은 타입, 같은 내용의 파일 행이 남아 있는지 (공유 S3 객체의 참조 확인용)
+	boolean existsByTypeAndContentHash(FileType type, String contentHash);
+
 	void delete(File file);
+
+	void deleteAll(List<File> files);
 }
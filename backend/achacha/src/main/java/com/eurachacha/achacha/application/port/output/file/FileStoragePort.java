@@ -1,16 +1,54 @@
 package com.eurachacha.achacha.application.port.output.file;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.web.multipart.MultipartFile;
 
+import com.eurachacha.achacha.application.port.output.file.dto.GeneratedImageDto;
+import com.eurachacha.achacha.application.port.output.file.dto.SignedCookieDto;
+import com.eurachacha.achacha.application.port.output.file.dto.StagedFileDto;
 import com.eurachacha.achacha.domain.model.file.enums.FileType;
 
 public interface FileStoragePort {
 
 	String uploadFile(MultipartFile file, FileType fileType, Integer entityId);
 
+	// 업로드 파일과 서버 생성 이미지를 임시 경로에 동시에 업로드하여 타입별 파일명과 내용 해시 반환
+	// (하나라도 실패하면 업로드된 파일을 삭제하고 예외, 업로드 작업이 가득 차면 RejectedExecutionException)
+	// 서명 쿠키로 제공되는 타입은 소유자 경로 아래에 저장 ({ownerId}/{파일명})
+	Map<FileType, StagedFileDto> stageFiles(Integer ownerId, Map<FileType, MultipartFile> files,
+		Map<FileType, GeneratedImageDto> generatedImages);
+
+	// 파일 내용의 SHA-256 (16진수)
+	String computeContentHash(MultipartFile file);
+
+	// 임시 업로드 파일을 실제 경로로 확정 (임시 파일은 비동기로 삭제)
+	void promoteStagedFile(String fileName, FileType fileType);
+
+	void deleteStagedFile(String fileName, FileType fileType);
+
+	// 기준 시각 이전에 업로드된 임시 파일 목록
+	List<StagedFileDto> findStagedFilesBefore(LocalDateTime cutoff);
+
 	String generateFileUrl(String fileName, FileType fileType);
 
 	String generateFileUrl(String fileName, FileType fileType, long expirationTimeInMillis);
 
+	// 파일 타입별 파일명을 한 번에 서명하여 타입별 URL 반환
+	Map<FileType, String> generateFileUrls(Map<FileType, String> fileNames);
+
+	// 같은 파일 타입의 여러 파일명을 같은 만료 시간으로 서명하여 입력 순서대로 URL 반환
+	// 조회자의 서명 쿠키 범위(본인 경로)에 있는 파일만 서명 없는 고정 URL로 반환
+	List<String> generateFileUrls(List<String> fileNames, FileType fileType, Integer viewerId);
+
+	// 서명 쿠키로 제공되는 파일 타입인지 여부
+	boolean isCookieDelivery(FileType fileType);
+
+	// 파일 타입 경로 중 소유자 경로에 대한 서명 쿠키 발급
+	SignedCookieDto generateSignedCookie(FileType fileType, Integer ownerId);
+
+	// 내용이 같은 파일은 여러 File 행이 같은 경로를 공유하므로, 같은 경로를 참조하는 행이 없을 때만 호출
 	void deleteFile(String filePath, FileType fileType);
 }
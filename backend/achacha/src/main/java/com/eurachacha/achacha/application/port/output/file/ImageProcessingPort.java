@@ -0,0 +1,20 @@
+package com.eurachacha.achacha.application.port.output.file;
+
+import java.util.Map;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import com.eurachacha.achacha.application.port.output.file.dto.GeneratedImageDto;
+import com.eurachacha.achacha.application.port.output.file.dto.ImageCropAreaDto;
+import com.eurachacha.achacha.domain.model.file.enums.FileType;
+
+public interface ImageProcessingPort {
+
+	/**
+	 * 원본 이미지로 파생 이미지를 병렬 생성
+	 *  - THUMBNAIL: createThumbnail이 true인 경우 고정 크기 썸네일
+	 *  - BARCODE: barcodeCropArea가 있는 경우 해당 영역을 잘라낸 이미지
+	 */
+	Map<FileType, GeneratedImageDto> generateImages(MultipartFile originalImage, boolean createThumbnail,
+		ImageCropAreaDto barcodeCropArea);
+}
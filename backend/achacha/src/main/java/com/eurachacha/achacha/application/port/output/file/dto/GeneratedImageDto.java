@@ -0,0 +1,13 @@
+package com.eurachacha.achacha.application.port.output.file.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 서버에서 생성한 이미지
+@Getter
+@Builder
+public class GeneratedImageDto {
+	private final byte[] content;
+	private final String contentType;
+	private final String extension;
+}
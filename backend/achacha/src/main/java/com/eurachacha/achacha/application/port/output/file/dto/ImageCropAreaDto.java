@@ -0,0 +1,13 @@
+package com.eurachacha.achacha.application.port.output.file.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ImageCropAreaDto {
+	private final int x;
+	private final int y;
+	private final int width;
+	private final int height;
+}
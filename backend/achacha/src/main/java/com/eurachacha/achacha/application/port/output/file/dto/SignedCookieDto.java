@@ -0,0 +1,17 @@
+package com.eurachacha.achacha.application.port.output.file.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class SignedCookieDto {
+	private Map<String, String> cookies; // 쿠키 이름 -> 값 (CloudFront-Policy, CloudFront-Signature, CloudFront-Key-Pair-Id)
+	private String cookieDomain; // 쿠키 도메인 (미설정 시 null)
+	private LocalDateTime expiresAt; // 만료 시간
+}
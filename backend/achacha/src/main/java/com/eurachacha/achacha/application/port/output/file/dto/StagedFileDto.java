@@ -0,0 +1,19 @@
+package com.eurachacha.achacha.application.port.output.file.dto;
+
+import java.time.LocalDateTime;
+
+import com.eurachacha.achacha.domain.model.file.enums.FileType;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 확정되지 않은 임시 업로드 파일 정보
+@Getter
+@Builder
+public class StagedFileDto {
+	private final String fileName;
+	private final FileType fileType;
+	private final LocalDateTime lastModified;
+	// 파일 내용의 SHA-256 (업로드 시에만 계산)
+	private final String contentHash;
+}
@@ -0,0 +1,7 @@
+package com.eurachacha.achacha.application.port.output.gifticon;
+
+public interface BarcodeFingerprintPort {
+
+	// 바코드 번호의 키 기반 해시 (중복 검사용 블라인드 인덱스)
+	String generateFingerprint(String barcode);
+}
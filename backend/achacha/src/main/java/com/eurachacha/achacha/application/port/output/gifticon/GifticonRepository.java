@@ -2,11 +2,13 @@ package com.eurachacha.achacha.application.port.output.gifticon;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import com.eurachacha.achacha.application.port.output.gifticon.dto.AvailableGifticonSummaryDto;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.GifticonCursor;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.UsedGifticonSummaryDto;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonScopeType;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
@@ -14,30 +16,37 @@ import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
 public interface GifticonRepository {
 	Gifticon save(Gifticon gifticon);
 
-	Slice<Gifticon> findAvailableGifticons(Integer userId, GifticonScopeType scope,
-		GifticonType type, Pageable pageable);
+	// 사용자별 조회 모델 기준 사용가능 기프티콘 목록
+	Slice<AvailableGifticonSummaryDto> findAvailableGifticons(Integer userId, GifticonScopeType scope,
+		GifticonType type, GifticonCursor cursor, Pageable pageable);
+
+	// 기프티콘, 참여 정보 기준 사용가능 기프티콘 목록 (조회 모델 최초 재구성 완료 전)
+	Slice<AvailableGifticonSummaryDto> findAvailableGifticonsByParticipation(Integer userId, GifticonScopeType scope,
+		GifticonType type, GifticonCursor cursor, Pageable pageable);
 
 	Gifticon getGifticonDetail(Integer gifticonId);
 
-	boolean existsByBarcode(String barcode);
+	boolean existsByBarcodeFingerprint(String barcodeFingerprint);
 
-	Slice<Gifticon> getUsedGifticons(Integer userId, GifticonType type, Pageable pageable);
+	Slice<UsedGifticonSummaryDto> getUsedGifticons(Integer userId, GifticonType type, Pageable pageable);
 
 	Gifticon findById(Integer gifticonId);
 
-	// ShareBox의 기프티콘 갯수 조회
-	Map<Integer, Long> countGifticonsByShareBoxIds(List<Integer> shareBoxIds);
-
 	void unshareAllGifticonsByShareBoxId(Integer shareBoxId);
 
-	void unshareAllAvailableGifticonsByUserIdAndShareBoxId(Integer userId, Integer shareBoxId);
+	// 공유 해제된 기프티콘 수 반환
+	int unshareAllAvailableGifticonsByUserIdAndShareBoxId(Integer userId, Integer shareBoxId);
 
-	Slice<Gifticon> findGifticonsByShareBoxId(Integer shareBoxId, GifticonType type, Pageable pageable);
+	Slice<AvailableGifticonSummaryDto> findGifticonsByShareBoxId(Integer shareBoxId, GifticonType type, Pageable pageable);
 
-	Slice<Gifticon> findUsedGifticonsByShareBoxId(Integer shareBoxId, GifticonType type, Pageable pageable);
+	Slice<UsedGifticonSummaryDto> findUsedGifticonsByShareBoxId(Integer shareBoxId, GifticonType type,
+		Pageable pageable);
 
 	// 만료 기간별 기프티콘 목록 조회
 	List<Gifticon> findGifticonsWithExpiryDates(List<LocalDate> expiryDates);
 
 	List<Gifticon> findAllRelevantGifticonsWithExpiryDates(List<LocalDate> expiryDates, Integer userId);
+
+	// id 순으로 사용가능 기프티콘을 나누어 조회 (조회 모델 재구성용, 잠금 없음)
+	List<Gifticon> findAvailableGifticonsAfterId(int lastGifticonId, int size);
 }
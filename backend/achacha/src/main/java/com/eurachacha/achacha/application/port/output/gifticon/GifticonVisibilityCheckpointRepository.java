@@ -0,0 +1,10 @@
+package com.eurachacha.achacha.application.port.output.gifticon;
+
+import com.eurachacha.achacha.domain.model.gifticon.GifticonVisibilityCheckpoint;
+
+public interface GifticonVisibilityCheckpointRepository {
+	// 작업의 진행 위치 조회 (없으면 생성)
+	GifticonVisibilityCheckpoint getOrCreate(String jobName);
+
+	boolean isCompleted(String jobName);
+}
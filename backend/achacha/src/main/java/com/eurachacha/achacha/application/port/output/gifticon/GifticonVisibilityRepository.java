@@ -0,0 +1,34 @@
+package com.eurachacha.achacha.application.port.output.gifticon;
+
+import java.util.List;
+
+import com.eurachacha.achacha.domain.model.gifticon.GifticonVisibility;
+
+public interface GifticonVisibilityRepository {
+	// (기프티콘, 사용자) 행이 이미 있으면 갱신 (재구성과 실시간 갱신이 겹쳐도 중복 키 오류 없음)
+	void upsertAll(List<GifticonVisibility> visibilities);
+
+	boolean existsByUserIdAndGifticonId(Integer userId, Integer gifticonId);
+
+	// 쉐어박스에 공유된 기프티콘별 소유자 행 조회
+	List<GifticonVisibility> findOwnerRowsByShareBoxId(Integer shareBoxId);
+
+	// 기프티콘 현재 상태 기준으로 더 이상 볼 수 없는 사용자의 행 삭제
+	// (사용, 삭제된 기프티콘은 전부, 그 외에는 소유자와 쉐어박스 참여자가 아닌 사용자의 행)
+	void deleteStaleByGifticonIds(List<Integer> gifticonIds);
+
+	// 쉐어박스의 소유자 행을 내 보관함 행으로 전환
+	void moveOwnerRowsToMyBox(Integer shareBoxId);
+
+	// 쉐어박스 내 특정 소유자의 행만 내 보관함 행으로 전환
+	void moveOwnerRowsToMyBox(Integer shareBoxId, Integer ownerId);
+
+	void deleteByShareBoxId(Integer shareBoxId);
+
+	void deleteByShareBoxIdAndUserId(Integer shareBoxId, Integer userId);
+
+	void deleteByShareBoxIdAndOwnerId(Integer shareBoxId, Integer ownerId);
+
+	// 사용가능 상태가 아닌 기프티콘의 행 삭제
+	int deleteUnavailable();
+}
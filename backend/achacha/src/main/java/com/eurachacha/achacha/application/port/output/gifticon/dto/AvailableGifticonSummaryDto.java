@@ -0,0 +1,31 @@
+package com.eurachacha.achacha.application.port.output.gifticon.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용가능 기프티콘 목록 행
+ * 목록 화면에 필요한 컬럼만 조회하기 위한 프로젝션 (엔티티를 영속성 컨텍스트에 올리지 않음)
+ * Projections.constructor 인자 순서와 필드 순서가 일치해야 함
+ */
+@Getter
+@AllArgsConstructor
+public class AvailableGifticonSummaryDto {
+	private Integer gifticonId;
+	private String gifticonName;
+	private GifticonType gifticonType;
+	private LocalDate gifticonExpiryDate;
+	private LocalDateTime gifticonCreatedAt;
+	private Integer brandId;
+	private String brandName;
+	private Integer userId;
+	private String userName;
+	private Integer shareboxId;
+	private String shareboxName;
+	private String thumbnailPath; // 서명되지 않은 S3 경로
+}
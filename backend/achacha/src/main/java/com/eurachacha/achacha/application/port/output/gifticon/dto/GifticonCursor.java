@@ -0,0 +1,36 @@
+package com.eurachacha.achacha.application.port.output.gifticon.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
+import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonSortType;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기프티콘 목록 커서(keyset) 페이징 위치
+ * 마지막으로 내려준 행의 정렬 키를 담음 (클라이언트 토큰 변환, 검증은 GifticonCursorCodec)
+ */
+@Getter
+@RequiredArgsConstructor
+public class GifticonCursor {
+
+	private final GifticonSortType sortType;
+	private final LocalDateTime createdAt;
+	private final LocalDate expiryDate;
+	private final Integer id;
+
+	// 페이지의 마지막 기프티콘으로부터 다음 페이지 커서 생성
+	public static GifticonCursor of(Gifticon lastGifticon, GifticonSortType sortType) {
+		return new GifticonCursor(sortType, lastGifticon.getCreatedAt(), lastGifticon.getExpiryDate(),
+			lastGifticon.getId());
+	}
+
+	// 페이지의 마지막 목록 행으로부터 다음 페이지 커서 생성
+	public static GifticonCursor of(AvailableGifticonSummaryDto lastGifticon, GifticonSortType sortType) {
+		return new GifticonCursor(sortType, lastGifticon.getGifticonCreatedAt(), lastGifticon.getGifticonExpiryDate(),
+			lastGifticon.getGifticonId());
+	}
+}
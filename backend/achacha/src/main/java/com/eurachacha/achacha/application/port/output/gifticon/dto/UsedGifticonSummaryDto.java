@@ -0,0 +1,35 @@
+package com.eurachacha.achacha.application.port.output.gifticon.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
+import com.eurachacha.achacha.domain.model.history.enums.UsageType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용완료 기프티콘 목록 행
+ * Projections.constructor 인자 순서와 필드 순서가 일치해야 함
+ */
+@Getter
+@AllArgsConstructor
+public class UsedGifticonSummaryDto {
+	private Integer gifticonId;
+	private String gifticonName;
+	private GifticonType gifticonType;
+	private LocalDate gifticonExpiryDate;
+	private Integer brandId;
+	private String brandName;
+	private UsageType usageType; // 쉐어박스 목록 조회 시 null
+	private LocalDateTime usedAt; // 쉐어박스 목록 조회 시 null
+	private String thumbnailPath; // 서명되지 않은 S3 경로
+
+	// 쉐어박스 사용완료 목록 행 (사용자별 활동 정보 없음)
+	public UsedGifticonSummaryDto(Integer gifticonId, String gifticonName, GifticonType gifticonType,
+		LocalDate gifticonExpiryDate, Integer brandId, String brandName, String thumbnailPath) {
+		this(gifticonId, gifticonName, gifticonType, gifticonExpiryDate, brandId, brandName, null, null,
+			thumbnailPath);
+	}
+}
@@ -0,0 +1,16 @@
+package com.eurachacha.achacha.application.port.output.history;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import com.eurachacha.achacha.domain.model.history.GifticonActivity;
+import com.eurachacha.achacha.domain.model.history.enums.UsageType;
+
+public interface GifticonActivityRepository {
+	// 사용자, 기프티콘 쌍의 마지막 활동 기록 (이미 있으면 덮어씀)
+	void record(Integer userId, Integer gifticonId, UsageType usageType, LocalDateTime usedAt);
+
+	Optional<GifticonActivity> findByUserIdAndGifticonId(Integer userId, Integer gifticonId);
+
+	void deleteByUserIdAndGifticonIdAndUsageType(Integer userId, Integer gifticonId, UsageType usageType);
+}
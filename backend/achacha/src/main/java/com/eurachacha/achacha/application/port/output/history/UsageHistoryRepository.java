@@ -15,5 +15,7 @@ public interface UsageHistoryRepository {
 
 	void delete(UsageHistory usageHistory);
 
-	List<UsageHistory> findLatestForEachGifticonByIdsAndUserId(List<Integer> ids, Integer userId);
+
+	// 기프티콘별 가장 최근 사용 내역을 한번에 조회
+	List<UsageHistory> findLatestForEachGifticonByIds(List<Integer> ids);
 }
@@ -4,4 +4,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 public interface OcrPort {
 	String extractRawOcrResult(MultipartFile image);
+
+	// 원본 결과에서 인식된 문구만 순서대로 추출 (요청 id, 좌표 등 호출마다 달라지는 값 제외)
+	String extractText(String rawOcrResult);
 }
@@ -19,4 +19,7 @@ public interface ParticipationRepository {
 	void deleteAllByShareBoxId(Integer shareBoxId);
 
 	List<Participation> findAllByUserId(Integer userId);
+
+	// 여러 쉐어박스의 참여 정보 일괄 조회
+	List<Participation> findAllByShareBoxIds(List<Integer> shareBoxIds);
 }
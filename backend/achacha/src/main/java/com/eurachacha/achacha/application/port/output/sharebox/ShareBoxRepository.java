@@ -19,4 +19,10 @@ public interface ShareBoxRepository {
 	Slice<ShareBox> findParticipatedShareBoxes(Integer userId, Pageable pageable);
 	
 	void delete(ShareBox shareBox);
+
+	// 사용가능 기프티콘 수 증감 (같은 트랜잭션 내 원자적 업데이트)
+	void addGifticonCount(Integer shareBoxId, long delta);
+
+	// 사용가능 기프티콘 수 보정, 보정된 쉐어박스 수 반환
+	int syncGifticonCounts();
 }
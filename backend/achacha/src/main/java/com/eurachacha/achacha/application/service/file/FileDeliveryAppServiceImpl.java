@@ -0,0 +1,43 @@
+package com.eurachacha.achacha.application.service.file;
+
+import org.springframework.stereotype.Service;
+
+import com.eurachacha.achacha.application.port.input.file.FileDeliveryAppService;
+import com.eurachacha.achacha.application.port.input.file.dto.response.ThumbnailCookieResponseDto;
+import com.eurachacha.achacha.application.port.output.auth.SecurityServicePort;
+import com.eurachacha.achacha.application.port.output.file.FileStoragePort;
+import com.eurachacha.achacha.application.port.output.file.dto.SignedCookieDto;
+import com.eurachacha.achacha.domain.model.file.enums.FileType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FileDeliveryAppServiceImpl implements FileDeliveryAppService {
+
+	private final FileStoragePort fileStoragePort;
+	private final SecurityServicePort securityServicePort;
+
+	@Override
+	public ThumbnailCookieResponseDto issueThumbnailCookie() {
+		// 로그인 된 유저만 발급 (본인 썸네일 경로에 대해서만)
+		Integer userId = securityServicePort.getLoggedInUserId();
+
+		if (!fileStoragePort.isCookieDelivery(FileType.THUMBNAIL)) {
+			return ThumbnailCookieResponseDto.builder()
+				.enabled(false)
+				.build();
+		}
+
+		SignedCookieDto signedCookie = fileStoragePort.generateSignedCookie(FileType.THUMBNAIL, userId);
+
+		return ThumbnailCookieResponseDto.builder()
+			.enabled(true)
+			.cookies(signedCookie.getCookies())
+			.cookieDomain(signedCookie.getCookieDomain())
+			.expiresAt(signedCookie.getExpiresAt())
+			.build();
+	}
+}
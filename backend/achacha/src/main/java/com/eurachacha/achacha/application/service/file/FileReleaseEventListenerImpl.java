@@ -0,0 +1,52 @@
+package com.eurachacha.achacha.application.service.file;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.eurachacha.achacha.application.port.input.file.FileReleaseEventListener;
+import com.eurachacha.achacha.application.port.output.file.FileRepository;
+import com.eurachacha.achacha.application.port.output.file.FileStoragePort;
+import com.eurachacha.achacha.application.service.file.event.FileReleasedEvent;
+import com.eurachacha.achacha.domain.model.file.File;
+import com.eurachacha.achacha.web.common.exception.CustomException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 삭제된 File 행의 S3 객체 정리
+ * 같은 타입, 같은 내용의 파일은 여러 행이 한 경로를 공유하므로 (타입, 내용 해시)가 같은 행이 남아 있으면 객체를 유지
+ * (동시 등록으로 같은 내용이 다른 경로에 저장된 경우 객체가 남을 수는 있지만, 참조 중인 객체를 지우지는 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FileReleaseEventListenerImpl implements FileReleaseEventListener {
+
+	private final FileRepository fileRepository;
+	private final FileStoragePort fileStoragePort;
+
+	@Override
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleFileReleased(FileReleasedEvent event) {
+		for (File file : event.getFiles()) {
+			if (isStillReferenced(file)) {
+				log.debug("다른 파일이 참조 중인 경로 유지 - 타입: {}, 경로: {}", file.getType(), file.getPath());
+				continue;
+			}
+
+			try {
+				fileStoragePort.deleteFile(file.getPath(), file.getType());
+			} catch (CustomException e) {
+				log.warn("파일 삭제 실패 - 타입: {}, 경로: {}", file.getType(), file.getPath());
+			}
+		}
+	}
+
+	// 내용 해시가 없는 파일(중복 제거 이전 등록)은 경로를 공유하지 않음
+	private boolean isStillReferenced(File file) {
+		return file.getContentHash() != null
+			&& fileRepository.existsByTypeAndContentHash(file.getType(), file.getContentHash());
+	}
+}
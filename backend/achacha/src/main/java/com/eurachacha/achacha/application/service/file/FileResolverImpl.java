@@ -0,0 +1,121 @@
+package com.eurachacha.achacha.application.service.file;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.eurachacha.achacha.application.port.input.file.FileResolver;
+import com.eurachacha.achacha.application.port.input.file.dto.FileKey;
+import com.eurachacha.achacha.application.port.output.auth.SecurityServicePort;
+import com.eurachacha.achacha.application.port.output.file.FilePathCachePort;
+import com.eurachacha.achacha.application.port.output.file.FileRepository;
+import com.eurachacha.achacha.application.port.output.file.FileStoragePort;
+import com.eurachacha.achacha.domain.model.file.File;
+import com.eurachacha.achacha.domain.model.file.enums.FileType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파일 URL 일괄 조회
+ *  - 요청 키를 중복 제거한 뒤 캐시에 없는 키만 IN 쿼리 한 번으로 조회
+ *  - File 행은 저장 후 변경되지 않으므로 조회된 경로를 캐시 (없는 파일은 캐시하지 않음, FilePathCachePort)
+ *  - 파일 타입별로 묶어 같은 만료 시간으로 요청 스레드에서 서명 (서명 URL은 서명기에서 캐시)
+ *  - 서명 쿠키로 제공되는 타입은 조회자 본인 경로의 파일만 서명 없이 반환
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class FileResolverImpl implements FileResolver {
+
+	private final FileRepository fileRepository;
+	private final FileStoragePort fileStoragePort;
+	private final SecurityServicePort securityServicePort;
+	private final FilePathCachePort filePathCachePort;
+
+	@Override
+	public Map<FileKey, String> resolveUrls(Collection<FileKey> keys) {
+		Set<FileKey> uniqueKeys = new LinkedHashSet<>(keys);
+		if (uniqueKeys.isEmpty()) {
+			return Map.of();
+		}
+
+		Map<FileKey, String> paths = findPaths(uniqueKeys);
+
+		Map<FileType, List<FileKey>> keysByType = new EnumMap<>(FileType.class);
+		for (FileKey key : paths.keySet()) {
+			keysByType.computeIfAbsent(key.fileType(), type -> new ArrayList<>()).add(key);
+		}
+
+		Integer viewerId = findViewerId(keysByType.keySet());
+		Map<FileKey, String> urls = new HashMap<>();
+		for (Map.Entry<FileType, List<FileKey>> entry : keysByType.entrySet()) {
+			List<FileKey> typeKeys = entry.getValue();
+			List<String> typeUrls = fileStoragePort.generateFileUrls(
+				typeKeys.stream().map(paths::get).toList(), entry.getKey(), viewerId);
+			for (int i = 0; i < typeKeys.size(); i++) {
+				urls.put(typeKeys.get(i), typeUrls.get(i));
+			}
+		}
+		return urls;
+	}
+
+	@Override
+	public String resolveUrl(FileKey key) {
+		return resolveUrls(List.of(key)).get(key);
+	}
+
+	@Override
+	public String resolvePathUrl(String filePath, FileType fileType) {
+		if (filePath == null) {
+			return null;
+		}
+		return fileStoragePort.generateFileUrls(List.of(filePath), fileType, findViewerId(Set.of(fileType))).get(0);
+	}
+
+	// 서명 쿠키로 제공되는 타입이 있을 때만 조회자 확인 (비로그인이면 모든 URL 서명)
+	private Integer findViewerId(Set<FileType> fileTypes) {
+		boolean cookieDelivery = fileTypes.stream().anyMatch(fileStoragePort::isCookieDelivery);
+		if (!cookieDelivery || !securityServicePort.isLoggedIn()) {
+			return null;
+		}
+		return securityServicePort.getLoggedInUserId();
+	}
+
+	private Map<FileKey, String> findPaths(Set<FileKey> keys) {
+		Map<FileKey, String> paths = new HashMap<>(filePathCachePort.getAll(keys));
+		Set<FileKey> missingKeys = new LinkedHashSet<>(keys);
+		missingKeys.removeAll(paths.keySet());
+
+		if (missingKeys.isEmpty()) {
+			return paths;
+		}
+
+		// 타입, id, 파일 타입 각각의 IN 조건으로 한 번에 조회한 뒤 요청한 키만 선택
+		List<File> files = fileRepository.findAllByReferenceEntityTypeInAndReferenceEntityIdInAndTypeIn(
+			missingKeys.stream().map(FileKey::referenceEntityType).collect(Collectors.toSet()),
+			missingKeys.stream().map(FileKey::referenceEntityId).collect(Collectors.toSet()),
+			missingKeys.stream().map(FileKey::fileType).collect(Collectors.toSet()));
+
+		Map<FileKey, String> foundPaths = new HashMap<>();
+		for (File file : files) {
+			FileKey key = FileKey.of(file.getReferenceEntityType(), file.getReferenceEntityId(), file.getType());
+			if (missingKeys.contains(key)) {
+				foundPaths.putIfAbsent(key, file.getPath());
+			}
+		}
+
+		filePathCachePort.putAll(foundPaths);
+
+		paths.putAll(foundPaths);
+		return paths;
+	}
+}
@@ -0,0 +1,65 @@
+package com.eurachacha.achacha.application.service.file;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.eurachacha.achacha.application.port.input.file.StagedFileSweepAppService;
+import com.eurachacha.achacha.application.port.output.file.FileRepository;
+import com.eurachacha.achacha.application.port.output.file.FileStoragePort;
+import com.eurachacha.achacha.application.port.output.file.dto.StagedFileDto;
+import com.eurachacha.achacha.web.common.exception.CustomException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StagedFileSweepAppServiceImpl implements StagedFileSweepAppService {
+
+	// 등록 요청이 진행 중일 수 있는 최근 임시 파일은 제외
+	private static final long STAGING_TTL_HOURS = 1L;
+
+	private final FileStoragePort fileStoragePort;
+	private final FileRepository fileRepository;
+
+	// S3 작업 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+	@Override
+	public void sweepStagedFiles() {
+		List<StagedFileDto> stagedFiles = fileStoragePort.findStagedFilesBefore(
+			LocalDateTime.now().minusHours(STAGING_TTL_HOURS));
+		if (stagedFiles.isEmpty()) {
+			return;
+		}
+
+		// 커밋은 되었지만 확정되지 못한 파일 (파일명은 확정 후에도 동일)
+		Set<String> committedFileKeys = fileRepository.findAllByPathIn(stagedFiles.stream()
+				.map(StagedFileDto::getFileName)
+				.collect(Collectors.toSet()))
+			.stream()
+			.map(file -> file.getType() + "/" + file.getPath())
+			.collect(Collectors.toSet());
+
+		int promotedCount = 0;
+		int deletedCount = 0;
+		for (StagedFileDto stagedFile : stagedFiles) {
+			try {
+				if (committedFileKeys.contains(stagedFile.getFileType() + "/" + stagedFile.getFileName())) {
+					fileStoragePort.promoteStagedFile(stagedFile.getFileName(), stagedFile.getFileType());
+					promotedCount++;
+				} else {
+					fileStoragePort.deleteStagedFile(stagedFile.getFileName(), stagedFile.getFileType());
+					deletedCount++;
+				}
+			} catch (CustomException e) {
+				log.warn("임시 파일 정리 실패: type={}, fileName={}", stagedFile.getFileType(), stagedFile.getFileName());
+			}
+		}
+
+		log.info("임시 업로드 파일 정리 완료. 확정: {}, 삭제: {}", promotedCount, deletedCount);
+	}
+}
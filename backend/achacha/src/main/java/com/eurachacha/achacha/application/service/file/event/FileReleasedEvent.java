@@ -0,0 +1,17 @@
+package com.eurachacha.achacha.application.service.file.event;
+
+import java.util.List;
+
+import com.eurachacha.achacha.domain.model.file.File;
+
+import lombok.Getter;
+
+// 참조가 해제되어 삭제된 File 행 (커밋 후 S3 객체 정리 대상)
+@Getter
+public class FileReleasedEvent {
+	private final List<File> files;
+
+	public FileReleasedEvent(List<File> files) {
+		this.files = files;
+	}
+}
@@ -0,0 +1,328 @@
+package com.eurachacha.achacha.application.service.gifticon;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eurachacha.achacha.application.port.input.gifticon.dto.response.BarcodeReencryptionProgressResponseDto;
+import com.eurachacha.achacha.application.port.output.gifticon.BarcodeFingerprintPort;
+import com.eurachacha.achacha.domain.model.gifticon.BarcodeReencryptionCheckpoint;
+import com.eurachacha.achacha.domain.model.gifticon.enums.BarcodeReencryptionMode;
+import com.eurachacha.achacha.infrastructure.adapter.output.persistence.gifticon.BarcodeReencryptionCheckpointJpaRepository;
+import com.eurachacha.achacha.infrastructure.config.EncryptionProperties;
+import com.eurachacha.achacha.infrastructure.util.EncryptionUtil;
+import com.eurachacha.achacha.web.common.exception.CustomException;
+import com.eurachacha.achacha.web.common.exception.ErrorCode;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 바코드 재암호화 작업
+ *  - id 기준 keyset 조회로 청크 단위 스트리밍 (전체 행을 메모리에 올리지 않음)
+ *  - 청크 내 암복호화는 CPU 코어 수만큼 병렬 처리
+ *  - 청크마다 JDBC 배치 업데이트와 체크포인트 저장을 한 트랜잭션으로 커밋하여 중단 후 재개 가능
+ *  - 평문 암호화와 키 교체(이전 키 복호화 후 현재 키 암호화)에 공통으로 사용
+ *  - 키 교체 중 아직 처리되지 않은 행은 EncryptionUtil이 이전 키로 대체 복호화하여 계속 조회 가능
+ *  - 평문 여부와 복호화 결과는 지문으로 검증하므로, 모드와 관계없이 지문이 없는 행은 실패로 집계 (지문 생성 후 재시작)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BarcodeReencryptionService {
+
+	private static final int DEFAULT_CHUNK_SIZE = 1000;
+
+	private static final String SELECT_CHUNK_SQL = """
+		SELECT id, barcode, barcode_fingerprint FROM gifticon
+		WHERE id > ? AND barcode IS NOT NULL
+		ORDER BY id
+		LIMIT ?
+		""";
+
+	// 조회 이후 바코드가 변경(삭제 등)된 행은 덮어쓰지 않도록 기존 값을 조건에 포함
+	private static final String UPDATE_BARCODE_SQL = "UPDATE gifticon SET barcode = ? WHERE id = ? AND barcode = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final BarcodeReencryptionCheckpointJpaRepository checkpointRepository;
+	private final EncryptionUtil encryptionUtil;
+	private final EncryptionProperties encryptionProperties;
+	private final BarcodeFingerprintPort barcodeFingerprintPort;
+
+	// 작업은 한 번에 하나만 실행
+	private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor();
+	private final AtomicReference<JobProgress> runningJob = new AtomicReference<>();
+
+	public void start(BarcodeReencryptionMode mode, boolean restart, Integer chunkSize) {
+		// 키 설정 검증은 작업 시작 전에 수행
+		UnaryOperator<String> decryptor = createDecryptor(mode);
+		int size = chunkSize != null && chunkSize > 0 ? chunkSize : DEFAULT_CHUNK_SIZE;
+
+		JobProgress job = new JobProgress(mode);
+		if (!runningJob.compareAndSet(null, job)) {
+			throw new CustomException(ErrorCode.MIGRATION_ALREADY_RUNNING);
+		}
+
+		try {
+			jobExecutor.execute(() -> {
+				try {
+					run(job, decryptor, restart, size);
+				} catch (Exception e) {
+					log.error("바코드 재암호화 작업 중단 - 모드: {}", mode, e);
+				} finally {
+					runningJob.set(null);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			runningJob.set(null);
+			throw e;
+		}
+	}
+
+	public BarcodeReencryptionProgressResponseDto getProgress(BarcodeReencryptionMode mode) {
+		BarcodeReencryptionCheckpoint checkpoint = checkpointRepository.findById(mode.name()).orElse(null);
+		JobProgress job = runningJob.get();
+		boolean running = job != null && job.mode == mode;
+
+		return BarcodeReencryptionProgressResponseDto.builder()
+			.mode(mode)
+			.running(running)
+			.completed(checkpoint != null && checkpoint.getIsCompleted())
+			.lastId(checkpoint != null ? checkpoint.getLastId() : 0)
+			.processedCount(checkpoint != null ? checkpoint.getProcessedCount() : 0L)
+			.skippedCount(checkpoint != null ? checkpoint.getSkippedCount() : 0L)
+			.failedCount(checkpoint != null ? checkpoint.getFailedCount() : 0L)
+			.rowsPerSecond(running ? job.rowsPerSecond() : null)
+			.startedAt(running ? job.startedAt : null)
+			.updatedAt(checkpoint != null ? checkpoint.getUpdatedAt() : null)
+			.build();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		// 진행 중인 청크는 체크포인트와 함께 롤백되므로 재시작 시 이어서 처리됨
+		jobExecutor.shutdownNow();
+	}
+
+	private void run(JobProgress job, UnaryOperator<String> decryptor, boolean restart, int chunkSize) {
+		BarcodeReencryptionCheckpoint checkpoint = prepareCheckpoint(job.mode, restart);
+		if (checkpoint.getIsCompleted()) {
+			log.info("이미 완료된 바코드 재암호화 작업 - 모드: {}", job.mode);
+			return;
+		}
+
+		log.info("바코드 재암호화 시작 - 모드: {}, 시작 id: {}, 청크 크기: {}", job.mode, checkpoint.getLastId(), chunkSize);
+
+		int parallelism = Runtime.getRuntime().availableProcessors();
+		ExecutorService cryptoExecutor = Executors.newFixedThreadPool(parallelism);
+		int lastId = checkpoint.getLastId();
+
+		try {
+			while (!Thread.currentThread().isInterrupted()) {
+				List<BarcodeRow> rows = jdbcTemplate.query(SELECT_CHUNK_SQL,
+					(rs, rowNum) -> new BarcodeRow(rs.getInt("id"), rs.getString("barcode"),
+						rs.getString("barcode_fingerprint")),
+					lastId, chunkSize);
+
+				if (rows.isEmpty()) {
+					completeCheckpoint(job.mode);
+					log.info("바코드 재암호화 완료 - 모드: {}, 처리: {}, 건너뜀: {}, 실패: {}",
+						job.mode, job.processed.get(), job.skipped.get(), job.failed.get());
+					return;
+				}
+
+				List<BarcodeConversion> conversions = convertInParallel(rows, job.mode, decryptor, cryptoExecutor,
+					parallelism);
+				lastId = rows.get(rows.size() - 1).id();
+				writeChunk(job, conversions, lastId);
+
+				log.info("바코드 재암호화 진행 - 모드: {}, 마지막 id: {}, 처리: {}, 건너뜀: {}, 실패: {}, 초당 {}건",
+					job.mode, lastId, job.processed.get(), job.skipped.get(), job.failed.get(),
+					String.format("%.1f", job.rowsPerSecond()));
+			}
+
+			log.info("바코드 재암호화 중단 - 모드: {}, 마지막 id: {}", job.mode, lastId);
+		} finally {
+			cryptoExecutor.shutdown();
+		}
+	}
+
+	private BarcodeReencryptionCheckpoint prepareCheckpoint(BarcodeReencryptionMode mode, boolean restart) {
+		return transactionTemplate.execute(status -> {
+			BarcodeReencryptionCheckpoint checkpoint = checkpointRepository.findById(mode.name())
+				.orElseGet(() -> checkpointRepository.save(BarcodeReencryptionCheckpoint.builder()
+					.jobName(mode.name())
+					.build()));
+
+			if (restart) {
+				checkpoint.restart();
+			}
+			return checkpoint;
+		});
+	}
+
+	private void completeCheckpoint(BarcodeReencryptionMode mode) {
+		transactionTemplate.executeWithoutResult(status ->
+			checkpointRepository.findById(mode.name()).ifPresent(BarcodeReencryptionCheckpoint::complete));
+	}
+
+	// 청크를 코어 수만큼 나누어 병렬 변환 (결과 순서는 유지)
+	private List<BarcodeConversion> convertInParallel(List<BarcodeRow> rows, BarcodeReencryptionMode mode,
+		UnaryOperator<String> decryptor, ExecutorService cryptoExecutor, int parallelism) {
+		int sliceSize = (rows.size() + parallelism - 1) / parallelism;
+
+		List<Future<List<BarcodeConversion>>> futures = new ArrayList<>();
+		for (int from = 0; from < rows.size(); from += sliceSize) {
+			List<BarcodeRow> slice = rows.subList(from, Math.min(from + sliceSize, rows.size()));
+			futures.add(cryptoExecutor.submit(() -> slice.stream()
+				.map(row -> convert(row, mode, decryptor))
+				.toList()));
+		}
+
+		List<BarcodeConversion> conversions = new ArrayList<>(rows.size());
+		try {
+			for (Future<List<BarcodeConversion>> future : futures) {
+				conversions.addAll(future.get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("바코드 변환 중단", e);
+		} catch (ExecutionException e) {
+			throw new RuntimeException("바코드 변환 실패", e.getCause());
+		}
+		return conversions;
+	}
+
+	private BarcodeConversion convert(BarcodeRow row, BarcodeReencryptionMode mode, UnaryOperator<String> decryptor) {
+		// 지문 없이는 평문인지(이미 암호화된 행을 다시 암호화하지 않는지), 잘못된 키로 패딩만 맞아
+		// 복호화된 값은 아닌지 판단할 수 없으므로 어느 모드에서도 변환하지 않음
+		if (row.fingerprint() == null) {
+			log.warn("ID {} 바코드 지문이 없어 {} 작업을 건너뜀 (지문 생성 후 재시작 필요)", row.id(), mode);
+			return BarcodeConversion.failed(row);
+		}
+
+		try {
+			String plainBarcode = decryptor.apply(row.barcode());
+			// 복원한 바코드를 지문과 비교하여, 이미 현재 키로 암호화된 행은 건너뜀
+			if (!matchesFingerprint(row, plainBarcode)) {
+				return BarcodeConversion.skipped(row);
+			}
+			return BarcodeConversion.converted(row, encryptionUtil.encrypt(plainBarcode));
+		} catch (Exception e) {
+			if (isAlreadyEncryptedWithCurrentKey(row)) {
+				return BarcodeConversion.skipped(row);
+			}
+			log.error("ID {} 바코드 재암호화 실패: {}", row.id(), e.getMessage());
+			return BarcodeConversion.failed(row);
+		}
+	}
+
+	private boolean matchesFingerprint(BarcodeRow row, String plainBarcode) {
+		return row.fingerprint().equals(barcodeFingerprintPort.generateFingerprint(plainBarcode));
+	}
+
+	private boolean isAlreadyEncryptedWithCurrentKey(BarcodeRow row) {
+		try {
+			return matchesFingerprint(row, encryptionUtil.decrypt(row.barcode()));
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
+	// 바코드 배치 업데이트와 체크포인트 갱신을 한 트랜잭션으로 커밋
+	private void writeChunk(JobProgress job, List<BarcodeConversion> conversions, int lastId) {
+		List<BarcodeConversion> converted = conversions.stream()
+			.filter(conversion -> conversion.newBarcode() != null)
+			.toList();
+		int skipped = (int)conversions.stream().filter(BarcodeConversion::skipped).count();
+		int failed = conversions.size() - converted.size() - skipped;
+
+		Integer notUpdated = transactionTemplate.execute(status -> {
+			int[] updateCounts = converted.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(UPDATE_BARCODE_SQL,
+				converted.stream()
+					.map(conversion -> new Object[] {conversion.newBarcode(), conversion.id(), conversion.oldBarcode()})
+					.toList());
+
+			// 조회 이후 변경되어 갱신되지 않은 행은 건너뛴 것으로 집계
+			int unchanged = (int)Arrays.stream(updateCounts).filter(count -> count == 0).count();
+			checkpointRepository.findById(job.mode.name())
+				.orElseThrow()
+				.advance(lastId, converted.size() - unchanged, skipped + unchanged, failed);
+			return unchanged;
+		});
+
+		job.processed.addAndGet(converted.size() - notUpdated);
+		job.skipped.addAndGet(skipped + notUpdated);
+		job.failed.addAndGet(failed);
+	}
+
+	private UnaryOperator<String> createDecryptor(BarcodeReencryptionMode mode) {
+		if (mode == BarcodeReencryptionMode.ENCRYPT_PLAINTEXT) {
+			return UnaryOperator.identity();
+		}
+
+		// 키 교체 시 지문 키가 암호화 키에서 파생되면 교체 후 지문이 달라지므로 별도 지문 키 필요
+		if (isBlank(encryptionProperties.getPreviousKey()) || isBlank(encryptionProperties.getFingerprintKey())) {
+			throw new CustomException(ErrorCode.MIGRATION_KEY_NOT_CONFIGURED);
+		}
+		EncryptionUtil previousEncryptionUtil = EncryptionUtil.forKey(encryptionProperties.getPreviousKey());
+		return previousEncryptionUtil::decrypt;
+	}
+
+	private boolean isBlank(String value) {
+		return value == null || value.isBlank();
+	}
+
+	private record BarcodeRow(Integer id, String barcode, String fingerprint) {
+	}
+
+	private record BarcodeConversion(Integer id, String oldBarcode, String newBarcode, boolean skipped) {
+
+		static BarcodeConversion converted(BarcodeRow row, String newBarcode) {
+			return new BarcodeConversion(row.id(), row.barcode(), newBarcode, false);
+		}
+
+		static BarcodeConversion skipped(BarcodeRow row) {
+			return new BarcodeConversion(row.id(), row.barcode(), null, true);
+		}
+
+		static BarcodeConversion failed(BarcodeRow row) {
+			return new BarcodeConversion(row.id(), row.barcode(), null, false);
+		}
+	}
+
+	// 현재 실행 중인 작업의 처리량 집계
+	private static class JobProgress {
+		private final BarcodeReencryptionMode mode;
+		private final LocalDateTime startedAt = LocalDateTime.now();
+		private final long startedNanos = System.nanoTime();
+		private final AtomicLong processed = new AtomicLong();
+		private final AtomicLong skipped = new AtomicLong();
+		private final AtomicLong failed = new AtomicLong();
+
+		private JobProgress(BarcodeReencryptionMode mode) {
+			this.mode = mode;
+		}
+
+		private double rowsPerSecond() {
+			double elapsedSeconds = (System.nanoTime() - startedNanos) / 1_000_000_000.0;
+			long total = processed.get() + skipped.get() + failed.get();
+			return elapsedSeconds > 0 ? total / elapsedSeconds : 0;
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package com.eurachacha.achacha.application.service.gifticon;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.output.ai.dto.response.GifticonMetadataDto;
+import com.eurachacha.achacha.infrastructure.util.LocalCacheFactory;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 메타데이터 추출 결과 캐시
+ *  - 이미지 내용 해시 -> OCR 원본 결과 (같은 스크린샷으로 추출을 다시 시도하는 경우)
+ *  - 정규화된 OCR 텍스트 해시 + 기프티콘 타입 -> AI 추출 메타데이터 (같은 판매처의 같은 문구 배치)
+ *  - 크기 상한과 보관 시간은 캐시별로 두고, 조회 결과와 크기는 cache.* 지표로 기록 (LocalCacheFactory)
+ */
+@Component
+public class ExtractionResultCache {
+
+	// OCR 원본 결과는 수십 KB 단위이므로 짧게, 적게 보관
+	private static final int MAX_OCR_RESULTS = 500;
+	private static final Duration OCR_RESULT_TTL = Duration.ofMinutes(10);
+	private static final int MAX_METADATA = 10_000;
+	private static final Duration METADATA_TTL = Duration.ofHours(6);
+
+	private final Cache<String, String> ocrResultCache;
+	private final Cache<String, GifticonMetadataDto> metadataCache;
+
+	public ExtractionResultCache(MeterRegistry meterRegistry) {
+		this.ocrResultCache = LocalCacheFactory.create("extraction.ocr", MAX_OCR_RESULTS, OCR_RESULT_TTL,
+			meterRegistry);
+		this.metadataCache = LocalCacheFactory.create("extraction.metadata", MAX_METADATA, METADATA_TTL,
+			meterRegistry);
+	}
+
+	public Optional<String> getOcrResult(String imageHash) {
+		return Optional.ofNullable(ocrResultCache.getIfPresent(imageHash));
+	}
+
+	public void putOcrResult(String imageHash, String ocrResult) {
+		ocrResultCache.put(imageHash, ocrResult);
+	}
+
+	public Optional<GifticonMetadataDto> getMetadata(String ocrText, String gifticonType) {
+		return Optional.ofNullable(metadataCache.getIfPresent(toMetadataKey(ocrText, gifticonType)));
+	}
+
+	public void putMetadata(String ocrText, String gifticonType, GifticonMetadataDto metadata) {
+		metadataCache.put(toMetadataKey(ocrText, gifticonType), metadata);
+	}
+
+	// 공백 차이는 같은 문구로 취급
+	private String toMetadataKey(String ocrText, String gifticonType) {
+		String normalizedText = ocrText.strip().replaceAll("\\s+", " ");
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256")
+				.digest(normalizedText.getBytes(StandardCharsets.UTF_8));
+			return gifticonType + ":" + HexFormat.of().formatHex(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -2,27 +2,47 @@ package com.eurachacha.achacha.application.service.gifticon;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.eurachacha.achacha.application.port.input.file.FileResolver;
+import com.eurachacha.achacha.application.port.input.file.dto.FileKey;
 import com.eurachacha.achacha.application.port.input.gifticon.GifticonAppService;
+import com.eurachacha.achacha.application.port.input.gifticon.GifticonVisibilityAppService;
+import com.eurachacha.achacha.application.port.input.gifticon.dto.request.BarcodeCropAreaDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.request.GifticonSaveRequestDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.AvailableGifticonDetailResponseDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.AvailableGifticonResponseDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.AvailableGifticonsResponseDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.GifticonBarcodeResponseDto;
+import com.eurachacha.achacha.application.port.input.gifticon.dto.response.GifticonMetadataBatchResultDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.GifticonMetadataResponseDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.UsedGifticonDetailResponseDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.UsedGifticonResponseDto;
@@ -34,8 +54,17 @@ import com.eurachacha.achacha.application.port.output.auth.SecurityServicePort;
 import com.eurachacha.achacha.application.port.output.brand.BrandRepository;
 import com.eurachacha.achacha.application.port.output.file.FileRepository;
 import com.eurachacha.achacha.application.port.output.file.FileStoragePort;
+import com.eurachacha.achacha.application.port.output.file.ImageProcessingPort;
+import com.eurachacha.achacha.application.port.output.file.dto.GeneratedImageDto;
+import com.eurachacha.achacha.application.port.output.file.dto.ImageCropAreaDto;
+import com.eurachacha.achacha.application.port.output.file.dto.StagedFileDto;
+import com.eurachacha.achacha.application.port.output.gifticon.BarcodeFingerprintPort;
 import com.eurachacha.achacha.application.port.output.gifticon.GifticonRepository;
-import com.eurachacha.achacha.application.port.output.history.GifticonOwnerHistoryRepository;
+import com.eurachacha.achacha.application.port.output.gifticon.GifticonVisibilityRepository;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.AvailableGifticonSummaryDto;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.GifticonCursor;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.UsedGifticonSummaryDto;
+import com.eurachacha.achacha.application.port.output.history.GifticonActivityRepository;
 import com.eurachacha.achacha.application.port.output.history.UsageHistoryRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationSettingRepository;
@@ -45,6 +74,7 @@ import com.eurachacha.achacha.application.port.output.ocr.OcrPort;
 import com.eurachacha.achacha.application.port.output.sharebox.ParticipationRepository;
 import com.eurachacha.achacha.application.port.output.sharebox.ShareBoxRepository;
 import com.eurachacha.achacha.application.port.output.user.FcmTokenRepository;
+import com.eurachacha.achacha.application.service.file.event.FileReleasedEvent;
 import com.eurachacha.achacha.application.service.notification.event.NotificationEventMessage;
 import com.eurachacha.achacha.domain.model.ai.OcrTrainingData;
 import com.eurachacha.achacha.domain.model.brand.Brand;
@@ -56,9 +86,8 @@ import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonScopeType;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonSortType;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonUsedSortType;
-import com.eurachacha.achacha.domain.model.history.GifticonOwnerHistory;
+import com.eurachacha.achacha.domain.model.history.GifticonActivity;
 import com.eurachacha.achacha.domain.model.history.UsageHistory;
-import com.eurachacha.achacha.domain.model.history.enums.TransferType;
 import com.eurachacha.achacha.domain.model.history.enums.UsageType;
 import com.eurachacha.achacha.domain.model.notification.Notification;
 import com.eurachacha.achacha.domain.model.notification.NotificationSetting;
@@ -83,17 +112,27 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class GifticonAppServiceImpl implements GifticonAppService {
 
+	// 일괄 추출 한 번에 받을 수 있는 이미지 수
+	private static final int MAX_BATCH_EXTRACTION_SIZE = 20;
+	// 일괄 추출 한 건에서 동시에 처리하는 이미지 수 (한 사용자가 외부 API 커넥션 풀을 독점하지 않도록 제한)
+	private static final int BATCH_EXTRACTION_CONCURRENCY = 4;
+
 	private final GifticonDomainService gifticonDomainService;
 	private final GifticonRepository gifticonRepository;
+	private final BarcodeFingerprintPort barcodeFingerprintPort;
 	private final ParticipationRepository participationRepository;
 	private final PageableFactory pageableFactory;
 	private final OcrPort ocrPort;
 	private final AIServicePort aiServicePort;
 	private final BrandRepository brandRepository;
-	private final GifticonOwnerHistoryRepository gifticonOwnerHistoryRepository;
 	private final UsageHistoryRepository usageHistoryRepository;
+	private final GifticonActivityRepository gifticonActivityRepository;
 	private final OcrTrainingDataRepository ocrTrainingDataRepository;
+	private final ExtractionResultCache extractionResultCache;
 	private final FileStoragePort fileStoragePort;
+	private final ImageProcessingPort imageProcessingPort;
+	private final FileResolver fileResolver;
+	private final TransactionTemplate transactionTemplate;
 	private final FileRepository fileRepository;
 	private final FileDomainService fileDomainService;
 	private final ShareBoxRepository shareBoxRepository;
@@ -104,55 +143,108 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 	private final NotificationSettingRepository notificationSettingRepository;
 	private final NotificationSettingDomainService notificationSettingDomainService;
 	private final ApplicationEventPublisher applicationEventPublisher;
+	private final GifticonVisibilityRepository gifticonVisibilityRepository;
+	private final GifticonVisibilityAppService gifticonVisibilityAppService;
+	@Qualifier("extractionTaskExecutor")
+	private final Executor extractionTaskExecutor;
+
+	// 일괄 추출을 진행 중인 사용자 (사용자당 한 건만 허용)
+	// 서버 인스턴스별로 관리하므로 여러 인스턴스로 운영하면 사용자당 인스턴스 수만큼 동시에 진행될 수 있음
+	// (공유 저장소가 없어 노드 단위 제한으로 둠. 인스턴스를 늘리면 Redis 등 공유 락으로 교체 필요)
+	private final Set<Integer> activeBatchExtractionUsers = ConcurrentHashMap.newKeySet();
 
+	/**
+	 * 기프티콘 이미지 메타데이터 추출
+	 *  - 요청 스레드에서는 검증과 해시 계산만 하고, 외부 API 호출과 저장은 추출 전용 스레드 풀에서 비동기로 수행
+	 *    (응답 대기 동안 Tomcat 스레드를 반납하므로 동시 추출 수가 Tomcat 스레드 수에 묶이지 않음)
+	 *  - 추출 스레드 풀이 가득 차면 RejectedExecutionException으로 거부되어 503 응답
+	 *  - OCR 결과는 이미지 해시로, AI 결과는 OCR 문구와 타입으로 캐시하여 같은 요청의 외부 API 호출 생략
+	 *  - AI 결과가 나오면 학습 데이터 저장과 브랜드 조회를 동시에 수행 (캐시 적중 시에도 학습 데이터는 저장)
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	@Override
-	public GifticonMetadataResponseDto extractGifticonMetadata(MultipartFile image, GifticonType gifticonType) {
+	public CompletableFuture<GifticonMetadataResponseDto> extractGifticonMetadata(MultipartFile image,
+		GifticonType gifticonType) {
 		log.info("기프티콘 이미지 OCR 처리 시작 - 타입: {}", gifticonType.name());
 
 		// 이미지 파일 검증
 		fileDomainService.validateImageFile(image);
+		String imageHash = fileStoragePort.computeContentHash(image);
+
+		return CompletableFuture.supplyAsync(() -> extractOcrResult(image, imageHash), extractionTaskExecutor)
+			.thenComposeAsync(ocrResult -> {
+				GifticonMetadataDto metadata = extractMetadata(ocrResult, gifticonType);
+				log.info("기프티콘 메타데이터 추출 완료: {}", metadata);
+
+				// OCR 결과와 AI 추출 메타데이터를 한 번에 저장 (브랜드 조회와 동시에 수행)
+				CompletableFuture<OcrTrainingData> trainingDataFuture = CompletableFuture.supplyAsync(
+					() -> ocrTrainingDataRepository.saveOcrResultWithMetadata(
+						ocrResult,
+						gifticonType.name(),
+						imageHash,
+						metadata.getGifticonBarcodeNumber(),
+						metadata.getBrandName(),
+						metadata.getGifticonName(),
+						metadata.getGifticonExpiryDate(),
+						metadata.getGifticonOriginalAmount()
+					), extractionTaskExecutor);
+
+				return createMetadataResponse(metadata, trainingDataFuture);
+			}, extractionTaskExecutor);
+	}
 
-		// 1. OCR 서비스를 통해 텍스트 추출
-		String ocrResult = ocrPort.extractRawOcrResult(image);
-		log.debug("OCR 결과 추출 완료");
-
-		// 2. AI 서비스를 통해 OCR 결과에서 필요한 정보 추출
-		GifticonMetadataDto metadata = aiServicePort.extractGifticonInfo(
-			ocrResult, gifticonType.name());
-		log.info("기프티콘 메타데이터 추출 완료: {}", metadata);
-
-		// OCR 결과와 AI 추출 메타데이터를 한 번에 저장
-		OcrTrainingData savedTrainingData = ocrTrainingDataRepository.saveOcrResultWithMetadata(
-			ocrResult,
-			gifticonType.name(),
-			metadata.getGifticonBarcodeNumber(),
-			metadata.getBrandName(),
-			metadata.getGifticonName(),
-			metadata.getGifticonExpiryDate(),
-			metadata.getGifticonOriginalAmount()
-		);
-
-		// 브랜드 ID 조회
-		Integer brandId = findBrandId(metadata.getBrandName());
-
-		// 브랜드명 설정
-		String brandName = brandId != null ? metadata.getBrandName() : null;
+	/**
+	 * 기프티콘 이미지 메타데이터 일괄 추출
+	 *  - 사용자당 한 번에 하나의 일괄 추출만 허용하고(서버 인스턴스 단위), 그 안에서도 동시에 처리하는 이미지 수를 제한
+	 *  - 이미지마다 단건 추출과 같은 과정(OCR, AI, 브랜드 조회)을 거쳐 끝나는 순서대로 listener에 전달
+	 *    (한 이미지가 실패해도 나머지는 계속 처리하고, 실패 결과에는 에러 코드를 담아 전달)
+	 *  - 학습 데이터는 이미지마다 저장한 뒤 결과를 전달 (일괄 추출이 끝나기 전에 사용자가 등록해도 수정 내용이 반영되고,
+	 *    중간에 서버가 종료되어도 이미 전달한 결과의 학습 데이터는 남음)
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	@Override
+	public CompletableFuture<Void> extractGifticonMetadataBatch(List<MultipartFile> images,
+		GifticonType gifticonType, Consumer<GifticonMetadataBatchResultDto> listener) {
+		if (images.size() > MAX_BATCH_EXTRACTION_SIZE) {
+			throw new CustomException(ErrorCode.BATCH_EXTRACTION_SIZE_EXCEEDED);
+		}
 
-		log.info("OCR 및 AI 추출 메타데이터 저장 완료 (ID: {})", savedTrainingData.getId());
+		Integer userId = securityServicePort.getLoggedInUser().getId();
+		if (!activeBatchExtractionUsers.add(userId)) {
+			throw new CustomException(ErrorCode.BATCH_EXTRACTION_IN_PROGRESS);
+		}
+		log.info("기프티콘 이미지 일괄 OCR 처리 시작 - 사용자: {}, 이미지 수: {}, 타입: {}", userId, images.size(),
+			gifticonType.name());
 
-		// 최종 응답용 DTO에 OCR 학습 데이터 ID 추가하여 반환
-		return GifticonMetadataResponseDto.builder()
-			.gifticonName(metadata.getGifticonName())
-			.brandName(brandName)
-			.brandId(brandId)
-			.gifticonBarcodeNumber(metadata.getGifticonBarcodeNumber())
-			.gifticonExpiryDate(metadata.getGifticonExpiryDate())
-			.gifticonOriginalAmount(metadata.getGifticonOriginalAmount())
-			.ocrTrainingDataId(savedTrainingData.getId())
-			.build();
+		try {
+			AtomicInteger nextIndex = new AtomicInteger();
+
+			// 동시 처리 수만큼 작업 흐름을 두고, 각 흐름은 이미지 하나를 끝내면 다음 이미지를 가져가 처리
+			CompletableFuture<?>[] workers = IntStream.range(0, Math.min(BATCH_EXTRACTION_CONCURRENCY, images.size()))
+				.mapToObj(worker -> extractNextInBatch(images, gifticonType, nextIndex, listener))
+				.toArray(CompletableFuture[]::new);
+
+			return CompletableFuture.allOf(workers)
+				.whenComplete((result, throwable) -> {
+					activeBatchExtractionUsers.remove(userId);
+					log.info("기프티콘 이미지 일괄 OCR 처리 완료 - 사용자: {}", userId);
+				});
+		} catch (RuntimeException e) {
+			activeBatchExtractionUsers.remove(userId);
+			throw e;
+		}
 	}
 
-	@Transactional
+	/**
+	 * 기프티콘 등록
+	 *  1. DB 없이 가능한 검증 후 이미지를 임시 경로에 업로드 (DB 커넥션을 잡지 않음)
+	 *     썸네일, 바코드 이미지를 보내지 않은 경우 원본 이미지에서 생성하여 함께 업로드
+	 *  2. 기프티콘과 파일 정보를 하나의 짧은 트랜잭션으로 저장 (실패 시 임시 파일 삭제)
+	 *     같은 타입, 같은 내용의 파일이 이미 있으면 새 파일 대신 기존 경로를 참조
+	 *  3. 커밋 후 임시 파일을 확정하고 학습 데이터, 알림 처리 (확정되지 못한 파일은 스위퍼가 정리)
+	 *     기존 경로를 참조한 파일의 임시 업로드는 삭제
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	@Override
 	public void saveGifticon(GifticonSaveRequestDto requestDto, MultipartFile originalImage,
 		MultipartFile thumbnailImage, MultipartFile barcodeImage) {
@@ -160,102 +252,62 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 
 		// 이미지 파일 검증
 		fileDomainService.validateImageFile(originalImage);
-		fileDomainService.validateImageFile(thumbnailImage);
-		fileDomainService.validateImageFile(barcodeImage);
+		if (thumbnailImage != null) {
+			fileDomainService.validateImageFile(thumbnailImage);
+		}
+		if (barcodeImage != null) {
+			fileDomainService.validateImageFile(barcodeImage);
+		}
 		gifticonDomainService.validateGifticonAmount(requestDto.getGifticonType(), requestDto.getGifticonAmount());
 
 		// 기프티콘 유효기간 검증
 		gifticonDomainService.validateGifticonExpiryDate(requestDto.getGifticonExpiryDate(), LocalDate.now());
-		// 바코드 중복 검사
-		if (gifticonRepository.existsByBarcode(requestDto.getGifticonBarcodeNumber())) {
-			throw new CustomException(ErrorCode.GIFTICON_BARCODE_DUPLICATE);
-		}
-
-		// 타입에 따른 금액 처리
-		Integer amount = null;
-		if (requestDto.getGifticonType() == GifticonType.AMOUNT) {
-			amount = requestDto.getGifticonAmount();
-		}
-
-		// Brand 객체 조회
-		Brand brand = brandRepository.findById(requestDto.getBrandId());
-
-		// ShareBox 객체 조회, Participants 조회로 참여하고 있는 기프티콘 박스인지 체크해야 함.
-		ShareBox shareBox = null;
-
-		// 로그인 된 유저
-		User loggedInUser = securityServicePort.getLoggedInUser();
-
-		if (requestDto.getShareBoxId() != null) {
-			shareBox = shareBoxRepository.findById(requestDto.getShareBoxId());
+		String barcodeFingerprint = barcodeFingerprintPort.generateFingerprint(requestDto.getGifticonBarcodeNumber());
 
-			// 현재 사용자가 해당 공유 박스에 참여 중인지 확인
-			boolean hasParticipation = participationRepository.checkParticipation(loggedInUser.getId(),
-				shareBox.getId());
+		// 보내지 않은 썸네일, 바코드 이미지 생성 (업로드 시 원본 파일이 이동되므로 먼저 수행)
+		Map<FileType, GeneratedImageDto> generatedImages = generateMissingImages(requestDto, originalImage,
+			thumbnailImage, barcodeImage);
 
-			if (!hasParticipation) {
-				throw new CustomException(ErrorCode.UNAUTHORIZED_GIFTICON_ACCESS);
-			}
+		Map<FileType, MultipartFile> uploadFiles = new EnumMap<>(FileType.class);
+		uploadFiles.put(FileType.ORIGINAL, originalImage);
+		if (thumbnailImage != null) {
+			uploadFiles.put(FileType.THUMBNAIL, thumbnailImage);
+		}
+		if (barcodeImage != null) {
+			uploadFiles.put(FileType.BARCODE, barcodeImage);
 		}
 
-		// 도메인 객체 생성
-		Gifticon newGifticon = Gifticon.builder()
-			.name(requestDto.getGifticonName())
-			.barcode(requestDto.getGifticonBarcodeNumber())
-			.type(requestDto.getGifticonType())
-			.expiryDate(requestDto.getGifticonExpiryDate())
-			.originalAmount(requestDto.getGifticonAmount())
-			.remainingAmount(requestDto.getGifticonAmount())
-			.sharebox(shareBox)
-			.brand(brand)
-			.user(loggedInUser)
-			.build();
-
-		// 저장소를 통한 영속화
-		Gifticon savedGifticon = gifticonRepository.save(newGifticon);
+		// 임시 경로에 동시 업로드 (업로드하면서 내용 해시 계산, 썸네일은 등록자 경로에 저장)
+		Map<FileType, StagedFileDto> stagedFiles = fileStoragePort.stageFiles(
+			securityServicePort.getLoggedInUserId(), uploadFiles, generatedImages);
 
-		// 파일 업로드
-		String originalImagePath = fileStoragePort.uploadFile(originalImage, FileType.ORIGINAL, savedGifticon.getId());
-		String thumbnailImagePath = fileStoragePort.uploadFile(thumbnailImage, FileType.THUMBNAIL,
-			savedGifticon.getId());
-		String barcodeImagePath = fileStoragePort.uploadFile(barcodeImage, FileType.BARCODE, savedGifticon.getId());
-
-		// 파일 엔티티 생성 및 저장
-		saveGifticonFiles(savedGifticon.getId(), originalImagePath, thumbnailImagePath, barcodeImagePath);
-
-		// 사용자 수정 메타데이터 저장 - 타입에 따라 다른 메서드 호출
-		if (requestDto.getGifticonType() == GifticonType.AMOUNT) {
-			// 금액형 기프티콘인 경우
-			ocrTrainingDataRepository.updateUserCorrectedForAmount(
-				requestDto.getOcrTrainingDataId(),
-				requestDto.getGifticonBarcodeNumber(),
-				brand.getName(),
-				requestDto.getGifticonName(),
-				requestDto.getGifticonExpiryDate().toString(),
-				amount
-			);
-		} else {
-			// 상품형 기프티콘인 경우
-			ocrTrainingDataRepository.updateUserCorrectedForProduct(
-				requestDto.getOcrTrainingDataId(),
-				requestDto.getGifticonBarcodeNumber(),
-				brand.getName(),
-				requestDto.getGifticonName(),
-				requestDto.getGifticonExpiryDate().toString()
-			);
+		Map<FileType, String> filePaths;
+		Gifticon savedGifticon;
+		try {
+			filePaths = resolveFilePaths(stagedFiles);
+			savedGifticon = transactionTemplate.execute(
+				status -> registerGifticon(requestDto, barcodeFingerprint, filePaths, stagedFiles));
+		} catch (RuntimeException e) {
+			discardStagedFiles(stagedFiles);
+			throw e;
 		}
 
-		log.info("사용자 수정 메타데이터 저장 완료 (ID: {})", requestDto.getOcrTrainingDataId());
+		// 커밋된 파일 확정
+		promoteStagedFiles(stagedFiles, filePaths);
+
+		// 사용자 수정 메타데이터 저장
+		updateUserCorrectedData(requestDto, savedGifticon.getBrand());
 
 		// 쉐어박스에 기프티콘이 등록된 경우 알림 전송
-		if (shareBox != null) {
-			sendGifticonRegisteredToShareBoxNotification(shareBox, savedGifticon);
+		if (savedGifticon.getSharebox() != null) {
+			transactionTemplate.executeWithoutResult(status ->
+				sendGifticonRegisteredToShareBoxNotification(savedGifticon.getSharebox(), savedGifticon));
 		}
 	}
 
 	@Override
 	public AvailableGifticonsResponseDto getAvailableGifticons(GifticonScopeType scope, GifticonType type,
-		GifticonSortType sort, Integer page, Integer size) {
+		GifticonSortType sort, Integer page, Integer size, String cursor) {
 
 		log.info("사용가능 기프티콘 조회 시작");
 
@@ -266,10 +318,16 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 		// 페이징 처리
 		Pageable pageable = pageableFactory.createPageable(page, size, sort);
 
-		// 기프티콘 조회 쿼리 실행
-		Slice<Gifticon> gifticonSlice = gifticonRepository.findAvailableGifticons(userId, scope, type, pageable);
+		// 커서가 전달된 경우 커서(keyset) 페이징, 없으면 기존 page 기반 페이징
+		GifticonCursor gifticonCursor = cursor == null || cursor.isBlank()
+			? null : GifticonCursorCodec.decode(cursor, sort);
+
+		// 기프티콘 조회 쿼리 실행 (조회 모델 최초 재구성 완료 전에는 참여 정보 기준으로 조회)
+		Slice<AvailableGifticonSummaryDto> gifticonSlice = gifticonVisibilityAppService.isReady()
+			? gifticonRepository.findAvailableGifticons(userId, scope, type, gifticonCursor, pageable)
+			: gifticonRepository.findAvailableGifticonsByParticipation(userId, scope, type, gifticonCursor, pageable);
 
-		// entity -> dto 변환
+		// 목록 행 -> 응답 dto 변환
 		List<AvailableGifticonResponseDto> availableGifticonResponseDtos = getAvailableGifticonResponseDto(
 			gifticonSlice);
 
@@ -278,7 +336,8 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 		return AvailableGifticonsResponseDto.builder()
 			.gifticons(availableGifticonResponseDtos)
 			.hasNextPage(gifticonSlice.hasNext())
-			.nextPage(gifticonSlice.hasNext() ? page + 1 : null)
+			.nextPage(gifticonSlice.hasNext() && gifticonCursor == null ? page + 1 : null)
+			.nextCursor(createNextCursor(gifticonSlice, sort))
 			.build();
 	}
 
@@ -308,6 +367,9 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 		Integer shareBoxId = findGifticon.getSharebox() == null ? null : findGifticon.getSharebox().getId();
 		String shareBoxName = findGifticon.getSharebox() == null ? null : findGifticon.getSharebox().getName();
 
+		// 썸네일, 원본 이미지 URL 일괄 서명
+		Map<FileType, String> imageUrls = getGifticonImageUrls(gifticonId, FileType.THUMBNAIL, FileType.ORIGINAL);
+
 		log.info("사용가능 기프티콘 상세 조회 완료");
 
 		return AvailableGifticonDetailResponseDto.builder()
@@ -322,8 +384,8 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 			.userName(findGifticon.getUser().getName())
 			.shareBoxId(shareBoxId)
 			.shareBoxName(shareBoxName)
-			.thumbnailPath(getGifticonImageUrl(gifticonId, FileType.THUMBNAIL)) // 파일로직 구현 후 수정
-			.originalImagePath(getGifticonImageUrl(gifticonId, FileType.ORIGINAL)) // 파일로직 구현 후 수정
+			.thumbnailPath(imageUrls.get(FileType.THUMBNAIL))
+			.originalImagePath(imageUrls.get(FileType.ORIGINAL))
 			.gifticonCreatedAt(findGifticon.getCreatedAt())
 			.gifticonOriginalAmount(findGifticon.getOriginalAmount())
 			.gifticonRemainingAmount(findGifticon.getRemainingAmount())
@@ -344,9 +406,9 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 		Pageable pageable = pageableFactory.createPageable(page, size, sort);
 
 		// 쿼리 실행
-		Slice<Gifticon> gifticonSlice = gifticonRepository.getUsedGifticons(userId, type, pageable);
+		Slice<UsedGifticonSummaryDto> gifticonSlice = gifticonRepository.getUsedGifticons(userId, type, pageable);
 
-		List<UsedGifticonResponseDto> usedGifticonResponseDtos = getUsedGifticonResponseDtos(userId, gifticonSlice);
+		List<UsedGifticonResponseDto> usedGifticonResponseDtos = getUsedGifticonResponseDtos(gifticonSlice);
 
 		log.info("사용완료 기프티콘 조회 완료");
 
@@ -375,69 +437,45 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 			throw new CustomException(ErrorCode.GIFTICON_DELETED);
 		}
 
-		GifticonOwnerHistory findOwnerHistory = gifticonOwnerHistoryRepository.getGifticonOwnerHistoryDetail(
-			userId, findGifticon.getId());
-		UsageHistory findUsageHistory = usageHistoryRepository.findLatestByUserIdAndGifticonId(userId,
-			findGifticon.getId());
+		// 해당 사용자가 넘겨주었거나, 직접 사용하여 전부 사용된 기프티콘인지 확인
+		GifticonActivity findActivity = gifticonActivityRepository.findByUserIdAndGifticonId(userId, gifticonId)
+			.filter(activity -> activity.getUsageType() != UsageType.SELF_USE
+				|| gifticonDomainService.isUsed(findGifticon))
+			.orElse(null);
+		boolean isFinishedByUser = findActivity != null;
 
 		// 기프티콘이 공유 중인지 확인
 		boolean isShared = gifticonDomainService.isAlreadyShared(findGifticon);
 		// 기본적으로 참여하지 않은 것으로 설정
 		boolean isParticipating = false;
 
-		// 기프티콘이 공유 중이라면, 사용자의 참여 여부 확인
-		if (isShared) {
+		// 본인 사용완료 기프티콘이 아니고 공유 중이라면, 사용자의 참여 여부 확인
+		if (!isFinishedByUser && isShared) {
 			// 기프티콘이 속한 쉐어박스 ID 가져오기
 			Integer shareBoxId = findGifticon.getSharebox().getId();
 			isParticipating = participationRepository.checkParticipation(userId, shareBoxId);
 		}
 
-		// 해당 사용자가 기프티콘 선물 및 뿌리기를 한 적이 없었고, 사용자가 기프티콘을 사용한 적이 없었고, 쉐어박스에 올라온 기프티콘도 아닌 경우 에러 발생
-		if (findOwnerHistory == null && findUsageHistory == null && !isParticipating) {
+		// 해당 사용자가 사용완료한 기프티콘이 아니고, 쉐어박스에 올라온 기프티콘도 아닌 경우 에러 발생
+		if (!isFinishedByUser && !isParticipating) {
 			throw new CustomException(ErrorCode.GIFTICON_AVAILABLE);
 		}
 
-		UsageType usageType = UsageType.SELF_USE; // 사용 타입
-		LocalDateTime usedAt = null; // 사용 시간
-		String thumbnailPath = getGifticonImageUrl(findGifticon.getId(), FileType.THUMBNAIL);
-		String originalImagePath = null; // 원본 이미지 파일 경로
-
-		// 본인이 사용한 기록이 있는 경우
-		if (findUsageHistory != null) {
-
-			// 사용을 전부했는지 확인
-			boolean used = gifticonDomainService.isUsed(findGifticon);
-
-			// 사용을 덜 했다면 에러 발생
-			if (!used) {
-				throw new CustomException(ErrorCode.GIFTICON_AVAILABLE);
-			}
-
-			usedAt = findUsageHistory.getCreatedAt();
-			originalImagePath = getGifticonImageUrl(findGifticon.getId(), FileType.ORIGINAL);
-		}
-		// 타인에게 넘겨준 경우
-		else if (findOwnerHistory != null) {
-
-			usageType =
-				findOwnerHistory.getTransferType() == TransferType.GIVE_AWAY ? UsageType.GIVE_AWAY : UsageType.PRESENT;
-			usedAt = findOwnerHistory.getCreatedAt();
+		// 쉐어박스 참여만 한 경우 전부 사용되었는지 확인
+		if (!isFinishedByUser && !gifticonDomainService.isUsed(findGifticon)) {
+			throw new CustomException(ErrorCode.GIFTICON_AVAILABLE);
 		}
-		// 쉐어박스 참여만 한 경우
-		else if (isParticipating) {
-			// usedAt = findUsageHistory.getCreatedAt();
-			// 사용을 전부했는지 확인
-			boolean used = gifticonDomainService.isUsed(findGifticon);
 
-			// 사용을 덜 했다면 에러 발생
-			if (!used) {
-				throw new CustomException(ErrorCode.GIFTICON_AVAILABLE);
-			}
-			usedAt = usageHistoryRepository.findAllByGifticonIdOrderByCreatedAtDesc(findGifticon.getId())
-				.get(0)
-				.getCreatedAt();
-			originalImagePath = getGifticonImageUrl(findGifticon.getId(), FileType.ORIGINAL);
-		}
+		// 사용 타입 (쉐어박스 참여자 조회 시 직접 사용으로 표시)
+		UsageType usageType = isFinishedByUser ? findActivity.getUsageType() : UsageType.SELF_USE;
+		// 사용 시간 (쉐어박스 참여자 조회 시 마지막 사용 시간)
+		LocalDateTime usedAt = isFinishedByUser ? findActivity.getUsedAt() : getLastUsedAt(findGifticon.getId());
+		// 원본 이미지는 직접 사용한 경우에만 제공
+		Map<FileType, String> imageUrls = usageType == UsageType.SELF_USE
+			? getGifticonImageUrls(findGifticon.getId(), FileType.THUMBNAIL, FileType.ORIGINAL)
+			: getGifticonImageUrls(findGifticon.getId(), FileType.THUMBNAIL);
+		String thumbnailPath = imageUrls.get(FileType.THUMBNAIL);
+		String originalImagePath = imageUrls.get(FileType.ORIGINAL);
 
 		Integer amount = findGifticon.getType() == GifticonType.AMOUNT ? findGifticon.getOriginalAmount() : null;
 
@@ -546,237 +584,446 @@ public class GifticonAppServiceImpl implements GifticonAppService {
 
 		// 논리 삭제
 		findGifticon.delete();
-	}
 
-	private Integer findBrandId(String brandName) {
-		if (brandName == null || brandName.trim().isEmpty()) {
-			return null;
+		// 조회 모델에서 제외
+		gifticonVisibilityAppService.refreshGifticon(findGifticon);
+
+		// 이미지 파일 참조 해제 (S3 객체는 커밋 후 다른 참조가 없을 때만 삭제)
+		List<File> files = fileRepository.findAllByReferenceEntityTypeAndReferenceEntityId("gifticon", gifticonId);
+		if (!files.isEmpty()) {
+			fileRepository.deleteAll(files);
+			applicationEventPublisher.publishEvent(new FileReleasedEvent(files));
 		}
+	}
 
-		return brandRepository.findByNameEquals(brandName)
-			.map(Brand::getId)
-			.orElse(null);
+	// 1. OCR 서비스를 통해 텍스트 추출 (같은 이미지면 캐시된 결과 사용)
+	private String extractOcrResult(MultipartFile image, String imageHash) {
+		return extractionResultCache.getOcrResult(imageHash).orElseGet(() -> {
+			String ocrResult = ocrPort.extractRawOcrResult(image);
+			log.debug("OCR 결과 추출 완료");
+			extractionResultCache.putOcrResult(imageHash, ocrResult);
+			return ocrResult;
+		});
 	}
 
-	private void saveGifticonFiles(Integer gifticonId, String originalImagePath,
-		String thumbnailImagePath, String barcodeImagePath) {
-		// File 엔티티 생성
-		File originalImageFile = File.builder()
-			.path(originalImagePath)
-			.referenceEntityId(gifticonId)
-			.referenceEntityType("gifticon")
-			.type(FileType.ORIGINAL)
-			.build();
+	// 2. AI 서비스를 통해 OCR 결과에서 필요한 정보 추출 (같은 문구, 같은 타입이면 캐시된 결과 사용)
+	private GifticonMetadataDto extractMetadata(String ocrResult, GifticonType gifticonType) {
+		String ocrText = ocrPort.extractText(ocrResult);
+		return extractionResultCache.getMetadata(ocrText, gifticonType.name()).orElseGet(() -> {
+			GifticonMetadataDto metadata = aiServicePort.extractGifticonInfo(ocrResult, gifticonType.name());
+			extractionResultCache.putMetadata(ocrText, gifticonType.name(), metadata);
+			return metadata;
+		});
+	}
 
-		File thumbnailImageFile = File.builder()
-			.path(thumbnailImagePath)
-			.referenceEntityId(gifticonId)
-			.referenceEntityType("gifticon")
-			.type(FileType.THUMBNAIL)
-			.build();
+	// 브랜드 조회 후 학습 데이터 저장 결과와 합쳐 응답 생성
+	private CompletableFuture<GifticonMetadataResponseDto> createMetadataResponse(GifticonMetadataDto metadata,
+		CompletableFuture<OcrTrainingData> trainingDataFuture) {
+		CompletableFuture<Integer> brandIdFuture = CompletableFuture.supplyAsync(
+			() -> findBrandId(metadata.getBrandName()), extractionTaskExecutor);
 
-		File barcodeImageFile = File.builder()
-			.path(barcodeImagePath)
-			.referenceEntityId(gifticonId)
-			.referenceEntityType("gifticon")
-			.type(FileType.BARCODE)
+		return trainingDataFuture.thenCombine(brandIdFuture, (trainingData, brandId) -> {
+			log.info("OCR 및 AI 추출 메타데이터 저장 완료 (ID: {})", trainingData.getId());
+			return toMetadataResponse(metadata, brandId, trainingData.getId());
+		});
+	}
+
+	// 최종 응답용 DTO에 OCR 학습 데이터 ID 추가하여 반환 (등록된 브랜드인 경우에만 브랜드명 설정)
+	private GifticonMetadataResponseDto toMetadataResponse(GifticonMetadataDto metadata, Integer brandId,
+		String ocrTrainingDataId) {
+		return GifticonMetadataResponseDto.builder()
+			.gifticonName(metadata.getGifticonName())
+			.brandName(brandId != null ? metadata.getBrandName() : null)
+			.brandId(brandId)
+			.gifticonBarcodeNumber(metadata.getGifticonBarcodeNumber())
+			.gifticonExpiryDate(metadata.getGifticonExpiryDate())
+			.gifticonOriginalAmount(metadata.getGifticonOriginalAmount())
+			.ocrTrainingDataId(ocrTrainingDataId)
 			.build();
+	}
 
-		// 파일 저장
-		fileRepository.save(originalImageFile);
-		fileRepository.save(thumbnailImageFile);
-		fileRepository.save(barcodeImageFile);
+	// 남은 이미지가 없을 때까지 하나씩 가져가 처리
+	private CompletableFuture<Void> extractNextInBatch(List<MultipartFile> images, GifticonType gifticonType,
+		AtomicInteger nextIndex, Consumer<GifticonMetadataBatchResultDto> listener) {
+		int index = nextIndex.getAndIncrement();
+		if (index >= images.size()) {
+			return CompletableFuture.completedFuture(null);
+		}
 
-		log.info("기프티콘 이미지 파일 저장 완료 (기프티콘 ID: {})", gifticonId);
+		// 추출 스레드 풀이 가득 차 거부되면 해당 이미지를 실패로 전달하고 다음 이미지로 진행
+		CompletableFuture<GifticonMetadataResponseDto> item;
+		try {
+			item = CompletableFuture.supplyAsync(
+				() -> extractBatchItem(images.get(index), gifticonType), extractionTaskExecutor);
+		} catch (RejectedExecutionException e) {
+			item = CompletableFuture.failedFuture(e);
+		}
+
+		return item
+			.handle((metadata, throwable) -> toBatchResult(index, metadata, throwable))
+			.thenAccept(listener)
+			.thenCompose(ignored -> extractNextInBatch(images, gifticonType, nextIndex, listener));
 	}
 
-	private String getGifticonImageUrl(Integer gifticonId, FileType fileType) {
-		File file = fileRepository.findByReferenceEntityTypeAndReferenceEntityIdAndType("gifticon", gifticonId,
-				fileType)
-			.orElseThrow(() -> new CustomException(ErrorCode.FILE_NOT_FOUND));
+	// 일괄 추출 이미지 한 건 처리 (결과를 전달하기 전에 학습 데이터 저장)
+	private GifticonMetadataResponseDto extractBatchItem(MultipartFile image, GifticonType gifticonType) {
+		fileDomainService.validateImageFile(image);
+		String imageHash = fileStoragePort.computeContentHash(image);
 
-		return fileStoragePort.generateFileUrl(file.getPath(), fileType);
-	}
+		String ocrResult = extractOcrResult(image, imageHash);
+		GifticonMetadataDto metadata = extractMetadata(ocrResult, gifticonType);
 
-	private String getSignedUrl(String filePath, FileType fileType) {
-		return fileStoragePort.generateFileUrl(filePath, fileType);
+		OcrTrainingData ocrTrainingData = ocrTrainingDataRepository.saveOcrResultWithMetadata(
+			ocrResult,
+			gifticonType.name(),
+			imageHash,
+			metadata.getGifticonBarcodeNumber(),
+			metadata.getBrandName(),
+			metadata.getGifticonName(),
+			metadata.getGifticonExpiryDate(),
+			metadata.getGifticonOriginalAmount()
+		);
+
+		return toMetadataResponse(metadata, findBrandId(metadata.getBrandName()), ocrTrainingData.getId());
 	}
 
-	private void validateGifticonAccess(Gifticon findGifticon, Integer userId) {
-		// 공유되지 않은 기프티콘인 경우 소유자 판단
-		if (findGifticon.getSharebox() == null) {
-			boolean isOwner = gifticonDomainService.hasAccess(userId, findGifticon.getUser().getId());
-			if (!isOwner) {
-				throw new CustomException(ErrorCode.UNAUTHORIZED_GIFTICON_ACCESS);
-			}
+	private GifticonMetadataBatchResultDto toBatchResult(int index, GifticonMetadataResponseDto metadata,
+		Throwable throwable) {
+		if (throwable == null) {
+			return GifticonMetadataBatchResultDto.builder()
+				.index(index)
+				.metadata(metadata)
+				.build();
 		}
 
-		// 공유된 기프티콘인 경우 참여 여부 판단
-		if (findGifticon.getSharebox() != null) {
-			boolean hasParticipation = participationRepository.checkParticipation(userId,
-				findGifticon.getSharebox().getId());
-			if (!hasParticipation) {
-				throw new CustomException(ErrorCode.UNAUTHORIZED_GIFTICON_ACCESS);
-			}
+		Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+			? throwable.getCause() : throwable;
+		ErrorCode errorCode;
+		if (cause instanceof CustomException customException) {
+			errorCode = customException.getErrorCode();
+			log.warn("일괄 추출 실패 (순서: {}): {}", index, cause.getMessage());
+		} else if (cause instanceof RejectedExecutionException) {
+			errorCode = ErrorCode.SERVER_BUSY;
+			log.warn("일괄 추출 거부 (순서: {}): 추출 스레드 풀 포화", index);
+		} else {
+			errorCode = ErrorCode.INTERNAL_SERVER_ERROR;
+			log.error("일괄 추출 실패 (순서: {})", index, cause);
 		}
+
+		return GifticonMetadataBatchResultDto.builder()
+			.index(index)
+			.errorCode(errorCode.getCode())
+			.errorMessage(errorCode.getDefaultMessage())
+			.build();
 	}
 
-	private List<AvailableGifticonResponseDto> getAvailableGifticonResponseDto(
-		Slice<Gifticon> gifticons) {
+	private Integer findBrandId(String brandName) {
+		if (brandName == null || brandName.trim().isEmpty()) {
+			return null;
+		}
 
-		// 기프티콘 id 추출
-		List<Integer> ids = gifticons.getContent().stream()
-			.map(Gifticon::getId)
-			.toList();
+		return brandRepository.findByNameEquals(brandName)
+			.map(Brand::getId)
+			.orElse(null);
+	}
 
-		// 파일을 한번에 조회
-		Map<Integer, String> pathMap = getFilePathMap(ids);
+	private Map<FileType, GeneratedImageDto> generateMissingImages(GifticonSaveRequestDto requestDto,
+		MultipartFile originalImage, MultipartFile thumbnailImage, MultipartFile barcodeImage) {
+		ImageCropAreaDto barcodeCropArea = null;
+		if (barcodeImage == null) {
+			BarcodeCropAreaDto cropArea = requestDto.getBarcodeCropArea();
+			if (cropArea == null) {
+				throw new CustomException(ErrorCode.BARCODE_IMAGE_REQUIRED);
+			}
+			barcodeCropArea = ImageCropAreaDto.builder()
+				.x(cropArea.getX())
+				.y(cropArea.getY())
+				.width(cropArea.getWidth())
+				.height(cropArea.getHeight())
+				.build();
+		}
 
-		return gifticons.getContent().stream()
-			.map(dto -> AvailableGifticonResponseDto.builder()
-				.gifticonId(dto.getId())
-				.gifticonName(dto.getName())
-				.gifticonType(dto.getType())
-				.gifticonExpiryDate(dto.getExpiryDate())
-				.brandId(dto.getBrand().getId())
-				.brandName(dto.getBrand().getName())
-				.scope(dto.getSharebox() == null ? GifticonScopeType.MY_BOX.name() : GifticonScopeType.SHARE_BOX.name())
-				.userId(dto.getUser().getId())
-				.userName(dto.getUser().getName())
-				.shareboxId(dto.getSharebox() == null ? null : dto.getSharebox().getId())
-				.shareboxName(dto.getSharebox() == null ? null : dto.getSharebox().getName())
-				.thumbnailPath(
-					pathMap.get(dto.getId()) != null ? getSignedUrl(pathMap.get(dto.getId()), FileType.THUMBNAIL) :
-						null)
-				.build())
-			.toList();
+		if (thumbnailImage != null && barcodeCropArea == null) {
+			return Map.of();
+		}
+		return imageProcessingPort.generateImages(originalImage, thumbnailImage == null, barcodeCropArea);
 	}
 
-	private List<UsedGifticonResponseDto> getUsedGifticonResponseDtos(Integer userId,
-		Slice<Gifticon> gifticons) {
+	// 기프티콘 등록 트랜잭션 (DB 검증, 기프티콘 및 파일 정보 저장)
+	private Gifticon registerGifticon(GifticonSaveRequestDto requestDto, String barcodeFingerprint,
+		Map<FileType, String> filePaths, Map<FileType, StagedFileDto> stagedFiles) {
+		// 바코드 중복 검사 (바코드 지문 인덱스 조회)
+		if (gifticonRepository.existsByBarcodeFingerprint(barcodeFingerprint)) {
+			throw new CustomException(ErrorCode.GIFTICON_BARCODE_DUPLICATE);
+		}
 
-		// 기프티콘 id 추출
-		List<Integer> ids = gifticons.getContent().stream()
-			.map(Gifticon::getId)
-			.toList();
+		// Brand 객체 조회
+		Brand brand = brandRepository.findById(requestDto.getBrandId());
 
-		Map<Integer, String> pathMap = getFilePathMap(ids);
+		// ShareBox 객체 조회, Participants 조회로 참여하고 있는 기프티콘 박스인지 체크해야 함.
+		ShareBox shareBox = null;
 
-		Map<Integer, GifticonOwnerHistory> ownerHistoryMap = getOwnerHistoryMap(userId, ids);
+		// 로그인 된 유저
+		User loggedInUser = securityServicePort.getLoggedInUser();
 
-		Map<Integer, UsageHistory> usageHistoryMap = getUsageHistoryMap(userId, ids);
+		if (requestDto.getShareBoxId() != null) {
+			shareBox = shareBoxRepository.findById(requestDto.getShareBoxId());
 
-		List<UsedGifticonResponseDto> responseDtos = new ArrayList<>();
+			// 현재 사용자가 해당 공유 박스에 참여 중인지 확인
+			boolean hasParticipation = participationRepository.checkParticipation(loggedInUser.getId(),
+				shareBox.getId());
 
-		for (Gifticon gifticon : gifticons) {
+			if (!hasParticipation) {
+				throw new CustomException(ErrorCode.UNAUTHORIZED_GIFTICON_ACCESS);
+			}
+		}
 
-			Integer gifticonId = gifticon.getId();
-			UsageHistory usageHistory = usageHistoryMap.get(gifticonId);
-			GifticonOwnerHistory ownerHistory = ownerHistoryMap.get(gifticonId);
+		// 도메인 객체 생성
+		Gifticon newGifticon = Gifticon.builder()
+			.name(requestDto.getGifticonName())
+			.barcode(requestDto.getGifticonBarcodeNumber())
+			.barcodeFingerprint(barcodeFingerprint)
+			.type(requestDto.getGifticonType())
+			.expiryDate(requestDto.getGifticonExpiryDate())
+			.originalAmount(requestDto.getGifticonAmount())
+			.remainingAmount(requestDto.getGifticonAmount())
+			.sharebox(shareBox)
+			.brand(brand)
+			.user(loggedInUser)
+			.build();
 
-			// 사용시간, 타입 처리
-			UsageInfo usageInfo = getUsageInfo(usageHistory, ownerHistory);
+		// 저장소를 통한 영속화
+		Gifticon savedGifticon = gifticonRepository.save(newGifticon);
 
-			// 썸네일 경로 처리
-			String thumbnailPath = getThumbnailPath(pathMap, gifticonId);
+		// 쉐어박스에 바로 등록한 경우 쉐어박스 기프티콘 수 증가
+		if (shareBox != null) {
+			shareBoxRepository.addGifticonCount(shareBox.getId(), 1);
+		}
 
-			UsedGifticonResponseDto newDto = UsedGifticonResponseDto.builder()
-				.gifticonId(gifticon.getId())
-				.gifticonName(gifticon.getName())
-				.gifticonType(gifticon.getType())
-				.gifticonExpiryDate(gifticon.getExpiryDate())
-				.brandId(gifticon.getBrand().getId())
-				.brandName(gifticon.getBrand().getName())
-				.usageType(usageInfo.usageType())
-				.usedAt(usageInfo.usedAt())
-				.thumbnailPath(thumbnailPath)
-				.build();
+		// 조회 모델 생성
+		gifticonVisibilityAppService.refreshGifticon(savedGifticon);
 
-			responseDtos.add(newDto);
+		// 파일 엔티티 생성 및 저장 (확정 후에도 파일명은 동일)
+		saveGifticonFiles(savedGifticon.getId(), filePaths, stagedFiles);
+
+		return savedGifticon;
+	}
+
+	// 같은 타입, 같은 내용의 기존 파일이 있으면 그 경로를, 없으면 임시 업로드 파일명을 사용
+	// 공유 경로의 S3 객체는 (타입, 내용 해시)가 같은 File 행이 모두 삭제된 뒤에만 지움 (FileReleaseEventListener)
+	private Map<FileType, String> resolveFilePaths(Map<FileType, StagedFileDto> stagedFiles) {
+		Set<String> contentHashes = stagedFiles.values().stream()
+			.map(StagedFileDto::getContentHash)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toSet());
+
+		Map<String, String> existingPaths = new HashMap<>();
+		if (!contentHashes.isEmpty()) {
+			for (File file : fileRepository.findAllByContentHashIn(contentHashes)) {
+				existingPaths.putIfAbsent(file.getType() + "/" + file.getContentHash(), file.getPath());
+			}
 		}
 
-		return responseDtos;
+		Map<FileType, String> filePaths = new EnumMap<>(FileType.class);
+		stagedFiles.forEach((fileType, stagedFile) -> filePaths.put(fileType,
+			existingPaths.getOrDefault(fileType + "/" + stagedFile.getContentHash(), stagedFile.getFileName())));
+		return filePaths;
 	}
 
-	private UsageInfo getUsageInfo(UsageHistory usageHistory, GifticonOwnerHistory ownerHistory) {
-		UsageType usageType;
-		LocalDateTime usedAt;
+	// 새 경로로 저장된 파일은 확정하고, 기존 경로를 참조한 파일의 임시 업로드는 삭제
+	private void promoteStagedFiles(Map<FileType, StagedFileDto> stagedFiles, Map<FileType, String> filePaths) {
+		stagedFiles.forEach((fileType, stagedFile) -> {
+			String fileName = stagedFile.getFileName();
+			if (!fileName.equals(filePaths.get(fileType))) {
+				discardStagedFile(fileName, fileType);
+				return;
+			}
+
+			try {
+				fileStoragePort.promoteStagedFile(fileName, fileType);
+			} catch (CustomException e) {
+				// 이미 커밋된 등록은 되돌리지 않고 스위퍼가 다시 확정
+				log.warn("임시 파일 확정 실패 - 타입: {}, 파일명: {}", fileType, fileName);
+			}
+		});
+	}
+
+	private void discardStagedFiles(Map<FileType, StagedFileDto> stagedFiles) {
+		stagedFiles.forEach((fileType, stagedFile) -> discardStagedFile(stagedFile.getFileName(), fileType));
+	}
+
+	private void discardStagedFile(String fileName, FileType fileType) {
+		try {
+			fileStoragePort.deleteStagedFile(fileName, fileType);
+		} catch (CustomException e) {
+			log.warn("임시 파일 삭제 실패 - 타입: {}, 파일명: {}", fileType, fileName);
+		}
+	}
 
-		if (usageHistory != null) {
-			// 사용 이력이 있으면 SELF_USE로 처리
-			usageType = UsageType.SELF_USE;
-			usedAt = usageHistory.getCreatedAt();
+	// 사용자 수정 메타데이터 저장 - 타입에 따라 다른 메서드 호출 (실패해도 등록은 유지)
+	private void updateUserCorrectedData(GifticonSaveRequestDto requestDto, Brand brand) {
+		try {
+			if (requestDto.getGifticonType() == GifticonType.AMOUNT) {
+				// 금액형 기프티콘인 경우
+				ocrTrainingDataRepository.updateUserCorrectedForAmount(
+					requestDto.getOcrTrainingDataId(),
+					requestDto.getGifticonBarcodeNumber(),
+					brand.getName(),
+					requestDto.getGifticonName(),
+					requestDto.getGifticonExpiryDate().toString(),
+					requestDto.getGifticonAmount()
+				);
+			} else {
+				// 상품형 기프티콘인 경우
+				ocrTrainingDataRepository.updateUserCorrectedForProduct(
+					requestDto.getOcrTrainingDataId(),
+					requestDto.getGifticonBarcodeNumber(),
+					brand.getName(),
+					requestDto.getGifticonName(),
+					requestDto.getGifticonExpiryDate().toString()
+				);
+			}
 
-			return new UsageInfo(usageType, usedAt);
+			log.info("사용자 수정 메타데이터 저장 완료 (ID: {})", requestDto.getOcrTrainingDataId());
+		} catch (Exception e) {
+			log.error("사용자 수정 메타데이터 저장 실패 (ID: {}): {}", requestDto.getOcrTrainingDataId(), e.getMessage());
 		}
+	}
 
-		// 소유권 이력이 있으면 해당 전송 타입으로 처리
-		usageType = convertTransferTypeToUsageType(ownerHistory.getTransferType());
-		usedAt = ownerHistory.getCreatedAt();
+	private void saveGifticonFiles(Integer gifticonId, Map<FileType, String> filePaths,
+		Map<FileType, StagedFileDto> stagedFiles) {
+		// 타입별 File 엔티티 생성 및 저장 (내용이 같은 기존 파일과 path 공유)
+		filePaths.forEach((fileType, path) -> fileRepository.save(File.builder()
+			.path(path)
+			.referenceEntityId(gifticonId)
+			.referenceEntityType("gifticon")
+			.type(fileType)
+			.contentHash(stagedFiles.get(fileType).getContentHash())
+			.build()));
 
-		return new UsageInfo(usageType, usedAt);
+		log.info("기프티콘 이미지 파일 저장 완료 (기프티콘 ID: {})", gifticonId);
+	}
+
+	private String createNextCursor(Slice<AvailableGifticonSummaryDto> gifticonSlice, GifticonSortType sort) {
+		if (!gifticonSlice.hasNext()) {
+			return null;
+		}
 
+		List<AvailableGifticonSummaryDto> content = gifticonSlice.getContent();
+		return GifticonCursorCodec.encode(GifticonCursor.of(content.get(content.size() - 1), sort));
 	}
 
-	private record UsageInfo(UsageType usageType, LocalDateTime usedAt) {
+	private String getGifticonImageUrl(Integer gifticonId, FileType fileType) {
+		String url = fileResolver.resolveUrl(FileKey.of("gifticon", gifticonId, fileType));
+		if (url == null) {
+			throw new CustomException(ErrorCode.FILE_NOT_FOUND);
+		}
+		return url;
 	}
 
-	private String getThumbnailPath(Map<Integer, String> pathMap, Integer gifticonId) {
-		String thumbnailPath = null;
-		if (pathMap.containsKey(gifticonId)) {
-			thumbnailPath = getSignedUrl(pathMap.get(gifticonId), FileType.THUMBNAIL);
+	// 요청한 타입의 기프티콘 파일 URL을 한 번에 조회
+	private Map<FileType, String> getGifticonImageUrls(Integer gifticonId, FileType... fileTypes) {
+		List<FileKey> fileKeys = Arrays.stream(fileTypes)
+			.map(fileType -> FileKey.of("gifticon", gifticonId, fileType))
+			.toList();
+		Map<FileKey, String> urlMap = fileResolver.resolveUrls(fileKeys);
+
+		Map<FileType, String> imageUrls = new EnumMap<>(FileType.class);
+		for (FileKey fileKey : fileKeys) {
+			String url = urlMap.get(fileKey);
+			if (url == null) {
+				throw new CustomException(ErrorCode.FILE_NOT_FOUND);
+			}
+			imageUrls.put(fileKey.fileType(), url);
 		}
-		return thumbnailPath;
+		return imageUrls;
+	}
+
+	private String getSignedUrl(String filePath, FileType fileType) {
+		return fileResolver.resolvePathUrl(filePath, fileType);
 	}
 
-	private Map<Integer, UsageHistory> getUsageHistoryMap(Integer userId, List<Integer> ids) {
-		// 사용 내역을 한번에 조회
-		List<UsageHistory> usageHistories = usageHistoryRepository.findLatestForEachGifticonByIdsAndUserId(ids, userId);
+	private void validateGifticonAccess(Gifticon findGifticon, Integer userId) {
+		// 공유되지 않은 기프티콘인 경우 소유자 판단
+		if (findGifticon.getSharebox() == null) {
+			boolean isOwner = gifticonDomainService.hasAccess(userId, findGifticon.getUser().getId());
+			if (!isOwner) {
+				throw new CustomException(ErrorCode.UNAUTHORIZED_GIFTICON_ACCESS);
+			}
+		}
+
+		// 공유된 사용가능 기프티콘인 경우 조회 모델로 판단
+		// 최초 재구성 완료 전에는 행이 없을 수 있으므로 그때만 참여 여부로 판단
+		if (findGifticon.getSharebox() != null && !gifticonDomainService.isUsed(findGifticon)) {
+			boolean isVisible = gifticonVisibilityRepository.existsByUserIdAndGifticonId(userId,
+				findGifticon.getId())
+				|| (!gifticonVisibilityAppService.isReady()
+				&& participationRepository.checkParticipation(userId, findGifticon.getSharebox().getId()));
+			if (!isVisible) {
+				throw new CustomException(ErrorCode.UNAUTHORIZED_GIFTICON_ACCESS);
+			}
+		}
 
-		// 사용 내역 맵 생성 (gifticonId -> 사용 내역)
-		// 만약 중복된 키가 있을 경우, 가장 최근 기록을 유지
-		return usageHistories.stream()
-			.collect(Collectors.toMap(
-				history -> history.getGifticon().getId(),
-				history -> history,
-				// 만약 중복된 키가 있을 경우, 가장 최근 기록을 유지
-				(existing, replacement) -> existing.getCreatedAt().isAfter(replacement.getCreatedAt())
-					? existing : replacement
-			));
+		// 공유된 사용완료 기프티콘인 경우 참여 여부 판단
+		if (findGifticon.getSharebox() != null && gifticonDomainService.isUsed(findGifticon)) {
+			boolean hasParticipation = participationRepository.checkParticipation(userId,
+				findGifticon.getSharebox().getId());
+			if (!hasParticipation) {
+				throw new CustomException(ErrorCode.UNAUTHORIZED_GIFTICON_ACCESS);
+			}
+		}
 	}
 
-	private Map<Integer, GifticonOwnerHistory> getOwnerHistoryMap(Integer userId, List<Integer> ids) {
-		// 소유자 변경 내역을 한번에 조회
-		List<GifticonOwnerHistory> ownerHistories = gifticonOwnerHistoryRepository.findLatestForEachGifticonByIdsAndFromUserId(
-			ids, userId);
+	private List<AvailableGifticonResponseDto> getAvailableGifticonResponseDto(
+		Slice<AvailableGifticonSummaryDto> gifticons) {
 
-		// 소유권 이력 맵 생성 (gifticonId -> 소유권 이력)
-		// 만약 중복된 키가 있을 경우, 가장 최근 기록을 유지
-		return ownerHistories.stream()
-			.collect(Collectors.toMap(
-				history -> history.getGifticon().getId(),
-				history -> history,
-				// 만약 중복된 키가 있을 경우, 가장 최근 기록을 유지
-				(existing, replacement) -> existing.getCreatedAt().isAfter(replacement.getCreatedAt())
-					? existing : replacement
-			));
+		// 썸네일 경로는 목록 조회 시 함께 조회됨
+		return gifticons.getContent().stream()
+			.map(dto -> AvailableGifticonResponseDto.builder()
+				.gifticonId(dto.getGifticonId())
+				.gifticonName(dto.getGifticonName())
+				.gifticonType(dto.getGifticonType())
+				.gifticonExpiryDate(dto.getGifticonExpiryDate())
+				.brandId(dto.getBrandId())
+				.brandName(dto.getBrandName())
+				.scope(dto.getShareboxId() == null
+					? GifticonScopeType.MY_BOX.name() : GifticonScopeType.SHARE_BOX.name())
+				.userId(dto.getUserId())
+				.userName(dto.getUserName())
+				.shareboxId(dto.getShareboxId())
+				.shareboxName(dto.getShareboxName())
+				.thumbnailPath(getThumbnailPath(dto.getThumbnailPath()))
+				.build())
+			.toList();
 	}
 
-	private Map<Integer, String> getFilePathMap(List<Integer> ids) {
-		// 파일을 한번에 조회
-		List<File> thumbs = fileRepository.findAllByReferenceEntityTypeAndReferenceEntityIdInAndType(
-			"gifticon", ids, FileType.THUMBNAIL);
+	private List<UsedGifticonResponseDto> getUsedGifticonResponseDtos(Slice<UsedGifticonSummaryDto> gifticons) {
+
+		// 사용 타입, 사용 시간, 썸네일 경로는 목록 조회 시 함께 조회됨
+		return gifticons.getContent().stream()
+			.map(gifticon -> UsedGifticonResponseDto.builder()
+				.gifticonId(gifticon.getGifticonId())
+				.gifticonName(gifticon.getGifticonName())
+				.gifticonType(gifticon.getGifticonType())
+				.gifticonExpiryDate(gifticon.getGifticonExpiryDate())
+				.brandId(gifticon.getBrandId())
+				.brandName(gifticon.getBrandName())
+				.usageType(gifticon.getUsageType())
+				.usedAt(gifticon.getUsedAt())
+				.thumbnailPath(getThumbnailPath(gifticon.getThumbnailPath()))
+				.build())
+			.toList();
+	}
 
-		// 경로 맵 생성 (gifticonId -> 썸네일 경로)
-		return thumbs.stream()
-			.collect(Collectors.toMap(File::getReferenceEntityId, File::getPath));
+	private LocalDateTime getLastUsedAt(Integer gifticonId) {
+		return usageHistoryRepository.findLatestForEachGifticonByIds(List.of(gifticonId)).stream()
+			.findFirst()
+			.map(UsageHistory::getCreatedAt)
+			.orElse(null);
 	}
 
-	private UsageType convertTransferTypeToUsageType(TransferType transferType) {
-		return switch (transferType) {
-			case GIVE_AWAY -> UsageType.GIVE_AWAY;
-			case PRESENT -> UsageType.PRESENT;
-		};
+	private String getThumbnailPath(String filePath) {
+		return filePath == null ? null : getSignedUrl(filePath, FileType.THUMBNAIL);
 	}
 
 	/**
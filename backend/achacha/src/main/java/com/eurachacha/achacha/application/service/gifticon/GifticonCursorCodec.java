@@ -0,0 +1,58 @@
+package com.eurachacha.achacha.application.service.gifticon;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.eurachacha.achacha.application.port.output.gifticon.dto.GifticonCursor;
+import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonSortType;
+import com.eurachacha.achacha.web.common.exception.CustomException;
+import com.eurachacha.achacha.web.common.exception.ErrorCode;
+
+/**
+ * 기프티콘 목록 커서와 클라이언트 토큰 간 변환
+ * 클라이언트에는 "정렬|정렬 키|id"를 Base64(URL)로 인코딩한 불투명한 토큰으로 전달
+ */
+public final class GifticonCursorCodec {
+
+	private static final String DELIMITER = "|";
+
+	// 인스턴스화 방지
+	private GifticonCursorCodec() {
+		throw new CustomException(ErrorCode.CONSTANT_CLASS_INSTANTIATION);
+	}
+
+	public static String encode(GifticonCursor cursor) {
+		String sortKey = cursor.getSortType() == GifticonSortType.EXPIRY_ASC
+			? cursor.getExpiryDate().toString() : cursor.getCreatedAt().toString();
+		String raw = cursor.getSortType().name() + DELIMITER + sortKey + DELIMITER + cursor.getId();
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 토큰을 해석하여 커서 생성
+	 * 요청한 정렬 방식과 토큰의 정렬 방식이 다르면 잘못된 커서로 판단
+	 */
+	public static GifticonCursor decode(String token, GifticonSortType sortType) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\" + DELIMITER);
+
+			if (parts.length != 3 || GifticonSortType.valueOf(parts[0]) != sortType) {
+				throw new CustomException(ErrorCode.INVALID_PAGE_CURSOR);
+			}
+
+			Integer id = Integer.valueOf(parts[2]);
+
+			if (sortType == GifticonSortType.EXPIRY_ASC) {
+				return new GifticonCursor(sortType, null, LocalDate.parse(parts[1]), id);
+			}
+			return new GifticonCursor(sortType, LocalDateTime.parse(parts[1]), null, id);
+		} catch (CustomException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw new CustomException(ErrorCode.INVALID_PAGE_CURSOR);
+		}
+	}
+}
@@ -11,12 +11,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.eurachacha.achacha.application.port.input.gifticon.GifticonGiveAppService;
+import com.eurachacha.achacha.application.port.input.gifticon.GifticonVisibilityAppService;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.request.GifticonPresentRequestDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.GifticonPresentResponseDto;
 import com.eurachacha.achacha.application.port.output.auth.SecurityServicePort;
 import com.eurachacha.achacha.application.port.output.ble.BleTokenRepository;
 import com.eurachacha.achacha.application.port.output.gifticon.GifticonRepository;
+import com.eurachacha.achacha.application.port.output.history.GifticonActivityRepository;
 import com.eurachacha.achacha.application.port.output.history.GifticonOwnerHistoryRepository;
+import com.eurachacha.achacha.application.port.output.history.UsageHistoryRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationSettingRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationTypeRepository;
@@ -31,7 +34,9 @@ import com.eurachacha.achacha.domain.model.fcm.FcmToken;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
 import com.eurachacha.achacha.domain.model.history.GifticonOwnerHistory;
+import com.eurachacha.achacha.domain.model.history.UsageHistory;
 import com.eurachacha.achacha.domain.model.history.enums.TransferType;
+import com.eurachacha.achacha.domain.model.history.enums.UsageType;
 import com.eurachacha.achacha.domain.model.notification.Notification;
 import com.eurachacha.achacha.domain.model.notification.NotificationSetting;
 import com.eurachacha.achacha.domain.model.notification.NotificationType;
@@ -61,6 +66,8 @@ public class GifticonGiveAppServiceImpl implements GifticonGiveAppService {
 	private final GifticonDomainService gifticonDomainService;
 	private final BleTokenRepository bleTokenRepository;
 	private final GifticonOwnerHistoryRepository gifticonOwnerHistoryRepository;
+	private final GifticonActivityRepository gifticonActivityRepository;
+	private final UsageHistoryRepository usageHistoryRepository;
 	private final SecurityServicePort securityServicePort;
 	private final GifticonGiveDomainService gifticonGiveDomainService;
 	private final PresentTemplateRepository presentTemplateRepository;
@@ -72,6 +79,7 @@ public class GifticonGiveAppServiceImpl implements GifticonGiveAppService {
 	private final NotificationSettingRepository notificationSettingRepository;
 	private final NotificationSettingDomainService notificationSettingDomainService;
 	private final ApplicationEventPublisher applicationEventPublisher;
+	private final GifticonVisibilityAppService gifticonVisibilityAppService;
 
 	@Override
 	@Transactional
@@ -113,6 +121,9 @@ public class GifticonGiveAppServiceImpl implements GifticonGiveAppService {
 		User receiverUser = findToken.getUser();
 		log.info("선택된 수신자 ID: {}", receiverUser.getId());
 
+		// 보낸 사람 기준 사용완료 기록
+		gifticonActivityRepository.record(userId, gifticonId, UsageType.GIVE_AWAY, LocalDateTime.now());
+
 		// 기프티콘 소유권 업데이트
 		findGifticon.updateUser(receiverUser);
 		log.info("기프티콘 소유권 업데이트 완료");
@@ -121,6 +132,9 @@ public class GifticonGiveAppServiceImpl implements GifticonGiveAppService {
 		findGifticon.updateCreatedAt(LocalDateTime.now());
 		log.info("기프티콘 생성 시간 업데이트 완료");
 
+		// 조회 모델 갱신 (수신자의 내 보관함으로 이동)
+		gifticonVisibilityAppService.refreshGifticon(findGifticon);
+
 		GifticonOwnerHistory newGifticonOwnerHistory = GifticonOwnerHistory.builder()
 			.gifticon(findGifticon)
 			.fromUser(loggedInUser) // 유저 로직 추가 시 변경 필요
@@ -171,6 +185,12 @@ public class GifticonGiveAppServiceImpl implements GifticonGiveAppService {
 			gifticon.use(); // 상품형
 		}
 
+		// 보낸 사람 기준 사용완료 기록
+		gifticonActivityRepository.record(user.getId(), gifticonId, UsageType.PRESENT, LocalDateTime.now());
+
+		// 조회 모델 갱신 (사용완료 기프티콘 제외)
+		gifticonVisibilityAppService.refreshGifticon(gifticon);
+
 		// 기프티콘 소유자 변경 내역 저장
 		GifticonOwnerHistory newGifticonOwnerHistory = GifticonOwnerHistory.builder()
 			.gifticon(gifticon)
@@ -213,11 +233,23 @@ public class GifticonGiveAppServiceImpl implements GifticonGiveAppService {
 		// 기프티콘 사용 완료 취소
 		gifticon.cancelUse();
 
+		// 보낸 사람의 선물 기록 삭제, 선물 전 직접 사용한 내역이 있으면 직접 사용 기록으로 복원
+		gifticonActivityRepository.deleteByUserIdAndGifticonIdAndUsageType(user.getId(), gifticonId,
+			UsageType.PRESENT);
+		UsageHistory latestUsage = usageHistoryRepository.findLatestByUserIdAndGifticonId(user.getId(), gifticonId);
+		if (latestUsage != null) {
+			gifticonActivityRepository.record(user.getId(), gifticonId, UsageType.SELF_USE,
+				latestUsage.getCreatedAt());
+		}
+
 		// 금액형 잔액 되돌리기
 		if (gifticon.getType() == GifticonType.AMOUNT) {
 			gifticon.updateRemainingAmount(gifticon.getOriginalAmount());
 		}
 
+		// 조회 모델 갱신 (사용가능 기프티콘으로 복원)
+		gifticonVisibilityAppService.refreshGifticon(gifticon);
+
 		// 기프티콘 소유자 변경 내역 삭제
 		gifticonOwnerHistoryRepository.deleteByGifticonIdAndTransferType(gifticonId, TransferType.PRESENT);
 
@@ -1,15 +1,15 @@
 package com.eurachacha.achacha.application.service.gifticon;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.eurachacha.achacha.infrastructure.adapter.output.persistence.gifticon.GifticonJpaRepository;
+import com.eurachacha.achacha.application.port.output.gifticon.BarcodeFingerprintPort;
 import com.eurachacha.achacha.infrastructure.util.EncryptionUtil;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -18,55 +18,143 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class GifticonMigrationService {
 
-	private final GifticonJpaRepository gifticonRepository;
-	private final EncryptionUtil encryptionUtil;
-	private final EntityManager entityManager;
+	private static final int FINGERPRINT_CHUNK_SIZE = 1000;
+	private static final int ACTIVITY_CHUNK_SIZE = 10000;
+
+	// 기프티콘 id 범위 (?, ?]의 사용자, 기프티콘별 마지막 사용 내역
+	// usage_type을 used_at보다 먼저 갱신해야 갱신 전 used_at과 비교됨
+	private static final String UPSERT_USAGE_ACTIVITY_SQL = """
+		INSERT INTO user_gifticon_activity (user_id, gifticon_id, usage_type, used_at)
+		SELECT new.user_id, new.gifticon_id, new.usage_type, new.used_at FROM (
+		    SELECT uh.user_id, uh.gifticon_id, 'SELF_USE' AS usage_type, MAX(uh.created_at) AS used_at
+		    FROM usage_history uh
+		    WHERE uh.gifticon_id > ? AND uh.gifticon_id <= ?
+		    GROUP BY uh.user_id, uh.gifticon_id
+		) AS new
+		ON DUPLICATE KEY UPDATE
+		    usage_type = IF(new.used_at >= user_gifticon_activity.used_at, new.usage_type,
+		        user_gifticon_activity.usage_type),
+		    used_at = GREATEST(user_gifticon_activity.used_at, new.used_at)
+		""";
+
+	// 기프티콘 id 범위 (?, ?]의 보낸 사용자, 기프티콘별 마지막 전송 내역
+	private static final String UPSERT_TRANSFER_ACTIVITY_SQL = """
+		INSERT INTO user_gifticon_activity (user_id, gifticon_id, usage_type, used_at)
+		SELECT new.user_id, new.gifticon_id, new.usage_type, new.used_at FROM (
+		    SELECT oh.from_user_id AS user_id, oh.gifticon_id, oh.transfer_type AS usage_type,
+		        oh.created_at AS used_at
+		    FROM gifticon_owner_history oh
+		    JOIN (SELECT MAX(id) AS last_id FROM gifticon_owner_history
+		          WHERE gifticon_id > ? AND gifticon_id <= ?
+		          GROUP BY from_user_id, gifticon_id) latest ON latest.last_id = oh.id
+		) AS new
+		ON DUPLICATE KEY UPDATE
+		    usage_type = IF(new.used_at >= user_gifticon_activity.used_at, new.usage_type,
+		        user_gifticon_activity.usage_type),
+		    used_at = GREATEST(user_gifticon_activity.used_at, new.used_at)
+		""";
+
+	private static final String SELECT_FINGERPRINT_CHUNK_SQL = """
+		SELECT id, barcode FROM gifticon
+		WHERE id > ? AND barcode IS NOT NULL AND barcode_fingerprint IS NULL
+		ORDER BY id
+		LIMIT ?
+		""";
+
+	// 유니크 인덱스 충돌(중복 바코드) 시 배치가 실패하지 않도록 IGNORE 사용
+	// 조회 이후 다른 경로로 지문이 생성된 행은 덮어쓰지 않음
+	private static final String UPDATE_FINGERPRINT_SQL =
+		"UPDATE IGNORE gifticon SET barcode_fingerprint = ? WHERE id = ? AND barcode_fingerprint IS NULL";
 
-	@Transactional
-	public void migrateExistingBarcodes() {
-		try {
-			log.info("바코드 암호화 마이그레이션 시작");
+	private final EncryptionUtil encryptionUtil;
+	private final BarcodeFingerprintPort barcodeFingerprintPort;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	/**
+	 * 사용자별 기프티콘 마지막 활동(user_gifticon_activity) 복구
+	 * 기프티콘 id 범위별로 나누어 청크마다 커밋 (사용자, 기프티콘별 집계가 청크 경계에 걸치지 않음)
+	 * 사용자, 기프티콘별 가장 최근 사용 내역을 먼저 반영한 뒤, 그보다 늦은 전송 내역이 있으면 덮어씀
+	 * 반영 결과가 기존 값보다 늦을 때만 갱신하므로 중단 후 다시 실행해도 됨
+	 */
+	public void backfillActivity() {
+		log.info("사용자별 기프티콘 활동 복구 시작");
+
+		Integer maxGifticonId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM gifticon", Integer.class);
+		int lastId = 0;
+		int usageUpserted = 0;
+		int transferUpserted = 0;
+
+		while (maxGifticonId != null && lastId < maxGifticonId) {
+			int fromId = lastId;
+			int toId = lastId + ACTIVITY_CHUNK_SIZE;
+
+			int[] upserted = transactionTemplate.execute(status -> new int[] {
+				jdbcTemplate.update(UPSERT_USAGE_ACTIVITY_SQL, fromId, toId),
+				jdbcTemplate.update(UPSERT_TRANSFER_ACTIVITY_SQL, fromId, toId)
+			});
+			usageUpserted += upserted[0];
+			transferUpserted += upserted[1];
+			lastId = toId;
+
+			log.info("사용자별 기프티콘 활동 복구 진행 - 마지막 기프티콘 id: {}", Math.min(lastId, maxGifticonId));
+		}
 
-			// 실제 테이블 이름 확인
-			List<Object[]> results = entityManager
-				.createNativeQuery(
-					"SELECT id, barcode FROM gifticon WHERE barcode IS NOT NULL")
-				.getResultList();
+		log.info("사용자별 기프티콘 활동 복구 완료. 사용 내역 반영: {}, 전송 내역 반영: {}", usageUpserted, transferUpserted);
+	}
 
-			log.info("암호화 대상 바코드 수: {}", results.size());
+	/**
+	 * 기존 기프티콘의 바코드 지문(barcode_fingerprint) 생성
+	 * id 기준 keyset 조회로 청크마다 JDBC 배치 업데이트 후 커밋 (중단되어도 지문이 생성된 행은 다시 조회되지 않음)
+	 * 이미 같은 지문이 있는 중복 바코드와 복호화에 실패한 행은 건너뛰고 로그로 남김
+	 */
+	public void backfillBarcodeFingerprints() {
+		log.info("바코드 지문 생성 시작");
+
+		int lastId = 0;
+		int updatedCount = 0;
+		int duplicatedCount = 0;
+		int failedCount = 0;
+
+		while (true) {
+			List<BarcodeRow> rows = jdbcTemplate.query(SELECT_FINGERPRINT_CHUNK_SQL,
+				(rs, rowNum) -> new BarcodeRow(rs.getInt("id"), rs.getString("barcode")),
+				lastId, FINGERPRINT_CHUNK_SIZE);
+
+			if (rows.isEmpty()) {
+				break;
+			}
 
-			int successCount = 0;
-			for (Object[] result : results) {
+			List<Object[]> updates = new ArrayList<>(rows.size());
+			for (BarcodeRow row : rows) {
 				try {
-					Integer id = ((Number)result[0]).intValue();
-					String plainBarcode = (String)result[1];
-
-					if (plainBarcode != null && !plainBarcode.isEmpty()) {
-						Query query = entityManager.createNativeQuery(
-							"UPDATE gifticon SET barcode = ?1 WHERE id = ?2");
-
-						query.setParameter(1, encryptionUtil.encrypt(plainBarcode));
-						query.setParameter(2, id);
-
-						int updated = query.executeUpdate();
-
-						if (updated > 0) {
-							successCount++;
-						}
-					}
+					String fingerprint = barcodeFingerprintPort.generateFingerprint(
+						encryptionUtil.decrypt(row.barcode()));
+					updates.add(new Object[] {fingerprint, row.id()});
 				} catch (Exception e) {
-					log.error("ID {} 바코드 암호화 실패: {}", result[0], e.getMessage(), e);
+					failedCount++;
+					log.error("ID {} 바코드 지문 생성 실패: {}", row.id(), e.getMessage());
 				}
 			}
+			lastId = rows.get(rows.size() - 1).id();
 
-			log.info("바코드 암호화 완료. 성공: {}/{}", successCount, results.size());
+			int[] updateCounts = updates.isEmpty() ? new int[0] : transactionTemplate.execute(
+				status -> jdbcTemplate.batchUpdate(UPDATE_FINGERPRINT_SQL, updates));
 
-			entityManager.flush();
-			entityManager.clear();
-		} catch (Exception e) {
-			log.error("바코드 마이그레이션 과정 중 오류 발생", e);
-			throw new RuntimeException("바코드 암호화 마이그레이션 실패", e);
+			for (int i = 0; i < updateCounts.length; i++) {
+				if (updateCounts[i] == 0) {
+					duplicatedCount++;
+					log.warn("ID {} 바코드 지문 중복으로 건너뜀", updates.get(i)[1]);
+				} else {
+					updatedCount++;
+				}
+			}
 		}
+
+		log.info("바코드 지문 생성 완료. 생성: {}, 중복: {}, 실패: {}", updatedCount, duplicatedCount, failedCount);
+	}
+
+	private record BarcodeRow(Integer id, String barcode) {
 	}
 
 	// /**
@@ -128,4 +216,4 @@ public class GifticonMigrationService {
 	//
 	// 	return result;
 	// }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.eurachacha.achacha.application.service.gifticon;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.context.ApplicationEventPublisher;
@@ -7,22 +8,27 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.eurachacha.achacha.application.port.input.gifticon.GifticonUsageAppService;
+import com.eurachacha.achacha.application.port.input.gifticon.GifticonVisibilityAppService;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.request.AmountGifticonUseRequestDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.AmountGifticonUsageHistoriesResponseDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.ProductGifticonUsageHistoryResponseDto;
 import com.eurachacha.achacha.application.port.output.auth.SecurityServicePort;
 import com.eurachacha.achacha.application.port.output.gifticon.GifticonRepository;
+import com.eurachacha.achacha.application.port.output.gifticon.GifticonVisibilityRepository;
+import com.eurachacha.achacha.application.port.output.history.GifticonActivityRepository;
 import com.eurachacha.achacha.application.port.output.history.UsageHistoryRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationSettingRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationTypeRepository;
 import com.eurachacha.achacha.application.port.output.notification.dto.request.NotificationEventDto;
 import com.eurachacha.achacha.application.port.output.sharebox.ParticipationRepository;
+import com.eurachacha.achacha.application.port.output.sharebox.ShareBoxRepository;
 import com.eurachacha.achacha.application.port.output.user.FcmTokenRepository;
 import com.eurachacha.achacha.application.service.notification.event.NotificationEventMessage;
 import com.eurachacha.achacha.domain.model.fcm.FcmToken;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
 import com.eurachacha.achacha.domain.model.history.UsageHistory;
+import com.eurachacha.achacha.domain.model.history.enums.UsageType;
 import com.eurachacha.achacha.domain.model.notification.Notification;
 import com.eurachacha.achacha.domain.model.notification.NotificationSetting;
 import com.eurachacha.achacha.domain.model.notification.NotificationType;
@@ -50,6 +56,7 @@ public class GifticonUsageAppServiceImpl implements GifticonUsageAppService {
 	private final GifticonDomainService gifticonDomainService;
 	private final GifticonUsageDomainService gifticonUsageDomainService;
 	private final UsageHistoryRepository usageHistoryRepository;
+	private final GifticonActivityRepository gifticonActivityRepository;
 	private final SecurityServicePort securityServicePort;
 	private final NotificationRepository notificationRepository;
 	private final FcmTokenRepository fcmTokenRepository;
@@ -57,6 +64,9 @@ public class GifticonUsageAppServiceImpl implements GifticonUsageAppService {
 	private final NotificationSettingRepository notificationSettingRepository;
 	private final NotificationSettingDomainService notificationSettingDomainService;
 	private final ApplicationEventPublisher applicationEventPublisher;
+	private final GifticonVisibilityRepository gifticonVisibilityRepository;
+	private final GifticonVisibilityAppService gifticonVisibilityAppService;
+	private final ShareBoxRepository shareBoxRepository;
 
 	@Override
 	@Transactional
@@ -87,6 +97,9 @@ public class GifticonUsageAppServiceImpl implements GifticonUsageAppService {
 		// 사용 처리
 		findGifticon.use(requestDto.getUsageAmount());
 
+		// 사용자별 사용완료 목록 기록
+		gifticonActivityRepository.record(userId, gifticonId, UsageType.SELF_USE, LocalDateTime.now());
+
 		// 사용 기록 생성
 		UsageHistory newUsageHistory = UsageHistory.builder()
 			.user(loggedInUser) // 유저 로직 추가 시 변경 필요
@@ -97,6 +110,12 @@ public class GifticonUsageAppServiceImpl implements GifticonUsageAppService {
 		// 사용 기록 처리
 		usageHistoryRepository.saveUsageHistory(newUsageHistory);
 
+		// 완전히 사용된 경우 조회 모델에서 제외, 쉐어박스 기프티콘 수 감소
+		if (gifticonDomainService.isUsed(findGifticon)) {
+			gifticonVisibilityAppService.refreshGifticon(findGifticon);
+			decreaseShareBoxGifticonCount(findGifticon);
+		}
+
 		// 완전히 사용되고, 쉐어박스에 있는 기프티콘인 경우 알림 전송
 		if (gifticonDomainService.isUsed(findGifticon) && findGifticon.getSharebox() != null) {
 			sendShareBoxGifticonUsedNotification(findGifticon.getSharebox(), loggedInUser, findGifticon);
@@ -168,6 +187,12 @@ public class GifticonUsageAppServiceImpl implements GifticonUsageAppService {
 			gifticonUsageDomainService.calculateGifticonBalance(newAmount, findUsageHistory, findGifticon));
 		findUsageHistory.updateUsageAmount(newAmount);
 
+		// 완전히 사용된 경우 조회 모델에서 제외, 쉐어박스 기프티콘 수 감소
+		if (gifticonDomainService.isUsed(findGifticon)) {
+			gifticonVisibilityAppService.refreshGifticon(findGifticon);
+			decreaseShareBoxGifticonCount(findGifticon);
+		}
+
 		// 완전히 사용되었고, 쉐어박스에 있는 기프티콘인 경우 알림 전송
 		if (gifticonDomainService.isUsed(findGifticon) && findGifticon.getSharebox() != null) {
 			sendShareBoxGifticonUsedNotification(findGifticon.getSharebox(), loggedInUser, findGifticon);
@@ -196,6 +221,12 @@ public class GifticonUsageAppServiceImpl implements GifticonUsageAppService {
 		usageHistoryRepository.delete(findUsageHistory);
 		// 잔액 복구
 		findGifticon.updateRemainingAmount(findGifticon.getRemainingAmount() + findUsageHistory.getUsageAmount());
+
+		// 남은 본인 사용 내역이 없으면 사용자별 사용 기록 삭제
+		if (usageHistoryRepository.findLatestByUserIdAndGifticonId(userId, gifticonId) == null) {
+			gifticonActivityRepository.deleteByUserIdAndGifticonIdAndUsageType(userId, gifticonId,
+				UsageType.SELF_USE);
+		}
 	}
 
 	@Override
@@ -222,6 +253,9 @@ public class GifticonUsageAppServiceImpl implements GifticonUsageAppService {
 		// 사용 처리
 		findGifticon.use();
 
+		// 사용자별 사용완료 목록 기록
+		gifticonActivityRepository.record(userId, gifticonId, UsageType.SELF_USE, LocalDateTime.now());
+
 		// 사용 기록 생성
 		UsageHistory newUsageHistory = UsageHistory.builder()
 			.user(loggedInUser) // 유저 로직 추가 시 변경 필요
@@ -232,6 +266,10 @@ public class GifticonUsageAppServiceImpl implements GifticonUsageAppService {
 		// 사용 기록 처리
 		usageHistoryRepository.saveUsageHistory(newUsageHistory);
 
+		// 조회 모델에서 제외, 쉐어박스 기프티콘 수 감소
+		gifticonVisibilityAppService.refreshGifticon(findGifticon);
+		decreaseShareBoxGifticonCount(findGifticon);
+
 		// 쉐어박스에 있는 기프티콘인 경우 알림 전송
 		if (findGifticon.getSharebox() != null) {
 			sendShareBoxGifticonUsedNotification(findGifticon.getSharebox(), loggedInUser, findGifticon);
@@ -272,6 +310,13 @@ public class GifticonUsageAppServiceImpl implements GifticonUsageAppService {
 			.build();
 	}
 
+	// 쉐어박스에 있는 기프티콘이 사용완료된 경우 쉐어박스 기프티콘 수 감소
+	private void decreaseShareBoxGifticonCount(Gifticon gifticon) {
+		if (gifticon.getSharebox() != null) {
+			shareBoxRepository.addGifticonCount(gifticon.getSharebox().getId(), -1);
+		}
+	}
+
 	private void validateGifticonAccess(Gifticon findGifticon, Integer userId) {
 		// 공유되지 않은 기프티콘인 경우 소유자 판단
 		if (findGifticon.getSharebox() == null) {
@@ -281,8 +326,20 @@ public class GifticonUsageAppServiceImpl implements GifticonUsageAppService {
 			}
 		}
 
-		// 공유된 기프티콘인 경우 참여 여부 판단
-		if (findGifticon.getSharebox() != null) {
+		// 공유된 사용가능 기프티콘인 경우 조회 모델로 판단
+		// 최초 재구성 완료 전에는 행이 없을 수 있으므로 그때만 참여 여부로 판단
+		if (findGifticon.getSharebox() != null && !gifticonDomainService.isUsed(findGifticon)) {
+			boolean isVisible = gifticonVisibilityRepository.existsByUserIdAndGifticonId(userId,
+				findGifticon.getId())
+				|| (!gifticonVisibilityAppService.isReady()
+				&& participationRepository.checkParticipation(userId, findGifticon.getSharebox().getId()));
+			if (!isVisible) {
+				throw new CustomException(ErrorCode.UNAUTHORIZED_GIFTICON_ACCESS);
+			}
+		}
+
+		// 공유된 사용완료 기프티콘인 경우 참여 여부 판단
+		if (findGifticon.getSharebox() != null && gifticonDomainService.isUsed(findGifticon)) {
 			boolean hasParticipation = participationRepository.checkParticipation(userId,
 				findGifticon.getSharebox().getId());
 			if (!hasParticipation) {
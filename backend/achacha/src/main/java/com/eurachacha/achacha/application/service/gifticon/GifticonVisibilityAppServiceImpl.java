@@ -0,0 +1,232 @@
+package com.eurachacha.achacha.application.service.gifticon;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eurachacha.achacha.application.port.input.gifticon.GifticonVisibilityAppService;
+import com.eurachacha.achacha.application.port.output.gifticon.GifticonRepository;
+import com.eurachacha.achacha.application.port.output.gifticon.GifticonVisibilityCheckpointRepository;
+import com.eurachacha.achacha.application.port.output.gifticon.GifticonVisibilityRepository;
+import com.eurachacha.achacha.application.port.output.sharebox.ParticipationRepository;
+import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
+import com.eurachacha.achacha.domain.model.gifticon.GifticonVisibility;
+import com.eurachacha.achacha.domain.model.gifticon.GifticonVisibilityCheckpoint;
+import com.eurachacha.achacha.domain.model.sharebox.ShareBox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GifticonVisibilityAppServiceImpl implements GifticonVisibilityAppService {
+
+	private static final int REBUILD_CHUNK_SIZE = 500;
+
+	private final GifticonVisibilityRepository gifticonVisibilityRepository;
+	private final GifticonVisibilityCheckpointRepository checkpointRepository;
+	private final GifticonRepository gifticonRepository;
+	private final ParticipationRepository participationRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	// 재구성은 서버당 한 번에 하나만 실행 (서버 간 중복 실행은 upsert로 결과가 같음)
+	private final AtomicBoolean rebuilding = new AtomicBoolean();
+	// 완료된 최초 재구성은 되돌아가지 않으므로 한 번 확인되면 다시 조회하지 않음
+	private volatile boolean ready;
+
+	/**
+	 * 기프티콘 현재 상태 기준으로 조회 행 갱신
+	 * 볼 수 있는 사용자의 행은 upsert하고, 나머지 행은 삭제
+	 * (재구성 청크와 같은 기프티콘을 동시에 갱신해도 중복 키 오류 없이 마지막 상태로 수렴)
+	 */
+	@Override
+	@Transactional
+	public void refreshGifticon(Gifticon gifticon) {
+		// 사용가능한 기프티콘만 조회 모델에 유지
+		if (!gifticon.getIsUsed() && !gifticon.getIsDeleted()) {
+			List<Integer> participantIds = gifticon.getSharebox() == null
+				? List.of()
+				: participationRepository.findByShareBoxId(gifticon.getSharebox().getId()).stream()
+				.map(participation -> participation.getUser().getId())
+				.toList();
+
+			gifticonVisibilityRepository.upsertAll(createVisibilities(gifticon, participantIds));
+		}
+
+		gifticonVisibilityRepository.deleteStaleByGifticonIds(List.of(gifticon.getId()));
+	}
+
+	@Override
+	@Transactional
+	public void addParticipant(Integer userId, Integer shareBoxId) {
+		List<GifticonVisibility> newVisibilities = gifticonVisibilityRepository.findOwnerRowsByShareBoxId(shareBoxId)
+			.stream()
+			.filter(visibility -> !visibility.getOwnerId().equals(userId))
+			.map(visibility -> visibility.copyFor(userId))
+			.toList();
+
+		gifticonVisibilityRepository.upsertAll(newVisibilities);
+	}
+
+	@Override
+	@Transactional
+	public void removeParticipant(Integer userId, Integer shareBoxId) {
+		// 1. 탈퇴자 본인의 공유 기프티콘은 내 보관함으로 전환
+		gifticonVisibilityRepository.moveOwnerRowsToMyBox(shareBoxId, userId);
+		// 2. 다른 참여자에게 보이던 탈퇴자의 기프티콘 행 삭제
+		gifticonVisibilityRepository.deleteByShareBoxIdAndOwnerId(shareBoxId, userId);
+		// 3. 탈퇴자에게 보이던 다른 참여자의 기프티콘 행 삭제
+		gifticonVisibilityRepository.deleteByShareBoxIdAndUserId(shareBoxId, userId);
+	}
+
+	@Override
+	@Transactional
+	public void removeShareBox(Integer shareBoxId) {
+		// 1. 공유된 기프티콘은 각 소유자의 내 보관함으로 전환
+		gifticonVisibilityRepository.moveOwnerRowsToMyBox(shareBoxId);
+		// 2. 남은 참여자 행 삭제
+		gifticonVisibilityRepository.deleteByShareBoxId(shareBoxId);
+	}
+
+	/**
+	 * 조회 모델 전체 재구성
+	 * 사용가능한 기프티콘을 id 순으로 나누어 청크마다 별도 트랜잭션으로 행을 upsert하고 남은 행을 정리
+	 * 기프티콘 행은 잠그지 않음 (사용, 선물, 공유 쓰기를 막지 않고, 같은 기프티콘의 refreshGifticon과는 upsert로 수렴)
+	 * 최초 재구성이 끝나지 않았으면 체크포인트의 마지막 id부터 이어서 처리하고 완료 시 표시
+	 */
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void rebuildAll() {
+		if (!rebuilding.compareAndSet(false, true)) {
+			log.info("기프티콘 조회 모델 재구성이 이미 실행 중");
+			return;
+		}
+
+		try {
+			rebuild(isReady());
+		} finally {
+			rebuilding.set(false);
+		}
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void initialize() {
+		if (isReady()) {
+			return;
+		}
+		rebuildAll();
+	}
+
+	@Override
+	public boolean isReady() {
+		if (!ready) {
+			ready = checkpointRepository.isCompleted(GifticonVisibilityCheckpoint.INITIAL_REBUILD);
+		}
+		return ready;
+	}
+
+	private void rebuild(boolean initialized) {
+		int lastGifticonId = initialized ? 0 : transactionTemplate.execute(status ->
+			checkpointRepository.getOrCreate(GifticonVisibilityCheckpoint.INITIAL_REBUILD).getLastId());
+		log.info("기프티콘 조회 모델 재구성 시작 - 최초 재구성: {}, 시작 id: {}", !initialized, lastGifticonId);
+
+		Integer removedCount = transactionTemplate.execute(status ->
+			gifticonVisibilityRepository.deleteUnavailable());
+		log.info("사용 불가 기프티콘 조회 행 삭제 완료 - 삭제 수: {}", removedCount);
+
+		int rebuiltCount = 0;
+
+		while (true) {
+			final int afterId = lastGifticonId;
+			List<Integer> rebuiltIds = transactionTemplate.execute(status -> {
+				List<Integer> gifticonIds = rebuildChunk(afterId);
+				// 최초 재구성은 청크와 같은 트랜잭션에서 진행 위치 저장
+				if (!initialized && !gifticonIds.isEmpty()) {
+					checkpointRepository.getOrCreate(GifticonVisibilityCheckpoint.INITIAL_REBUILD)
+						.advance(gifticonIds.get(gifticonIds.size() - 1));
+				}
+				return gifticonIds;
+			});
+
+			if (rebuiltIds == null || rebuiltIds.isEmpty()) {
+				break;
+			}
+
+			rebuiltCount += rebuiltIds.size();
+			lastGifticonId = rebuiltIds.get(rebuiltIds.size() - 1);
+		}
+
+		if (!initialized) {
+			transactionTemplate.executeWithoutResult(status ->
+				checkpointRepository.getOrCreate(GifticonVisibilityCheckpoint.INITIAL_REBUILD).complete());
+			ready = true;
+		}
+
+		log.info("기프티콘 조회 모델 재구성 완료 - 기프티콘 수: {}", rebuiltCount);
+	}
+
+	private List<Integer> rebuildChunk(int lastGifticonId) {
+		List<Gifticon> gifticons = gifticonRepository.findAvailableGifticonsAfterId(lastGifticonId,
+			REBUILD_CHUNK_SIZE);
+
+		if (gifticons.isEmpty()) {
+			return List.of();
+		}
+
+		List<Integer> gifticonIds = gifticons.stream()
+			.map(Gifticon::getId)
+			.toList();
+
+		// 청크 내 쉐어박스 참여자 일괄 조회
+		List<Integer> shareBoxIds = gifticons.stream()
+			.map(Gifticon::getSharebox)
+			.filter(Objects::nonNull)
+			.map(ShareBox::getId)
+			.distinct()
+			.toList();
+
+		Map<Integer, List<Integer>> participantMap = participationRepository.findAllByShareBoxIds(shareBoxIds)
+			.stream()
+			.collect(Collectors.groupingBy(
+				participation -> participation.getSharebox().getId(),
+				Collectors.mapping(participation -> participation.getUser().getId(), Collectors.toList())
+			));
+
+		List<GifticonVisibility> visibilities = new ArrayList<>();
+		for (Gifticon gifticon : gifticons) {
+			List<Integer> participantIds = gifticon.getSharebox() == null
+				? List.of()
+				: participantMap.getOrDefault(gifticon.getSharebox().getId(), List.of());
+			visibilities.addAll(createVisibilities(gifticon, participantIds));
+		}
+
+		gifticonVisibilityRepository.upsertAll(visibilities);
+		gifticonVisibilityRepository.deleteStaleByGifticonIds(gifticonIds);
+
+		return gifticonIds;
+	}
+
+	// 소유자 + 쉐어박스 참여자 기준으로 조회 행 생성
+	private List<GifticonVisibility> createVisibilities(Gifticon gifticon, List<Integer> participantIds) {
+		Set<Integer> viewerIds = new LinkedHashSet<>();
+		viewerIds.add(gifticon.getUser().getId());
+		viewerIds.addAll(participantIds);
+
+		return viewerIds.stream()
+			.map(viewerId -> GifticonVisibility.of(gifticon, viewerId))
+			.toList();
+	}
+}
@@ -1,7 +1,6 @@
 package com.eurachacha.achacha.application.service.present;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -9,18 +8,17 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.eurachacha.achacha.application.port.input.file.FileResolver;
+import com.eurachacha.achacha.application.port.input.file.dto.FileKey;
 import com.eurachacha.achacha.application.port.input.present.PresentAppService;
 import com.eurachacha.achacha.application.port.input.present.dto.response.ColorCardInfoDto;
 import com.eurachacha.achacha.application.port.input.present.dto.response.ColorInfoResponseDto;
 import com.eurachacha.achacha.application.port.input.present.dto.response.PresentCardResponseDto;
 import com.eurachacha.achacha.application.port.input.present.dto.response.PresentTemplateDetailResponseDto;
 import com.eurachacha.achacha.application.port.input.present.dto.response.TemplatesResponseDto;
-import com.eurachacha.achacha.application.port.output.file.FileRepository;
-import com.eurachacha.achacha.application.port.output.file.FileStoragePort;
 import com.eurachacha.achacha.application.port.output.present.ColorPaletteRepository;
 import com.eurachacha.achacha.application.port.output.present.PresentCardRepository;
 import com.eurachacha.achacha.application.port.output.present.PresentTemplateRepository;
-import com.eurachacha.achacha.domain.model.file.File;
 import com.eurachacha.achacha.domain.model.file.enums.FileType;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
 import com.eurachacha.achacha.domain.model.present.ColorPalette;
@@ -42,8 +40,7 @@ public class PresentAppServiceImpl implements PresentAppService {
 	private final PresentCardRepository presentCardRepository;
 	private final PresentTemplateRepository presentTemplateRepository;
 	private final ColorPaletteRepository colorPaletteRepository;
-	private final FileRepository fileRepository;
-	private final FileStoragePort fileStoragePort;
+	private final FileResolver fileResolver;
 
 	@Override
 	public List<TemplatesResponseDto> getTemplates() {
@@ -55,31 +52,19 @@ public class PresentAppServiceImpl implements PresentAppService {
 			.map(template -> template.getId().intValue())
 			.collect(Collectors.toList());
 
-		// 모든 템플릿의 썸네일 파일을 한 번에 조회
-		List<File> thumbnailFiles = fileRepository.findAllByReferenceEntityTypeAndReferenceEntityIdInAndType(
-			"present_template",
-			templateIds,
-			FileType.PRESENT_THUMBNAIL
-		);
-
-		// 파일 맵 생성 (템플릿 ID를 키로 사용)
-		Map<Integer, File> fileMap = new HashMap<>();
-		for (File file : thumbnailFiles) {
-			fileMap.put(file.getReferenceEntityId(), file);
-		}
+		// 모든 템플릿의 썸네일 URL을 한 번에 조회
+		Map<FileKey, String> urlMap = fileResolver.resolveUrls(templateIds.stream()
+			.map(templateId -> FileKey.of("present_template", templateId, FileType.PRESENT_THUMBNAIL))
+			.toList());
 
 		// 템플릿과 파일 정보를 결합하여 응답 DTO 생성
 		return templates.stream()
 			.map(template -> {
 				Integer templateId = template.getId().intValue();
 
-				// 템플릿 ID에 해당하는 파일 찾기
-				File thumbnailFile = fileMap.get(templateId);
-
-				// 파일이 있으면 URL 생성
-				String thumbnailUrl = thumbnailFile != null ?
-					fileStoragePort.generateFileUrl(thumbnailFile.getPath(), FileType.PRESENT_THUMBNAIL) :
-					null;
+				// 템플릿 ID에 해당하는 썸네일 URL (파일이 없으면 null)
+				String thumbnailUrl = urlMap.get(
+					FileKey.of("present_template", templateId, FileType.PRESENT_THUMBNAIL));
 
 				// TemplatesResponseDto 생성
 				return TemplatesResponseDto.builder()
@@ -129,9 +114,12 @@ public class PresentAppServiceImpl implements PresentAppService {
 		PresentTemplate presentTemplate = presentCard.getPresentTemplate();
 		log.info("기프티콘 ID: {}, 템플릿 ID: {}", gifticon.getId(), presentTemplate.getId());
 
-		// 기프티콘 이미지 URL 생성
-		String gifticonOriginalPath = getFileUrl("gifticon", gifticon.getId(), FileType.ORIGINAL);
-		String gifticonThumbnailPath = getFileUrl("gifticon", gifticon.getId(), FileType.THUMBNAIL);
+		// 기프티콘 이미지 URL을 한 번에 조회
+		FileKey originalKey = FileKey.of("gifticon", gifticon.getId(), FileType.ORIGINAL);
+		FileKey thumbnailKey = FileKey.of("gifticon", gifticon.getId(), FileType.THUMBNAIL);
+		Map<FileKey, String> gifticonUrlMap = fileResolver.resolveUrls(List.of(originalKey, thumbnailKey));
+		String gifticonOriginalPath = gifticonUrlMap.get(originalKey);
+		String gifticonThumbnailPath = gifticonUrlMap.get(thumbnailKey);
 
 		// 템플릿 카드 이미지 URL 생성 (템플릿 카테고리에 따라 다른 방식으로 조회)
 		String templateCardPath = getTemplateCardPath(presentCard, presentTemplate);
@@ -180,29 +168,17 @@ public class PresentAppServiceImpl implements PresentAppService {
 			.map(colorPalette -> colorPalette.getId().intValue())
 			.collect(Collectors.toList());
 
-		// 3. 모든 색상 팔레트에 대한 카드 이미지를 한 번에 조회
-		List<File> cardFiles = fileRepository.findAllByReferenceEntityTypeAndReferenceEntityIdInAndType(
-			"color_palette",
-			colorPaletteIds,
-			FileType.PRESENT_CARD
-		);
-
-		// 4. 파일 맵 생성 (색상 팔레트 ID를 키로 사용)
-		Map<Integer, File> fileMap = cardFiles.stream()
-			.collect(Collectors.toMap(
-				File::getReferenceEntityId,
-				file -> file
-			));
-
-		// 5. 각 색상 팔레트별 DTO 생성
+		// 3. 모든 색상 팔레트에 대한 카드 이미지 URL을 한 번에 조회
+		Map<FileKey, String> urlMap = fileResolver.resolveUrls(colorPaletteIds.stream()
+			.map(colorPaletteId -> FileKey.of("color_palette", colorPaletteId, FileType.PRESENT_CARD))
+			.toList());
+
+		// 4. 각 색상 팔레트별 DTO 생성
 		return colorPalettes.stream()
 			.map(colorPalette -> {
 				Integer colorPaletteId = colorPalette.getId().intValue();
-				File cardFile = fileMap.get(colorPaletteId);
-
-				String cardImageUrl = cardFile != null ?
-					fileStoragePort.generateFileUrl(cardFile.getPath(), FileType.PRESENT_CARD) :
-					null;
+				String cardImageUrl = urlMap.get(
+					FileKey.of("color_palette", colorPaletteId, FileType.PRESENT_CARD));
 
 				return ColorCardInfoDto.builder()
 					.colorPaletteId(colorPaletteId)
@@ -221,16 +197,11 @@ public class PresentAppServiceImpl implements PresentAppService {
 	 * @return 파일 URL 또는 파일이 없는 경우 null
 	 */
 	private String getFileUrl(String entityType, Integer entityId, FileType fileType) {
-		return fileRepository.findByReferenceEntityTypeAndReferenceEntityIdAndType(
-				entityType, entityId, fileType)
-			.map(file -> {
-				log.info("파일 조회 성공: id={}, path={}", file.getId(), file.getPath());
-				return fileStoragePort.generateFileUrl(file.getPath(), fileType);
-			})
-			.orElseGet(() -> {
-				log.warn("파일을 찾을 수 없음: entityType={}, entityId={}", entityType, entityId);
-				return null;
-			});
+		String url = fileResolver.resolveUrl(FileKey.of(entityType, entityId, fileType));
+		if (url == null) {
+			log.warn("파일을 찾을 수 없음: entityType={}, entityId={}", entityType, entityId);
+		}
+		return url;
 	}
 
 	@Override
@@ -12,6 +12,8 @@ import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.eurachacha.achacha.application.port.input.file.FileResolver;
+import com.eurachacha.achacha.application.port.input.gifticon.GifticonVisibilityAppService;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.AvailableGifticonResponseDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.AvailableGifticonsResponseDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.UsedGifticonResponseDto;
@@ -28,9 +30,9 @@ import com.eurachacha.achacha.application.port.input.sharebox.dto.response.Share
 import com.eurachacha.achacha.application.port.input.sharebox.dto.response.ShareBoxSettingsResponseDto;
 import com.eurachacha.achacha.application.port.input.sharebox.dto.response.ShareBoxesResponseDto;
 import com.eurachacha.achacha.application.port.output.auth.SecurityServicePort;
-import com.eurachacha.achacha.application.port.output.file.FileRepository;
-import com.eurachacha.achacha.application.port.output.file.FileStoragePort;
 import com.eurachacha.achacha.application.port.output.gifticon.GifticonRepository;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.AvailableGifticonSummaryDto;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.UsedGifticonSummaryDto;
 import com.eurachacha.achacha.application.port.output.history.UsageHistoryRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationSettingRepository;
@@ -81,8 +83,7 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 	private final GifticonRepository gifticonRepository;
 	private final ParticipationRepository participationRepository;
 	private final PageableFactory pageableFactory;
-	private final FileRepository fileRepository;
-	private final FileStoragePort fileStoragePort;
+	private final FileResolver fileResolver;
 	private final UsageHistoryRepository usageHistoryRepository;
 	private final SecurityServicePort securityServicePort;
 	private final NotificationRepository notificationRepository;
@@ -90,6 +91,7 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 	private final NotificationSettingRepository notificationSettingRepository;
 	private final FcmTokenRepository fcmTokenRepository;
 	private final ApplicationEventPublisher applicationEventPublisher;
+	private final GifticonVisibilityAppService gifticonVisibilityAppService;
 
 	@Transactional
 	@Override
@@ -158,6 +160,9 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 
 		participationRepository.save(participation);
 
+		// 공유된 기프티콘 조회 모델에 참여자 추가
+		gifticonVisibilityAppService.addParticipant(userId, shareBox.getId());
+
 		log.info("쉐어박스 참여 완료 - 사용자 ID: {}, 쉐어박스 ID: {}", userId, shareBox.getId());
 
 		// 쉐어박스 멤버 참여 알림 전송
@@ -198,6 +203,12 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 		// 변경사항 저장
 		gifticonRepository.save(gifticon);
 
+		// 쉐어박스 기프티콘 수 증가
+		shareBoxRepository.addGifticonCount(shareBoxId, 1);
+
+		// 조회 모델 갱신
+		gifticonVisibilityAppService.refreshGifticon(gifticon);
+
 		log.info("기프티콘 공유 완료 - 기프티콘 ID: {}, 쉐어박스 ID: {}", gifticonId, shareBoxId);
 
 		// 기프티콘 공유 알림 전송
@@ -237,6 +248,14 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 		// 기프티콘 공유 해제 (쉐어박스 연결 제거)
 		gifticon.updateShareBox(null);
 
+		// 사용가능 기프티콘인 경우 쉐어박스 기프티콘 수 감소
+		if (!gifticonDomainService.isUsed(gifticon)) {
+			shareBoxRepository.addGifticonCount(shareBoxId, -1);
+		}
+
+		// 조회 모델 갱신
+		gifticonVisibilityAppService.refreshGifticon(gifticon);
+
 		log.info("기프티콘 공유 해제 완료 - 기프티콘 ID: {}, 쉐어박스 ID: {}", gifticonId, shareBoxId);
 	}
 
@@ -263,22 +282,14 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 				.build();
 		}
 
-		// 쉐어박스 ID 목록 추출
-		List<Integer> shareBoxIds = shareBoxSlice.getContent().stream()
-			.map(ShareBox::getId)
-			.collect(Collectors.toList());
-
-		// 각 쉐어박스별 기프티콘 개수 조회
-		Map<Integer, Long> gifticonCountMap = gifticonRepository.countGifticonsByShareBoxIds(shareBoxIds);
-
-		// DTO 변환
+		// DTO 변환 (기프티콘 개수는 쉐어박스에 유지되는 값 사용)
 		List<ShareBoxResponseDto> shareBoxResponseDtos = shareBoxSlice.getContent().stream()
 			.map(shareBox -> ShareBoxResponseDto.builder()
 				.shareBoxId(shareBox.getId())
 				.shareBoxName(shareBox.getName())
 				.shareBoxUserId(shareBox.getUser().getId())
 				.shareBoxUserName(shareBox.getUser().getName())
-				.gifticonCount(gifticonCountMap.getOrDefault(shareBox.getId(), 0L).intValue())
+				.gifticonCount(shareBox.getGifticonCount().intValue())
 				.build())
 			.collect(Collectors.toList());
 
@@ -366,6 +377,7 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 			List<Participation> participations = participationRepository.findByShareBoxId(shareBoxId);
 			// 1. 모든 쉐어박스 연결 기프티콘 해제 (벌크 업데이트)
 			gifticonRepository.unshareAllGifticonsByShareBoxId(shareBoxId);
+			gifticonVisibilityAppService.removeShareBox(shareBoxId);
 			// 2. 모든 참여 정보 삭제
 			participationRepository.deleteAllByShareBoxId(shareBoxId);
 			// 3. 쉐어박스 삭제
@@ -380,7 +392,11 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 		log.info("일반 참여자의 쉐어박스 탈퇴 - 사용자 ID: {}, 쉐어박스 ID: {}", userId, shareBoxId);
 
 		// 1. 사용자의 사용 가능한 기프티콘 공유 해제 (벌크 업데이트)
-		gifticonRepository.unshareAllAvailableGifticonsByUserIdAndShareBoxId(userId, shareBoxId);
+		int unsharedCount = gifticonRepository.unshareAllAvailableGifticonsByUserIdAndShareBoxId(userId, shareBoxId);
+		if (unsharedCount > 0) {
+			shareBoxRepository.addGifticonCount(shareBoxId, -unsharedCount);
+		}
+		gifticonVisibilityAppService.removeParticipant(userId, shareBoxId);
 
 		// 2. 참여 정보 삭제
 		participationRepository.deleteByUserIdAndShareBoxId(userId, shareBoxId);
@@ -416,24 +432,24 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 		Pageable pageable = pageableFactory.createPageable(page, size, sort);
 
 		// 쉐어박스 내 기프티콘 조회
-		Slice<Gifticon> gifticonSlice = gifticonRepository.findGifticonsByShareBoxId(
+		Slice<AvailableGifticonSummaryDto> gifticonSlice = gifticonRepository.findGifticonsByShareBoxId(
 			shareBoxId, type, pageable);
 
-		// 기프티콘 엔티티를 DTO로 변환
+		// 목록 행을 응답 DTO로 변환 (썸네일 경로는 목록 조회 시 함께 조회됨)
 		List<AvailableGifticonResponseDto> availableGifticonDtos = gifticonSlice.getContent().stream()
 			.map(gifticon -> AvailableGifticonResponseDto.builder()
-				.gifticonId(gifticon.getId())
-				.gifticonName(gifticon.getName())
-				.gifticonType(gifticon.getType())
-				.gifticonExpiryDate(gifticon.getExpiryDate())
-				.brandId(gifticon.getBrand().getId())
-				.brandName(gifticon.getBrand().getName())
+				.gifticonId(gifticon.getGifticonId())
+				.gifticonName(gifticon.getGifticonName())
+				.gifticonType(gifticon.getGifticonType())
+				.gifticonExpiryDate(gifticon.getGifticonExpiryDate())
+				.brandId(gifticon.getBrandId())
+				.brandName(gifticon.getBrandName())
 				.scope(GifticonScopeType.SHARE_BOX.name())
-				.userId(gifticon.getUser().getId())
-				.userName(gifticon.getUser().getName())
-				.shareboxId(gifticon.getSharebox().getId())
-				.shareboxName(gifticon.getSharebox().getName())
-				.thumbnailPath(getGifticonThumbnailPath(gifticon.getId()))
+				.userId(gifticon.getUserId())
+				.userName(gifticon.getUserName())
+				.shareboxId(gifticon.getShareboxId())
+				.shareboxName(gifticon.getShareboxName())
+				.thumbnailPath(getSignedThumbnailUrl(gifticon.getThumbnailPath()))
 				.build())
 			.collect(Collectors.toList());
 
@@ -475,34 +491,33 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 		// 페이징 처리 - GifticonUsedSortType 사용
 		Pageable pageable = pageableFactory.createPageable(page, size, sort);
 
-		// 쉐어박스 내 사용된 기프티콘 조회
-		Slice<Gifticon> gifticonSlice = gifticonRepository.findUsedGifticonsByShareBoxId(
+		// 쉐어박스 내 사용된 기프티콘 조회 (썸네일 경로 포함)
+		Slice<UsedGifticonSummaryDto> gifticonSlice = gifticonRepository.findUsedGifticonsByShareBoxId(
 			shareBoxId, type, pageable);
 
-		// 기프티콘 엔티티를 DTO로 변환 (사용 이력 포함)
+		// 페이지 내 기프티콘의 마지막 사용 이력을 한번에 조회
+		Map<Integer, UsageHistory> lastUsageMap = getLastUsageMap(gifticonSlice.getContent());
+
+		// 목록 행을 응답 DTO로 변환 (사용 이력 포함)
 		List<UsedGifticonResponseDto> usedGifticonDtos = new ArrayList<>();
 
-		for (Gifticon gifticon : gifticonSlice.getContent()) {
-			// 각 기프티콘의 사용 이력 조회 (마지막 사용자)
-			List<UsageHistory> usageHistories = usageHistoryRepository.findAllByGifticonIdOrderByCreatedAtDesc(
-				gifticon.getId());
+		for (UsedGifticonSummaryDto gifticon : gifticonSlice.getContent()) {
+			UsageHistory lastUsage = lastUsageMap.get(gifticon.getGifticonId()); // 가장 최근 사용 이력
 
 			// 사용 이력이 있는 경우
-			if (!usageHistories.isEmpty()) {
-				UsageHistory lastUsage = usageHistories.get(0); // 가장 최근 사용 이력
-
+			if (lastUsage != null) {
 				usedGifticonDtos.add(UsedGifticonResponseDto.builder()
-					.gifticonId(gifticon.getId())
-					.gifticonName(gifticon.getName())
-					.gifticonType(gifticon.getType())
-					.gifticonExpiryDate(gifticon.getExpiryDate())
-					.brandId(gifticon.getBrand().getId())
-					.brandName(gifticon.getBrand().getName())
+					.gifticonId(gifticon.getGifticonId())
+					.gifticonName(gifticon.getGifticonName())
+					.gifticonType(gifticon.getGifticonType())
+					.gifticonExpiryDate(gifticon.getGifticonExpiryDate())
+					.brandId(gifticon.getBrandId())
+					.brandName(gifticon.getBrandName())
 					.userId(lastUsage.getUser().getId())       // 실제 사용한 사용자 ID
 					.userName(lastUsage.getUser().getName())   // 실제 사용한 사용자 이름
 					.usageType(UsageType.SELF_USE)             // 기본값으로 SELF_USE 설정
 					.usedAt(lastUsage.getCreatedAt())          // 사용 시간
-					.thumbnailPath(getGifticonThumbnailPath(gifticon.getId()))
+					.thumbnailPath(getSignedThumbnailUrl(gifticon.getThumbnailPath()))
 					.build());
 			}
 		}
@@ -583,6 +598,16 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 			.build();
 	}
 
+	@Override
+	@Transactional
+	public void syncGifticonCounts() {
+		log.info("쉐어박스 기프티콘 수 보정 시작");
+
+		int syncedCount = shareBoxRepository.syncGifticonCounts();
+
+		log.info("쉐어박스 기프티콘 수 보정 완료 - 보정된 쉐어박스 수: {}", syncedCount);
+	}
+
 	// 고유한 초대 코드 생성 메서드
 	private String generateUniqueInviteCode() {
 		SecureRandom random = new SecureRandom();
@@ -619,12 +644,22 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 		log.info("쉐어박스 참여 정보 저장 완료 (사용자 ID: {}, 쉐어박스 ID: {})", user.getId(), shareBox.getId());
 	}
 
-	// 기프티콘 썸네일 경로를 가져오는 헬퍼 메서드
-	private String getGifticonThumbnailPath(Integer gifticonId) {
-		return fileRepository.findByReferenceEntityTypeAndReferenceEntityIdAndType(
-				"gifticon", gifticonId, FileType.THUMBNAIL)
-			.map(file -> fileStoragePort.generateFileUrl(file.getPath(), FileType.THUMBNAIL))
-			.orElse(null);
+	// 목록 조회 시 함께 조회된 썸네일 경로를 서명된 URL로 변환
+	private String getSignedThumbnailUrl(String thumbnailPath) {
+		return fileResolver.resolvePathUrl(thumbnailPath, FileType.THUMBNAIL);
+	}
+
+	// 기프티콘 id -> 마지막 사용 이력 맵 (페이지 크기와 무관하게 쿼리 1회)
+	private Map<Integer, UsageHistory> getLastUsageMap(List<UsedGifticonSummaryDto> gifticons) {
+		List<Integer> ids = gifticons.stream()
+			.map(UsedGifticonSummaryDto::getGifticonId)
+			.toList();
+
+		return usageHistoryRepository.findLatestForEachGifticonByIds(ids).stream()
+			.collect(Collectors.toMap(
+				history -> history.getGifticon().getId(),
+				history -> history,
+				(existing, replacement) -> existing));
 	}
 
 	/**
@@ -849,4 +884,4 @@ public class ShareBoxAppServiceImpl implements ShareBoxAppService {
 
 		log.debug("푸시 알림 전송 완료 - 사용자 ID: {}", userId);
 	}
-}
\ No newline at end of file
+}
@@ -27,6 +27,9 @@ public class OcrTrainingData {
 	// 기프티콘 타입
 	private String gifticonType;
 
+	// 이미지 내용의 SHA-256
+	private String imageHash;
+
 	// AI 추출 메타데이터
 	private MetadataInfo aiExtracted;
 
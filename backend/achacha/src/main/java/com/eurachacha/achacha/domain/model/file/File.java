@@ -10,6 +10,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,6 +19,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+	// 목록 조회 시 기프티콘 썸네일 조인용
+	@Index(name = "idx_file_reference", columnList = "reference_entity_type, reference_entity_id, type"),
+	// 같은 내용의 기존 파일 조회용
+	@Index(name = "idx_file_content_hash", columnList = "content_hash, type")
+})
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
@@ -37,4 +45,9 @@ public class File extends TimeStampEntity {
 
 	private Integer referenceEntityId;
 
+	// 파일 내용의 SHA-256 (같은 타입, 같은 내용이면 사용자와 관계없이 같은 path를 공유)
+	// 기프티콘 삭제 시 (타입, 내용 해시)가 같은 행이 남아 있지 않을 때만 S3 객체를 삭제
+	@Column(length = 64)
+	private String contentHash;
+
 }
@@ -0,0 +1,66 @@
+package com.eurachacha.achacha.domain.model.gifticon;
+
+import com.eurachacha.achacha.domain.model.common.TimeStampEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 바코드 재암호화 작업 진행 위치
+ * 청크 단위로 바코드 갱신과 같은 트랜잭션에서 저장되어, 중단 후 마지막으로 처리한 id 다음부터 재개
+ */
+@Entity
+@Table(name = "barcode_reencryption_checkpoint")
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Getter
+public class BarcodeReencryptionCheckpoint extends TimeStampEntity {
+
+	// 작업 이름 (재암호화 모드)
+	@Id
+	@Column(name = "job_name", length = 32)
+	private String jobName;
+
+	@Builder.Default
+	private Integer lastId = 0;
+
+	@Builder.Default
+	private Long processedCount = 0L;
+
+	@Builder.Default
+	private Long skippedCount = 0L;
+
+	@Builder.Default
+	private Long failedCount = 0L;
+
+	@Builder.Default
+	private Boolean isCompleted = false;
+
+	// 청크 처리 결과 반영
+	public void advance(Integer lastId, int processed, int skipped, int failed) {
+		this.lastId = lastId;
+		this.processedCount += processed;
+		this.skippedCount += skipped;
+		this.failedCount += failed;
+	}
+
+	public void complete() {
+		this.isCompleted = true;
+	}
+
+	// 처음부터 다시 실행
+	public void restart() {
+		this.lastId = 0;
+		this.processedCount = 0L;
+		this.skippedCount = 0L;
+		this.failedCount = 0L;
+		this.isCompleted = false;
+	}
+}
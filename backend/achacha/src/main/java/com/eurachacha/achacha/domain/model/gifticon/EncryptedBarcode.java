@@ -0,0 +1,84 @@
+package com.eurachacha.achacha.domain.model.gifticon;
+
+import java.util.Objects;
+
+/**
+ * 암호화된 바코드 값 타입
+ *  - DB에서 읽은 값은 암호문 그대로 보관하고, 바코드 번호가 필요한 시점에만 복호화 (결과는 캐시)
+ *  - 새로 생성한 값은 평문을 보관하고, 저장 시 컨버터에서 암호화
+ */
+public final class EncryptedBarcode {
+
+	private final String cipherText;
+	private final Decryptor decryptor;
+	private volatile String plainText;
+
+	private EncryptedBarcode(String cipherText, String plainText, Decryptor decryptor) {
+		this.cipherText = cipherText;
+		this.plainText = plainText;
+		this.decryptor = decryptor;
+	}
+
+	public static EncryptedBarcode ofPlainText(String plainText) {
+		return plainText != null ? new EncryptedBarcode(null, plainText, null) : null;
+	}
+
+	public static EncryptedBarcode ofCipherText(String cipherText, Decryptor decryptor) {
+		return cipherText != null ? new EncryptedBarcode(cipherText, null, decryptor) : null;
+	}
+
+	// 저장된 암호문 (아직 저장되지 않은 값이면 null)
+	public String getCipherText() {
+		return cipherText;
+	}
+
+	public boolean isEncrypted() {
+		return cipherText != null;
+	}
+
+	// 바코드 번호 (최초 접근 시 한 번만 복호화)
+	public String getPlainText() {
+		return getPlainText(null);
+	}
+
+	// 바코드 번호 (지문이 있으면 복호화 결과를 지문으로 검증)
+	public String getPlainText(String fingerprint) {
+		String value = plainText;
+		if (value == null) {
+			value = decryptor.decrypt(cipherText, fingerprint);
+			plainText = value;
+		}
+		return value;
+	}
+
+	// 복호화 없이 비교할 수 있도록 암호문끼리는 암호문으로, 평문끼리는 평문으로 비교
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof EncryptedBarcode other)) {
+			return false;
+		}
+		if (isEncrypted() || other.isEncrypted()) {
+			return Objects.equals(cipherText, other.cipherText);
+		}
+		return Objects.equals(plainText, other.plainText);
+	}
+
+	@Override
+	public int hashCode() {
+		return isEncrypted() ? cipherText.hashCode() : Objects.hashCode(plainText);
+	}
+
+	@Override
+	public String toString() {
+		return "EncryptedBarcode[****]";
+	}
+
+	@FunctionalInterface
+	public interface Decryptor {
+		// fingerprint는 null일 수 있음 (검증 불가)
+		String decrypt(String cipherText, String fingerprint);
+	}
+}
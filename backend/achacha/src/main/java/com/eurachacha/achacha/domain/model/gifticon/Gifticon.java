@@ -3,7 +3,9 @@ package com.eurachacha.achacha.domain.model.gifticon;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Mutability;
 import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.type.descriptor.java.Immutability;
 
 import com.eurachacha.achacha.domain.model.brand.Brand;
 import com.eurachacha.achacha.domain.model.common.TimeStampEntity;
@@ -21,8 +23,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,6 +34,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+	// 목록 조회 커서(keyset) 페이징용 인덱스
+	@Index(name = "idx_gifticon_user_created", columnList = "user_id, created_at, id"),
+	@Index(name = "idx_gifticon_user_expiry", columnList = "user_id, expiry_date, id"),
+	@Index(name = "idx_gifticon_sharebox_created", columnList = "sharebox_id, created_at, id"),
+	@Index(name = "idx_gifticon_sharebox_expiry", columnList = "sharebox_id, expiry_date, id"),
+	// 바코드 중복 검사용 유니크 인덱스 (바코드가 삭제된 기프티콘은 null)
+	@Index(name = "uk_gifticon_barcode_fingerprint", columnList = "barcode_fingerprint", unique = true)
+})
 @SQLRestriction("is_deleted = false")
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -49,7 +62,12 @@ public class Gifticon extends TimeStampEntity {
 
 	@Column(length = 128)
 	@Convert(converter = BarcodeConverter.class)
-	private String barcode;
+	@Mutability(Immutability.class)
+	private EncryptedBarcode barcode;
+
+	// 바코드 번호의 HMAC (암호문과 무관하게 중복 검사)
+	@Column(name = "barcode_fingerprint", length = 64)
+	private String barcodeFingerprint;
 
 	private Integer originalAmount;
 
@@ -75,6 +93,11 @@ public class Gifticon extends TimeStampEntity {
 	@JoinColumn(name = "brand_id")
 	private Brand brand;
 
+	// 바코드 번호 (바코드 조회 시점에만 복호화, 키 교체 중에는 지문으로 검증)
+	public String getBarcode() {
+		return barcode != null ? barcode.getPlainText(barcodeFingerprint) : null;
+	}
+
 	// 사용 메서드
 	public void use() {
 		this.isUsed = true;
@@ -113,6 +136,7 @@ public class Gifticon extends TimeStampEntity {
 
 	public void deleteBarcode() {
 		this.barcode = null;
+		this.barcodeFingerprint = null;
 	}
 
 	public void updateUser(User user) {
@@ -122,4 +146,11 @@ public class Gifticon extends TimeStampEntity {
 	public void updateCreatedAt(LocalDateTime timeStamp) {
 		this.createdAt = timeStamp;
 	}
+
+	public static class GifticonBuilder {
+		public GifticonBuilder barcode(String barcode) {
+			this.barcode = EncryptedBarcode.ofPlainText(barcode);
+			return this;
+		}
+	}
 }
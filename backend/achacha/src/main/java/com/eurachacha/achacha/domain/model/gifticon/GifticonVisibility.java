@@ -0,0 +1,110 @@
+package com.eurachacha.achacha.domain.model.gifticon;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonScopeType;
+import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 기프티콘 조회 가능 여부 (조회 모델)
+ * 사용가능한 기프티콘 1개당, 해당 기프티콘을 볼 수 있는 사용자 수만큼 행이 존재
+ * 목록 조회 시 참여 정보 서브쿼리 없이 사용자 기준 인덱스 범위 스캔만으로 기프티콘 id를 찾기 위해 사용
+ */
+@Entity
+@Table(name = "user_gifticon_visibility",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_visibility_gifticon_user", columnNames = {"gifticon_id", "user_id"})
+	},
+	indexes = {
+		// 정렬 키 + 필터 컬럼을 모두 포함하는 커버링 인덱스
+		@Index(name = "idx_visibility_user_created",
+			columnList = "user_id, gifticon_created_at, gifticon_id, scope, gifticon_type"),
+		@Index(name = "idx_visibility_user_expiry",
+			columnList = "user_id, expiry_date, gifticon_id, scope, gifticon_type"),
+		@Index(name = "idx_visibility_sharebox_user", columnList = "sharebox_id, user_id")
+	})
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Getter
+public class GifticonVisibility {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Integer id;
+
+	// 조회하는 사용자
+	@Column(name = "user_id", nullable = false)
+	private Integer userId;
+
+	@Column(name = "gifticon_id", nullable = false)
+	private Integer gifticonId;
+
+	// 기프티콘 소유자
+	@Column(name = "owner_id", nullable = false)
+	private Integer ownerId;
+
+	@Column(name = "sharebox_id")
+	private Integer shareboxId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(length = 16, nullable = false)
+	private GifticonScopeType scope;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "gifticon_type", length = 16)
+	private GifticonType gifticonType;
+
+	@Column(name = "gifticon_created_at")
+	private LocalDateTime gifticonCreatedAt;
+
+	@Column(name = "expiry_date")
+	private LocalDate expiryDate;
+
+	// 기프티콘 현재 상태로부터 특정 사용자의 조회 행 생성
+	public static GifticonVisibility of(Gifticon gifticon, Integer userId) {
+		Integer shareboxId = gifticon.getSharebox() == null ? null : gifticon.getSharebox().getId();
+
+		return GifticonVisibility.builder()
+			.userId(userId)
+			.gifticonId(gifticon.getId())
+			.ownerId(gifticon.getUser().getId())
+			.shareboxId(shareboxId)
+			.scope(shareboxId == null ? GifticonScopeType.MY_BOX : GifticonScopeType.SHARE_BOX)
+			.gifticonType(gifticon.getType())
+			.gifticonCreatedAt(gifticon.getCreatedAt())
+			.expiryDate(gifticon.getExpiryDate())
+			.build();
+	}
+
+	// 같은 기프티콘을 다른 사용자 기준으로 복제 (쉐어박스 신규 참여 시)
+	public GifticonVisibility copyFor(Integer userId) {
+		return GifticonVisibility.builder()
+			.userId(userId)
+			.gifticonId(this.gifticonId)
+			.ownerId(this.ownerId)
+			.shareboxId(this.shareboxId)
+			.scope(this.scope)
+			.gifticonType(this.gifticonType)
+			.gifticonCreatedAt(this.gifticonCreatedAt)
+			.expiryDate(this.expiryDate)
+			.build();
+	}
+}
@@ -0,0 +1,46 @@
+package com.eurachacha.achacha.domain.model.gifticon;
+
+import com.eurachacha.achacha.domain.model.common.TimeStampEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기프티콘 조회 모델 최초 재구성 진행 위치
+ * 청크 단위로 조회 행과 같은 트랜잭션에서 저장되어, 중단 후 마지막으로 처리한 id 다음부터 재개
+ * 완료되기 전까지 목록과 접근 확인은 참여 정보 기준으로 판단
+ */
+@Entity
+@Table(name = "gifticon_visibility_checkpoint")
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Getter
+public class GifticonVisibilityCheckpoint extends TimeStampEntity {
+
+	public static final String INITIAL_REBUILD = "INITIAL_REBUILD";
+
+	@Id
+	@Column(name = "job_name", length = 32)
+	private String jobName;
+
+	@Builder.Default
+	private Integer lastId = 0;
+
+	@Builder.Default
+	private Boolean isCompleted = false;
+
+	public void advance(Integer lastId) {
+		this.lastId = lastId;
+	}
+
+	public void complete() {
+		this.isCompleted = true;
+	}
+}
@@ -0,0 +1,8 @@
+package com.eurachacha.achacha.domain.model.gifticon.enums;
+
+public enum BarcodeReencryptionMode {
+	// 평문 바코드를 현재 키로 암호화
+	ENCRYPT_PLAINTEXT,
+	// 이전 키로 복호화한 뒤 현재 키로 다시 암호화
+	ROTATE_KEY
+}
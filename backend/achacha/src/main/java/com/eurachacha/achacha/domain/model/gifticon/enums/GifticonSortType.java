@@ -13,7 +13,8 @@ public enum GifticonSortType implements SortableEnum {
 
 		@Override
 		public Sort createSort() {
-			return Sort.by("createdAt").descending();
+			// 커서 페이징 시 동일 생성시각 구분을 위해 id를 보조 정렬 키로 사용
+			return Sort.by("createdAt").descending().and(Sort.by("id").descending());
 		}
 	},
 	EXPIRY_ASC { // 만료순
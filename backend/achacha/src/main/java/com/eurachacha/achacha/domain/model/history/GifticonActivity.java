@@ -0,0 +1,60 @@
+package com.eurachacha.achacha.domain.model.history;
+
+import java.time.LocalDateTime;
+
+import com.eurachacha.achacha.domain.model.history.enums.UsageType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 기프티콘 마지막 활동 (사용완료 목록 조회 모델)
+ * 사용자와 기프티콘 쌍마다 1개 행이 존재하며, 직접 사용하거나 넘겨줄 때마다 갱신됨
+ * 다른 사용자가 이후에 같은 기프티콘을 사용하거나 넘겨주어도 본인의 행은 유지됨
+ */
+@Entity
+@Table(name = "user_gifticon_activity",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_activity_user_gifticon", columnNames = {"user_id", "gifticon_id"})
+	},
+	indexes = {
+		// 사용완료 목록 조회 (사용 시간 역순) 인덱스
+		@Index(name = "idx_activity_user_used", columnList = "user_id, used_at, gifticon_id")
+	})
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Getter
+public class GifticonActivity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Integer id;
+
+	@Column(name = "user_id", nullable = false)
+	private Integer userId;
+
+	@Column(name = "gifticon_id", nullable = false)
+	private Integer gifticonId;
+
+	// 직접 사용, 뿌리기, 선물 중 마지막 활동
+	@Enumerated(EnumType.STRING)
+	@Column(name = "usage_type", length = 16, nullable = false)
+	private UsageType usageType;
+
+	@Column(name = "used_at", nullable = false)
+	private LocalDateTime usedAt;
+}
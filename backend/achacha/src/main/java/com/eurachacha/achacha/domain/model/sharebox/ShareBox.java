@@ -1,5 +1,7 @@
 package com.eurachacha.achacha.domain.model.sharebox;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import com.eurachacha.achacha.domain.model.common.TimeStampEntity;
 import com.eurachacha.achacha.domain.model.user.User;
 
@@ -45,6 +47,13 @@ public class ShareBox extends TimeStampEntity {
 	@JoinColumn(name = "user_id", nullable = false)
 	private User user;
 
+	// 사용가능 기프티콘 수 (목록 조회 시 집계 없이 사용)
+	// 벌크 업데이트로만 변경되므로 엔티티 변경 감지로 덮어쓰지 않도록 updatable = false
+	@Builder.Default
+	@ColumnDefault("0")
+	@Column(nullable = false, updatable = false)
+	private Long gifticonCount = 0L;
+
 	public void updateAllowParticipation(Boolean allowParticipation) {
 		this.allowParticipation = allowParticipation;
 	}
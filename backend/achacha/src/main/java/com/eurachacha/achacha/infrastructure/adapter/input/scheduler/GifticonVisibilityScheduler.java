@@ -0,0 +1,29 @@
+package com.eurachacha.achacha.infrastructure.adapter.input.scheduler;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.input.gifticon.GifticonVisibilityAppService;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class GifticonVisibilityScheduler {
+
+	private final GifticonVisibilityAppService gifticonVisibilityAppService;
+
+	// 서버 시작 시 최초 재구성 (배포 직후 비어 있는 조회 모델 채움, 중단된 경우 이어서 처리)
+	@EventListener(ApplicationReadyEvent.class)
+	public void initializeOnStartup() {
+		gifticonVisibilityAppService.initialize();
+	}
+
+	// 매일 새벽 4시 조회 모델 불일치 복구
+	@Scheduled(cron = "0 0 4 * * *")
+	public void rebuildScheduler() {
+		gifticonVisibilityAppService.rebuildAll();
+	}
+}
@@ -0,0 +1,29 @@
+package com.eurachacha.achacha.infrastructure.adapter.input.scheduler;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.input.sharebox.ShareBoxAppService;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ShareBoxGifticonCountScheduler {
+
+	private final ShareBoxAppService shareBoxAppService;
+
+	// 서버 시작 시 보정 (컬럼 추가 직후 기본값 0으로 남은 기존 쉐어박스 포함)
+	@EventListener(ApplicationReadyEvent.class)
+	public void syncOnStartup() {
+		shareBoxAppService.syncGifticonCounts();
+	}
+
+	// 매일 새벽 4시 30분 쉐어박스 기프티콘 수 불일치 보정
+	@Scheduled(cron = "0 30 4 * * *")
+	public void syncScheduler() {
+		shareBoxAppService.syncGifticonCounts();
+	}
+}
@@ -0,0 +1,21 @@
+package com.eurachacha.achacha.infrastructure.adapter.input.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.input.file.StagedFileSweepAppService;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class StagedFileSweepScheduler {
+
+	private final StagedFileSweepAppService stagedFileSweepAppService;
+
+	// 매시 10분 등록 중 남겨진 임시 업로드 파일 정리
+	@Scheduled(cron = "0 10 * * * *")
+	public void sweepScheduler() {
+		stagedFileSweepAppService.sweepStagedFiles();
+	}
+}
@@ -1,5 +1,6 @@
 package com.eurachacha.achacha.infrastructure.adapter.output.ai;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -20,12 +21,10 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class AIServiceAdapter implements AIServicePort {
 	private static final String EXTRACT_GIFTICON_URL_PATH = "/api/extract-gifticon";
 
@@ -33,6 +32,13 @@ public class AIServiceAdapter implements AIServicePort {
 	private final RestTemplate restTemplate;
 	private final ObjectMapper objectMapper;
 
+	public AIServiceAdapter(AIServiceProperties properties,
+		@Qualifier("aiServiceRestTemplate") RestTemplate restTemplate, ObjectMapper objectMapper) {
+		this.properties = properties;
+		this.restTemplate = restTemplate;
+		this.objectMapper = objectMapper;
+	}
+
 	@Override
 	public GifticonMetadataDto extractGifticonInfo(String ocrResult, String gifticonType) {
 		try {
@@ -1,5 +1,6 @@
 package com.eurachacha.achacha.infrastructure.adapter.output.auth;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -15,15 +16,16 @@ import com.eurachacha.achacha.application.port.output.auth.dto.response.KakaoUse
 import com.eurachacha.achacha.web.common.exception.CustomException;
 import com.eurachacha.achacha.web.common.exception.ErrorCode;
 
-import lombok.RequiredArgsConstructor;
-
 @Component
-@RequiredArgsConstructor
 public class KakaoAuthAdapter implements AuthServicePort {
 
 	private final RestTemplate restTemplate;
 	private static final String KAKAO_API_URL = "https://kapi.kakao.com";
 
+	public KakaoAuthAdapter(@Qualifier("kakaoRestTemplate") RestTemplate restTemplate) {
+		this.restTemplate = restTemplate;
+	}
+
 	@Override
 	public KakaoUserInfoDto validateKakaoToken(String kakaoAccessToken) {
 		HttpHeaders headers = new HttpHeaders();
@@ -40,6 +40,16 @@ public class SecurityServiceAdapter implements SecurityServicePort {
 	 */
 	@Override
 	public User getLoggedInUser() {
+		return userRepository.findById(getLoggedInUserId());
+	}
+
+	/**
+	 * 현재 로그인한 사용자 id 반환 (DB 조회 없음)
+	 * @return 인증된 사용자 id
+	 * @throws CustomException 인증되지 않은 사용자 접근 시
+	 */
+	@Override
+	public Integer getLoggedInUserId() {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
 		if (authentication == null || !authentication.isAuthenticated()
@@ -48,8 +58,6 @@ public class SecurityServiceAdapter implements SecurityServicePort {
 		}
 
 		UserDetails userDetails = (UserDetails)authentication.getPrincipal();
-		Integer userId = Integer.valueOf(userDetails.getUsername());
-
-		return userRepository.findById(userId);
+		return Integer.valueOf(userDetails.getUsername());
 	}
 }
\ No newline at end of file
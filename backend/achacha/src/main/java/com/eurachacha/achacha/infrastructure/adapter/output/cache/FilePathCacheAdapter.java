@@ -0,0 +1,41 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.input.file.dto.FileKey;
+import com.eurachacha.achacha.application.port.output.file.FilePathCachePort;
+import com.eurachacha.achacha.infrastructure.util.LocalCacheFactory;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 파일 경로 로컬 캐시 (LocalCacheFactory, 지표 이름 file.path)
+ *  - 서버 인스턴스별 캐시이므로 크기 상한과 만료 시간을 둠
+ */
+@Component
+public class FilePathCacheAdapter implements FilePathCachePort {
+
+	private static final int MAX_CACHED_PATHS = 50_000;
+	private static final Duration PATH_TTL = Duration.ofHours(1);
+
+	private final Cache<FileKey, String> pathCache;
+
+	public FilePathCacheAdapter(MeterRegistry meterRegistry) {
+		this.pathCache = LocalCacheFactory.create("file.path", MAX_CACHED_PATHS, PATH_TTL, meterRegistry);
+	}
+
+	@Override
+	public Map<FileKey, String> getAll(Collection<FileKey> keys) {
+		return pathCache.getAllPresent(keys);
+	}
+
+	@Override
+	public void putAll(Map<FileKey, String> paths) {
+		pathCache.putAll(paths);
+	}
+}
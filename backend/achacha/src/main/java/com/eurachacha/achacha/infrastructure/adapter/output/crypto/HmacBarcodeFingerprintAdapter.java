@@ -0,0 +1,67 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.crypto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.output.gifticon.BarcodeFingerprintPort;
+import com.eurachacha.achacha.infrastructure.config.EncryptionProperties;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class HmacBarcodeFingerprintAdapter implements BarcodeFingerprintPort {
+
+	private static final String ALGORITHM = "HmacSHA256";
+	// 별도 키가 없을 때 암호화 키에서 파생할 때 사용하는 구분값
+	private static final String DERIVATION_LABEL = "barcode-fingerprint:";
+
+	private final EncryptionProperties encryptionProperties;
+
+	private SecretKeySpec secretKey;
+
+	// Mac은 스레드 안전하지 않으므로 스레드별로 초기화된 인스턴스를 재사용
+	private final ThreadLocal<Mac> mac = ThreadLocal.withInitial(this::createMac);
+
+	@PostConstruct
+	public void init() {
+		try {
+			String fingerprintKey = encryptionProperties.getFingerprintKey();
+			byte[] key = fingerprintKey != null && !fingerprintKey.isBlank()
+				? fingerprintKey.getBytes(StandardCharsets.UTF_8)
+				: MessageDigest.getInstance("SHA-256")
+				.digest((DERIVATION_LABEL + encryptionProperties.getKey()).getBytes(StandardCharsets.UTF_8));
+			secretKey = new SecretKeySpec(key, ALGORITHM);
+		} catch (Exception e) {
+			throw new RuntimeException("바코드 지문 키 초기화 실패", e);
+		}
+	}
+
+	@Override
+	public String generateFingerprint(String barcode) {
+		if (barcode == null) {
+			return null;
+		}
+
+		// doFinal 이후 Mac은 초기화 직후 상태로 돌아가므로 재사용 가능
+		byte[] hash = mac.get().doFinal(barcode.getBytes(StandardCharsets.UTF_8));
+		return HexFormat.of().formatHex(hash);
+	}
+
+	private Mac createMac() {
+		try {
+			Mac instance = Mac.getInstance(ALGORITHM);
+			instance.init(secretKey);
+			return instance;
+		} catch (Exception e) {
+			throw new RuntimeException("바코드 지문 생성기 초기화 실패", e);
+		}
+	}
+}
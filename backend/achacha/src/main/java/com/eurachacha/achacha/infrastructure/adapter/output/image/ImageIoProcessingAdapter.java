@@ -0,0 +1,151 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.image;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.eurachacha.achacha.application.port.output.file.ImageProcessingPort;
+import com.eurachacha.achacha.application.port.output.file.dto.GeneratedImageDto;
+import com.eurachacha.achacha.application.port.output.file.dto.ImageCropAreaDto;
+import com.eurachacha.achacha.domain.model.file.enums.FileType;
+import com.eurachacha.achacha.infrastructure.util.ImageIoUtil;
+import com.eurachacha.achacha.web.common.exception.CustomException;
+import com.eurachacha.achacha.web.common.exception.ErrorCode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ImageIO 기반 파생 이미지 생성
+ *  - 필요한 영역만 디코딩하고(source region), 목표 크기에 맞게 건너뛰며 읽어(subsampling) 원본 전체를 메모리에 올리지 않음
+ *  - 썸네일은 목록 화면용 고정 크기 JPEG, 바코드는 인식률을 위해 무손실 PNG로 생성
+ *  - 결과 이미지는 EXIF 방향을 적용한 방향으로 저장 (생성 이미지에는 EXIF가 없으므로)
+ */
+@Slf4j
+@Component
+public class ImageIoProcessingAdapter implements ImageProcessingPort {
+
+	// 썸네일 크기 (정사각형)
+	private static final int THUMBNAIL_SIZE = 300;
+	// 바코드 이미지 최대 너비 (이보다 크면 건너뛰며 읽음)
+	private static final int BARCODE_MAX_WIDTH = 1000;
+
+	private final Executor imageProcessingTaskExecutor;
+
+	public ImageIoProcessingAdapter(
+		@Qualifier("imageProcessingTaskExecutor") Executor imageProcessingTaskExecutor) {
+		this.imageProcessingTaskExecutor = imageProcessingTaskExecutor;
+	}
+
+	@Override
+	public Map<FileType, GeneratedImageDto> generateImages(MultipartFile originalImage, boolean createThumbnail,
+		ImageCropAreaDto barcodeCropArea) {
+		Map<FileType, CompletableFuture<GeneratedImageDto>> tasks = new EnumMap<>(FileType.class);
+		if (createThumbnail) {
+			tasks.put(FileType.THUMBNAIL, CompletableFuture.supplyAsync(
+				() -> createThumbnail(originalImage), imageProcessingTaskExecutor));
+		}
+		if (barcodeCropArea != null) {
+			tasks.put(FileType.BARCODE, CompletableFuture.supplyAsync(
+				() -> cropImage(originalImage, barcodeCropArea), imageProcessingTaskExecutor));
+		}
+
+		Map<FileType, GeneratedImageDto> generatedImages = new EnumMap<>(FileType.class);
+		try {
+			tasks.forEach((fileType, task) -> generatedImages.put(fileType, task.join()));
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof CustomException customException) {
+				throw customException;
+			}
+			throw new CustomException(ErrorCode.FILE_PROCESSING_ERROR);
+		}
+		return generatedImages;
+	}
+
+	// 가운데 정사각형 영역을 고정 크기로 축소 (가운데 영역은 방향과 무관하므로 읽은 뒤 방향 적용)
+	private GeneratedImageDto createThumbnail(MultipartFile image) {
+		BufferedImage thumbnail = readImage(image, (reader, orientation) -> {
+			int width = reader.getWidth(0);
+			int height = reader.getHeight(0);
+			int side = Math.min(width, height);
+
+			ImageReadParam param = reader.getDefaultReadParam();
+			param.setSourceRegion(new Rectangle((width - side) / 2, (height - side) / 2, side, side));
+			int subsampling = ImageIoUtil.subsamplingFor(side, THUMBNAIL_SIZE);
+			param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+			BufferedImage square = ImageIoUtil.applyOrientation(reader.read(0, param), orientation);
+			return ImageIoUtil.render(square, THUMBNAIL_SIZE, THUMBNAIL_SIZE, BufferedImage.TYPE_INT_RGB);
+		});
+
+		return encode(thumbnail, "jpg", "image/jpeg");
+	}
+
+	// 자를 영역은 EXIF 방향을 적용한(화면에 보이는) 이미지 기준 좌표
+	// 저장된 픽셀 기준 영역으로 변환해 그 영역만 읽은 뒤 방향 적용
+	private GeneratedImageDto cropImage(MultipartFile image, ImageCropAreaDto cropArea) {
+		BufferedImage barcode = readImage(image, (reader, orientation) -> {
+			int width = reader.getWidth(0);
+			int height = reader.getHeight(0);
+			Rectangle bounds = ImageIoUtil.swapsAxes(orientation)
+				? new Rectangle(height, width) : new Rectangle(width, height);
+
+			Rectangle region = new Rectangle(cropArea.getX(), cropArea.getY(), cropArea.getWidth(),
+				cropArea.getHeight()).intersection(bounds);
+			if (region.isEmpty()) {
+				throw new CustomException(ErrorCode.BARCODE_CROP_AREA_INVALID);
+			}
+
+			ImageReadParam param = reader.getDefaultReadParam();
+			param.setSourceRegion(ImageIoUtil.toSourceRegion(region, width, height, orientation));
+			int subsampling = Math.max(1, (region.width + BARCODE_MAX_WIDTH - 1) / BARCODE_MAX_WIDTH);
+			param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+			BufferedImage cropped = ImageIoUtil.applyOrientation(reader.read(0, param), orientation);
+			return ImageIoUtil.render(cropped, cropped.getWidth(), cropped.getHeight(), BufferedImage.TYPE_INT_RGB);
+		});
+
+		return encode(barcode, "png", "image/png");
+	}
+
+	private BufferedImage readImage(MultipartFile image, ImageIoUtil.ImageReadFunction readFunction) {
+		try (InputStream inputStream = image.getInputStream()) {
+			// ImageIO가 지원하지 않는 형식 (예: webp)
+			return ImageIoUtil.read(inputStream, readFunction)
+				.orElseThrow(() -> new CustomException(ErrorCode.IMAGE_GENERATION_UNSUPPORTED));
+		} catch (IOException e) {
+			log.warn("이미지 디코딩 실패: {}", e.getMessage());
+			throw new CustomException(ErrorCode.FILE_INVALID_CONTENT);
+		}
+	}
+
+	private GeneratedImageDto encode(BufferedImage image, String format, String contentType) {
+		try {
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			if (!ImageIO.write(image, format, outputStream)) {
+				throw new CustomException(ErrorCode.FILE_PROCESSING_ERROR);
+			}
+
+			return GeneratedImageDto.builder()
+				.content(outputStream.toByteArray())
+				.contentType(contentType)
+				.extension(format)
+				.build();
+		} catch (IOException e) {
+			throw new CustomException(ErrorCode.FILE_PROCESSING_ERROR);
+		}
+	}
+}
@@ -3,6 +3,7 @@ package com.eurachacha.achacha.infrastructure.adapter.output.ocr;
 import java.io.IOException;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -28,17 +29,25 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ClovaOcrAdapter implements OcrPort {
 
 	private final ClovaOcrProperties properties;
 	private final RestTemplate restTemplate;
 	private final ObjectMapper objectMapper;
+	private final OcrImagePreprocessor ocrImagePreprocessor;
+
+	public ClovaOcrAdapter(ClovaOcrProperties properties,
+		@Qualifier("clovaOcrRestTemplate") RestTemplate restTemplate, ObjectMapper objectMapper,
+		OcrImagePreprocessor ocrImagePreprocessor) {
+		this.properties = properties;
+		this.restTemplate = restTemplate;
+		this.objectMapper = objectMapper;
+		this.ocrImagePreprocessor = ocrImagePreprocessor;
+	}
 
 	@Override
 	public String extractRawOcrResult(MultipartFile image) {
@@ -48,24 +57,27 @@ public class ClovaOcrAdapter implements OcrPort {
 			headers.setContentType(MediaType.MULTIPART_FORM_DATA);
 			headers.set("X-OCR-SECRET", properties.getSecretKey());
 
-			// 2. 요청 메시지 생성 (Jackson 사용)
-			String message = createRequestMessage(image.getOriginalFilename());
-
-			// 3. MultipartFile을 MultiValueMap으로 구성
-			MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-			body.add("message", message);
-
+			// 2. 전송할 이미지 전처리 (축소, 흑백 변환, JPEG 재인코딩)
+			OcrImagePreprocessor.OcrImage ocrImage;
 			try {
-				body.add("file", createFileResource(image));
+				ocrImage = ocrImagePreprocessor.preprocess(image);
 			} catch (IOException e) {
 				log.error("이미지 파일 처리 중 오류 발생", e);
 				throw new CustomException(ErrorCode.OCR_FILE_PROCESSING_ERROR);
 			}
 
-			// 4. HTTP 요청 객체 생성
+			// 3. 요청 메시지 생성 (Jackson 사용, 전처리한 경우 jpg 형식)
+			String message = createRequestMessage(ocrImage.filename());
+
+			// 4. 이미지를 MultiValueMap으로 구성
+			MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+			body.add("message", message);
+			body.add("file", createFileResource(ocrImage));
+
+			// 5. HTTP 요청 객체 생성
 			HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
 
-			// 5. API 호출 및 결과 반환
+			// 6. API 호출 및 결과 반환
 			ResponseEntity<String> response;
 			try {
 				response = restTemplate.exchange(
@@ -108,6 +120,23 @@ public class ClovaOcrAdapter implements OcrPort {
 		}
 	}
 
+	@Override
+	public String extractText(String rawOcrResult) {
+		try {
+			StringBuilder text = new StringBuilder();
+			for (JsonNode imageNode : objectMapper.readTree(rawOcrResult).path("images")) {
+				for (JsonNode fieldNode : imageNode.path("fields")) {
+					text.append(fieldNode.path("inferText").asText()).append(' ');
+				}
+			}
+			return text.toString().strip();
+		} catch (JsonProcessingException e) {
+			// 형식을 알 수 없으면 원본 그대로 사용
+			log.warn("OCR 결과 텍스트 추출 실패: {}", e.getMessage());
+			return rawOcrResult;
+		}
+	}
+
 	private String createRequestMessage(String filename) {
 		String fileFormat = getFileFormat(filename);
 		String requestId = UUID.randomUUID().toString();
@@ -143,11 +172,11 @@ public class ClovaOcrAdapter implements OcrPort {
 		return "jpg";
 	}
 
-	private ByteArrayResource createFileResource(final MultipartFile file) throws IOException {
-		return new ByteArrayResource(file.getBytes()) {
+	private ByteArrayResource createFileResource(final OcrImagePreprocessor.OcrImage ocrImage) {
+		return new ByteArrayResource(ocrImage.content()) {
 			@Override
 			public String getFilename() {
-				return file.getOriginalFilename();
+				return ocrImage.filename();
 			}
 		};
 	}
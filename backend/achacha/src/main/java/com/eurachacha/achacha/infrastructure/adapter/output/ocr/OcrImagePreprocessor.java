@@ -0,0 +1,122 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.ocr;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.eurachacha.achacha.infrastructure.util.ImageIoUtil;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OCR 요청 전 이미지 전처리
+ *  - 긴 변이 OCR에 충분한 길이를 넘으면 건너뛰며 읽어(subsampling) 원본 전체를 메모리에 올리지 않고 축소
+ *  - 글자 인식에 색상은 필요 없으므로 흑백으로 변환 후 JPEG으로 다시 인코딩
+ *  - 다시 인코딩하면 EXIF가 빠지므로 EXIF 방향은 픽셀에 적용
+ *  - ImageIO가 읽지 못하는 형식이거나 변환 결과가 원본보다 크면 원본을 그대로 전송
+ *  - 원본 크기와 전송 크기를 지표(ocr.image.bytes, stage=original/sent)로 기록
+ */
+@Slf4j
+@Component
+public class OcrImagePreprocessor {
+
+	// 긴 변 최대 길이 (유효기간, 바코드 번호 같은 작은 글자도 읽을 수 있는 수준)
+	private static final int MAX_LONG_SIDE = 1600;
+	// JPEG 품질 (흑백 텍스트 이미지는 이보다 높여도 인식 결과 차이가 거의 없음)
+	private static final float JPEG_QUALITY = 0.8f;
+
+	private final DistributionSummary originalBytes;
+	private final DistributionSummary sentBytes;
+
+	public OcrImagePreprocessor(MeterRegistry meterRegistry) {
+		this.originalBytes = DistributionSummary.builder("ocr.image.bytes").tag("stage", "original")
+			.baseUnit("bytes").register(meterRegistry);
+		this.sentBytes = DistributionSummary.builder("ocr.image.bytes").tag("stage", "sent")
+			.baseUnit("bytes").register(meterRegistry);
+	}
+
+	public OcrImage preprocess(MultipartFile image) throws IOException {
+		byte[] processed = toGrayscaleJpeg(image);
+
+		OcrImage ocrImage = processed != null && processed.length < image.getSize()
+			? new OcrImage(processed, toJpegFilename(image.getOriginalFilename()))
+			: new OcrImage(image.getBytes(), image.getOriginalFilename());
+
+		originalBytes.record(image.getSize());
+		sentBytes.record(ocrImage.content().length);
+		log.debug("OCR 이미지 전처리: {} bytes -> {} bytes", image.getSize(), ocrImage.content().length);
+		return ocrImage;
+	}
+
+	// 디코딩할 수 없으면 null
+	private byte[] toGrayscaleJpeg(MultipartFile image) {
+		try (InputStream inputStream = image.getInputStream()) {
+			// 목표 길이 아래로 내려가지 않을 만큼만 건너뛰며 읽고, 나머지는 보간으로 축소
+			Optional<BufferedImage> source = ImageIoUtil.read(inputStream, (reader, orientation) -> {
+				int longSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+				ImageReadParam param = reader.getDefaultReadParam();
+				int subsampling = ImageIoUtil.subsamplingFor(longSide, MAX_LONG_SIDE);
+				param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+				return ImageIoUtil.applyOrientation(reader.read(0, param), orientation);
+			});
+
+			// ImageIO가 지원하지 않는 형식 (예: webp)
+			return source.isPresent() ? encodeJpeg(renderGrayscale(source.get())) : null;
+		} catch (IOException | RuntimeException e) {
+			// 전처리 실패 시 원본 전송 (OCR 서비스에서 판단)
+			log.warn("OCR 이미지 전처리 실패, 원본 전송: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	// 투명 영역은 흰색으로 채운 흑백 이미지로 변환하며 긴 변을 MAX_LONG_SIDE 이하로 축소
+	private BufferedImage renderGrayscale(BufferedImage source) {
+		double scale = Math.min(1.0, (double)MAX_LONG_SIDE / Math.max(source.getWidth(), source.getHeight()));
+		int width = Math.max(1, (int)Math.round(source.getWidth() * scale));
+		int height = Math.max(1, (int)Math.round(source.getHeight() * scale));
+
+		return ImageIoUtil.render(source, width, height, BufferedImage.TYPE_BYTE_GRAY);
+	}
+
+	private byte[] encodeJpeg(BufferedImage image) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			param.setCompressionQuality(JPEG_QUALITY);
+
+			writer.setOutput(imageOutputStream);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+		return outputStream.toByteArray();
+	}
+
+	private String toJpegFilename(String filename) {
+		if (filename == null || filename.isBlank()) {
+			return "image.jpg";
+		}
+		int lastDotIndex = filename.lastIndexOf('.');
+		return (lastDotIndex > 0 ? filename.substring(0, lastDotIndex) : filename) + ".jpg";
+	}
+
+	// OCR 서비스로 전송할 이미지 (파일명의 확장자로 형식을 전달)
+	public record OcrImage(byte[] content, String filename) {
+	}
+}
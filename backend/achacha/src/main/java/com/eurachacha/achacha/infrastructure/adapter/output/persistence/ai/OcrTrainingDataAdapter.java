@@ -20,6 +20,7 @@ public class OcrTrainingDataAdapter implements OcrTrainingDataRepository {
 	public OcrTrainingData saveOcrResultWithMetadata(
 		String ocrRawResult,
 		String gifticonType,
+		String imageHash,
 		String barcodeNumber,
 		String brandName,
 		String gifticonName,
@@ -37,6 +38,7 @@ public class OcrTrainingDataAdapter implements OcrTrainingDataRepository {
 		OcrTrainingData ocrTrainingData = OcrTrainingData.builder()
 			.ocrRawResult(ocrRawResult)
 			.gifticonType(gifticonType)
+			.imageHash(imageHash)
 			.aiExtracted(aiExtracted)
 			.createdAt(LocalDateTime.now())
 			.updatedAt(LocalDateTime.now())
@@ -4,6 +4,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
+import com.eurachacha.achacha.application.port.output.gifticon.BarcodeFingerprintPort;
+import com.eurachacha.achacha.domain.model.gifticon.EncryptedBarcode;
 import com.eurachacha.achacha.infrastructure.util.EncryptionUtil;
 
 import jakarta.persistence.AttributeConverter;
@@ -11,22 +13,38 @@ import jakarta.persistence.Converter;
 
 @Converter
 @Component
-public class BarcodeConverter implements AttributeConverter<String, String> {
+public class BarcodeConverter implements AttributeConverter<EncryptedBarcode, String> {
 
 	private final EncryptionUtil encryptionUtil;
+	private final BarcodeFingerprintPort barcodeFingerprintPort;
 
 	@Autowired
-	public BarcodeConverter(@Lazy EncryptionUtil encryptionUtil) {
+	public BarcodeConverter(@Lazy EncryptionUtil encryptionUtil, @Lazy BarcodeFingerprintPort barcodeFingerprintPort) {
 		this.encryptionUtil = encryptionUtil;
+		this.barcodeFingerprintPort = barcodeFingerprintPort;
 	}
 
+	// 이미 암호화된 값은 그대로 저장하고, 새 값만 암호화
 	@Override
-	public String convertToDatabaseColumn(String barcode) {
-		return barcode != null ? encryptionUtil.encrypt(barcode) : null;
+	public String convertToDatabaseColumn(EncryptedBarcode barcode) {
+		if (barcode == null) {
+			return null;
+		}
+		return barcode.isEncrypted() ? barcode.getCipherText() : encryptionUtil.encrypt(barcode.getPlainText());
 	}
 
+	// 조회 시에는 복호화하지 않고 암호문만 보관
 	@Override
-	public String convertToEntityAttribute(String encryptedBarcode) {
-		return encryptedBarcode != null ? encryptionUtil.decrypt(encryptedBarcode) : null;
+	public EncryptedBarcode convertToEntityAttribute(String encryptedBarcode) {
+		return EncryptedBarcode.ofCipherText(encryptedBarcode, this::decrypt);
+	}
+
+	// 지문이 없는 행은 검증할 수 없으므로 기존처럼 현재 키, 이전 키 순으로 복호화
+	private String decrypt(String cipherText, String fingerprint) {
+		if (fingerprint == null) {
+			return encryptionUtil.decrypt(cipherText);
+		}
+		return encryptionUtil.decrypt(cipherText,
+			plainText -> fingerprint.equals(barcodeFingerprintPort.generateFingerprint(plainText)));
 	}
 }
@@ -1,5 +1,6 @@
 package com.eurachacha.achacha.infrastructure.adapter.output.persistence.file;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,4 +31,13 @@ public interface FileJpaRepository extends JpaRepository<File, Integer> {
 
 	List<File> findAllByReferenceEntityTypeAndReferenceEntityIdInAndType(String referenceEntityType,
 		List<Integer> ids, FileType type);
+
+	List<File> findAllByReferenceEntityTypeInAndReferenceEntityIdInAndTypeIn(
+		Collection<String> referenceEntityTypes, Collection<Integer> ids, Collection<FileType> types);
+
+	List<File> findAllByPathIn(Collection<String> paths);
+
+	List<File> findAllByContentHashIn(Collection<String> contentHashes);
+
+	boolean existsByTypeAndContentHash(FileType type, String contentHash);
 }
@@ -1,5 +1,6 @@
 package com.eurachacha.achacha.infrastructure.adapter.output.persistence.file;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,8 +46,35 @@ public class FilePersistenceAdapter implements FileRepository {
 			type);
 	}
 
+	@Override
+	public List<File> findAllByReferenceEntityTypeInAndReferenceEntityIdInAndTypeIn(
+		Collection<String> referenceEntityTypes, Collection<Integer> ids, Collection<FileType> types) {
+		return fileJpaRepository.findAllByReferenceEntityTypeInAndReferenceEntityIdInAndTypeIn(
+			referenceEntityTypes, ids, types);
+	}
+
+	@Override
+	public List<File> findAllByPathIn(Collection<String> paths) {
+		return fileJpaRepository.findAllByPathIn(paths);
+	}
+
+	@Override
+	public List<File> findAllByContentHashIn(Collection<String> contentHashes) {
+		return fileJpaRepository.findAllByContentHashIn(contentHashes);
+	}
+
+	@Override
+	public boolean existsByTypeAndContentHash(FileType type, String contentHash) {
+		return fileJpaRepository.existsByTypeAndContentHash(type, contentHash);
+	}
+
 	@Override
 	public void delete(File file) {
 		fileJpaRepository.delete(file);
 	}
+
+	@Override
+	public void deleteAll(List<File> files) {
+		fileJpaRepository.deleteAllInBatch(files);
+	}
 }
\ No newline at end of file
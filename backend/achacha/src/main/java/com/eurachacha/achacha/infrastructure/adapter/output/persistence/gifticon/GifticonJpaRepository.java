@@ -24,7 +24,7 @@ public interface GifticonJpaRepository extends JpaRepository<Gifticon, Integer>,
 		""")
 	Optional<Gifticon> findGifticonDetailById(@Param("gifticonId") Integer gifticonId);
 
-	boolean existsByBarcode(String barcode);
+	boolean existsByBarcodeFingerprint(String barcodeFingerprint);
 
 	@Modifying
 	@Query("""
@@ -43,7 +43,7 @@ public interface GifticonJpaRepository extends JpaRepository<Gifticon, Integer>,
 		AND g.isDeleted = false
 		AND g.isUsed = false
 		""")
-	void unshareAllAvailableGifticonsByUserIdAndShareBoxId(@Param("userId") Integer userId,
+	int unshareAllAvailableGifticonsByUserIdAndShareBoxId(@Param("userId") Integer userId,
 		@Param("shareBoxId") Integer shareBoxId);
 
 	@Query("""
@@ -1,15 +1,17 @@
 package com.eurachacha.achacha.infrastructure.adapter.output.persistence.gifticon;
 
 import java.time.LocalDate;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import com.eurachacha.achacha.application.port.output.gifticon.GifticonRepository;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.AvailableGifticonSummaryDto;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.GifticonCursor;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.UsedGifticonSummaryDto;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonScopeType;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
@@ -26,13 +28,27 @@ public class GifticonPersistenceAdapter implements GifticonRepository {
 
 	@Override
 	public Gifticon save(Gifticon gifticon) {
-		return gifticonJpaRepository.save(gifticon);
+		try {
+			return gifticonJpaRepository.save(gifticon);
+		} catch (DataIntegrityViolationException e) {
+			// 동시 등록으로 중복 검사를 통과한 경우 유니크 인덱스에서 차단
+			if (isBarcodeFingerprintViolation(e)) {
+				throw new CustomException(ErrorCode.GIFTICON_BARCODE_DUPLICATE);
+			}
+			throw e;
+		}
 	}
 
 	@Override
-	public Slice<Gifticon> findAvailableGifticons(Integer userId, GifticonScopeType scope, GifticonType type,
-		Pageable pageable) {
-		return gifticonJpaRepository.findAvailableGifticons(userId, scope, type, pageable);
+	public Slice<AvailableGifticonSummaryDto> findAvailableGifticons(Integer userId, GifticonScopeType scope,
+		GifticonType type, GifticonCursor cursor, Pageable pageable) {
+		return gifticonJpaRepository.findAvailableGifticons(userId, scope, type, cursor, pageable);
+	}
+
+	@Override
+	public Slice<AvailableGifticonSummaryDto> findAvailableGifticonsByParticipation(Integer userId,
+		GifticonScopeType scope, GifticonType type, GifticonCursor cursor, Pageable pageable) {
+		return gifticonJpaRepository.findAvailableGifticonsByParticipation(userId, scope, type, cursor, pageable);
 	}
 
 	@Override
@@ -42,12 +58,12 @@ public class GifticonPersistenceAdapter implements GifticonRepository {
 	}
 
 	@Override
-	public boolean existsByBarcode(String barcode) {
-		return gifticonJpaRepository.existsByBarcode(barcode);
+	public boolean existsByBarcodeFingerprint(String barcodeFingerprint) {
+		return gifticonJpaRepository.existsByBarcodeFingerprint(barcodeFingerprint);
 	}
 
 	@Override
-	public Slice<Gifticon> getUsedGifticons(Integer userId, GifticonType type, Pageable pageable) {
+	public Slice<UsedGifticonSummaryDto> getUsedGifticons(Integer userId, GifticonType type, Pageable pageable) {
 		return gifticonJpaRepository.findUsedGifticons(userId, type, pageable);
 	}
 
@@ -57,32 +73,25 @@ public class GifticonPersistenceAdapter implements GifticonRepository {
 			.orElseThrow(() -> new CustomException(ErrorCode.GIFTICON_NOT_FOUND));
 	}
 
-	@Override
-	public Map<Integer, Long> countGifticonsByShareBoxIds(List<Integer> shareBoxIds) {
-		if (shareBoxIds.isEmpty()) {
-			return Collections.emptyMap();
-		}
-
-		return gifticonJpaRepository.countGifticonsByShareBoxIds(shareBoxIds);
-	}
-
 	@Override
 	public void unshareAllGifticonsByShareBoxId(Integer shareBoxId) {
 		gifticonJpaRepository.unshareAllGifticonsByShareBoxId(shareBoxId);
 	}
 
 	@Override
-	public void unshareAllAvailableGifticonsByUserIdAndShareBoxId(Integer userId, Integer shareBoxId) {
-		gifticonJpaRepository.unshareAllAvailableGifticonsByUserIdAndShareBoxId(userId, shareBoxId);
+	public int unshareAllAvailableGifticonsByUserIdAndShareBoxId(Integer userId, Integer shareBoxId) {
+		return gifticonJpaRepository.unshareAllAvailableGifticonsByUserIdAndShareBoxId(userId, shareBoxId);
 	}
 
 	@Override
-	public Slice<Gifticon> findGifticonsByShareBoxId(Integer shareBoxId, GifticonType type, Pageable pageable) {
+	public Slice<AvailableGifticonSummaryDto> findGifticonsByShareBoxId(Integer shareBoxId, GifticonType type,
+		Pageable pageable) {
 		return gifticonJpaRepository.findGifticonsByShareBoxId(shareBoxId, type, pageable);
 	}
 
 	@Override
-	public Slice<Gifticon> findUsedGifticonsByShareBoxId(Integer shareBoxId, GifticonType type, Pageable pageable) {
+	public Slice<UsedGifticonSummaryDto> findUsedGifticonsByShareBoxId(Integer shareBoxId, GifticonType type,
+		Pageable pageable) {
 		return gifticonJpaRepository.findUsedGifticonsByShareBoxId(shareBoxId, type, pageable);
 	}
 
@@ -95,4 +104,14 @@ public class GifticonPersistenceAdapter implements GifticonRepository {
 	public List<Gifticon> findAllRelevantGifticonsWithExpiryDates(List<LocalDate> expiryDates, Integer userId) {
 		return gifticonJpaRepository.findAllRelevantGifticonsWithExpiryDates(expiryDates, userId);
 	}
+
+	@Override
+	public List<Gifticon> findAvailableGifticonsAfterId(int lastGifticonId, int size) {
+		return gifticonJpaRepository.findAvailableGifticonsAfterId(lastGifticonId, size);
+	}
+
+	private boolean isBarcodeFingerprintViolation(DataIntegrityViolationException e) {
+		String message = e.getMostSpecificCause().getMessage();
+		return message != null && message.contains("uk_gifticon_barcode_fingerprint");
+	}
 }
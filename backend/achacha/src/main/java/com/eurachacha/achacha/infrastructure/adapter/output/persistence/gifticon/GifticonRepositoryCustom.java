@@ -1,41 +1,54 @@
 package com.eurachacha.achacha.infrastructure.adapter.output.persistence.gifticon;
 
 import java.util.List;
-import java.util.Map;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import com.eurachacha.achacha.application.port.output.gifticon.dto.AvailableGifticonSummaryDto;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.GifticonCursor;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.UsedGifticonSummaryDto;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonScopeType;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
 
 public interface GifticonRepositoryCustom {
 
-	Slice<Gifticon> findAvailableGifticons(
+	// 사용가능 기프티콘 목록 조회 (커서가 있으면 keyset, 없으면 offset 페이징)
+	Slice<AvailableGifticonSummaryDto> findAvailableGifticons(
 		Integer userId,
 		GifticonScopeType scope,
 		GifticonType type,
+		GifticonCursor cursor,
 		Pageable pageable
 	);
 
-	Slice<Gifticon> findUsedGifticons(
+	// 참여 정보 기준 사용가능 기프티콘 목록 조회 (조회 모델 최초 재구성 완료 전)
+	Slice<AvailableGifticonSummaryDto> findAvailableGifticonsByParticipation(
+		Integer userId,
+		GifticonScopeType scope,
+		GifticonType type,
+		GifticonCursor cursor,
+		Pageable pageable
+	);
+
+	Slice<UsedGifticonSummaryDto> findUsedGifticons(
 		Integer userId,
 		GifticonType type,
 		Pageable pageable);
 
 	// 쉐어박스 내 사용가능 기프티콘 조회
-	Slice<Gifticon> findGifticonsByShareBoxId(
+	Slice<AvailableGifticonSummaryDto> findGifticonsByShareBoxId(
 		Integer shareBoxId,
 		GifticonType type,
 		Pageable pageable);
 
 	// 쉐어박스 내 사용완료 기프티콘 조회
-	Slice<Gifticon> findUsedGifticonsByShareBoxId(
+	Slice<UsedGifticonSummaryDto> findUsedGifticonsByShareBoxId(
 		Integer shareBoxId,
 		GifticonType type,
 		Pageable pageable
 	);
 
-	Map<Integer, Long> countGifticonsByShareBoxIds(List<Integer> shareBoxIds);
+	List<Gifticon> findAvailableGifticonsAfterId(int lastGifticonId, int size);
 }
@@ -1,35 +1,41 @@
 package com.eurachacha.achacha.infrastructure.adapter.output.persistence.gifticon;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
+import com.eurachacha.achacha.application.port.output.gifticon.dto.AvailableGifticonSummaryDto;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.GifticonCursor;
+import com.eurachacha.achacha.application.port.output.gifticon.dto.UsedGifticonSummaryDto;
 import com.eurachacha.achacha.domain.model.brand.QBrand;
+import com.eurachacha.achacha.domain.model.file.QFile;
+import com.eurachacha.achacha.domain.model.file.enums.FileType;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
 import com.eurachacha.achacha.domain.model.gifticon.QGifticon;
+import com.eurachacha.achacha.domain.model.gifticon.QGifticonVisibility;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonScopeType;
+import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonSortType;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
-import com.eurachacha.achacha.domain.model.history.QGifticonOwnerHistory;
-import com.eurachacha.achacha.domain.model.history.QUsageHistory;
-import com.eurachacha.achacha.domain.model.history.enums.TransferType;
+import com.eurachacha.achacha.domain.model.history.QGifticonActivity;
+import com.eurachacha.achacha.domain.model.history.enums.UsageType;
 import com.eurachacha.achacha.domain.model.sharebox.QParticipation;
 import com.eurachacha.achacha.domain.model.sharebox.QShareBox;
 import com.eurachacha.achacha.domain.model.user.QUser;
 import com.eurachacha.achacha.infrastructure.adapter.output.persistence.common.util.QueryUtils;
-import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.CaseBuilder;
-import com.querydsl.core.types.dsl.DateTimeExpression;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -39,27 +45,98 @@ public class GifticonRepositoryCustomImpl implements GifticonRepositoryCustom {
 
 	private final JPAQueryFactory jpaQueryFactory;
 
+	/**
+	 * 사용가능 기프티콘 조회
+	 * 사용자별 조회 모델(user_gifticon_visibility)의 커버링 인덱스 범위 스캔으로 기프티콘 id를 먼저 찾은 뒤,
+	 * 해당 id의 목록 컬럼과 썸네일 경로만 DTO로 조회 (엔티티 미적재)
+	 * 갱신이 늦은 조회 행이 사용, 삭제된 기프티콘을 가리킬 수 있으므로 id 조회 시 기프티콘 상태를 함께 확인
+	 * (페이지 크기와 다음 페이지 여부가 남은 행에 영향받지 않음)
+	 */
 	@Override
-	public Slice<Gifticon> findAvailableGifticons(Integer userId, GifticonScopeType scope, GifticonType type,
-		Pageable pageable) {
+	public Slice<AvailableGifticonSummaryDto> findAvailableGifticons(Integer userId, GifticonScopeType scope,
+		GifticonType type, GifticonCursor cursor, Pageable pageable) {
+
+		QGifticon qGifticon = QGifticon.gifticon;
+		QGifticonVisibility qVisibility = QGifticonVisibility.gifticonVisibility;
+
+		// 커서가 있으면 offset 대신 마지막 정렬 키 이후부터 조회
+		long offset = cursor == null ? pageable.getOffset() : 0L;
+
+		List<Integer> gifticonIds = jpaQueryFactory
+			.select(qVisibility.gifticonId)
+			.from(qVisibility)
+			.join(qGifticon).on(qGifticon.id.eq(qVisibility.gifticonId))
+			.where(
+				qVisibility.userId.eq(userId),
+				visibilityScopeCondition(scope, qVisibility),
+				type == null ? null : qVisibility.gifticonType.eq(type),
+				visibilityCursorCondition(cursor, qVisibility),
+				qGifticon.isUsed.eq(false),
+				qGifticon.isDeleted.eq(false)
+			)
+			.offset(offset)
+			.limit(pageable.getPageSize() + 1)
+			.orderBy(visibilityOrderSpecifiers(pageable.getSort(), qVisibility))
+			.fetch();
+
+		if (gifticonIds.isEmpty()) {
+			return new SliceImpl<>(Collections.emptyList(), pageable, false);
+		}
+
+		Map<Integer, AvailableGifticonSummaryDto> summaryMap = selectAvailableSummaries(qGifticon)
+			.where(
+				qGifticon.id.in(gifticonIds),
+				qGifticon.isUsed.eq(false),
+				qGifticon.isDeleted.eq(false)
+			)
+			.fetch()
+			.stream()
+			.collect(Collectors.toMap(AvailableGifticonSummaryDto::getGifticonId, dto -> dto,
+				(existing, replacement) -> existing));
+
+		// 조회 모델의 정렬 순서 유지
+		List<AvailableGifticonSummaryDto> content = gifticonIds.stream()
+			.map(summaryMap::get)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+
+		boolean hasNext = false;
+		if (gifticonIds.size() > pageable.getPageSize()) {
+			content = content.subList(0, Math.min(content.size(), pageable.getPageSize()));
+			hasNext = true;
+		}
+
+		return new SliceImpl<>(content, pageable, hasNext);
+	}
+
+	/**
+	 * 참여 정보 기준 사용가능 기프티콘 조회
+	 * 조회 모델 최초 재구성이 끝나기 전에만 사용 (범위 조건을 기프티콘, 참여 정보로 직접 판단)
+	 */
+	@Override
+	public Slice<AvailableGifticonSummaryDto> findAvailableGifticonsByParticipation(Integer userId,
+		GifticonScopeType scope, GifticonType type, GifticonCursor cursor, Pageable pageable) {
+
+		// ALL 범위는 OR 조건 대신 분기별 범위 스캔 후 병합
+		if (scope == GifticonScopeType.ALL) {
+			return findAllScopeGifticonsByParticipation(userId, type, cursor, pageable);
+		}
 
 		QGifticon qGifticon = QGifticon.gifticon;
-		QBrand qBrand = QBrand.brand;
-		QUser qUser = QUser.user;
-		QShareBox qShareBox = QShareBox.shareBox;
 		QParticipation qParticipation = QParticipation.participation;
 
-		List<Gifticon> content = jpaQueryFactory
-			.selectFrom(qGifticon)
-			.join(qGifticon.brand, qBrand).fetchJoin()
-			.join(qGifticon.user, qUser).fetchJoin()
-			.leftJoin(qGifticon.sharebox, qShareBox).fetchJoin()
+		// 커서가 있으면 offset 대신 마지막 정렬 키 이후부터 조회
+		long offset = cursor == null ? pageable.getOffset() : 0L;
+
+		List<AvailableGifticonSummaryDto> content = selectAvailableSummaries(qGifticon)
 			.where(
 				qGifticon.isUsed.eq(false),
+				qGifticon.isDeleted.eq(false),
 				scopeCondition(scope, userId, qGifticon, qParticipation),
-				typeCondition(type, qGifticon)
+				typeCondition(type, qGifticon),
+				cursorCondition(cursor, qGifticon)
 			)
-			.offset(pageable.getOffset())
+			.offset(offset)
 			.limit(pageable.getPageSize() + 1)
 			.orderBy(QueryUtils.getOrderSpecifier(pageable.getSort(), qGifticon))
 			.fetch();
@@ -73,43 +150,110 @@ public class GifticonRepositoryCustomImpl implements GifticonRepositoryCustom {
 		return new SliceImpl<>(content, pageable, hasNext);
 	}
 
+	/**
+	 * 모든 범위(ALL) 기프티콘 조회 (참여 정보 기준)
+	 * 소유자 조건과 참여 쉐어박스 조건을 OR로 묶으면 단일 인덱스를 사용할 수 없으므로,
+	 * 내 기프티콘 분기와 참여 중인 쉐어박스별 분기를 각각 정렬된 범위 스캔으로 조회한 뒤 병합
+	 */
+	private Slice<AvailableGifticonSummaryDto> findAllScopeGifticonsByParticipation(Integer userId,
+		GifticonType type, GifticonCursor cursor, Pageable pageable) {
+
+		QGifticon qGifticon = QGifticon.gifticon;
+		QParticipation qParticipation = QParticipation.participation;
+
+		long offset = cursor == null ? pageable.getOffset() : 0L;
+		// 병합 후 offset 만큼 건너뛰어야 하므로 각 분기는 offset + size + 1 개까지만 조회
+		int limit = (int)offset + pageable.getPageSize() + 1;
+
+		List<Integer> shareBoxIds = jpaQueryFactory
+			.select(qParticipation.sharebox.id)
+			.from(qParticipation)
+			.where(qParticipation.user.id.eq(userId))
+			.fetch();
+
+		List<List<AvailableGifticonSummaryDto>> branches = new ArrayList<>(shareBoxIds.size() + 1);
+		branches.add(fetchSortedBranch(qGifticon.user.id.eq(userId), type, cursor, pageable, limit));
+		for (Integer shareBoxId : shareBoxIds) {
+			branches.add(fetchSortedBranch(qGifticon.sharebox.id.eq(shareBoxId), type, cursor, pageable, limit));
+		}
+
+		List<AvailableGifticonSummaryDto> merged = GifticonSortedMerger.merge(
+			branches, GifticonSortedMerger.comparatorOf(pageable.getSort()), limit);
+
+		List<AvailableGifticonSummaryDto> content = merged.size() > offset
+			? merged.subList((int)offset, merged.size())
+			: Collections.emptyList();
+
+		boolean hasNext = false;
+		if (content.size() > pageable.getPageSize()) {
+			content = content.subList(0, pageable.getPageSize());
+			hasNext = true;
+		}
+
+		return new SliceImpl<>(content, pageable, hasNext);
+	}
+
+	/**
+	 * 단일 분기(소유자 또는 쉐어박스) 조회
+	 * (user_id | sharebox_id, 정렬 키, id) 인덱스를 따라 정렬된 상태로 limit 개만 읽음
+	 */
+	private List<AvailableGifticonSummaryDto> fetchSortedBranch(BooleanExpression branchCondition,
+		GifticonType type, GifticonCursor cursor, Pageable pageable, int limit) {
+
+		QGifticon qGifticon = QGifticon.gifticon;
+
+		return selectAvailableSummaries(qGifticon)
+			.where(
+				branchCondition,
+				qGifticon.isUsed.eq(false),
+				qGifticon.isDeleted.eq(false),
+				typeCondition(type, qGifticon),
+				cursorCondition(cursor, qGifticon)
+			)
+			.limit(limit)
+			.orderBy(QueryUtils.getOrderSpecifier(pageable.getSort(), qGifticon))
+			.fetch();
+	}
+
+	/**
+	 * 사용완료 기프티콘 조회
+	 * 사용자별 마지막 활동(user_gifticon_activity) 인덱스 범위 스캔으로 조회
+	 * 넘겨준 기프티콘은 항상, 직접 사용한 기프티콘은 전부 사용된 경우에만 포함
+	 */
 	@Override
-	public Slice<Gifticon> findUsedGifticons(
+	public Slice<UsedGifticonSummaryDto> findUsedGifticons(
 		Integer userId,
 		GifticonType type,
 		Pageable pageable) {
 
+		QGifticonActivity qActivity = QGifticonActivity.gifticonActivity;
 		QGifticon qGifticon = QGifticon.gifticon;
 		QBrand qBrand = QBrand.brand;
-		QGifticonOwnerHistory qOwnerHistory = QGifticonOwnerHistory.gifticonOwnerHistory;
-		QUsageHistory qUsageHistory = QUsageHistory.usageHistory;
-
-		// CASE 표현식으로 사용 시간 결정
-		DateTimeExpression<LocalDateTime> usedAtExpr = Expressions.cases()
-			.when(qUsageHistory.id.max().isNotNull())
-			.then(qUsageHistory.createdAt.max())
-			.when(qOwnerHistory.id.max().isNotNull())
-			.then(qOwnerHistory.createdAt.max())
-			.otherwise(Expressions.nullExpression());
-
-		List<Gifticon> content = jpaQueryFactory
-			.selectFrom(qGifticon)
-			.join(qGifticon.brand, qBrand).fetchJoin()
-			.leftJoin(qOwnerHistory)
-			.on(qGifticon.id.eq(qOwnerHistory.gifticon.id)
-				.and(qOwnerHistory.fromUser.id.eq(userId)))
-			.leftJoin(qUsageHistory)
-			.on(qGifticon.id.eq(qUsageHistory.gifticon.id)
-				.and(qUsageHistory.user.id.eq(userId)))
+		QFile qFile = QFile.file;
+
+		List<UsedGifticonSummaryDto> content = jpaQueryFactory
+			.select(Projections.constructor(UsedGifticonSummaryDto.class,
+				qGifticon.id,
+				qGifticon.name,
+				qGifticon.type,
+				qGifticon.expiryDate,
+				qBrand.id,
+				qBrand.name,
+				qActivity.usageType,
+				qActivity.usedAt,
+				qFile.path))
+			.from(qActivity)
+			.join(qGifticon).on(qGifticon.id.eq(qActivity.gifticonId))
+			.join(qGifticon.brand, qBrand)
+			.leftJoin(qFile).on(thumbnailJoinCondition(qFile, qGifticon))
 			.where(
-				qGifticon.remainingAmount.eq(0).or(qGifticon.remainingAmount.isNull()),
-				qOwnerHistory.id.isNotNull().or(qUsageHistory.id.isNotNull()),
+				qActivity.userId.eq(userId),
+				qActivity.usageType.ne(UsageType.SELF_USE).or(qGifticon.isUsed.isTrue()),
 				typeCondition(type, qGifticon)
 			)
-			.groupBy(qGifticon.id)
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize() + 1)
-			.orderBy(usedAtExpr.desc())
+			.orderBy(qActivity.usedAt.desc(), qActivity.gifticonId.desc())
 			.fetch();
 
 		boolean hasNext = content.size() > pageable.getPageSize();
@@ -119,9 +263,9 @@ public class GifticonRepositoryCustomImpl implements GifticonRepositoryCustom {
 		return new SliceImpl<>(content, pageable, hasNext);
 	}
 
-	// 쉐어박스 내 기프티콘 조회
+	// 쉐어박스 내 기프티콘 조회 (목록 컬럼과 썸네일 경로만 DTO로 조회)
 	@Override
-	public Slice<Gifticon> findGifticonsByShareBoxId(
+	public Slice<AvailableGifticonSummaryDto> findGifticonsByShareBoxId(
 		Integer shareBoxId,
 		GifticonType type,
 		Pageable pageable) {
@@ -130,13 +274,28 @@ public class GifticonRepositoryCustomImpl implements GifticonRepositoryCustom {
 		QBrand qBrand = QBrand.brand;
 		QUser qUser = QUser.user;
 		QShareBox qShareBox = QShareBox.shareBox;
+		QFile qFile = QFile.file;
 
 		// 메인 쿼리 실행
-		List<Gifticon> gifticons = jpaQueryFactory
-			.selectFrom(qGifticon)
-			.join(qGifticon.brand, qBrand).fetchJoin()
-			.join(qGifticon.user, qUser).fetchJoin()
-			.join(qGifticon.sharebox, qShareBox).fetchJoin()
+		List<AvailableGifticonSummaryDto> gifticons = jpaQueryFactory
+			.select(Projections.constructor(AvailableGifticonSummaryDto.class,
+				qGifticon.id,
+				qGifticon.name,
+				qGifticon.type,
+				qGifticon.expiryDate,
+				qGifticon.createdAt,
+				qBrand.id,
+				qBrand.name,
+				qUser.id,
+				qUser.name,
+				qShareBox.id,
+				qShareBox.name,
+				qFile.path))
+			.from(qGifticon)
+			.join(qGifticon.brand, qBrand)
+			.join(qGifticon.user, qUser)
+			.join(qGifticon.sharebox, qShareBox)
+			.leftJoin(qFile).on(thumbnailJoinCondition(qFile, qGifticon))
 			.where(
 				qGifticon.sharebox.id.eq(shareBoxId),
 				qGifticon.isDeleted.eq(false),
@@ -157,25 +316,32 @@ public class GifticonRepositoryCustomImpl implements GifticonRepositoryCustom {
 		return new SliceImpl<>(gifticons, pageable, hasNext);
 	}
 
+	// 쉐어박스 내 사용완료 기프티콘 조회 (목록 컬럼과 썸네일 경로만 DTO로 조회)
 	@Override
-	public Slice<Gifticon> findUsedGifticonsByShareBoxId(
+	public Slice<UsedGifticonSummaryDto> findUsedGifticonsByShareBoxId(
 		Integer shareBoxId,
 		GifticonType type,
 		Pageable pageable) {
 
 		QGifticon qGifticon = QGifticon.gifticon;
 		QBrand qBrand = QBrand.brand;
-		QUser qUser = QUser.user;
-		QShareBox qShareBox = QShareBox.shareBox;
+		QFile qFile = QFile.file;
 
 		OrderSpecifier<LocalDateTime> orderBy = qGifticon.updatedAt.desc();
 
 		// 메인 쿼리 실행
-		List<Gifticon> gifticons = jpaQueryFactory
-			.selectFrom(qGifticon)
-			.join(qGifticon.brand, qBrand).fetchJoin()
-			.join(qGifticon.user, qUser).fetchJoin()
-			.join(qGifticon.sharebox, qShareBox).fetchJoin()
+		List<UsedGifticonSummaryDto> gifticons = jpaQueryFactory
+			.select(Projections.constructor(UsedGifticonSummaryDto.class,
+				qGifticon.id,
+				qGifticon.name,
+				qGifticon.type,
+				qGifticon.expiryDate,
+				qBrand.id,
+				qBrand.name,
+				qFile.path))
+			.from(qGifticon)
+			.join(qGifticon.brand, qBrand)
+			.leftJoin(qFile).on(thumbnailJoinCondition(qFile, qGifticon))
 			.where(
 				qGifticon.sharebox.id.eq(shareBoxId),
 				qGifticon.isDeleted.eq(false),
@@ -196,83 +362,75 @@ public class GifticonRepositoryCustomImpl implements GifticonRepositoryCustom {
 		return new SliceImpl<>(gifticons, pageable, hasNext);
 	}
 
-	// 쉐어박스 목록의 사용가능한 기프티콘 갯수 조회
+	// 조회 모델 재구성을 위한 사용가능 기프티콘 id 순 조회 (잠금 없이 읽음)
 	@Override
-	public Map<Integer, Long> countGifticonsByShareBoxIds(List<Integer> shareBoxIds) {
-		if (shareBoxIds.isEmpty()) {
-			return Collections.emptyMap();
-		}
-
+	public List<Gifticon> findAvailableGifticonsAfterId(int lastGifticonId, int size) {
 		QGifticon qGifticon = QGifticon.gifticon;
 
-		List<Tuple> results = jpaQueryFactory
-			.select(qGifticon.sharebox.id, qGifticon.count())
-			.from(qGifticon)
+		return jpaQueryFactory
+			.selectFrom(qGifticon)
 			.where(
-				qGifticon.sharebox.id.in(shareBoxIds),
-				qGifticon.isDeleted.eq(false),
-				qGifticon.isUsed.eq(false)
+				qGifticon.isUsed.eq(false),
+				qGifticon.id.gt(lastGifticonId)
 			)
-			.groupBy(qGifticon.sharebox.id)
+			.orderBy(qGifticon.id.asc())
+			.limit(size)
 			.fetch();
-
-		return results.stream()
-			.collect(Collectors.toMap(
-				tuple -> tuple.get(qGifticon.sharebox.id),
-				tuple -> tuple.get(qGifticon.count())
-			));
 	}
 
 	/**
-	 * 범위 타입에 따른 적절한 조건식 선택
+	 * 사용가능 기프티콘 목록 행 조회 쿼리
+	 * 목록 컬럼과 썸네일 경로만 DTO로 조회 (조건, 정렬은 호출부에서 추가)
 	 */
-	private BooleanExpression scopeCondition(GifticonScopeType scope, Integer userId, QGifticon qGifticon,
-		QParticipation qParticipation) {
-		if (scope == GifticonScopeType.ALL) {
-			return allScopeCondition(userId, qGifticon, qParticipation);
-		} else if (scope == GifticonScopeType.MY_BOX) {
-			return myBoxScopeCondition(userId, qGifticon);
-		} else if (scope == GifticonScopeType.SHARE_BOX) {
-			return shareBoxScopeCondition(userId, qGifticon, qParticipation);
-		}
-		return null;
+	private JPAQuery<AvailableGifticonSummaryDto> selectAvailableSummaries(QGifticon qGifticon) {
+		QBrand qBrand = QBrand.brand;
+		QUser qUser = QUser.user;
+		QShareBox qShareBox = QShareBox.shareBox;
+		QFile qFile = QFile.file;
+
+		return jpaQueryFactory
+			.select(Projections.constructor(AvailableGifticonSummaryDto.class,
+				qGifticon.id,
+				qGifticon.name,
+				qGifticon.type,
+				qGifticon.expiryDate,
+				qGifticon.createdAt,
+				qBrand.id,
+				qBrand.name,
+				qUser.id,
+				qUser.name,
+				qShareBox.id,
+				qShareBox.name,
+				qFile.path))
+			.from(qGifticon)
+			.join(qGifticon.brand, qBrand)
+			.join(qGifticon.user, qUser)
+			.leftJoin(qGifticon.sharebox, qShareBox)
+			.leftJoin(qFile).on(thumbnailJoinCondition(qFile, qGifticon));
 	}
 
 	/**
-	 * 모든 범위(ALL) 조건 생성
+	 * 범위 타입에 따른 참여 정보 조건
 	 */
-	private BooleanExpression allScopeCondition(Integer userId, QGifticon qGifticon,
+	private BooleanExpression scopeCondition(GifticonScopeType scope, Integer userId, QGifticon qGifticon,
 		QParticipation qParticipation) {
+		if (scope == GifticonScopeType.MY_BOX) {
+			return qGifticon.sharebox.id.isNull().and(qGifticon.user.id.eq(userId));
+		}
+		if (scope == GifticonScopeType.SHARE_BOX) {
+			return qGifticon.sharebox.id.isNotNull().and(
+				qGifticon.user.id.eq(userId).or(existsParticipation(userId, qGifticon, qParticipation)));
+		}
+		// ALL
 		return qGifticon.user.id.eq(userId).or(
-			qGifticon.sharebox.id.isNotNull().and(
-				existsParticipation(userId, qGifticon, qParticipation)
-			)
-		);
-	}
-
-	/**
-	 * 내 보관함(MY_BOX) 조건 생성
-	 */
-	private BooleanExpression myBoxScopeCondition(Integer userId, QGifticon qGifticon) {
-		return qGifticon.sharebox.id.isNull().and(qGifticon.user.id.eq(userId));
+			qGifticon.sharebox.id.isNotNull().and(existsParticipation(userId, qGifticon, qParticipation)));
 	}
 
 	/**
-	 * 공유 보관함(SHARE_BOX) 조건 생성
+	 * 쉐어박스 참여 확인 서브쿼리
 	 */
-	private BooleanExpression shareBoxScopeCondition(Integer userId, QGifticon qGifticon,
+	private BooleanExpression existsParticipation(Integer userId, QGifticon qGifticon,
 		QParticipation qParticipation) {
-		return qGifticon.sharebox.id.isNotNull().and(
-			qGifticon.user.id.eq(userId).or(
-				existsParticipation(userId, qGifticon, qParticipation)
-			)
-		);
-	}
-
-	/**
-	 * 공유박스 참여 확인 서브쿼리
-	 */
-	private BooleanExpression existsParticipation(Integer userId, QGifticon qGifticon, QParticipation qParticipation) {
 		return JPAExpressions
 			.selectOne()
 			.from(qParticipation)
@@ -284,43 +442,74 @@ public class GifticonRepositoryCustomImpl implements GifticonRepositoryCustom {
 	}
 
 	/**
-	 * 이전 상태에 따른 usageType 표현식 생성
-	 * UsedGifticonResponseDto의 생성자에서 문자열을 받아 Enum으로 변환하므로 문자열 반환
+	 * 기프티콘 기준 커서(keyset) 조건
+	 * 정렬 키 (createdAt, id) 또는 (expiryDate, id) 기준으로 마지막 행 이후만 조회
 	 */
-	private StringExpression createTransferTypeExpression(QGifticonOwnerHistory qOwnerHistory) {
-		return new CaseBuilder()
-			.when(qOwnerHistory.id.isNotNull().and(qOwnerHistory.transferType.eq(TransferType.GIVE_AWAY)))
-			.then("GIVE_AWAY")
-			.when(qOwnerHistory.id.isNotNull().and(qOwnerHistory.transferType.eq(TransferType.PRESENT)))
-			.then("PRESENT")
-			.otherwise("SELF_USE");
+	private BooleanExpression cursorCondition(GifticonCursor cursor, QGifticon qGifticon) {
+		if (cursor == null) {
+			return null;
+		}
+
+		if (cursor.getSortType() == GifticonSortType.EXPIRY_ASC) {
+			return qGifticon.expiryDate.gt(cursor.getExpiryDate())
+				.or(qGifticon.expiryDate.eq(cursor.getExpiryDate())
+					.and(qGifticon.id.gt(cursor.getId())));
+		}
+
+		return qGifticon.createdAt.lt(cursor.getCreatedAt())
+			.or(qGifticon.createdAt.eq(cursor.getCreatedAt())
+				.and(qGifticon.id.lt(cursor.getId())));
 	}
 
 	/**
-	 * 사용 시간 표현식 생성
+	 * 조회 모델 범위 조건
+	 * ALL은 사용자의 모든 행이 대상이므로 조건 없음
 	 */
-	private DateTimeExpression<LocalDateTime> createUsedAtExpression(
-		QGifticonOwnerHistory qOwnerHistory, QUsageHistory qUsageHistory) {
-		return new CaseBuilder()
-			.when(qOwnerHistory.createdAt.isNotNull())
-			.then(qOwnerHistory.createdAt)
-			.otherwise(qUsageHistory.createdAt);
+	private BooleanExpression visibilityScopeCondition(GifticonScopeType scope, QGifticonVisibility qVisibility) {
+		if (scope == null || scope == GifticonScopeType.ALL) {
+			return null;
+		}
+		return qVisibility.scope.eq(scope);
 	}
 
 	/**
-	 * 사용된 기프티콘 조건 생성
+	 * 커서(keyset) 조건 생성
+	 * 정렬 키 (createdAt, id) 또는 (expiryDate, id) 기준으로 마지막 행 이후만 조회
 	 */
-	private BooleanExpression createUsedGifticonCondition(
-		Integer userId,
-		QGifticon qGifticon,
-		QGifticonOwnerHistory qOwnerHistory,
-		QUsageHistory qUsageHistory) {
-
-		return qOwnerHistory.id.isNotNull()
-			.or(qGifticon.user.id.eq(userId).and(qGifticon.isUsed.eq(true)))
-			.or(qGifticon.user.id.ne(userId)
-				.and(qGifticon.isUsed.eq(true))
-				.and(qUsageHistory.id.isNotNull()));
+	private BooleanExpression visibilityCursorCondition(GifticonCursor cursor, QGifticonVisibility qVisibility) {
+		if (cursor == null) {
+			return null;
+		}
+
+		if (cursor.getSortType() == GifticonSortType.EXPIRY_ASC) {
+			return qVisibility.expiryDate.gt(cursor.getExpiryDate())
+				.or(qVisibility.expiryDate.eq(cursor.getExpiryDate())
+					.and(qVisibility.gifticonId.gt(cursor.getId())));
+		}
+
+		return qVisibility.gifticonCreatedAt.lt(cursor.getCreatedAt())
+			.or(qVisibility.gifticonCreatedAt.eq(cursor.getCreatedAt())
+				.and(qVisibility.gifticonId.lt(cursor.getId())));
+	}
+
+	/**
+	 * 조회 모델 정렬 조건
+	 * 기프티콘 정렬 속성을 조회 모델 인덱스 컬럼 순서에 맞게 변환
+	 */
+	private OrderSpecifier<?>[] visibilityOrderSpecifiers(Sort sort, QGifticonVisibility qVisibility) {
+		if (sort != null && sort.getOrderFor("expiryDate") != null) {
+			return new OrderSpecifier<?>[] {qVisibility.expiryDate.asc(), qVisibility.gifticonId.asc()};
+		}
+		return new OrderSpecifier<?>[] {qVisibility.gifticonCreatedAt.desc(), qVisibility.gifticonId.desc()};
+	}
+
+	/**
+	 * 기프티콘 썸네일 파일 조인 조건
+	 */
+	private BooleanExpression thumbnailJoinCondition(QFile qFile, QGifticon qGifticon) {
+		return qFile.referenceEntityType.eq("gifticon")
+			.and(qFile.referenceEntityId.eq(qGifticon.id))
+			.and(qFile.type.eq(FileType.THUMBNAIL));
 	}
 
 	/**
@@ -0,0 +1,89 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.gifticon;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.springframework.data.domain.Sort;
+
+import com.eurachacha.achacha.application.port.output.gifticon.dto.AvailableGifticonSummaryDto;
+
+/**
+ * 이미 정렬된 여러 기프티콘 조회 결과를 하나의 정렬 결과로 병합 (k-way merge)
+ * 각 분기는 동일한 정렬 키로 정렬되어 있어야 하며, 필요한 개수만큼만 꺼내고 중단
+ */
+public class GifticonSortedMerger {
+
+	private GifticonSortedMerger() {
+	}
+
+	/**
+	 * 정렬 조건에 맞는 비교자 생성
+	 * 만료순이면 (expiryDate ASC, id ASC), 그 외에는 (createdAt DESC, id DESC)
+	 */
+	public static Comparator<AvailableGifticonSummaryDto> comparatorOf(Sort sort) {
+		if (sort != null && sort.getOrderFor("expiryDate") != null) {
+			return Comparator.comparing(AvailableGifticonSummaryDto::getGifticonExpiryDate)
+				.thenComparing(AvailableGifticonSummaryDto::getGifticonId);
+		}
+
+		return Comparator.comparing(AvailableGifticonSummaryDto::getGifticonCreatedAt, Comparator.reverseOrder())
+			.thenComparing(AvailableGifticonSummaryDto::getGifticonId, Comparator.reverseOrder());
+	}
+
+	/**
+	 * 정렬된 분기들을 병합하여 최대 limit 개 반환
+	 * 내 기프티콘이 참여 중인 쉐어박스에 공유된 경우 두 분기에 모두 나타나므로 id 기준으로 중복 제거
+	 */
+	public static List<AvailableGifticonSummaryDto> merge(List<List<AvailableGifticonSummaryDto>> branches,
+		Comparator<AvailableGifticonSummaryDto> comparator, int limit) {
+		PriorityQueue<BranchCursor> heap = new PriorityQueue<>(
+			Math.max(1, branches.size()), (a, b) -> comparator.compare(a.head, b.head));
+
+		for (List<AvailableGifticonSummaryDto> branch : branches) {
+			Iterator<AvailableGifticonSummaryDto> iterator = branch.iterator();
+			if (iterator.hasNext()) {
+				heap.add(new BranchCursor(iterator));
+			}
+		}
+
+		List<AvailableGifticonSummaryDto> merged = new ArrayList<>(limit);
+		Set<Integer> seenIds = new HashSet<>();
+
+		while (!heap.isEmpty() && merged.size() < limit) {
+			BranchCursor cursor = heap.poll();
+
+			if (seenIds.add(cursor.head.getGifticonId())) {
+				merged.add(cursor.head);
+			}
+
+			if (cursor.advance()) {
+				heap.add(cursor);
+			}
+		}
+
+		return merged;
+	}
+
+	private static class BranchCursor {
+		private final Iterator<AvailableGifticonSummaryDto> iterator;
+		private AvailableGifticonSummaryDto head;
+
+		private BranchCursor(Iterator<AvailableGifticonSummaryDto> iterator) {
+			this.iterator = iterator;
+			this.head = iterator.next();
+		}
+
+		private boolean advance() {
+			if (!iterator.hasNext()) {
+				return false;
+			}
+			head = iterator.next();
+			return true;
+		}
+	}
+}
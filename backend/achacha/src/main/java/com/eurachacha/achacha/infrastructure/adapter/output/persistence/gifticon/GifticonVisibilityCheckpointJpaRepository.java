@@ -0,0 +1,9 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.gifticon;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.eurachacha.achacha.domain.model.gifticon.GifticonVisibilityCheckpoint;
+
+public interface GifticonVisibilityCheckpointJpaRepository
+	extends JpaRepository<GifticonVisibilityCheckpoint, String> {
+}
@@ -0,0 +1,30 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.gifticon;
+
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.output.gifticon.GifticonVisibilityCheckpointRepository;
+import com.eurachacha.achacha.domain.model.gifticon.GifticonVisibilityCheckpoint;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class GifticonVisibilityCheckpointPersistenceAdapter implements GifticonVisibilityCheckpointRepository {
+
+	private final GifticonVisibilityCheckpointJpaRepository checkpointJpaRepository;
+
+	@Override
+	public GifticonVisibilityCheckpoint getOrCreate(String jobName) {
+		return checkpointJpaRepository.findById(jobName)
+			.orElseGet(() -> checkpointJpaRepository.save(GifticonVisibilityCheckpoint.builder()
+				.jobName(jobName)
+				.build()));
+	}
+
+	@Override
+	public boolean isCompleted(String jobName) {
+		return checkpointJpaRepository.findById(jobName)
+			.map(GifticonVisibilityCheckpoint::getIsCompleted)
+			.orElse(false);
+	}
+}
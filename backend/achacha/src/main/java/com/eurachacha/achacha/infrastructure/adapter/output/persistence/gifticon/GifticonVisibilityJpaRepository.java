@@ -0,0 +1,99 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.gifticon;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.eurachacha.achacha.domain.model.gifticon.GifticonVisibility;
+
+@Repository
+public interface GifticonVisibilityJpaRepository extends JpaRepository<GifticonVisibility, Integer> {
+	boolean existsByUserIdAndGifticonId(Integer userId, Integer gifticonId);
+
+	@Query("""
+		SELECT v FROM GifticonVisibility v
+		WHERE v.shareboxId = :shareBoxId
+		AND v.userId = v.ownerId
+		""")
+	List<GifticonVisibility> findOwnerRowsByShareboxId(@Param("shareBoxId") Integer shareBoxId);
+
+	// 사용가능한 기프티콘의 소유자, 쉐어박스 참여자 행만 남기고 삭제
+	@Modifying
+	@Query("""
+		DELETE FROM GifticonVisibility v
+		WHERE v.gifticonId IN :gifticonIds
+		AND NOT EXISTS (
+			SELECT 1 FROM Gifticon g
+			WHERE g.id = v.gifticonId
+			AND g.isUsed = false
+			AND g.isDeleted = false
+			AND (g.user.id = v.userId
+				OR EXISTS (
+					SELECT 1 FROM Participation p
+					WHERE p.sharebox.id = g.sharebox.id
+					AND p.user.id = v.userId
+				))
+		)
+		""")
+	void deleteStaleByGifticonIdIn(@Param("gifticonIds") List<Integer> gifticonIds);
+
+	@Modifying
+	@Query("""
+		UPDATE GifticonVisibility v
+		SET v.scope = com.eurachacha.achacha.domain.model.gifticon.enums.GifticonScopeType.MY_BOX,
+			v.shareboxId = NULL
+		WHERE v.shareboxId = :shareBoxId
+		AND v.userId = v.ownerId
+		""")
+	void moveOwnerRowsToMyBox(@Param("shareBoxId") Integer shareBoxId);
+
+	@Modifying
+	@Query("""
+		UPDATE GifticonVisibility v
+		SET v.scope = com.eurachacha.achacha.domain.model.gifticon.enums.GifticonScopeType.MY_BOX,
+			v.shareboxId = NULL
+		WHERE v.shareboxId = :shareBoxId
+		AND v.ownerId = :ownerId
+		AND v.userId = v.ownerId
+		""")
+	void moveOwnerRowsToMyBox(@Param("shareBoxId") Integer shareBoxId, @Param("ownerId") Integer ownerId);
+
+	@Modifying
+	@Query("""
+		DELETE FROM GifticonVisibility v
+		WHERE v.shareboxId = :shareBoxId
+		""")
+	void deleteByShareboxId(@Param("shareBoxId") Integer shareBoxId);
+
+	@Modifying
+	@Query("""
+		DELETE FROM GifticonVisibility v
+		WHERE v.shareboxId = :shareBoxId
+		AND v.userId = :userId
+		""")
+	void deleteByShareboxIdAndUserId(@Param("shareBoxId") Integer shareBoxId, @Param("userId") Integer userId);
+
+	@Modifying
+	@Query("""
+		DELETE FROM GifticonVisibility v
+		WHERE v.shareboxId = :shareBoxId
+		AND v.ownerId = :ownerId
+		""")
+	void deleteByShareboxIdAndOwnerId(@Param("shareBoxId") Integer shareBoxId, @Param("ownerId") Integer ownerId);
+
+	@Modifying
+	@Query("""
+		DELETE FROM GifticonVisibility v
+		WHERE NOT EXISTS (
+			SELECT 1 FROM Gifticon g
+			WHERE g.id = v.gifticonId
+			AND g.isUsed = false
+			AND g.isDeleted = false
+		)
+		""")
+	int deleteUnavailable();
+}
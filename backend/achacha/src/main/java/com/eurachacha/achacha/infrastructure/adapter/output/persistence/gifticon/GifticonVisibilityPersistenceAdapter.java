@@ -0,0 +1,100 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.gifticon;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.output.gifticon.GifticonVisibilityRepository;
+import com.eurachacha.achacha.domain.model.gifticon.GifticonVisibility;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class GifticonVisibilityPersistenceAdapter implements GifticonVisibilityRepository {
+
+	// 고유 키(gifticon_id, user_id) 충돌 시 기프티콘 상태 컬럼만 갱신
+	private static final String UPSERT_SQL = """
+		INSERT INTO user_gifticon_visibility
+			(user_id, gifticon_id, owner_id, sharebox_id, scope, gifticon_type, gifticon_created_at, expiry_date)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?) AS new
+		ON DUPLICATE KEY UPDATE
+			owner_id = new.owner_id,
+			sharebox_id = new.sharebox_id,
+			scope = new.scope,
+			gifticon_type = new.gifticon_type,
+			gifticon_created_at = new.gifticon_created_at,
+			expiry_date = new.expiry_date
+		""";
+
+	private final GifticonVisibilityJpaRepository gifticonVisibilityJpaRepository;
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void upsertAll(List<GifticonVisibility> visibilities) {
+		if (visibilities.isEmpty()) {
+			return;
+		}
+
+		jdbcTemplate.batchUpdate(UPSERT_SQL, visibilities, visibilities.size(), (ps, visibility) -> {
+			ps.setInt(1, visibility.getUserId());
+			ps.setInt(2, visibility.getGifticonId());
+			ps.setInt(3, visibility.getOwnerId());
+			ps.setObject(4, visibility.getShareboxId());
+			ps.setString(5, visibility.getScope().name());
+			ps.setString(6, visibility.getGifticonType() == null ? null : visibility.getGifticonType().name());
+			ps.setObject(7, visibility.getGifticonCreatedAt());
+			ps.setObject(8, visibility.getExpiryDate());
+		});
+	}
+
+	@Override
+	public boolean existsByUserIdAndGifticonId(Integer userId, Integer gifticonId) {
+		return gifticonVisibilityJpaRepository.existsByUserIdAndGifticonId(userId, gifticonId);
+	}
+
+	@Override
+	public List<GifticonVisibility> findOwnerRowsByShareBoxId(Integer shareBoxId) {
+		return gifticonVisibilityJpaRepository.findOwnerRowsByShareboxId(shareBoxId);
+	}
+
+	@Override
+	public void deleteStaleByGifticonIds(List<Integer> gifticonIds) {
+		if (gifticonIds.isEmpty()) {
+			return;
+		}
+
+		gifticonVisibilityJpaRepository.deleteStaleByGifticonIdIn(gifticonIds);
+	}
+
+	@Override
+	public void moveOwnerRowsToMyBox(Integer shareBoxId) {
+		gifticonVisibilityJpaRepository.moveOwnerRowsToMyBox(shareBoxId);
+	}
+
+	@Override
+	public void moveOwnerRowsToMyBox(Integer shareBoxId, Integer ownerId) {
+		gifticonVisibilityJpaRepository.moveOwnerRowsToMyBox(shareBoxId, ownerId);
+	}
+
+	@Override
+	public void deleteByShareBoxId(Integer shareBoxId) {
+		gifticonVisibilityJpaRepository.deleteByShareboxId(shareBoxId);
+	}
+
+	@Override
+	public void deleteByShareBoxIdAndUserId(Integer shareBoxId, Integer userId) {
+		gifticonVisibilityJpaRepository.deleteByShareboxIdAndUserId(shareBoxId, userId);
+	}
+
+	@Override
+	public void deleteByShareBoxIdAndOwnerId(Integer shareBoxId, Integer ownerId) {
+		gifticonVisibilityJpaRepository.deleteByShareboxIdAndOwnerId(shareBoxId, ownerId);
+	}
+
+	@Override
+	public int deleteUnavailable() {
+		return gifticonVisibilityJpaRepository.deleteUnavailable();
+	}
+}
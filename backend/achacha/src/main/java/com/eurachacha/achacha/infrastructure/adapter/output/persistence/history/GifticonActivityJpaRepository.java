@@ -0,0 +1,38 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.history;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.eurachacha.achacha.domain.model.history.GifticonActivity;
+import com.eurachacha.achacha.domain.model.history.enums.UsageType;
+
+@Repository
+public interface GifticonActivityJpaRepository extends JpaRepository<GifticonActivity, Integer> {
+	Optional<GifticonActivity> findByUserIdAndGifticonId(Integer userId, Integer gifticonId);
+
+	// 유니크 키(user_id, gifticon_id) 기준 upsert
+	@Modifying
+	@Query(value = """
+		INSERT INTO user_gifticon_activity (user_id, gifticon_id, usage_type, used_at)
+		VALUES (:userId, :gifticonId, :usageType, :usedAt) AS new
+		ON DUPLICATE KEY UPDATE usage_type = new.usage_type, used_at = new.used_at
+		""", nativeQuery = true)
+	void upsert(@Param("userId") Integer userId, @Param("gifticonId") Integer gifticonId,
+		@Param("usageType") String usageType, @Param("usedAt") LocalDateTime usedAt);
+
+	@Modifying
+	@Query("""
+		DELETE FROM GifticonActivity a
+		WHERE a.userId = :userId
+		AND a.gifticonId = :gifticonId
+		AND a.usageType = :usageType
+		""")
+	void deleteByUserIdAndGifticonIdAndUsageType(@Param("userId") Integer userId,
+		@Param("gifticonId") Integer gifticonId, @Param("usageType") UsageType usageType);
+}
@@ -0,0 +1,34 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.history;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.eurachacha.achacha.application.port.output.history.GifticonActivityRepository;
+import com.eurachacha.achacha.domain.model.history.GifticonActivity;
+import com.eurachacha.achacha.domain.model.history.enums.UsageType;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class GifticonActivityPersistenceAdapter implements GifticonActivityRepository {
+
+	private final GifticonActivityJpaRepository gifticonActivityJpaRepository;
+
+	@Override
+	public void record(Integer userId, Integer gifticonId, UsageType usageType, LocalDateTime usedAt) {
+		gifticonActivityJpaRepository.upsert(userId, gifticonId, usageType.name(), usedAt);
+	}
+
+	@Override
+	public Optional<GifticonActivity> findByUserIdAndGifticonId(Integer userId, Integer gifticonId) {
+		return gifticonActivityJpaRepository.findByUserIdAndGifticonId(userId, gifticonId);
+	}
+
+	@Override
+	public void deleteByUserIdAndGifticonIdAndUsageType(Integer userId, Integer gifticonId, UsageType usageType) {
+		gifticonActivityJpaRepository.deleteByUserIdAndGifticonIdAndUsageType(userId, gifticonId, usageType);
+	}
+}
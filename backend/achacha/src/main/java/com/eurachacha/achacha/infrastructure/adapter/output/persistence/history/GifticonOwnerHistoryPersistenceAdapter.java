@@ -1,7 +1,5 @@
 package com.eurachacha.achacha.infrastructure.adapter.output.persistence.history;
 
-import java.util.List;
-
 import org.springframework.stereotype.Component;
 
 import com.eurachacha.achacha.application.port.output.history.GifticonOwnerHistoryRepository;
@@ -16,23 +14,11 @@ public class GifticonOwnerHistoryPersistenceAdapter implements GifticonOwnerHist
 
 	private final GifticonOwnerHistoryJpaRepository gifticonOwnerHistoryJpaRepository;
 
-	@Override
-	public GifticonOwnerHistory getGifticonOwnerHistoryDetail(Integer userId, Integer gifticonId) {
-		return gifticonOwnerHistoryJpaRepository.findOwnerHistoryDetailByUserIdAndGifticonId(userId, gifticonId);
-	}
-
 	@Override
 	public GifticonOwnerHistory save(GifticonOwnerHistory gifticonOwnerHistory) {
 		return gifticonOwnerHistoryJpaRepository.save(gifticonOwnerHistory);
 	}
 
-	@Override
-	public List<GifticonOwnerHistory> findLatestForEachGifticonByIdsAndFromUserId(List<Integer> ids,
-		Integer fromUserId) {
-		return gifticonOwnerHistoryJpaRepository.findLatestForEachGifticonByIdsAndFromUserId(ids,
-			fromUserId);
-	}
-
 	@Override
 	public void deleteByGifticonIdAndTransferType(Integer gifticonId, TransferType transferType) {
 		gifticonOwnerHistoryJpaRepository.deleteByGifticonIdAndTransferType(gifticonId, transferType);
@@ -1,5 +1,6 @@
 package com.eurachacha.achacha.infrastructure.adapter.output.persistence.history;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.springframework.stereotype.Component;
@@ -44,7 +45,10 @@ public class UsageHistoryPersistenceAdapter implements UsageHistoryRepository {
 	}
 
 	@Override
-	public List<UsageHistory> findLatestForEachGifticonByIdsAndUserId(List<Integer> ids, Integer userId) {
-		return usageHistoryJpaRepository.findLatestForEachGifticonByIdsAndUserId(ids, userId);
+	public List<UsageHistory> findLatestForEachGifticonByIds(List<Integer> ids) {
+		if (ids.isEmpty()) {
+			return Collections.emptyList();
+		}
+		return usageHistoryJpaRepository.findLatestForEachGifticonByIds(ids);
 	}
 }
@@ -31,6 +31,12 @@ public interface ParticipationJpaRepository extends JpaRepository<Participation,
 		""")
 	List<Participation> findAllByUserId(@Param("userId") Integer userId);
 
+	@Query("""
+		SELECT p FROM Participation p
+		WHERE p.sharebox.id IN :shareBoxIds
+		""")
+	List<Participation> findAllByShareboxIdIn(@Param("shareBoxIds") List<Integer> shareBoxIds);
+
 	@Modifying
 	@Query("""
 		DELETE FROM Participation p
@@ -49,4 +49,13 @@ public class ParticipationPersistenceAdapter implements ParticipationRepository
 	public List<Participation> findAllByUserId(Integer userId) {
 		return participationJpaRepository.findAllByUserId(userId);
 	}
+
+	@Override
+	public List<Participation> findAllByShareBoxIds(List<Integer> shareBoxIds) {
+		if (shareBoxIds.isEmpty()) {
+			return List.of();
+		}
+
+		return participationJpaRepository.findAllByShareboxIdIn(shareBoxIds);
+	}
 }
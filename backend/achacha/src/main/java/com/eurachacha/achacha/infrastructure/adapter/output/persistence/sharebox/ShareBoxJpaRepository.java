@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -30,4 +31,35 @@ public interface ShareBoxJpaRepository extends JpaRepository<ShareBox, Integer>,
 		WHERE p.sharebox.id = :shareBoxId
 		""")
 	List<Participation> findParticipationsByShareBoxId(@Param("shareBoxId") Integer shareBoxId);
+
+	// 보정 전 값이 실제보다 작더라도 음수가 되지 않도록 0에서 멈춤
+	@Modifying
+	@Query("""
+		UPDATE ShareBox s
+		SET s.gifticonCount = CASE
+			WHEN s.gifticonCount + :delta < 0 THEN 0
+			ELSE s.gifticonCount + :delta
+		END
+		WHERE s.id = :shareBoxId
+		""")
+	void addGifticonCount(@Param("shareBoxId") Integer shareBoxId, @Param("delta") long delta);
+
+	// 실제 사용가능 기프티콘 수와 다른 쉐어박스만 보정
+	@Modifying
+	@Query("""
+		UPDATE ShareBox s
+		SET s.gifticonCount = (
+			SELECT COUNT(g) FROM Gifticon g
+			WHERE g.sharebox.id = s.id
+			AND g.isDeleted = false
+			AND g.isUsed = false
+		)
+		WHERE s.gifticonCount <> (
+			SELECT COUNT(g) FROM Gifticon g
+			WHERE g.sharebox.id = s.id
+			AND g.isDeleted = false
+			AND g.isUsed = false
+		)
+		""")
+	int syncGifticonCounts();
 }
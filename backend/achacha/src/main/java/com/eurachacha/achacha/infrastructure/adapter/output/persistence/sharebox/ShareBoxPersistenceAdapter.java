@@ -53,4 +53,14 @@ public class ShareBoxPersistenceAdapter implements ShareBoxRepository {
 	public void delete(ShareBox shareBox) {
 		shareBoxJpaRepository.delete(shareBox);
 	}
+
+	@Override
+	public void addGifticonCount(Integer shareBoxId, long delta) {
+		shareBoxJpaRepository.addGifticonCount(shareBoxId, delta);
+	}
+
+	@Override
+	public int syncGifticonCounts() {
+		return shareBoxJpaRepository.syncGifticonCounts();
+	}
 }
@@ -1,18 +1,47 @@
 package com.eurachacha.achacha.infrastructure.adapter.output.storage;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.eurachacha.achacha.application.port.output.file.FileStoragePort;
+import com.eurachacha.achacha.application.port.output.file.dto.GeneratedImageDto;
+import com.eurachacha.achacha.application.port.output.file.dto.SignedCookieDto;
+import com.eurachacha.achacha.application.port.output.file.dto.StagedFileDto;
 import com.eurachacha.achacha.domain.model.file.enums.FileType;
 import com.eurachacha.achacha.infrastructure.config.AwsCloudFrontProperties;
 import com.eurachacha.achacha.infrastructure.config.AwsS3Properties;
@@ -20,43 +49,150 @@ import com.eurachacha.achacha.infrastructure.util.CloudFrontSigner;
 import com.eurachacha.achacha.web.common.exception.CustomException;
 import com.eurachacha.achacha.web.common.exception.ErrorCode;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class S3StorageAdapter implements FileStoragePort {
 
 	private final AmazonS3 amazonS3;
 	private final CloudFrontSigner cloudFrontSigner;
 	private final AwsS3Properties awsS3Properties;
 	private final AwsCloudFrontProperties cloudFrontProperties;
+	private final Executor s3UploadTaskExecutor;
 
 	// 기본 만료 시간 설정 (5분)
 	private static final long DEFAULT_EXPIRATION_TIME = 300000L;
+	// 서명 쿠키 기본 만료 시간
+	private static final Duration DEFAULT_COOKIE_EXPIRATION = Duration.ofHours(24);
+	// 내용 해시 계산 시 읽기 버퍼 크기
+	private static final int HASH_BUFFER_SIZE = 8192;
+	// 업로드용 로컬 임시 파일 접두사
+	private static final String UPLOAD_TEMP_FILE_PREFIX = "s3-upload-";
+	// 확정 전 임시 업로드 경로
+	private static final String STAGING_PREFIX = "staging/";
+	// 동시 업로드 기본 제한 시간
+	private static final Duration DEFAULT_UPLOAD_TIMEOUT = Duration.ofSeconds(10);
+	// 서명 쿠키로 제공하는 파일 타입 (사용자별 경로에 저장)
+	private static final FileType COOKIE_DELIVERY_TYPE = FileType.THUMBNAIL;
+
+	public S3StorageAdapter(AmazonS3 amazonS3, CloudFrontSigner cloudFrontSigner, AwsS3Properties awsS3Properties,
+		AwsCloudFrontProperties cloudFrontProperties, @Qualifier("s3UploadTaskExecutor") Executor s3UploadTaskExecutor) {
+		this.amazonS3 = amazonS3;
+		this.cloudFrontSigner = cloudFrontSigner;
+		this.awsS3Properties = awsS3Properties;
+		this.cloudFrontProperties = cloudFrontProperties;
+		this.s3UploadTaskExecutor = s3UploadTaskExecutor;
+	}
 
 	@Override
 	public String uploadFile(MultipartFile file, FileType fileType, Integer entityId) {
+		// 파일명만 생성 (경로 제외)
+		String fileName = entityId + "_" + UUID.randomUUID() + "." + getExtension(file.getOriginalFilename());
+		putObject(file, getStoragePath(fileName, fileType));
+		return fileName; // DB에는 파일명만 반환
+	}
+
+	@Override
+	public Map<FileType, StagedFileDto> stageFiles(Integer ownerId, Map<FileType, MultipartFile> files,
+		Map<FileType, GeneratedImageDto> generatedImages) {
+		Map<FileType, CompletableFuture<StagedFileDto>> uploads = new EnumMap<>(FileType.class);
 		try {
-			// 파일명만 생성 (경로 제외)
-			String fileName = entityId + "_" + UUID.randomUUID() + "." + getExtension(file.getOriginalFilename());
-			// S3에 업로드할 전체 경로 구성
-			String fullPath = fileType.getPathPrefix() + "/" + fileName;
+			files.forEach((fileType, file) -> uploads.put(fileType,
+				CompletableFuture.supplyAsync(() -> stageFile(file, fileType, ownerId), s3UploadTaskExecutor)));
+			generatedImages.forEach((fileType, image) -> uploads.put(fileType,
+				CompletableFuture.supplyAsync(() -> stageGeneratedImage(image, fileType, ownerId),
+					s3UploadTaskExecutor)));
+		} catch (RejectedExecutionException e) {
+			// 업로드 스레드 풀이 가득 차면 요청 스레드에서 업로드하지 않고 503 응답 (이미 맡긴 업로드는 끝나는 대로 삭제)
+			deleteStagedFiles(uploads);
+			throw e;
+		}
 
-			ObjectMetadata metadata = new ObjectMetadata();
-			metadata.setContentType(file.getContentType());
-			metadata.setContentLength(file.getSize());
+		Duration timeout = awsS3Properties.getUploadTimeout() != null
+			? awsS3Properties.getUploadTimeout() : DEFAULT_UPLOAD_TIMEOUT;
 
-			amazonS3.putObject(new PutObjectRequest(
-				awsS3Properties.getBucket(),
-				fullPath, // 전체 경로로 S3에 저장
-				file.getInputStream(),
-				metadata
-			).withCannedAcl(CannedAccessControlList.Private));
+		try {
+			// 전체 업로드에 하나의 제한 시간 적용
+			CompletableFuture.allOf(uploads.values().toArray(CompletableFuture[]::new))
+				.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			deleteStagedFiles(uploads);
+			throw new CustomException(ErrorCode.S3_UPLOAD_TIMEOUT);
+		} catch (ExecutionException e) {
+			deleteStagedFiles(uploads);
+			throw new CustomException(ErrorCode.S3_UPLOAD_ERROR);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			deleteStagedFiles(uploads);
+			throw new CustomException(ErrorCode.S3_UPLOAD_ERROR);
+		}
 
-			return fileName; // DB에는 파일명만 반환
-		} catch (IOException | AmazonS3Exception e) {
+		Map<FileType, StagedFileDto> stagedFiles = new EnumMap<>(FileType.class);
+		uploads.forEach((fileType, upload) -> stagedFiles.put(fileType, upload.join()));
+		return stagedFiles;
+	}
+
+	@Override
+	public String computeContentHash(MultipartFile file) {
+		try (InputStream inputStream = file.getInputStream()) {
+			return computeContentHash(inputStream);
+		} catch (IOException e) {
+			throw new CustomException(ErrorCode.FILE_PROCESSING_ERROR);
+		}
+	}
+
+	@Override
+	public void promoteStagedFile(String fileName, FileType fileType) {
+		String bucket = awsS3Properties.getBucket();
+		try {
+			// 같은 버킷 내 복사이므로 파일 내용이 서버를 거치지 않음 (재실행해도 결과 동일)
+			amazonS3.copyObject(bucket, getStagingPath(fileName, fileType), bucket, getStoragePath(fileName, fileType));
+		} catch (AmazonS3Exception e) {
 			throw new CustomException(ErrorCode.S3_UPLOAD_ERROR);
 		}
+
+		// 임시 파일 삭제는 응답을 기다리지 않음 (실패하거나 스레드 풀이 가득 차 거부되어도 스위퍼가 정리)
+		try {
+			CompletableFuture.runAsync(() -> deleteStagedFile(fileName, fileType), s3UploadTaskExecutor)
+				.exceptionally(e -> {
+					log.warn("임시 파일 삭제 실패: type={}, fileName={}", fileType, fileName);
+					return null;
+				});
+		} catch (RejectedExecutionException e) {
+			log.warn("임시 파일 삭제 거부: type={}, fileName={}", fileType, fileName);
+		}
+	}
+
+	@Override
+	public void deleteStagedFile(String fileName, FileType fileType) {
+		try {
+			amazonS3.deleteObject(awsS3Properties.getBucket(), getStagingPath(fileName, fileType));
+		} catch (AmazonS3Exception e) {
+			throw new CustomException(ErrorCode.S3_DELETE_ERROR);
+		}
+	}
+
+	@Override
+	public List<StagedFileDto> findStagedFilesBefore(LocalDateTime cutoff) {
+		Date cutoffDate = Date.from(cutoff.atZone(ZoneId.systemDefault()).toInstant());
+		ListObjectsV2Request request = new ListObjectsV2Request()
+			.withBucketName(awsS3Properties.getBucket())
+			.withPrefix(STAGING_PREFIX);
+
+		List<StagedFileDto> stagedFiles = new ArrayList<>();
+		ListObjectsV2Result result;
+		do {
+			result = amazonS3.listObjectsV2(request);
+			for (S3ObjectSummary summary : result.getObjectSummaries()) {
+				if (summary.getLastModified().before(cutoffDate)) {
+					toStagedFile(summary).ifPresent(stagedFiles::add);
+				}
+			}
+			request.setContinuationToken(result.getNextContinuationToken());
+		} while (result.isTruncated());
+
+		return stagedFiles;
 	}
 
 	@Override
@@ -71,8 +207,7 @@ public class S3StorageAdapter implements FileStoragePort {
 		}
 
 		try {
-			String fullPath = fileType.getPathPrefix() + "/" + fileName;
-			String resourceUrl = "https://" + cloudFrontProperties.getDomain() + "/" + fullPath;
+			String resourceUrl = getResourceUrl(fileName, fileType);
 			Date expirationDate = new Date(System.currentTimeMillis() + expirationTimeInMillis);
 
 			return cloudFrontSigner.generateSignedUrl(resourceUrl, expirationDate);
@@ -81,6 +216,101 @@ public class S3StorageAdapter implements FileStoragePort {
 		}
 	}
 
+	@Override
+	public Map<FileType, String> generateFileUrls(Map<FileType, String> fileNames) {
+		Map<FileType, String> signedUrls = new EnumMap<>(FileType.class);
+		if (fileNames.isEmpty()) {
+			return signedUrls;
+		}
+
+		List<FileType> fileTypes = new ArrayList<>();
+		List<String> resourceUrls = new ArrayList<>();
+		for (Map.Entry<FileType, String> entry : fileNames.entrySet()) {
+			String fileName = entry.getValue();
+			if (fileName == null || fileName.isEmpty()) {
+				throw new CustomException(ErrorCode.INVALID_PARAMETER);
+			}
+
+			fileTypes.add(entry.getKey());
+			resourceUrls.add(getResourceUrl(fileName, entry.getKey()));
+		}
+
+		// 같은 만료 시간으로 한 번에 서명
+		Date expirationDate = new Date(System.currentTimeMillis() + DEFAULT_EXPIRATION_TIME);
+		List<String> urls = cloudFrontSigner.generateSignedUrls(resourceUrls, expirationDate);
+
+		for (int i = 0; i < fileTypes.size(); i++) {
+			signedUrls.put(fileTypes.get(i), urls.get(i));
+		}
+		return signedUrls;
+	}
+
+	@Override
+	public List<String> generateFileUrls(List<String> fileNames, FileType fileType, Integer viewerId) {
+		boolean cookieDelivery = isCookieDelivery(fileType);
+		List<String> urls = new ArrayList<>(fileNames.size());
+		List<Integer> signIndexes = new ArrayList<>();
+		List<String> signResourceUrls = new ArrayList<>();
+		for (String fileName : fileNames) {
+			if (fileName == null || fileName.isEmpty()) {
+				throw new CustomException(ErrorCode.INVALID_PARAMETER);
+			}
+
+			// 조회자의 쿠키 범위 안의 파일은 서명 없는 고정 URL (클라이언트 이미지 캐시 적중)
+			// 쉐어박스로 공유된 다른 사용자의 파일과 사용자 경로가 없는 기존 파일은 URL마다 서명
+			String resourceUrl = getResourceUrl(fileName, fileType);
+			if (!cookieDelivery || !isOwnedBy(fileName, viewerId)) {
+				signIndexes.add(urls.size());
+				signResourceUrls.add(resourceUrl);
+			}
+			urls.add(resourceUrl);
+		}
+
+		if (signResourceUrls.isEmpty()) {
+			return urls;
+		}
+
+		List<String> signedUrls;
+		try {
+			Date expirationDate = new Date(System.currentTimeMillis() + DEFAULT_EXPIRATION_TIME);
+			signedUrls = cloudFrontSigner.generateSignedUrls(signResourceUrls, expirationDate);
+		} catch (Exception e) {
+			throw new CustomException(ErrorCode.CLOUDFRONT_URL_GENERATION_ERROR);
+		}
+
+		for (int i = 0; i < signIndexes.size(); i++) {
+			urls.set(signIndexes.get(i), signedUrls.get(i));
+		}
+		return urls;
+	}
+
+	@Override
+	public boolean isCookieDelivery(FileType fileType) {
+		return fileType == COOKIE_DELIVERY_TYPE && Boolean.TRUE.equals(cloudFrontProperties.getSignedCookieEnabled());
+	}
+
+	@Override
+	public SignedCookieDto generateSignedCookie(FileType fileType, Integer ownerId) {
+		if (fileType != COOKIE_DELIVERY_TYPE || ownerId == null) {
+			throw new CustomException(ErrorCode.INVALID_PARAMETER);
+		}
+
+		Duration expiration = cloudFrontProperties.getSignedCookieExpiration() != null
+			? cloudFrontProperties.getSignedCookieExpiration() : DEFAULT_COOKIE_EXPIRATION;
+		Date expirationDate = new Date(System.currentTimeMillis() + expiration.toMillis());
+
+		// 소유자 경로에 대한 custom policy (다른 사용자의 파일은 쿠키로 접근 불가)
+		String resourcePattern = "https://" + cloudFrontProperties.getDomain() + "/"
+			+ getStoragePath(getOwnerPrefix(ownerId), fileType) + "*";
+
+		String cookieDomain = cloudFrontProperties.getSignedCookieDomain();
+		return SignedCookieDto.builder()
+			.cookies(cloudFrontSigner.generateSignedCookies(resourcePattern, expirationDate))
+			.cookieDomain(cookieDomain == null || cookieDomain.isEmpty() ? null : cookieDomain)
+			.expiresAt(LocalDateTime.ofInstant(expirationDate.toInstant(), ZoneId.systemDefault()))
+			.build();
+	}
+
 	@Override
 	public void deleteFile(String fileName, FileType fileType) {
 		if (fileName == null || fileName.isEmpty()) {
@@ -89,13 +319,165 @@ public class S3StorageAdapter implements FileStoragePort {
 
 		try {
 			// 파일명과 파일 타입으로 전체 경로 구성
-			String fullPath = fileType.getPathPrefix() + "/" + fileName;
-			amazonS3.deleteObject(awsS3Properties.getBucket(), fullPath);
+			amazonS3.deleteObject(awsS3Properties.getBucket(), getStoragePath(fileName, fileType));
 		} catch (AmazonS3Exception e) {
 			throw new CustomException(ErrorCode.S3_DELETE_ERROR);
 		}
 	}
 
+	private StagedFileDto stageFile(MultipartFile file, FileType fileType, Integer ownerId) {
+		// 확정 후에도 같은 파일명을 사용하므로 엔티티 id 없이 생성
+		String fileName = createStagedFileName(fileType, ownerId, getExtension(file.getOriginalFilename()));
+		String contentHash = putObject(file, getStagingPath(fileName, fileType));
+		return createStagedFile(fileName, fileType, contentHash);
+	}
+
+	private StagedFileDto stageGeneratedImage(GeneratedImageDto image, FileType fileType, Integer ownerId) {
+		String fileName = createStagedFileName(fileType, ownerId, image.getExtension());
+
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setContentType(image.getContentType());
+		metadata.setContentLength(image.getContent().length);
+
+		try {
+			amazonS3.putObject(new PutObjectRequest(
+				awsS3Properties.getBucket(),
+				getStagingPath(fileName, fileType),
+				new ByteArrayInputStream(image.getContent()),
+				metadata
+			).withCannedAcl(CannedAccessControlList.Private));
+		} catch (AmazonS3Exception e) {
+			throw new CustomException(ErrorCode.S3_UPLOAD_ERROR);
+		}
+		return createStagedFile(fileName, fileType, computeContentHash(image.getContent()));
+	}
+
+	// 서명 쿠키로 제공되는 타입은 쿠키 정책을 소유자 경로로 한정할 수 있도록 {ownerId}/{uuid}.{확장자}
+	private String createStagedFileName(FileType fileType, Integer ownerId, String extension) {
+		String fileName = UUID.randomUUID() + "." + extension;
+		return fileType == COOKIE_DELIVERY_TYPE && ownerId != null ? getOwnerPrefix(ownerId) + fileName : fileName;
+	}
+
+	private String getOwnerPrefix(Integer ownerId) {
+		return ownerId + "/";
+	}
+
+	private boolean isOwnedBy(String fileName, Integer viewerId) {
+		return viewerId != null && fileName.startsWith(getOwnerPrefix(viewerId));
+	}
+
+	private StagedFileDto createStagedFile(String fileName, FileType fileType, String contentHash) {
+		return StagedFileDto.builder()
+			.fileName(fileName)
+			.fileType(fileType)
+			.contentHash(contentHash)
+			.build();
+	}
+
+	/**
+	 * 파일 기반 업로드 후 내용 해시 반환
+	 *  - 디스크에 기록된 multipart 파트를 임시 파일로 이동 (같은 파일 시스템이면 복사 없이 이름만 변경)
+	 *  - SDK는 파일에서 일정 크기씩 읽어 전송하고 재시도 시 파일을 다시 읽으므로, 스트림 재전송용 메모리 버퍼가 필요 없음
+	 *  - 해시는 전송 전에 임시 파일을 버퍼 단위로 읽어 계산 (전송 스트림에서 계산하면 SDK 재시도 시 값이 틀어짐)
+	 */
+	private String putObject(MultipartFile file, String fullPath) {
+		File tempFile = null;
+		try {
+			tempFile = Files.createTempFile(UPLOAD_TEMP_FILE_PREFIX, null).toFile();
+			file.transferTo(tempFile);
+
+			String contentHash;
+			try (InputStream inputStream = Files.newInputStream(tempFile.toPath())) {
+				contentHash = computeContentHash(inputStream);
+			}
+
+			ObjectMetadata metadata = new ObjectMetadata();
+			metadata.setContentType(file.getContentType());
+
+			amazonS3.putObject(new PutObjectRequest(
+				awsS3Properties.getBucket(),
+				fullPath, // 전체 경로로 S3에 저장
+				tempFile
+			).withMetadata(metadata).withCannedAcl(CannedAccessControlList.Private));
+			return contentHash;
+		} catch (IOException | AmazonS3Exception e) {
+			throw new CustomException(ErrorCode.S3_UPLOAD_ERROR);
+		} finally {
+			deleteTempFile(tempFile);
+		}
+	}
+
+	private void deleteTempFile(File tempFile) {
+		if (tempFile == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(tempFile.toPath());
+		} catch (IOException e) {
+			log.warn("업로드 임시 파일 삭제 실패: {}", tempFile);
+		}
+	}
+
+	// 성공한 임시 업로드 삭제 (아직 진행 중인 업로드는 완료되는 시점에 삭제)
+	private void deleteStagedFiles(Map<FileType, CompletableFuture<StagedFileDto>> uploads) {
+		uploads.forEach((fileType, upload) -> upload.thenAccept(stagedFile -> {
+			try {
+				deleteStagedFile(stagedFile.getFileName(), fileType);
+			} catch (CustomException e) {
+				log.warn("업로드 실패 후 임시 파일 삭제 실패: type={}, fileName={}", fileType, stagedFile.getFileName());
+			}
+		}));
+	}
+
+	// SHA-256 16진수 문자열 (버퍼 단위로 읽어 파일 전체를 메모리에 올리지 않음)
+	private String computeContentHash(InputStream inputStream) throws IOException {
+		MessageDigest digest = createContentDigest();
+		byte[] buffer = new byte[HASH_BUFFER_SIZE];
+		int read;
+		while ((read = inputStream.read(buffer)) != -1) {
+			digest.update(buffer, 0, read);
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private String computeContentHash(byte[] content) {
+		return HexFormat.of().formatHex(createContentDigest().digest(content));
+	}
+
+	private MessageDigest createContentDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new CustomException(ErrorCode.FILE_PROCESSING_ERROR);
+		}
+	}
+
+	// staging/{타입 경로}/{파일명} 형식의 키를 파일 정보로 변환 (파일명에 소유자 경로 포함)
+	private Optional<StagedFileDto> toStagedFile(S3ObjectSummary summary) {
+		String path = summary.getKey().substring(STAGING_PREFIX.length());
+		return Arrays.stream(FileType.values())
+			.filter(fileType -> path.startsWith(fileType.getPathPrefix() + "/")
+				&& path.length() > fileType.getPathPrefix().length() + 1)
+			.findFirst()
+			.map(fileType -> StagedFileDto.builder()
+				.fileName(path.substring(fileType.getPathPrefix().length() + 1))
+				.fileType(fileType)
+				.lastModified(LocalDateTime.ofInstant(summary.getLastModified().toInstant(), ZoneId.systemDefault()))
+				.build());
+	}
+
+	private String getStoragePath(String fileName, FileType fileType) {
+		return fileType.getPathPrefix() + "/" + fileName;
+	}
+
+	private String getStagingPath(String fileName, FileType fileType) {
+		return STAGING_PREFIX + getStoragePath(fileName, fileType);
+	}
+
+	private String getResourceUrl(String fileName, FileType fileType) {
+		return "https://" + cloudFrontProperties.getDomain() + "/" + getStoragePath(fileName, fileType);
+	}
+
 	private String getExtension(String filename) {
 		if (filename == null || filename.lastIndexOf(".") == -1) {
 			return "jpg";
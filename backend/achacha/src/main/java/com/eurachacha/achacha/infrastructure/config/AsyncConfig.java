@@ -1,6 +1,7 @@
 package com.eurachacha.achacha.infrastructure.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,4 +28,57 @@ public class AsyncConfig {
 		executor.initialize();
 		return executor;
 	}
+
+	@Bean(name = "s3UploadTaskExecutor")
+	public Executor s3UploadTaskExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+		int coreCount = Runtime.getRuntime().availableProcessors();
+
+		// 업로드 요청마다 파일 수만큼 작업이 생기므로 I/O 바운드 기준으로 설정하되 상한을 둠
+		executor.setCorePoolSize(coreCount * 4);
+		executor.setMaxPoolSize(coreCount * 8);
+		executor.setQueueCapacity(200);
+		// 풀과 큐가 가득 차면 거부 (요청 스레드에서 직접 업로드하지 않도록 503 응답으로 변환)
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+		executor.setThreadNamePrefix("s3-upload-");
+		executor.initialize();
+		return executor;
+	}
+
+	@Bean(name = "imageProcessingTaskExecutor")
+	public Executor imageProcessingTaskExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+		int coreCount = Runtime.getRuntime().availableProcessors();
+
+		// 이미지 디코딩은 CPU 바운드이므로 코어 수로 제한
+		executor.setCorePoolSize(coreCount);
+		executor.setMaxPoolSize(coreCount);
+		executor.setQueueCapacity(100);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+		executor.setThreadNamePrefix("image-processing-");
+		executor.initialize();
+		return executor;
+	}
+
+	@Bean(name = "extractionTaskExecutor")
+	public Executor extractionTaskExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+		int coreCount = Runtime.getRuntime().availableProcessors();
+
+		// OCR, AI 응답 대기가 대부분인 I/O 바운드 작업 (외부 API 커넥션 풀 크기와 비슷한 수준으로 설정)
+		executor.setCorePoolSize(Math.max(20, coreCount * 4));
+		executor.setMaxPoolSize(Math.max(40, coreCount * 8));
+		executor.setQueueCapacity(200);
+		// 풀과 큐가 가득 차면 거부 (요청 스레드에서 OCR, AI 호출을 대기하지 않도록 503 응답으로 변환)
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+		executor.setThreadNamePrefix("extraction-");
+		executor.initialize();
+		return executor;
+	}
 }
@@ -1,5 +1,7 @@
 package com.eurachacha.achacha.infrastructure.config;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import lombok.Getter;
@@ -12,4 +14,9 @@ public class AwsCloudFrontProperties {
 	private final String domain;
 	private final String keypairId;
 	private final String privateKey;
+	// 썸네일을 서명 쿠키로 제공할지 여부 (false면 URL마다 서명)
+	private final Boolean signedCookieEnabled;
+	// 서명 쿠키 도메인 (API와 CloudFront가 같은 상위 도메인을 쓸 때 설정)
+	private final String signedCookieDomain;
+	private final Duration signedCookieExpiration;
 }
@@ -1,5 +1,7 @@
 package com.eurachacha.achacha.infrastructure.config;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import lombok.Getter;
@@ -10,4 +12,6 @@ import lombok.RequiredArgsConstructor;
 @Getter
 public class AwsS3Properties {
 	private final String bucket;
+	// 여러 파일 동시 업로드 시 전체 제한 시간
+	private final Duration uploadTimeout;
 }
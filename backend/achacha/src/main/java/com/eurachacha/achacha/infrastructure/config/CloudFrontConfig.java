@@ -9,6 +9,7 @@ import com.eurachacha.achacha.infrastructure.util.CloudFrontSigner;
 import com.eurachacha.achacha.web.common.exception.CustomException;
 import com.eurachacha.achacha.web.common.exception.ErrorCode;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -16,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 public class CloudFrontConfig {
 
 	private final AwsCloudFrontProperties cloudFrontProperties;
+	private final MeterRegistry meterRegistry;
 
 	@Bean
 	public CloudFrontSigner cloudFrontSigner() {
@@ -28,7 +30,8 @@ public class CloudFrontConfig {
 			byte[] privateKeyBytes = Base64.getDecoder().decode(cloudFrontProperties.getPrivateKey());
 			return new CloudFrontSigner(
 				cloudFrontProperties.getKeypairId(),
-				privateKeyBytes
+				privateKeyBytes,
+				meterRegistry
 			);
 		} catch (Exception e) {
 			throw new CustomException(ErrorCode.CLOUDFRONT_PRIVATE_KEY_ERROR);
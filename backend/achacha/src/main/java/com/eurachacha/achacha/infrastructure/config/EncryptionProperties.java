@@ -10,5 +10,8 @@ import lombok.RequiredArgsConstructor;
 @Getter
 public class EncryptionProperties {
 	private final String key;
-
+	// 바코드 지문(HMAC) 키, 없으면 암호화 키에서 파생
+	private final String fingerprintKey;
+	// 키 교체 시 기존 바코드 복호화에 사용하는 이전 키
+	private final String previousKey;
 }
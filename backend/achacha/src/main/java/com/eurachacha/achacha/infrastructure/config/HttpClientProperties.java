@@ -0,0 +1,30 @@
+package com.eurachacha.achacha.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 외부 API별 HTTP 클라이언트 설정 (커넥션 풀, 타임아웃)
+@ConfigurationProperties(prefix = "http-client")
+@RequiredArgsConstructor
+@Getter
+public class HttpClientProperties {
+	private final Upstream clovaOcr;
+	private final Upstream aiService;
+	private final Upstream kakao;
+
+	@RequiredArgsConstructor
+	@Getter
+	public static class Upstream {
+		// 풀 최대 커넥션 수 (외부 API당 동시 호출 상한)
+		private final Integer maxConnections;
+		private final Duration connectTimeout;
+		// 응답 대기 제한 시간
+		private final Duration readTimeout;
+		// 풀에서 커넥션을 얻기까지 대기 제한 시간
+		private final Duration connectionRequestTimeout;
+	}
+}
@@ -13,6 +13,7 @@ import org.springframework.security.web.authentication.logout.LogoutFilter;
 import com.eurachacha.achacha.infrastructure.security.CustomLogoutFilter;
 import com.eurachacha.achacha.infrastructure.security.JwtAuthenticationFilter;
 import com.eurachacha.achacha.web.common.exception.FilterExceptionHandler;
+import com.eurachacha.achacha.web.common.filter.MultipartRequestSizeFilter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -36,6 +37,8 @@ public class SecurityConfig {
 			)
 			// 필터 예외 처리기 등록 (인증 필터보다 먼저 등록해야 함)
 			.addFilterBefore(new FilterExceptionHandler(), LogoutFilter.class)
+			// multipart 요청 크기 제한 (파싱 전에 거부해야 하므로 다른 필터보다 먼저 등록)
+			.addFilterBefore(new MultipartRequestSizeFilter(), LogoutFilter.class)
 			// 로그아웃 필터 등록
 			.addFilterAfter(customLogoutFilter, LogoutFilter.class)
 			// JWT 인증 필터 등록
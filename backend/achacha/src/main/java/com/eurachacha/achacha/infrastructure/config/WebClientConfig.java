@@ -1,14 +1,104 @@
 package com.eurachacha.achacha.infrastructure.config;
 
+import java.time.Duration;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import com.eurachacha.achacha.infrastructure.util.CircuitBreakerInterceptor;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 외부 API별 RestTemplate
+ *  - 외부 API마다 커넥션 풀을 따로 두어 한 곳이 느려져도 다른 API 호출에 영향이 없도록 함
+ *  - 풀이 가득 차면 커넥션 대기 제한 시간 후 실패하므로 요청 스레드가 무한정 쌓이지 않음
+ *  - 서킷 브레이커 상태와 호출 지표(http.client.requests)는 외부 API별로 집계
+ */
 @Configuration
+@RequiredArgsConstructor
 public class WebClientConfig {
 
-	@Bean
-	public RestTemplate restTemplate() {
-		return new RestTemplate();
+	// 설정이 없는 경우 기본값
+	private static final int DEFAULT_MAX_CONNECTIONS = 20;
+	private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(2);
+	private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(10);
+	private static final Duration DEFAULT_CONNECTION_REQUEST_TIMEOUT = Duration.ofSeconds(1);
+	// 유휴 커넥션 정리 주기 (서버가 먼저 끊은 커넥션 재사용 방지)
+	private static final TimeValue IDLE_CONNECTION_EVICTION = TimeValue.ofSeconds(30);
+
+	private final RestTemplateBuilder restTemplateBuilder;
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+	private final HttpClientProperties httpClientProperties;
+
+	@Bean(name = "clovaOcrRestTemplate")
+	public RestTemplate clovaOcrRestTemplate() {
+		return createRestTemplate("clovaOcr", httpClientProperties.getClovaOcr());
+	}
+
+	@Bean(name = "aiServiceRestTemplate")
+	public RestTemplate aiServiceRestTemplate() {
+		return createRestTemplate("aiService", httpClientProperties.getAiService());
+	}
+
+	@Bean(name = "kakaoRestTemplate")
+	public RestTemplate kakaoRestTemplate() {
+		return createRestTemplate("kakao", httpClientProperties.getKakao());
+	}
+
+	private RestTemplate createRestTemplate(String upstreamName, HttpClientProperties.Upstream upstream) {
+		CloseableHttpClient httpClient = createHttpClient(upstream);
+
+		return restTemplateBuilder
+			.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+			.additionalInterceptors(new CircuitBreakerInterceptor(circuitBreakerRegistry.circuitBreaker(upstreamName)))
+			.build();
+	}
+
+	private CloseableHttpClient createHttpClient(HttpClientProperties.Upstream upstream) {
+		int maxConnections = upstream != null && upstream.getMaxConnections() != null
+			? upstream.getMaxConnections() : DEFAULT_MAX_CONNECTIONS;
+		Duration connectTimeout = upstream != null && upstream.getConnectTimeout() != null
+			? upstream.getConnectTimeout() : DEFAULT_CONNECT_TIMEOUT;
+		Duration readTimeout = upstream != null && upstream.getReadTimeout() != null
+			? upstream.getReadTimeout() : DEFAULT_READ_TIMEOUT;
+		Duration connectionRequestTimeout = upstream != null && upstream.getConnectionRequestTimeout() != null
+			? upstream.getConnectionRequestTimeout() : DEFAULT_CONNECTION_REQUEST_TIMEOUT;
+
+		// 외부 API 하나만 호출하므로 라우트당 상한과 전체 상한을 같게 설정
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(maxConnections)
+			.setMaxConnPerRoute(maxConnections)
+			.setDefaultConnectionConfig(ConnectionConfig.custom()
+				.setConnectTimeout(toTimeout(connectTimeout))
+				.setSocketTimeout(toTimeout(readTimeout))
+				.build())
+			.build();
+
+		return HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.setDefaultRequestConfig(RequestConfig.custom()
+				.setConnectionRequestTimeout(toTimeout(connectionRequestTimeout))
+				.setResponseTimeout(toTimeout(readTimeout))
+				.build())
+			.evictExpiredConnections()
+			.evictIdleConnections(IDLE_CONNECTION_EVICTION)
+			.build();
+	}
+
+	private Timeout toTimeout(Duration duration) {
+		return Timeout.ofMilliseconds(duration.toMillis());
 	}
 }
@@ -0,0 +1,51 @@
+package com.eurachacha.achacha.infrastructure.util;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.HttpServerErrorException;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+/**
+ * 외부 API 호출을 서킷 브레이커로 감쌈
+ *  - 연결 실패, 타임아웃, 5xx 응답, 느린 호출을 실패로 기록 (4xx는 호출자 오류이므로 성공으로 기록)
+ *  - 서킷이 열려 있으면 호출하지 않고 IOException으로 즉시 실패하여, RestTemplate이 연결 실패(ResourceAccessException)로 변환
+ */
+public class CircuitBreakerInterceptor implements ClientHttpRequestInterceptor {
+
+	private final CircuitBreaker circuitBreaker;
+
+	public CircuitBreakerInterceptor(CircuitBreaker circuitBreaker) {
+		this.circuitBreaker = circuitBreaker;
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+		throws IOException {
+		if (!circuitBreaker.tryAcquirePermission()) {
+			throw new IOException("서킷 브레이커 열림: " + circuitBreaker.getName());
+		}
+
+		long start = System.nanoTime();
+		try {
+			ClientHttpResponse response = execution.execute(request, body);
+			long duration = System.nanoTime() - start;
+
+			if (response.getStatusCode().is5xxServerError()) {
+				circuitBreaker.onError(duration, TimeUnit.NANOSECONDS,
+					new HttpServerErrorException(response.getStatusCode()));
+			} else {
+				circuitBreaker.onSuccess(duration, TimeUnit.NANOSECONDS);
+			}
+			return response;
+		} catch (IOException | RuntimeException e) {
+			circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+			throw e;
+		}
+	}
+}
@@ -1,33 +1,136 @@
 package com.eurachacha.achacha.infrastructure.util;
 
+import java.nio.charset.StandardCharsets;
 import java.security.KeyFactory;
 import java.security.PrivateKey;
+import java.security.Signature;
 import java.security.spec.PKCS8EncodedKeySpec;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
-import com.amazonaws.services.cloudfront.CloudFrontUrlSigner;
 import com.eurachacha.achacha.web.common.exception.CustomException;
 import com.eurachacha.achacha.web.common.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * CloudFront 서명 URL(canned policy) 및 서명 쿠키(custom policy) 생성
+ *  - 개인키는 생성 시 한 번만 파싱하고, Signature 인스턴스는 스레드별로 재사용
+ *  - 만료 시간을 구간 단위로 올림하여 같은 구간의 같은 경로는 같은 URL이 되도록 하고, 서명한 URL을 구간 길이만큼 캐시
+ */
 public class CloudFrontSigner {
+
+	private static final String SIGNATURE_ALGORITHM = "SHA1withRSA";
+	// 만료 시간 올림 단위 (초)
+	private static final long EXPIRATION_BUCKET_SECONDS = 60L;
+	private static final int MAX_CACHED_URLS = 10_000;
+	// 같은 만료 구간의 요청은 구간 길이 안에서만 들어오므로 그 이후에는 재사용되지 않음
+	private static final Duration SIGNED_URL_TTL = Duration.ofSeconds(EXPIRATION_BUCKET_SECONDS);
+
 	private final String keyPairId;
-	private final byte[] privateKeyBytes;
+	private final PrivateKey privateKey;
+
+	private final ThreadLocal<Signature> signature = ThreadLocal.withInitial(this::createSignature);
+
+	private final Cache<String, String> signedUrlCache;
 
-	public CloudFrontSigner(String keyPairId, byte[] privateKeyBytes) {
+	public CloudFrontSigner(String keyPairId, byte[] privateKeyBytes, MeterRegistry meterRegistry) {
 		this.keyPairId = keyPairId;
-		this.privateKeyBytes = privateKeyBytes;
+		this.privateKey = parsePrivateKey(privateKeyBytes);
+		this.signedUrlCache = LocalCacheFactory.create("cloudfront.signed-url", MAX_CACHED_URLS, SIGNED_URL_TTL,
+			meterRegistry);
 	}
 
 	public String generateSignedUrl(String resourcePath, Date expirationDate) {
+		return getOrSign(resourcePath, toEpochBucket(expirationDate));
+	}
+
+	// 여러 리소스를 같은 만료 시간으로 서명
+	public List<String> generateSignedUrls(List<String> resourcePaths, Date expirationDate) {
+		long epochSeconds = toEpochBucket(expirationDate);
+
+		List<String> signedUrls = new ArrayList<>(resourcePaths.size());
+		for (String resourcePath : resourcePaths) {
+			signedUrls.add(getOrSign(resourcePath, epochSeconds));
+		}
+		return signedUrls;
+	}
+
+	// custom policy 서명 쿠키 값 (resourcePattern에 와일드카드 사용 가능)
+	public Map<String, String> generateSignedCookies(String resourcePattern, Date expirationDate) {
+		String policy = createPolicy(resourcePattern, toEpochBucket(expirationDate));
+
+		Map<String, String> cookies = new LinkedHashMap<>();
+		cookies.put("CloudFront-Policy", toUrlSafeBase64(policy.getBytes(StandardCharsets.UTF_8)));
+		cookies.put("CloudFront-Signature", signPolicy(policy));
+		cookies.put("CloudFront-Key-Pair-Id", keyPairId);
+		return cookies;
+	}
+
+	private String getOrSign(String resourcePath, long epochSeconds) {
+		return signedUrlCache.get(resourcePath + "|" + epochSeconds, key -> sign(resourcePath, epochSeconds));
+	}
+
+	private String sign(String resourcePath, long epochSeconds) {
+		return resourcePath + (resourcePath.contains("?") ? "&" : "?")
+			+ "Expires=" + epochSeconds
+			+ "&Signature=" + signPolicy(createPolicy(resourcePath, epochSeconds))
+			+ "&Key-Pair-Id=" + keyPairId;
+	}
+
+	private String createPolicy(String resource, long epochSeconds) {
+		return "{\"Statement\":[{\"Resource\":\"" + resource
+			+ "\",\"Condition\":{\"DateLessThan\":{\"AWS:EpochTime\":" + epochSeconds + "}}}]}";
+	}
+
+	private String signPolicy(String policy) {
 		try {
-			PKCS8EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(privateKeyBytes);
-			KeyFactory keyFactory = KeyFactory.getInstance("RSA");
-			PrivateKey privateKey = keyFactory.generatePrivate(keySpec);
+			Signature signer = signature.get();
+			signer.update(policy.getBytes(StandardCharsets.UTF_8));
+			return toUrlSafeBase64(signer.sign());
+		} catch (Exception e) {
+			// 실패한 Signature의 상태를 신뢰할 수 없으므로 다음 호출에서 새로 생성
+			signature.remove();
+			throw new CustomException(ErrorCode.CLOUDFRONT_URL_GENERATION_ERROR);
+		}
+	}
+
+	// 만료 시간을 구간 경계로 올림 (요청한 만료 시간보다 짧아지지 않음)
+	private long toEpochBucket(Date expirationDate) {
+		long epochSeconds = (expirationDate.getTime() + 999) / 1000;
+		return (epochSeconds + EXPIRATION_BUCKET_SECONDS - 1) / EXPIRATION_BUCKET_SECONDS * EXPIRATION_BUCKET_SECONDS;
+	}
 
-			return CloudFrontUrlSigner.getSignedURLWithCannedPolicy(
-				resourcePath, keyPairId, privateKey, expirationDate);
+	// CloudFront 전용 URL-safe Base64 ('+' -> '-', '=' -> '_', '/' -> '~')
+	private String toUrlSafeBase64(byte[] bytes) {
+		return Base64.getEncoder().encodeToString(bytes)
+			.replace('+', '-')
+			.replace('=', '_')
+			.replace('/', '~');
+	}
+
+	private Signature createSignature() {
+		try {
+			Signature instance = Signature.getInstance(SIGNATURE_ALGORITHM);
+			instance.initSign(privateKey);
+			return instance;
 		} catch (Exception e) {
 			throw new CustomException(ErrorCode.CLOUDFRONT_URL_GENERATION_ERROR);
 		}
 	}
-}
\ No newline at end of file
+
+	private PrivateKey parsePrivateKey(byte[] privateKeyBytes) {
+		try {
+			PKCS8EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(privateKeyBytes);
+			return KeyFactory.getInstance("RSA").generatePrivate(keySpec);
+		} catch (Exception e) {
+			throw new CustomException(ErrorCode.CLOUDFRONT_PRIVATE_KEY_ERROR);
+		}
+	}
+}
@@ -1,9 +1,18 @@
 package com.eurachacha.achacha.infrastructure.util;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
+import java.util.function.Predicate;
 
 import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
@@ -20,41 +29,203 @@ import lombok.RequiredArgsConstructor;
 public class EncryptionUtil {
 	private final EncryptionProperties encryptionProperties;
 
+	private static final String TRANSFORMATION = "AES/ECB/PKCS5Padding";
+	private static final Base64.Encoder BASE64_ENCODER = Base64.getEncoder();
+	private static final Base64.Decoder BASE64_DECODER = Base64.getDecoder();
+	private static final ThreadLocal<CipherBuffers> BUFFERS = ThreadLocal.withInitial(CipherBuffers::new);
+
 	private SecretKeySpec secretKey;
+	// 키 교체 중 아직 재암호화되지 않은 값의 복호화용 (이전 키가 설정된 경우에만)
+	private SecretKeySpec previousSecretKey;
+
+	// Cipher는 스레드 안전하지 않으므로 스레드별로 초기화된 인스턴스를 재사용
+	private final ThreadLocal<Cipher> encryptCipher =
+		ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE, secretKey));
+	private final ThreadLocal<Cipher> decryptCipher =
+		ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE, secretKey));
+	private final ThreadLocal<Cipher> previousDecryptCipher =
+		ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE, previousSecretKey));
 
 	@PostConstruct
 	public void init() {
-		try {
-			byte[] key = encryptionProperties.getKey().getBytes(StandardCharsets.UTF_8);
-			MessageDigest sha = MessageDigest.getInstance("SHA-256");
-			key = sha.digest(key);
-			key = Arrays.copyOf(key, 32); // AES-256 사용
-			secretKey = new SecretKeySpec(key, "AES");
-		} catch (Exception e) {
-			throw new RuntimeException("비밀키 초기화 실패", e);
+		secretKey = createSecretKey(encryptionProperties.getKey());
+		String previousKey = encryptionProperties.getPreviousKey();
+		if (previousKey != null && !previousKey.isBlank()) {
+			// 이전 키 복호화 결과는 지문으로 검증하므로 키 교체와 무관한 지문 키가 필요
+			String fingerprintKey = encryptionProperties.getFingerprintKey();
+			if (fingerprintKey == null || fingerprintKey.isBlank()) {
+				throw new IllegalStateException("이전 키를 사용하려면 지문 키(encryption.fingerprint-key)가 필요합니다");
+			}
+			previousSecretKey = createSecretKey(previousKey);
 		}
 	}
 
+	// 다른 키로 동작하는 인스턴스 생성 (키 교체 시 이전 키 복호화용, 이전 키 대체 없음)
+	public static EncryptionUtil forKey(String key) {
+		EncryptionUtil encryptionUtil = new EncryptionUtil(new EncryptionProperties(key, null, null));
+		encryptionUtil.init();
+		return encryptionUtil;
+	}
+
+	// 스레드별 버퍼에 UTF-8 인코딩 -> 암호화 -> Base64 (중간 byte[] 생성 없이 결과 문자열만 할당)
 	public String encrypt(String data) {
 		try {
-			Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-			cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-			byte[] encryptedBytes = cipher.doFinal(data.getBytes(StandardCharsets.UTF_8));
-			return Base64.getEncoder().encodeToString(encryptedBytes);
+			CipherBuffers buffers = BUFFERS.get();
+			ByteBuffer plainText = buffers.encodeUtf8(data);
+
+			// doFinal 이후 Cipher는 init 직후 상태로 돌아가므로 재초기화 없이 재사용 가능
+			Cipher cipher = encryptCipher.get();
+			ByteBuffer cipherText = buffers.output(cipher.getOutputSize(plainText.remaining()));
+			cipher.doFinal(plainText, cipherText);
+			cipherText.flip();
+
+			ByteBuffer encoded = BASE64_ENCODER.encode(cipherText);
+			return new String(encoded.array(), encoded.arrayOffset(), encoded.remaining(),
+				StandardCharsets.ISO_8859_1);
 		} catch (Exception e) {
+			encryptCipher.remove();
 			throw new RuntimeException("암호화 실패", e);
 		}
 	}
 
+	/**
+	 * 현재 키로 복호화하고, 실패하면 이전 키로 복호화
+	 * 키 교체 후 재암호화 작업이 끝나기 전에도 이전 키로 암호화된 바코드를 읽을 수 있도록 함
+	 * (ECB/PKCS5 패딩은 다른 키로도 드물게 복호화에 성공하므로, 결과를 검증할 수 있으면 검증 버전 사용)
+	 */
 	public String decrypt(String encryptedData) {
+		CipherBuffers buffers = BUFFERS.get();
+		ByteBuffer cipherText = decode(encryptedData, buffers);
+
 		try {
-			Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-			cipher.init(Cipher.DECRYPT_MODE, secretKey);
-			byte[] decodedBytes = Base64.getDecoder().decode(encryptedData);
-			byte[] decryptedBytes = cipher.doFinal(decodedBytes);
-			return new String(decryptedBytes, StandardCharsets.UTF_8);
+			return decrypt(decryptCipher, cipherText, buffers);
+		} catch (Exception e) {
+			if (previousSecretKey == null) {
+				throw new RuntimeException("복호화 실패", e);
+			}
+			try {
+				return decrypt(previousDecryptCipher, cipherText.rewind(), buffers);
+			} catch (Exception previousKeyException) {
+				e.addSuppressed(previousKeyException);
+				throw new RuntimeException("복호화 실패", e);
+			}
+		}
+	}
+
+	/**
+	 * 복호화 결과를 검증하며 복호화
+	 * 이전 키가 설정된 경우 현재 키, 이전 키 순으로 복호화하여 검증을 통과한 평문만 반환
+	 * (다른 키로 패딩 검사를 우연히 통과한 값을 바코드로 내보내지 않음)
+	 */
+	public String decrypt(String encryptedData, Predicate<String> verifier) {
+		if (previousSecretKey == null) {
+			return decrypt(encryptedData);
+		}
+
+		CipherBuffers buffers = BUFFERS.get();
+		ByteBuffer cipherText = decode(encryptedData, buffers);
+
+		RuntimeException failure = new RuntimeException("복호화 실패");
+		for (ThreadLocal<Cipher> cipher : List.of(decryptCipher, previousDecryptCipher)) {
+			try {
+				String plainText = decrypt(cipher, cipherText.rewind(), buffers);
+				if (verifier.test(plainText)) {
+					return plainText;
+				}
+			} catch (Exception e) {
+				failure.addSuppressed(e);
+			}
+		}
+		throw failure;
+	}
+
+	private ByteBuffer decode(String encryptedData, CipherBuffers buffers) {
+		try {
+			return BASE64_DECODER.decode(buffers.encodeAscii(encryptedData));
 		} catch (Exception e) {
 			throw new RuntimeException("복호화 실패", e);
 		}
 	}
+
+	private String decrypt(ThreadLocal<Cipher> cipher, ByteBuffer cipherText, CipherBuffers buffers)
+		throws GeneralSecurityException {
+		try {
+			Cipher decryptor = cipher.get();
+			ByteBuffer plainText = buffers.output(decryptor.getOutputSize(cipherText.remaining()));
+			decryptor.doFinal(cipherText, plainText);
+			return new String(plainText.array(), 0, plainText.position(), StandardCharsets.UTF_8);
+		} catch (GeneralSecurityException | RuntimeException e) {
+			// 실패한 Cipher의 상태를 신뢰할 수 없으므로 다음 호출에서 새로 생성
+			cipher.remove();
+			throw e;
+		}
+	}
+
+	private SecretKeySpec createSecretKey(String rawKey) {
+		try {
+			byte[] key = rawKey.getBytes(StandardCharsets.UTF_8);
+			MessageDigest sha = MessageDigest.getInstance("SHA-256");
+			key = sha.digest(key);
+			key = Arrays.copyOf(key, 32); // AES-256 사용
+			return new SecretKeySpec(key, "AES");
+		} catch (Exception e) {
+			throw new RuntimeException("비밀키 초기화 실패", e);
+		}
+	}
+
+	private Cipher createCipher(int mode, SecretKeySpec key) {
+		try {
+			Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+			cipher.init(mode, key);
+			return cipher;
+		} catch (Exception e) {
+			throw new RuntimeException("Cipher 초기화 실패", e);
+		}
+	}
+
+	// 스레드별 재사용 버퍼 (바코드 길이에서는 처음 할당한 크기로 충분하며, 더 긴 값이 오면 늘림)
+	private static final class CipherBuffers {
+		private static final int INITIAL_CAPACITY = 256;
+
+		// String.getBytes와 같이 잘못된 문자는 치환
+		private final CharsetEncoder utf8Encoder = StandardCharsets.UTF_8.newEncoder()
+			.onMalformedInput(CodingErrorAction.REPLACE)
+			.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		private ByteBuffer input = ByteBuffer.allocate(INITIAL_CAPACITY);
+		private ByteBuffer output = ByteBuffer.allocate(INITIAL_CAPACITY);
+
+		private ByteBuffer encodeUtf8(String data) throws CharacterCodingException {
+			ByteBuffer buffer = input((int)(data.length() * (double)utf8Encoder.maxBytesPerChar()));
+			utf8Encoder.reset();
+			CoderResult result = utf8Encoder.encode(CharBuffer.wrap(data), buffer, true);
+			if (!result.isUnderflow()) {
+				result.throwException();
+			}
+			utf8Encoder.flush(buffer);
+			return buffer.flip();
+		}
+
+		// Base64 문자열은 ASCII이므로 문자를 그대로 바이트로 복사 (범위 밖 문자는 Base64 디코딩에서 실패)
+		private ByteBuffer encodeAscii(String data) {
+			ByteBuffer buffer = input(data.length());
+			for (int i = 0; i < data.length(); i++) {
+				buffer.put((byte)data.charAt(i));
+			}
+			return buffer.flip();
+		}
+
+		private ByteBuffer input(int capacity) {
+			if (input.capacity() < capacity) {
+				input = ByteBuffer.allocate(capacity);
+			}
+			return input.clear();
+		}
+
+		private ByteBuffer output(int capacity) {
+			if (output.capacity() < capacity) {
+				output = ByteBuffer.allocate(capacity);
+			}
+			return output.clear();
+		}
+	}
 }
@@ -0,0 +1,216 @@
+package com.eurachacha.achacha.infrastructure.util;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Optional;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import com.eurachacha.achacha.web.common.exception.CustomException;
+import com.eurachacha.achacha.web.common.exception.ErrorCode;
+
+/**
+ * ImageIO 디코딩, 렌더링 공통 처리 (파생 이미지 생성, OCR 전처리)
+ *  - 스트림에 맞는 ImageReader를 찾아 전달하고 사용 후 해제
+ *  - 건너뛰며 읽기(subsampling) 배율 계산, 흰 배경 위 보간 축소 렌더링
+ *  - JPEG EXIF 방향(Orientation) 조회 및 적용 (ImageIO는 방향을 적용하지 않고 저장된 픽셀 그대로 디코딩)
+ *    ImageIO JPEG 메타데이터는 EXIF 뒤에 JFIF가 오는 파일에서 예외가 나므로 APP 세그먼트를 직접 읽음
+ */
+public final class ImageIoUtil {
+
+	// EXIF 방향 값 (1: 그대로, 2~4: 뒤집기/180도, 5~8: 가로세로가 바뀌는 회전)
+	private static final int ORIENTATION_NORMAL = 1;
+	private static final int ORIENTATION_MAX = 8;
+
+	private static final int JPEG_SOI = 0xFFD8;
+	private static final int JPEG_SOS = 0xFFDA;
+	private static final int JPEG_EOI = 0xFFD9;
+	private static final int JPEG_APP1 = 0xFFE1;
+	private static final byte[] EXIF_HEADER = {'E', 'x', 'i', 'f', 0, 0};
+	private static final int ORIENTATION_TAG = 0x0112;
+
+	// 인스턴스화 방지
+	private ImageIoUtil() {
+		throw new CustomException(ErrorCode.CONSTANT_CLASS_INSTANTIATION);
+	}
+
+	// ImageIO가 지원하지 않는 형식(예: webp)이면 empty, 읽기 함수에는 EXIF 방향 값을 함께 전달
+	public static Optional<BufferedImage> read(InputStream inputStream, ImageReadFunction readFunction)
+		throws IOException {
+		try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+			if (!readers.hasNext()) {
+				return Optional.empty();
+			}
+
+			int orientation = readOrientation(imageInputStream);
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(imageInputStream, true, true);
+				return Optional.of(readFunction.read(reader, orientation));
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	// 읽은 길이가 목표 길이 아래로 내려가지 않는 최대 건너뛰기 배율 (나머지는 렌더링 시 보간으로 축소)
+	public static int subsamplingFor(int sourceLength, int targetLength) {
+		return Math.max(1, sourceLength / targetLength);
+	}
+
+	// 투명 영역은 흰색으로 채우고 지정한 크기, 형식으로 렌더링
+	public static BufferedImage render(BufferedImage source, int width, int height, int imageType) {
+		BufferedImage target = new BufferedImage(width, height, imageType);
+		Graphics2D graphics = target.createGraphics();
+		try {
+			graphics.setColor(Color.WHITE);
+			graphics.fillRect(0, 0, width, height);
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.drawImage(source, 0, 0, width, height, null);
+		} finally {
+			graphics.dispose();
+		}
+		return target;
+	}
+
+	// 가로세로가 바뀌는 방향인지 여부
+	public static boolean swapsAxes(int orientation) {
+		return orientation > 4;
+	}
+
+	// 방향을 적용한 이미지 기준 영역을 저장된 픽셀 기준 영역으로 변환
+	public static Rectangle toSourceRegion(Rectangle region, int sourceWidth, int sourceHeight, int orientation) {
+		int x = region.x;
+		int y = region.y;
+		int w = region.width;
+		int h = region.height;
+		return switch (orientation) {
+			case 2 -> new Rectangle(sourceWidth - (x + w), y, w, h);
+			case 3 -> new Rectangle(sourceWidth - (x + w), sourceHeight - (y + h), w, h);
+			case 4 -> new Rectangle(x, sourceHeight - (y + h), w, h);
+			case 5 -> new Rectangle(y, x, h, w);
+			case 6 -> new Rectangle(y, sourceHeight - (x + w), h, w);
+			case 7 -> new Rectangle(sourceWidth - (y + h), sourceHeight - (x + w), h, w);
+			case 8 -> new Rectangle(sourceWidth - (y + h), x, h, w);
+			default -> new Rectangle(region);
+		};
+	}
+
+	// 저장된 픽셀 방향의 이미지를 화면에 보이는 방향으로 변환
+	public static BufferedImage applyOrientation(BufferedImage source, int orientation) {
+		if (orientation <= ORIENTATION_NORMAL || orientation > ORIENTATION_MAX) {
+			return source;
+		}
+
+		int w = source.getWidth();
+		int h = source.getHeight();
+		// 저장된 픽셀 좌표 (x, y) -> 화면 좌표
+		AffineTransform transform = switch (orientation) {
+			case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);    // (w - x, y)
+			case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);   // (w - x, h - y)
+			case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);    // (x, h - y)
+			case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);     // (y, x)
+			case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);    // (h - y, x)
+			case 7 -> new AffineTransform(0, -1, -1, 0, h, w);   // (h - y, w - x)
+			default -> new AffineTransform(0, -1, 1, 0, 0, w);   // 8: (y, w - x)
+		};
+
+		BufferedImage target = swapsAxes(orientation)
+			? new BufferedImage(h, w, BufferedImage.TYPE_INT_ARGB)
+			: new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = target.createGraphics();
+		try {
+			graphics.drawImage(source, transform, null);
+		} finally {
+			graphics.dispose();
+		}
+		return target;
+	}
+
+	// JPEG APP1(EXIF)의 방향 값, JPEG이 아니거나 없으면 ORIENTATION_NORMAL (스트림 위치는 그대로 유지)
+	private static int readOrientation(ImageInputStream stream) {
+		try {
+			stream.mark();
+			try {
+				if (stream.readUnsignedShort() != JPEG_SOI) {
+					return ORIENTATION_NORMAL;
+				}
+
+				// 이미지 데이터(SOS) 전까지의 세그먼트만 확인
+				while (true) {
+					int marker = stream.readUnsignedShort();
+					if ((marker & 0xFF00) != 0xFF00 || marker == JPEG_SOS || marker == JPEG_EOI) {
+						return ORIENTATION_NORMAL;
+					}
+					int length = stream.readUnsignedShort() - 2;
+					if (length < 0) {
+						return ORIENTATION_NORMAL;
+					}
+					if (marker != JPEG_APP1) {
+						stream.skipBytes(length);
+						continue;
+					}
+
+					byte[] data = new byte[length];
+					stream.readFully(data);
+					int orientation = parseExifOrientation(data);
+					if (orientation != ORIENTATION_NORMAL) {
+						return orientation;
+					}
+				}
+			} finally {
+				stream.reset();
+			}
+		} catch (IOException e) {
+			// 방향 정보는 부가 정보이므로 읽지 못하면 그대로 사용
+			return ORIENTATION_NORMAL;
+		}
+	}
+
+	// "Exif\0\0" + TIFF 헤더 + IFD0에서 방향 태그(SHORT) 조회
+	private static int parseExifOrientation(byte[] data) {
+		int tiff = EXIF_HEADER.length;
+		if (data.length < tiff + 8 || !Arrays.equals(data, 0, tiff, EXIF_HEADER, 0, tiff)) {
+			return ORIENTATION_NORMAL;
+		}
+
+		ByteBuffer buffer = ByteBuffer.wrap(data, tiff, data.length - tiff).slice();
+		buffer.order(buffer.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+		int ifdOffset = buffer.getInt(4);
+		if (ifdOffset < 8 || ifdOffset + 2 > buffer.limit()) {
+			return ORIENTATION_NORMAL;
+		}
+
+		int entryCount = Short.toUnsignedInt(buffer.getShort(ifdOffset));
+		for (int i = 0; i < entryCount; i++) {
+			int entry = ifdOffset + 2 + i * 12;
+			if (entry + 12 > buffer.limit()) {
+				break;
+			}
+			if (Short.toUnsignedInt(buffer.getShort(entry)) == ORIENTATION_TAG) {
+				int orientation = Short.toUnsignedInt(buffer.getShort(entry + 8));
+				return orientation >= ORIENTATION_NORMAL && orientation <= ORIENTATION_MAX
+					? orientation : ORIENTATION_NORMAL;
+			}
+		}
+		return ORIENTATION_NORMAL;
+	}
+
+	@FunctionalInterface
+	public interface ImageReadFunction {
+		BufferedImage read(ImageReader reader, int orientation) throws IOException;
+	}
+}
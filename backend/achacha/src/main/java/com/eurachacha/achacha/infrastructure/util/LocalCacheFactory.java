@@ -0,0 +1,45 @@
+package com.eurachacha.achacha.infrastructure.util;
+
+import java.time.Duration;
+
+import com.eurachacha.achacha.web.common.exception.CustomException;
+import com.eurachacha.achacha.web.common.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 로컬 캐시(Caffeine) 생성
+ *  - 크기 상한(초과 시 사용 빈도가 낮은 항목부터 제거)과 쓰기 후 만료 시간을 둠
+ *  - 조회, 제거 통계를 기록하고 캐시 이름으로 Micrometer 지표(cache.gets, cache.evictions, cache.size 등) 등록
+ *  - 만료, 제거 정리는 별도 스레드 풀 없이 캐시를 사용하는 스레드에서 수행
+ */
+public final class LocalCacheFactory {
+
+	// 인스턴스화 방지
+	private LocalCacheFactory() {
+		throw new CustomException(ErrorCode.CONSTANT_CLASS_INSTANTIATION);
+	}
+
+	public static <K, V> Cache<K, V> create(String name, long maximumSize, Duration expireAfterWrite,
+		MeterRegistry meterRegistry) {
+		return create(name, maximumSize, expireAfterWrite, meterRegistry, Ticker.systemTicker());
+	}
+
+	// 만료 시간 검증용 (테스트에서 시간을 직접 진행)
+	public static <K, V> Cache<K, V> create(String name, long maximumSize, Duration expireAfterWrite,
+		MeterRegistry meterRegistry, Ticker ticker) {
+		Cache<K, V> cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(expireAfterWrite)
+			.ticker(ticker)
+			.executor(Runnable::run)
+			.recordStats()
+			.build();
+
+		return CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+	}
+}
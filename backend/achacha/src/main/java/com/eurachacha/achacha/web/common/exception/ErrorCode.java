@@ -10,7 +10,9 @@ public enum ErrorCode {
 	INVALID_PARAMETER(HttpStatus.BAD_REQUEST, "X002", "잘못된 파라미터가 전달되었습니다."),
 	INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "X003", "서버 에러가 발생했습니다."),
 	CONSTANT_CLASS_INSTANTIATION(HttpStatus.INTERNAL_SERVER_ERROR, "X004", "상수 클래스는 인스턴스화할 수 없습니다."),
+	SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "X005", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 	UNSUPPORTED_MEDIA_TYPE(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "X005", "지원하지 않는 미디어 타입입니다."),
+	INVALID_PAGE_CURSOR(HttpStatus.BAD_REQUEST, "X006", "유효하지 않은 페이지 커서입니다."),
 
 	// Auth 관련 에러
 	INVALID_ACCESS_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH_001", "유효하지 않은 엑세스 토큰입니다."),
@@ -47,6 +49,8 @@ public enum ErrorCode {
 	INVALID_GIFTICON_TYPE(HttpStatus.BAD_REQUEST, "GIFTICON_011", "기프티콘 타입이 올바르지 않습니다."),
 	INVALID_AMOUNT_VALUE(HttpStatus.BAD_REQUEST, "GIFTICON_012", "금액이 유효하지 않습니다."),
 	GIFTICON_EXPIRED_DATE(HttpStatus.BAD_REQUEST, "GIFTICON_013", "유효기간이 지난 기프티콘입니다."),
+	BATCH_EXTRACTION_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "GIFTICON_014", "한 번에 추출할 수 있는 이미지 수를 초과했습니다."),
+	BATCH_EXTRACTION_IN_PROGRESS(HttpStatus.CONFLICT, "GIFTICON_015", "이미 진행 중인 일괄 추출 작업이 있습니다."),
 
 	// 브랜드 관련 에러 코드
 	BRAND_NOT_FOUND(HttpStatus.NOT_FOUND, "BRAND_001", "브랜드 정보를 찾을 수 없습니다,"),
@@ -66,6 +70,7 @@ public enum ErrorCode {
 	// S3 스토리지 관련 에러 코드
 	S3_UPLOAD_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "S3_001", "파일 업로드 중 오류가 발생했습니다."),
 	S3_DELETE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "S3_002", "파일 삭제 중 오류가 발생했습니다."),
+	S3_UPLOAD_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "S3_003", "파일 업로드 시간이 초과되었습니다."),
 
 	// 파일 검증 관련 에러 코드
 	FILE_EMPTY(HttpStatus.BAD_REQUEST, "FILE_001", "파일이 비어있습니다."),
@@ -79,6 +84,9 @@ public enum ErrorCode {
 	ORIGINAL_IMAGE_REQUIRED(HttpStatus.BAD_REQUEST, "FILE_009", "기프티콘 원본 이미지가 필요합니다."),
 	THUMBNAIL_IMAGE_REQUIRED(HttpStatus.BAD_REQUEST, "FILE_010", "기프티콘 썸네일 이미지가 필요합니다."),
 	BARCODE_IMAGE_REQUIRED(HttpStatus.BAD_REQUEST, "FILE_011", "기프티콘 바코드 이미지가 필요합니다."),
+	IMAGE_GENERATION_UNSUPPORTED(HttpStatus.BAD_REQUEST, "FILE_012", "썸네일, 바코드 이미지를 생성할 수 없는 이미지 형식입니다."),
+	BARCODE_CROP_AREA_INVALID(HttpStatus.BAD_REQUEST, "FILE_013", "바코드 영역이 이미지 범위를 벗어났습니다."),
+	MULTIPART_REQUEST_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "FILE_014", "요청 파일의 전체 크기가 제한을 초과했습니다."),
 
 	// CloudFront 관련 에러 코드
 	CLOUDFRONT_URL_GENERATION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "CF_001", "URL 생성 중 오류가 발생했습니다."),
@@ -106,7 +114,11 @@ public enum ErrorCode {
 	PRESENT_CARD_EXPIRED(HttpStatus.GONE, "PRESENT_005", "선물 카드가 만료되었습니다."),
 
 	// GIVEAWAY 관련 에러코드
-	NO_NEARBY_PEOPLES(HttpStatus.NOT_FOUND, "GIVEAWAY_001", "주변에 감지된 사용자가 없습니다.");
+	NO_NEARBY_PEOPLES(HttpStatus.NOT_FOUND, "GIVEAWAY_001", "주변에 감지된 사용자가 없습니다."),
+
+	// 마이그레이션 관련 에러코드
+	MIGRATION_ALREADY_RUNNING(HttpStatus.CONFLICT, "MIGRATION_001", "이미 실행 중인 마이그레이션 작업이 있습니다."),
+	MIGRATION_KEY_NOT_CONFIGURED(HttpStatus.BAD_REQUEST, "MIGRATION_002", "마이그레이션에 필요한 암호화 키가 설정되지 않았습니다.");
 
 	// http 상태 코드
 	private final HttpStatus status;
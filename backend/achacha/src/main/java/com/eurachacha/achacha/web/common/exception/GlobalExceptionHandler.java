@@ -1,5 +1,6 @@
 package com.eurachacha.achacha.web.common.exception;
 
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -66,6 +67,18 @@ public class GlobalExceptionHandler {
 			.body(ErrorResponse.of(ErrorCode.UNSUPPORTED_MEDIA_TYPE, errorMessage));
 	}
 
+	/**
+	 * 작업 스레드 풀 포화로 거부된 요청 (비동기 응답에서 발생한 경우 포함)
+	 */
+	@ExceptionHandler(RejectedExecutionException.class)
+	public ResponseEntity<ErrorResponse> handleRejectedExecutionException(RejectedExecutionException ex,
+		HttpServletRequest request) {
+		logger.warn("작업 거부: URI={}, 오류={}", request.getRequestURI(), ex.getMessage());
+
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+			.body(ErrorResponse.of(ErrorCode.SERVER_BUSY));
+	}
+
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<ErrorResponse> handleException(Exception ex, HttpServletRequest request) {
 		logger.error("서버 내부 오류 발생: URI={}, 오류={}", request.getRequestURI(), ex.getMessage(), ex);
@@ -0,0 +1,41 @@
+package com.eurachacha.achacha.web.common.filter;
+
+import java.io.IOException;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.eurachacha.achacha.web.common.exception.CustomException;
+import com.eurachacha.achacha.web.common.exception.ErrorCode;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 엔드포인트별 multipart 요청 전체 크기 제한
+ *  - spring.servlet.multipart.max-request-size는 일괄 추출에 맞춘 값이므로, 그 외 엔드포인트는 여기서 더 작게 제한
+ *  - multipart 파싱 전에 Content-Length로 판단하여 큰 요청을 디스크에 기록하지 않고 거부
+ *    (Content-Length가 없는 chunked 요청은 max-request-size로만 제한됨)
+ */
+public class MultipartRequestSizeFilter extends OncePerRequestFilter {
+
+	private static final long MAX_REQUEST_SIZE = 15 * 1024 * 1024;
+	private static final String BATCH_EXTRACTION_URI = "/api/gifticons/image-metadata/batch";
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		if (isMultipart(request) && !BATCH_EXTRACTION_URI.equals(request.getRequestURI())
+			&& request.getContentLengthLong() > MAX_REQUEST_SIZE) {
+			throw new CustomException(ErrorCode.MULTIPART_REQUEST_TOO_LARGE);
+		}
+		filterChain.doFilter(request, response);
+	}
+
+	private boolean isMultipart(HttpServletRequest request) {
+		String contentType = request.getContentType();
+		return contentType != null && contentType.toLowerCase().startsWith(MediaType.MULTIPART_FORM_DATA_VALUE);
+	}
+}
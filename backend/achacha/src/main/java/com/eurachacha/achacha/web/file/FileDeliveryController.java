@@ -0,0 +1,47 @@
+package com.eurachacha.achacha.web.file;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.eurachacha.achacha.application.port.input.file.FileDeliveryAppService;
+import com.eurachacha.achacha.application.port.input.file.dto.response.ThumbnailCookieResponseDto;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/files")
+@RequiredArgsConstructor
+public class FileDeliveryController {
+
+	private final FileDeliveryAppService fileDeliveryAppService;
+
+	// 썸네일 서명 쿠키 발급 (응답 본문과 Set-Cookie 헤더로 함께 전달)
+	@GetMapping("/thumbnail-cookie")
+	public ResponseEntity<ThumbnailCookieResponseDto> issueThumbnailCookie() {
+		ThumbnailCookieResponseDto responseDto = fileDeliveryAppService.issueThumbnailCookie();
+
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+		if (Boolean.TRUE.equals(responseDto.getEnabled())) {
+			Duration maxAge = Duration.between(LocalDateTime.now(), responseDto.getExpiresAt());
+			responseDto.getCookies().forEach((name, value) -> {
+				ResponseCookie.ResponseCookieBuilder cookie = ResponseCookie.from(name, value)
+					.path("/")
+					.maxAge(maxAge)
+					.secure(true)
+					.httpOnly(true);
+				if (responseDto.getCookieDomain() != null) {
+					cookie.domain(responseDto.getCookieDomain());
+				}
+				response.header(HttpHeaders.SET_COOKIE, cookie.build().toString());
+			});
+		}
+		return response.body(responseDto);
+	}
+}
@@ -30,8 +30,9 @@ public class AvailableGifticonController {
 		@RequestParam(required = false) GifticonType type,
 		@RequestParam(required = false, defaultValue = "CREATED_DESC") GifticonSortType sort,
 		@RequestParam(required = false, defaultValue = "0") @Min(0) Integer page,
-		@RequestParam(required = false, defaultValue = "10") @Min(1) Integer size) {
-		return ResponseEntity.ok(gifticonAppService.getAvailableGifticons(scope, type, sort, page, size));
+		@RequestParam(required = false, defaultValue = "10") @Min(1) Integer size,
+		@RequestParam(required = false) String cursor) {
+		return ResponseEntity.ok(gifticonAppService.getAvailableGifticons(scope, type, sort, page, size, cursor));
 	}
 
 	@GetMapping("/{gifticonId}")
@@ -1,5 +1,9 @@
 package com.eurachacha.achacha.web.gifticon;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -11,12 +15,14 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.eurachacha.achacha.application.port.input.gifticon.GifticonAppService;
 import com.eurachacha.achacha.application.port.input.gifticon.GifticonGiveAppService;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.request.GifticonGiveAwayRequestDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.request.GifticonPresentRequestDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.request.GifticonSaveRequestDto;
+import com.eurachacha.achacha.application.port.input.gifticon.dto.response.GifticonMetadataBatchResultDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.GifticonMetadataResponseDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.GifticonPresentResponseDto;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
@@ -25,23 +31,47 @@ import com.eurachacha.achacha.web.common.exception.ErrorCode;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @RequestMapping("/api/gifticons")
 @RestController
 @RequiredArgsConstructor
 public class GifticonController {
 
+	// 일괄 추출 응답 스트림 제한 시간
+	private static final long BATCH_EXTRACTION_TIMEOUT_MILLIS = 5 * 60 * 1000L;
+
 	private final GifticonAppService gifticonAppService;
 	private final GifticonGiveAppService gifticonGiveAppService;
 
 	@PostMapping(value = "/image-metadata", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-	public ResponseEntity<GifticonMetadataResponseDto> extractGifticonMetadata(
+	public CompletableFuture<ResponseEntity<GifticonMetadataResponseDto>> extractGifticonMetadata(
 		@RequestParam("image") MultipartFile image,
 		@RequestParam("gifticonType") GifticonType gifticonType) {
 
-		GifticonMetadataResponseDto result = gifticonAppService.extractGifticonMetadata(image, gifticonType);
+		// 추출이 끝날 때까지 요청 스레드를 잡지 않음 (servlet 비동기 처리)
+		return gifticonAppService.extractGifticonMetadata(image, gifticonType)
+			.thenApply(ResponseEntity::ok);
+	}
 
-		return ResponseEntity.ok(result);
+	@PostMapping(value = "/image-metadata/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public SseEmitter extractGifticonMetadataBatch(
+		@RequestParam("images") List<MultipartFile> images,
+		@RequestParam("gifticonType") GifticonType gifticonType) {
+
+		// 이미지별 결과를 끝나는 순서대로 result 이벤트로 전송 (index로 요청 순서 구분)
+		SseEmitter emitter = new SseEmitter(BATCH_EXTRACTION_TIMEOUT_MILLIS);
+		gifticonAppService.extractGifticonMetadataBatch(images, gifticonType,
+				result -> sendBatchResult(emitter, result))
+			.whenComplete((result, throwable) -> {
+				if (throwable == null) {
+					emitter.complete();
+				} else {
+					emitter.completeWithError(throwable);
+				}
+			});
+		return emitter;
 	}
 
 	@PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -56,17 +86,10 @@ public class GifticonController {
 			throw new CustomException(ErrorCode.ORIGINAL_IMAGE_REQUIRED);
 		}
 
-		// 썸네일 이미지 검증
-		if (thumbnailImage == null || thumbnailImage.isEmpty()) {
-			throw new CustomException(ErrorCode.THUMBNAIL_IMAGE_REQUIRED);
-		}
-
-		// 바코드 이미지 검증
-		if (barcodeImage == null || barcodeImage.isEmpty()) {
-			throw new CustomException(ErrorCode.BARCODE_IMAGE_REQUIRED);
-		}
-
-		gifticonAppService.saveGifticon(gifticonSaveRequestDto, originalImage, thumbnailImage, barcodeImage);
+		// 썸네일, 바코드 이미지는 선택 (보내지 않으면 원본 이미지에서 생성)
+		gifticonAppService.saveGifticon(gifticonSaveRequestDto, originalImage,
+			thumbnailImage == null || thumbnailImage.isEmpty() ? null : thumbnailImage,
+			barcodeImage == null || barcodeImage.isEmpty() ? null : barcodeImage);
 		return ResponseEntity.ok("기프티콘이 성공적으로 등록되었습니다.");
 	}
 
@@ -98,4 +121,13 @@ public class GifticonController {
 		gifticonGiveAppService.cancelPresentGifticon(gifticonId);
 		return ResponseEntity.ok("기프티콘 선물하기 취소 성공");
 	}
+
+	// 클라이언트 연결이 끊겨도 나머지 이미지 추출과 학습 데이터 저장은 계속 진행
+	private void sendBatchResult(SseEmitter emitter, GifticonMetadataBatchResultDto result) {
+		try {
+			emitter.send(SseEmitter.event().name("result").data(result));
+		} catch (IOException | IllegalStateException e) {
+			log.debug("일괄 추출 결과 전송 실패 (순서: {}): {}", result.getIndex(), e.getMessage());
+		}
+	}
 }
@@ -1,11 +1,17 @@
 package com.eurachacha.achacha.web.gifticon;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.eurachacha.achacha.application.port.input.gifticon.GifticonVisibilityAppService;
+import com.eurachacha.achacha.application.port.input.gifticon.dto.response.BarcodeReencryptionProgressResponseDto;
+import com.eurachacha.achacha.application.service.gifticon.BarcodeReencryptionService;
 import com.eurachacha.achacha.application.service.gifticon.GifticonMigrationService;
+import com.eurachacha.achacha.domain.model.gifticon.enums.BarcodeReencryptionMode;
 
 import lombok.RequiredArgsConstructor;
 
@@ -15,11 +21,41 @@ import lombok.RequiredArgsConstructor;
 public class GifticonMigrationController {
 
 	private final GifticonMigrationService gifticonMigrationService;
+	private final BarcodeReencryptionService barcodeReencryptionService;
+	private final GifticonVisibilityAppService gifticonVisibilityAppService;
 
+	// 바코드 재암호화 작업 시작 (백그라운드 실행, 중단 시 체크포인트부터 재개)
 	@PostMapping("/barcodes")
-	public ResponseEntity<String> migrateBarcodes() {
-		gifticonMigrationService.migrateExistingBarcodes();
-		return ResponseEntity.ok("Barcodes migrated");
+	public ResponseEntity<String> migrateBarcodes(
+		@RequestParam(defaultValue = "ENCRYPT_PLAINTEXT") BarcodeReencryptionMode mode,
+		@RequestParam(defaultValue = "false") boolean restart,
+		@RequestParam(required = false) Integer chunkSize) {
+		barcodeReencryptionService.start(mode, restart, chunkSize);
+		return ResponseEntity.accepted().body("Barcode re-encryption started");
+	}
+
+	@GetMapping("/barcodes/progress")
+	public ResponseEntity<BarcodeReencryptionProgressResponseDto> getBarcodeMigrationProgress(
+		@RequestParam(defaultValue = "ENCRYPT_PLAINTEXT") BarcodeReencryptionMode mode) {
+		return ResponseEntity.ok(barcodeReencryptionService.getProgress(mode));
+	}
+
+	@PostMapping("/barcode-fingerprints")
+	public ResponseEntity<String> backfillBarcodeFingerprints() {
+		gifticonMigrationService.backfillBarcodeFingerprints();
+		return ResponseEntity.ok("Barcode fingerprints backfilled");
+	}
+
+	@PostMapping("/gifticon-visibility")
+	public ResponseEntity<String> rebuildGifticonVisibility() {
+		gifticonVisibilityAppService.rebuildAll();
+		return ResponseEntity.ok("Gifticon visibility rebuilt");
+	}
+
+	@PostMapping("/gifticon-activity")
+	public ResponseEntity<String> backfillGifticonActivity() {
+		gifticonMigrationService.backfillActivity();
+		return ResponseEntity.ok("Gifticon activity backfilled");
 	}
 
 	// /**
@@ -0,0 +1,198 @@
+package com.eurachacha.achacha.application.service.file;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.eurachacha.achacha.application.port.input.file.dto.FileKey;
+import com.eurachacha.achacha.application.port.output.auth.SecurityServicePort;
+import com.eurachacha.achacha.application.port.output.file.FileRepository;
+import com.eurachacha.achacha.application.port.output.file.FileStoragePort;
+import com.eurachacha.achacha.domain.model.file.File;
+import com.eurachacha.achacha.domain.model.file.enums.FileType;
+import com.eurachacha.achacha.infrastructure.adapter.output.cache.FilePathCacheAdapter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class FileResolverImplTest {
+
+	private static final String GIFTICON = "gifticon";
+
+	@Mock
+	private FileRepository fileRepository;
+
+	@Mock
+	private FileStoragePort fileStoragePort;
+
+	@Mock
+	private SecurityServicePort securityServicePort;
+
+	private FileResolverImpl fileResolver;
+
+	@BeforeEach
+	void setUp() {
+		fileResolver = new FileResolverImpl(fileRepository, fileStoragePort, securityServicePort,
+			new FilePathCacheAdapter(new SimpleMeterRegistry()));
+
+		// 경로 앞에 "signed:"를 붙여 입력 순서대로 반환
+		lenient().when(fileStoragePort.generateFileUrls(anyList(), any(FileType.class), any()))
+			.thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream()
+				.map(path -> "signed:" + path)
+				.toList());
+	}
+
+	@Test
+	@DisplayName("중복된 키는 한 번만 조회하고 한 번만 서명해야 한다")
+	void resolveUrls_WhenDuplicateKeys_ThenQueryAndSignOnce() {
+		// given
+		FileKey key = FileKey.of(GIFTICON, 1, FileType.THUMBNAIL);
+		given(fileRepository.findAllByReferenceEntityTypeInAndReferenceEntityIdInAndTypeIn(any(), any(), any()))
+			.willReturn(List.of(createFile(1, FileType.THUMBNAIL, "a.jpg")));
+
+		// when
+		Map<FileKey, String> result = fileResolver.resolveUrls(List.of(key, key, key));
+
+		// then
+		assertThat(result).containsExactly(entry(key, "signed:a.jpg"));
+		verify(fileRepository, times(1))
+			.findAllByReferenceEntityTypeInAndReferenceEntityIdInAndTypeIn(any(), any(), any());
+		verify(fileStoragePort).generateFileUrls(List.of("a.jpg"), FileType.THUMBNAIL, null);
+	}
+
+	@Test
+	@DisplayName("캐시된 경로는 다시 조회하지 않고 캐시에 없는 키만 조회해야 한다")
+	void resolveUrls_WhenPartiallyCached_ThenQueryOnlyMissingKeys() {
+		// given
+		FileKey cachedKey = FileKey.of(GIFTICON, 1, FileType.THUMBNAIL);
+		FileKey newKey = FileKey.of(GIFTICON, 2, FileType.THUMBNAIL);
+		given(fileRepository.findAllByReferenceEntityTypeInAndReferenceEntityIdInAndTypeIn(any(), eq(Set.of(1)),
+			any())).willReturn(List.of(createFile(1, FileType.THUMBNAIL, "a.jpg")));
+		given(fileRepository.findAllByReferenceEntityTypeInAndReferenceEntityIdInAndTypeIn(any(), eq(Set.of(2)),
+			any())).willReturn(List.of(createFile(2, FileType.THUMBNAIL, "b.jpg")));
+		fileResolver.resolveUrls(List.of(cachedKey));
+
+		// when
+		Map<FileKey, String> result = fileResolver.resolveUrls(List.of(cachedKey, newKey));
+
+		// then
+		assertThat(result).containsOnly(entry(cachedKey, "signed:a.jpg"), entry(newKey, "signed:b.jpg"));
+		verify(fileRepository, times(1))
+			.findAllByReferenceEntityTypeInAndReferenceEntityIdInAndTypeIn(any(), eq(Set.of(1)), any());
+		verify(fileRepository, times(1))
+			.findAllByReferenceEntityTypeInAndReferenceEntityIdInAndTypeIn(any(), eq(Set.of(2)), any());
+	}
+
+	@Test
+	@DisplayName("모두 캐시된 키는 저장소를 조회하지 않아야 한다")
+	void resolveUrls_WhenAllCached_ThenSkipRepository() {
+		// given
+		FileKey key = FileKey.of(GIFTICON, 1, FileType.ORIGINAL);
+		given(fileRepository.findAllByReferenceEntityTypeInAndReferenceEntityIdInAndTypeIn(any(), any(), any()))
+			.willReturn(List.of(createFile(1, FileType.ORIGINAL, "a.jpg")));
+		fileResolver.resolveUrls(List.of(key));
+
+		// when
+		String url = fileResolver.resolveUrl(key);
+
+		// then
+		assertThat(url).isEqualTo("signed:a.jpg");
+		verify(fileRepository, times(1))
+			.findAllByReferenceEntityTypeInAndReferenceEntityIdInAndTypeIn(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("파일이 없는 키는 결과에서 빠지고 캐시되지 않아 다음 요청에서 다시 조회해야 한다")
+	void resolveUrls_WhenFileMissing_ThenOmitAndDoNotCache() {
+		// given
+		FileKey foundKey = FileKey.of(GIFTICON, 1, FileType.THUMBNAIL);
+		FileKey missingKey = FileKey.of(GIFTICON, 2, FileType.THUMBNAIL);
+		given(fileRepository.findAllByReferenceEntityTypeInAndReferenceEntityIdInAndTypeIn(any(), any(), any()))
+			.willReturn(List.of(createFile(1, FileType.THUMBNAIL, "a.jpg")))
+			.willReturn(List.of());
+
+		// when
+		Map<FileKey, String> result = fileResolver.resolveUrls(List.of(foundKey, missingKey));
+		String retried = fileResolver.resolveUrl(missingKey);
+
+		// then
+		assertThat(result).containsOnlyKeys(foundKey);
+		assertThat(retried).isNull();
+		verify(fileRepository, times(2))
+			.findAllByReferenceEntityTypeInAndReferenceEntityIdInAndTypeIn(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("파일 타입별로 묶어 서명해야 한다")
+	void resolveUrls_WhenMixedFileTypes_ThenSignPerType() {
+		// given
+		FileKey thumbnailKey = FileKey.of(GIFTICON, 1, FileType.THUMBNAIL);
+		FileKey originalKey = FileKey.of(GIFTICON, 1, FileType.ORIGINAL);
+		given(fileRepository.findAllByReferenceEntityTypeInAndReferenceEntityIdInAndTypeIn(any(), any(), any()))
+			.willReturn(List.of(
+				createFile(1, FileType.THUMBNAIL, "t.jpg"),
+				createFile(1, FileType.ORIGINAL, "o.jpg")));
+
+		// when
+		Map<FileKey, String> result = fileResolver.resolveUrls(List.of(thumbnailKey, originalKey));
+
+		// then
+		assertThat(result).containsOnly(entry(thumbnailKey, "signed:t.jpg"), entry(originalKey, "signed:o.jpg"));
+		verify(fileStoragePort).generateFileUrls(List.of("t.jpg"), FileType.THUMBNAIL, null);
+		verify(fileStoragePort).generateFileUrls(List.of("o.jpg"), FileType.ORIGINAL, null);
+		verify(fileStoragePort, never()).generateFileUrl(anyString(), any(FileType.class));
+	}
+
+	@Test
+	@DisplayName("서명 쿠키로 제공되는 타입이 있으면 로그인한 조회자 id를 함께 넘겨야 한다")
+	void resolveUrls_WhenCookieDeliveryAndLoggedIn_ThenPassViewerId() {
+		// given
+		FileKey key = FileKey.of(GIFTICON, 1, FileType.THUMBNAIL);
+		given(fileRepository.findAllByReferenceEntityTypeInAndReferenceEntityIdInAndTypeIn(any(), any(), any()))
+			.willReturn(List.of(createFile(1, FileType.THUMBNAIL, "7/a.jpg")));
+		given(fileStoragePort.isCookieDelivery(FileType.THUMBNAIL)).willReturn(true);
+		given(securityServicePort.isLoggedIn()).willReturn(true);
+		given(securityServicePort.getLoggedInUserId()).willReturn(7);
+
+		// when
+		fileResolver.resolveUrls(List.of(key));
+
+		// then
+		verify(fileStoragePort).generateFileUrls(List.of("7/a.jpg"), FileType.THUMBNAIL, 7);
+		verify(securityServicePort, never()).getLoggedInUser();
+	}
+
+	@Test
+	@DisplayName("비로그인 상태에서는 조회자 없이 모든 URL을 서명해야 한다")
+	void resolvePathUrl_WhenNotLoggedIn_ThenSignWithoutViewer() {
+		// given
+		given(fileStoragePort.isCookieDelivery(FileType.THUMBNAIL)).willReturn(true);
+		given(securityServicePort.isLoggedIn()).willReturn(false);
+
+		// when
+		String url = fileResolver.resolvePathUrl("7/a.jpg", FileType.THUMBNAIL);
+
+		// then
+		assertThat(url).isEqualTo("signed:7/a.jpg");
+		verify(fileStoragePort).generateFileUrls(List.of("7/a.jpg"), FileType.THUMBNAIL, null);
+	}
+
+	private File createFile(Integer referenceEntityId, FileType type, String path) {
+		return File.builder()
+			.referenceEntityType(GIFTICON)
+			.referenceEntityId(referenceEntityId)
+			.type(type)
+			.path(path)
+			.build();
+	}
+}
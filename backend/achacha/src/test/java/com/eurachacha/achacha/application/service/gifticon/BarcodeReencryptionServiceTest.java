@@ -0,0 +1,275 @@
+package com.eurachacha.achacha.application.service.gifticon;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eurachacha.achacha.application.port.output.gifticon.BarcodeFingerprintPort;
+import com.eurachacha.achacha.domain.model.gifticon.BarcodeReencryptionCheckpoint;
+import com.eurachacha.achacha.domain.model.gifticon.enums.BarcodeReencryptionMode;
+import com.eurachacha.achacha.infrastructure.adapter.output.persistence.gifticon.BarcodeReencryptionCheckpointJpaRepository;
+import com.eurachacha.achacha.infrastructure.config.EncryptionProperties;
+import com.eurachacha.achacha.infrastructure.util.EncryptionUtil;
+
+@ExtendWith(MockitoExtension.class)
+class BarcodeReencryptionServiceTest {
+
+	private static final String CURRENT_KEY = "current-key";
+	private static final String PREVIOUS_KEY = "previous-key";
+	private static final long JOB_TIMEOUT_MILLIS = 5_000L;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private BarcodeReencryptionCheckpointJpaRepository checkpointRepository;
+
+	@Mock
+	private BarcodeFingerprintPort barcodeFingerprintPort;
+
+	private final EncryptionUtil encryptionUtil = EncryptionUtil.forKey(CURRENT_KEY);
+	private final EncryptionUtil previousEncryptionUtil = EncryptionUtil.forKey(PREVIOUS_KEY);
+
+	// 마지막 id -> 다음 청크 (id 순)
+	private final Map<Integer, List<Object[]>> chunks = new HashMap<>();
+	private final List<Object[]> updatedRows = new ArrayList<>();
+	private final List<Integer> queriedLastIds = new ArrayList<>();
+
+	private BarcodeReencryptionService barcodeReencryptionService;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		barcodeReencryptionService = new BarcodeReencryptionService(jdbcTemplate,
+			new TransactionTemplate(transactionManager), checkpointRepository, encryptionUtil,
+			new EncryptionProperties(CURRENT_KEY, "fingerprint-key", PREVIOUS_KEY), barcodeFingerprintPort);
+
+		lenient().when(barcodeFingerprintPort.generateFingerprint(anyString()))
+			.thenAnswer(invocation -> "fp:" + invocation.getArgument(0));
+
+		lenient().when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<Object>>any(), any(), any()))
+			.thenAnswer(invocation -> {
+				Integer lastId = invocation.getArgument(2);
+				queriedLastIds.add(lastId);
+				RowMapper<Object> rowMapper = invocation.getArgument(1);
+
+				List<Object> rows = new ArrayList<>();
+				for (Object[] row : chunks.getOrDefault(lastId, List.of())) {
+					rows.add(rowMapper.mapRow(toResultSet(row), rows.size()));
+				}
+				return rows;
+			});
+	}
+
+	@Test
+	@DisplayName("청크 크기만큼 id 순으로 나누어 조회하고 청크마다 배치 업데이트와 체크포인트를 저장해야 한다")
+	void start_WhenRowsExceedChunkSize_ThenProcessChunkByChunk() throws Exception {
+		// given
+		BarcodeReencryptionCheckpoint checkpoint = givenCheckpoint(BarcodeReencryptionMode.ENCRYPT_PLAINTEXT, 0);
+		chunks.put(0, List.of(row(1, "1111", "fp:1111"), row(2, "2222", "fp:2222")));
+		chunks.put(2, List.<Object[]>of(row(3, "3333", "fp:3333")));
+		givenBatchUpdateCounts(null);
+
+		// when
+		runJob(BarcodeReencryptionMode.ENCRYPT_PLAINTEXT, false, 2);
+
+		// then
+		assertThat(queriedLastIds).containsExactly(0, 2, 3);
+		verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+		assertThat(updatedRows).extracting(args -> args[1]).containsExactly(1, 2, 3);
+		assertThat(encryptionUtil.decrypt((String)updatedRows.get(2)[0])).isEqualTo("3333");
+		assertThat(checkpoint.getLastId()).isEqualTo(3);
+		assertThat(checkpoint.getProcessedCount()).isEqualTo(3L);
+		assertThat(checkpoint.getIsCompleted()).isTrue();
+	}
+
+	@Test
+	@DisplayName("체크포인트가 있으면 마지막으로 처리한 id 다음부터 이어서 처리해야 한다")
+	void start_WhenCheckpointExists_ThenResumeAfterLastId() throws Exception {
+		// given
+		BarcodeReencryptionCheckpoint checkpoint = givenCheckpoint(BarcodeReencryptionMode.ENCRYPT_PLAINTEXT, 2);
+		chunks.put(0, List.of(row(1, "1111", "fp:1111"), row(2, "2222", "fp:2222")));
+		chunks.put(2, List.<Object[]>of(row(3, "3333", "fp:3333")));
+		givenBatchUpdateCounts(null);
+
+		// when
+		runJob(BarcodeReencryptionMode.ENCRYPT_PLAINTEXT, false, 2);
+
+		// then
+		assertThat(queriedLastIds).containsExactly(2, 3);
+		assertThat(updatedRows).extracting(args -> args[1]).containsExactly(3);
+		assertThat(checkpoint.getLastId()).isEqualTo(3);
+		assertThat(checkpoint.getIsCompleted()).isTrue();
+	}
+
+	@Test
+	@DisplayName("조회 이후 바코드가 변경되어 갱신되지 않은 행은 건너뛴 것으로 집계해야 한다")
+	void start_WhenRowChangedAfterRead_ThenGuardedUpdateCountsAsSkipped() throws Exception {
+		// given
+		BarcodeReencryptionCheckpoint checkpoint = givenCheckpoint(BarcodeReencryptionMode.ENCRYPT_PLAINTEXT, 0);
+		chunks.put(0, List.of(row(1, "1111", "fp:1111"), row(2, "2222", "fp:2222")));
+		givenBatchUpdateCounts(new int[] {1, 0});
+
+		// when
+		runJob(BarcodeReencryptionMode.ENCRYPT_PLAINTEXT, false, 10);
+
+		// then
+		// 기존 값을 조건으로 갱신
+		assertThat(updatedRows).extracting(args -> args[2]).containsExactly("1111", "2222");
+		assertThat(checkpoint.getProcessedCount()).isEqualTo(1L);
+		assertThat(checkpoint.getSkippedCount()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("키 교체 시 이전 키로 복호화한 바코드를 현재 키로 다시 암호화해야 한다")
+	void start_WhenRotateKey_ThenReencryptWithCurrentKey() throws Exception {
+		// given
+		BarcodeReencryptionCheckpoint checkpoint = givenCheckpoint(BarcodeReencryptionMode.ROTATE_KEY, 0);
+		chunks.put(0, List.<Object[]>of(row(1, previousEncryptionUtil.encrypt("1111"), "fp:1111")));
+		givenBatchUpdateCounts(null);
+
+		// when
+		runJob(BarcodeReencryptionMode.ROTATE_KEY, false, 10);
+
+		// then
+		assertThat(updatedRows).hasSize(1);
+		assertThat(EncryptionUtil.forKey(CURRENT_KEY).decrypt((String)updatedRows.get(0)[0])).isEqualTo("1111");
+		assertThat(checkpoint.getProcessedCount()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("키 교체 시 이미 현재 키로 암호화된 행은 건너뛰어야 한다")
+	void start_WhenRotateKeyAndAlreadyCurrentKey_ThenSkip() throws Exception {
+		// given
+		BarcodeReencryptionCheckpoint checkpoint = givenCheckpoint(BarcodeReencryptionMode.ROTATE_KEY, 0);
+		chunks.put(0, List.<Object[]>of(row(1, encryptionUtil.encrypt("1111"), "fp:1111")));
+
+		// when
+		runJob(BarcodeReencryptionMode.ROTATE_KEY, false, 10);
+
+		// then
+		verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+		assertThat(checkpoint.getSkippedCount()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("키 교체 시 지문이 없는 행은 복호화 결과를 검증할 수 없으므로 갱신하지 않고 실패로 집계해야 한다")
+	void start_WhenRotateKeyWithoutFingerprint_ThenCountAsFailed() throws Exception {
+		// given
+		BarcodeReencryptionCheckpoint checkpoint = givenCheckpoint(BarcodeReencryptionMode.ROTATE_KEY, 0);
+		chunks.put(0, List.of(
+			row(1, previousEncryptionUtil.encrypt("1111"), null),
+			row(2, previousEncryptionUtil.encrypt("2222"), "fp:2222")));
+		givenBatchUpdateCounts(null);
+
+		// when
+		runJob(BarcodeReencryptionMode.ROTATE_KEY, false, 10);
+
+		// then
+		assertThat(updatedRows).extracting(args -> args[1]).containsExactly(2);
+		assertThat(checkpoint.getProcessedCount()).isEqualTo(1L);
+		assertThat(checkpoint.getFailedCount()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("평문 암호화 시 지문이 없는 행은 평문인지 판단할 수 없으므로 갱신하지 않고 실패로 집계해야 한다")
+	void start_WhenEncryptPlaintextWithoutFingerprint_ThenCountAsFailed() throws Exception {
+		// given
+		BarcodeReencryptionCheckpoint checkpoint = givenCheckpoint(BarcodeReencryptionMode.ENCRYPT_PLAINTEXT, 0);
+		chunks.put(0, List.of(row(1, encryptionUtil.encrypt("1111"), null), row(2, "2222", "fp:2222")));
+		givenBatchUpdateCounts(null);
+
+		// when
+		runJob(BarcodeReencryptionMode.ENCRYPT_PLAINTEXT, false, 10);
+
+		// then
+		assertThat(updatedRows).extracting(args -> args[1]).containsExactly(2);
+		assertThat(checkpoint.getProcessedCount()).isEqualTo(1L);
+		assertThat(checkpoint.getFailedCount()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("평문 암호화를 처음부터 다시 실행해도 이미 암호화된 행은 다시 암호화하지 않아야 한다")
+	void start_WhenEncryptPlaintextRestartedOverEncryptedRows_ThenSkip() throws Exception {
+		// given
+		BarcodeReencryptionCheckpoint checkpoint = givenCheckpoint(BarcodeReencryptionMode.ENCRYPT_PLAINTEXT, 1);
+		chunks.put(0, List.<Object[]>of(row(1, encryptionUtil.encrypt("1111"), "fp:1111")));
+
+		// when
+		runJob(BarcodeReencryptionMode.ENCRYPT_PLAINTEXT, true, 10);
+
+		// then
+		assertThat(queriedLastIds).containsExactly(0, 1);
+		verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+		assertThat(checkpoint.getSkippedCount()).isEqualTo(1L);
+	}
+
+	private BarcodeReencryptionCheckpoint givenCheckpoint(BarcodeReencryptionMode mode, int lastId) {
+		BarcodeReencryptionCheckpoint checkpoint = BarcodeReencryptionCheckpoint.builder()
+			.jobName(mode.name())
+			.lastId(lastId)
+			.build();
+		given(checkpointRepository.findById(mode.name())).willReturn(Optional.of(checkpoint));
+		return checkpoint;
+	}
+
+	// counts가 null이면 모든 행 갱신 성공
+	private void givenBatchUpdateCounts(int[] counts) {
+		given(jdbcTemplate.batchUpdate(anyString(), anyList())).willAnswer(invocation -> {
+			List<Object[]> batchArgs = invocation.getArgument(1);
+			updatedRows.addAll(batchArgs);
+			if (counts != null) {
+				return counts;
+			}
+			int[] updated = new int[batchArgs.size()];
+			Arrays.fill(updated, 1);
+			return updated;
+		});
+	}
+
+	private void runJob(BarcodeReencryptionMode mode, boolean restart, int chunkSize) throws InterruptedException {
+		barcodeReencryptionService.start(mode, restart, chunkSize);
+
+		long deadline = System.currentTimeMillis() + JOB_TIMEOUT_MILLIS;
+		while (barcodeReencryptionService.getProgress(mode).getRunning()) {
+			if (System.currentTimeMillis() > deadline) {
+				fail("재암호화 작업이 제한 시간 안에 끝나지 않음");
+			}
+			Thread.sleep(10);
+		}
+	}
+
+	private Object[] row(Integer id, String barcode, String fingerprint) {
+		return new Object[] {id, barcode, fingerprint};
+	}
+
+	private ResultSet toResultSet(Object[] row) throws SQLException {
+		ResultSet resultSet = mock(ResultSet.class);
+		given(resultSet.getInt("id")).willReturn((Integer)row[0]);
+		given(resultSet.getString("barcode")).willReturn((String)row[1]);
+		given(resultSet.getString("barcode_fingerprint")).willReturn((String)row[2]);
+		return resultSet;
+	}
+}
@@ -5,6 +5,20 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,26 +27,52 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.eurachacha.achacha.application.port.input.file.FileResolver;
+import com.eurachacha.achacha.application.port.input.file.dto.FileKey;
+import com.eurachacha.achacha.application.port.input.gifticon.GifticonVisibilityAppService;
+import com.eurachacha.achacha.application.port.input.gifticon.dto.request.BarcodeCropAreaDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.request.GifticonSaveRequestDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.GifticonBarcodeResponseDto;
+import com.eurachacha.achacha.application.port.input.gifticon.dto.response.GifticonMetadataBatchResultDto;
+import com.eurachacha.achacha.application.port.input.gifticon.dto.response.GifticonMetadataResponseDto;
+import com.eurachacha.achacha.application.port.input.gifticon.dto.response.UsedGifticonDetailResponseDto;
+import com.eurachacha.achacha.application.port.output.ai.AIServicePort;
 import com.eurachacha.achacha.application.port.output.ai.OcrTrainingDataRepository;
+import com.eurachacha.achacha.application.port.output.ai.dto.response.GifticonMetadataDto;
 import com.eurachacha.achacha.application.port.output.auth.SecurityServicePort;
 import com.eurachacha.achacha.application.port.output.brand.BrandRepository;
 import com.eurachacha.achacha.application.port.output.file.FileRepository;
 import com.eurachacha.achacha.application.port.output.file.FileStoragePort;
+import com.eurachacha.achacha.application.port.output.file.ImageProcessingPort;
+import com.eurachacha.achacha.application.port.output.file.dto.GeneratedImageDto;
+import com.eurachacha.achacha.application.port.output.file.dto.ImageCropAreaDto;
+import com.eurachacha.achacha.application.port.output.file.dto.StagedFileDto;
+import com.eurachacha.achacha.application.port.output.gifticon.BarcodeFingerprintPort;
 import com.eurachacha.achacha.application.port.output.gifticon.GifticonRepository;
+import com.eurachacha.achacha.application.port.output.gifticon.GifticonVisibilityRepository;
+import com.eurachacha.achacha.application.port.output.history.GifticonActivityRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationSettingRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationTypeRepository;
+import com.eurachacha.achacha.application.port.output.ocr.OcrPort;
 import com.eurachacha.achacha.application.port.output.sharebox.ParticipationRepository;
 import com.eurachacha.achacha.application.port.output.sharebox.ShareBoxRepository;
+import com.eurachacha.achacha.application.service.file.FileReleaseEventListenerImpl;
+import com.eurachacha.achacha.application.service.file.event.FileReleasedEvent;
+import com.eurachacha.achacha.domain.model.ai.OcrTrainingData;
 import com.eurachacha.achacha.domain.model.brand.Brand;
 import com.eurachacha.achacha.domain.model.file.File;
 import com.eurachacha.achacha.domain.model.file.enums.FileType;
 import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
+import com.eurachacha.achacha.domain.model.history.GifticonActivity;
+import com.eurachacha.achacha.domain.model.history.enums.UsageType;
 import com.eurachacha.achacha.domain.model.notification.Notification;
 import com.eurachacha.achacha.domain.model.notification.NotificationType;
 import com.eurachacha.achacha.domain.model.notification.enums.NotificationTypeCode;
@@ -53,6 +93,9 @@ class GifticonAppServiceImplTest {
 	@Mock
 	private GifticonRepository gifticonRepository;
 
+	@Mock
+	private BarcodeFingerprintPort barcodeFingerprintPort;
+
 	@Mock
 	private ParticipationRepository participationRepository;
 
@@ -65,12 +108,30 @@ class GifticonAppServiceImplTest {
 	@Mock
 	private OcrTrainingDataRepository ocrTrainingDataRepository;
 
+	@Mock
+	private ExtractionResultCache extractionResultCache;
+
+	@Mock
+	private OcrPort ocrPort;
+
+	@Mock
+	private AIServicePort aiServicePort;
+
 	@Mock
 	private FileStoragePort fileStoragePort;
 
+	@Mock
+	private ImageProcessingPort imageProcessingPort;
+
 	@Mock
 	private FileRepository fileRepository;
 
+	@Mock
+	private FileResolver fileResolver;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
 	@Mock
 	private FileDomainService fileDomainService;
 
@@ -89,9 +150,236 @@ class GifticonAppServiceImplTest {
 	@Mock
 	private NotificationSettingDomainService notificationSettingDomainService;
 
+	@Mock
+	private GifticonVisibilityRepository gifticonVisibilityRepository;
+
+	@Mock
+	private GifticonVisibilityAppService gifticonVisibilityAppService;
+
+	@Mock
+	private GifticonActivityRepository gifticonActivityRepository;
+
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+
 	@InjectMocks
 	private GifticonAppServiceImpl gifticonAppService;
 
+	@Test
+	@DisplayName("메타데이터 추출 - 캐시에 없으면 OCR, AI 결과를 캐시하고 학습 데이터 저장 후 등록된 브랜드를 함께 반환해야 한다")
+	void extractGifticonMetadata_WhenNewImage_ThenExtractAndSaveTrainingData() {
+		// given
+		MultipartFile image = mock(MultipartFile.class);
+		GifticonMetadataDto metadata = GifticonMetadataDto.builder()
+			.gifticonBarcodeNumber("1234567890")
+			.brandName("테스트 브랜드")
+			.gifticonName("테스트 기프티콘")
+			.gifticonExpiryDate("2030-01-01")
+			.build();
+		Brand brand = Brand.builder().id(3).name("테스트 브랜드").build();
+		useDirectExtractionExecutor();
+
+		willDoNothing().given(fileDomainService).validateImageFile(image);
+		given(fileStoragePort.computeContentHash(image)).willReturn("image-hash");
+		given(extractionResultCache.getOcrResult("image-hash")).willReturn(Optional.empty());
+		given(ocrPort.extractRawOcrResult(image)).willReturn("ocr-result");
+		given(ocrPort.extractText("ocr-result")).willReturn("ocr-text");
+		given(extractionResultCache.getMetadata("ocr-text", "PRODUCT")).willReturn(Optional.empty());
+		given(aiServicePort.extractGifticonInfo("ocr-result", "PRODUCT")).willReturn(metadata);
+		given(ocrTrainingDataRepository.saveOcrResultWithMetadata(eq("ocr-result"), eq("PRODUCT"), eq("image-hash"),
+			eq("1234567890"), eq("테스트 브랜드"), eq("테스트 기프티콘"), eq("2030-01-01"), isNull()))
+			.willReturn(OcrTrainingData.builder().id("training-id").build());
+		given(brandRepository.findByNameEquals("테스트 브랜드")).willReturn(Optional.of(brand));
+
+		// when
+		GifticonMetadataResponseDto result = gifticonAppService
+			.extractGifticonMetadata(image, GifticonType.PRODUCT).join();
+
+		// then
+		assertThat(result.getOcrTrainingDataId()).isEqualTo("training-id");
+		assertThat(result.getBrandId()).isEqualTo(3);
+		assertThat(result.getBrandName()).isEqualTo("테스트 브랜드");
+		assertThat(result.getGifticonBarcodeNumber()).isEqualTo("1234567890");
+		verify(extractionResultCache).putOcrResult("image-hash", "ocr-result");
+		verify(extractionResultCache).putMetadata("ocr-text", "PRODUCT", metadata);
+	}
+
+	@Test
+	@DisplayName("메타데이터 추출 - 캐시에 있으면 OCR, AI를 호출하지 않고 학습 데이터는 저장해야 한다")
+	void extractGifticonMetadata_WhenCached_ThenSkipExternalCallsAndSaveTrainingData() {
+		// given
+		MultipartFile image = mock(MultipartFile.class);
+		GifticonMetadataDto metadata = GifticonMetadataDto.builder()
+			.gifticonBarcodeNumber("1234567890")
+			.brandName("미등록 브랜드")
+			.gifticonName("테스트 기프티콘")
+			.build();
+		useDirectExtractionExecutor();
+
+		willDoNothing().given(fileDomainService).validateImageFile(image);
+		given(fileStoragePort.computeContentHash(image)).willReturn("image-hash");
+		given(extractionResultCache.getOcrResult("image-hash")).willReturn(Optional.of("ocr-result"));
+		given(ocrPort.extractText("ocr-result")).willReturn("ocr-text");
+		given(extractionResultCache.getMetadata("ocr-text", "PRODUCT")).willReturn(Optional.of(metadata));
+		given(ocrTrainingDataRepository.saveOcrResultWithMetadata(eq("ocr-result"), eq("PRODUCT"), eq("image-hash"),
+			eq("1234567890"), eq("미등록 브랜드"), eq("테스트 기프티콘"), isNull(), isNull()))
+			.willReturn(OcrTrainingData.builder().id("training-id").build());
+		given(brandRepository.findByNameEquals("미등록 브랜드")).willReturn(Optional.empty());
+
+		// when
+		GifticonMetadataResponseDto result = gifticonAppService
+			.extractGifticonMetadata(image, GifticonType.PRODUCT).join();
+
+		// then
+		assertThat(result.getOcrTrainingDataId()).isEqualTo("training-id");
+		assertThat(result.getBrandId()).isNull();
+		assertThat(result.getBrandName()).isNull();
+		verify(ocrPort, never()).extractRawOcrResult(any());
+		verify(aiServicePort, never()).extractGifticonInfo(anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("메타데이터 일괄 추출 - 실패한 이미지는 에러 코드로 전달하고 성공한 이미지의 학습 데이터만 저장해야 한다")
+	void extractGifticonMetadataBatch_WhenOneImageInvalid_ThenReportErrorAndSaveOthers() {
+		// given
+		MultipartFile validImage = mock(MultipartFile.class);
+		MultipartFile invalidImage = mock(MultipartFile.class);
+		GifticonMetadataDto metadata = GifticonMetadataDto.builder()
+			.gifticonBarcodeNumber("1234567890")
+			.brandName("테스트 브랜드")
+			.gifticonName("테스트 기프티콘")
+			.build();
+		OcrTrainingData trainingData = OcrTrainingData.builder().id("training-id").build();
+		User user = User.builder().id(1).name("테스트 사용자").build();
+		useDirectExtractionExecutor();
+
+		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		willDoNothing().given(fileDomainService).validateImageFile(validImage);
+		willThrow(new CustomException(ErrorCode.FILE_INVALID_CONTENT))
+			.given(fileDomainService).validateImageFile(invalidImage);
+		given(fileStoragePort.computeContentHash(validImage)).willReturn("image-hash");
+		given(extractionResultCache.getOcrResult("image-hash")).willReturn(Optional.of("ocr-result"));
+		given(ocrPort.extractText("ocr-result")).willReturn("ocr-text");
+		given(extractionResultCache.getMetadata("ocr-text", "PRODUCT")).willReturn(Optional.of(metadata));
+		given(ocrTrainingDataRepository.saveOcrResultWithMetadata(eq("ocr-result"), eq("PRODUCT"),
+			eq("image-hash"), eq("1234567890"), eq("테스트 브랜드"), eq("테스트 기프티콘"), isNull(), isNull()))
+			.willReturn(trainingData);
+		given(brandRepository.findByNameEquals("테스트 브랜드"))
+			.willReturn(Optional.of(Brand.builder().id(3).name("테스트 브랜드").build()));
+
+		List<GifticonMetadataBatchResultDto> results = new ArrayList<>();
+
+		// when
+		gifticonAppService.extractGifticonMetadataBatch(List.of(validImage, invalidImage), GifticonType.PRODUCT,
+			results::add).join();
+
+		// then
+		results.sort(Comparator.comparing(GifticonMetadataBatchResultDto::getIndex));
+		assertThat(results).hasSize(2);
+		assertThat(results.get(0).getMetadata().getOcrTrainingDataId()).isEqualTo("training-id");
+		assertThat(results.get(0).getMetadata().getBrandId()).isEqualTo(3);
+		assertThat(results.get(1).getMetadata()).isNull();
+		assertThat(results.get(1).getErrorCode()).isEqualTo(ErrorCode.FILE_INVALID_CONTENT.getCode());
+		verify(ocrTrainingDataRepository, times(1)).saveOcrResultWithMetadata(any(), any(), any(), any(), any(),
+			any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("메타데이터 일괄 추출 - 일괄 추출이 끝나기 전에 받은 결과로 등록해도 학습 데이터가 이미 저장되어 있어야 한다")
+	void extractGifticonMetadataBatch_WhenSavedBeforeBatchFinishes_ThenTrainingDataExists() {
+		// given
+		MultipartFile firstImage = mock(MultipartFile.class);
+		MultipartFile secondImage = mock(MultipartFile.class);
+		GifticonMetadataDto metadata = GifticonMetadataDto.builder()
+			.gifticonBarcodeNumber("1234567890")
+			.brandName("테스트 브랜드")
+			.gifticonName("테스트 기프티콘")
+			.build();
+		User user = User.builder().id(1).name("테스트 사용자").build();
+		useDirectExtractionExecutor();
+
+		// 저장된 학습 데이터 ID (수정 요청은 저장된 문서에만 반영됨)
+		Set<String> savedIds = new HashSet<>();
+		AtomicInteger sequence = new AtomicInteger();
+		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(fileStoragePort.computeContentHash(any())).willReturn("image-hash");
+		given(extractionResultCache.getOcrResult("image-hash")).willReturn(Optional.of("ocr-result"));
+		given(ocrPort.extractText("ocr-result")).willReturn("ocr-text");
+		given(extractionResultCache.getMetadata("ocr-text", "PRODUCT")).willReturn(Optional.of(metadata));
+		given(ocrTrainingDataRepository.saveOcrResultWithMetadata(any(), any(), any(), any(), any(), any(), any(),
+			any())).willAnswer(invocation -> {
+				String id = "training-id-" + sequence.incrementAndGet();
+				savedIds.add(id);
+				return OcrTrainingData.builder().id(id).build();
+			});
+		given(ocrTrainingDataRepository.updateUserCorrectedForProduct(anyString(), any(), any(), any(), any()))
+			.willAnswer(invocation -> savedIds.contains(invocation.<String>getArgument(0))
+				? OcrTrainingData.builder().id(invocation.getArgument(0)).build() : null);
+
+		// 첫 결과를 받자마자 사용자가 수정한 메타데이터로 등록
+		List<OcrTrainingData> correctedData = new ArrayList<>();
+		Consumer<GifticonMetadataBatchResultDto> listener = result -> {
+			if (result.getIndex() == 0) {
+				correctedData.add(ocrTrainingDataRepository.updateUserCorrectedForProduct(
+					result.getMetadata().getOcrTrainingDataId(), "1234567890", "테스트 브랜드", "수정한 상품명", null));
+			}
+		};
+
+		// when
+		gifticonAppService.extractGifticonMetadataBatch(List.of(firstImage, secondImage), GifticonType.PRODUCT,
+			listener).join();
+
+		// then
+		assertThat(correctedData).hasSize(1);
+		assertThat(correctedData.get(0)).isNotNull();
+		assertThat(savedIds).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("메타데이터 일괄 추출 - 추출 스레드 풀이 가득 차 거부되면 요청 스레드에서 처리하지 않고 에러 코드로 전달해야 한다")
+	void extractGifticonMetadataBatch_WhenExecutorRejects_ThenReportServerBusy() {
+		// given
+		MultipartFile firstImage = mock(MultipartFile.class);
+		MultipartFile secondImage = mock(MultipartFile.class);
+		User user = User.builder().id(1).name("테스트 사용자").build();
+		ReflectionTestUtils.setField(gifticonAppService, "extractionTaskExecutor", (Executor)task -> {
+			throw new RejectedExecutionException("추출 스레드 풀 포화");
+		});
+
+		given(securityServicePort.getLoggedInUser()).willReturn(user);
+
+		List<GifticonMetadataBatchResultDto> results = new ArrayList<>();
+
+		// when
+		gifticonAppService.extractGifticonMetadataBatch(List.of(firstImage, secondImage), GifticonType.PRODUCT,
+			results::add).join();
+
+		// then
+		assertThat(results).hasSize(2);
+		assertThat(results).allSatisfy(result ->
+			assertThat(result.getErrorCode()).isEqualTo(ErrorCode.SERVER_BUSY.getCode()));
+		verify(ocrPort, never()).extractRawOcrResult(any());
+		verify(ocrTrainingDataRepository, never()).saveOcrResultWithMetadata(any(), any(), any(), any(), any(),
+			any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("메타데이터 일괄 추출 - 한 번에 받을 수 있는 이미지 수를 넘으면 예외가 발생해야 한다")
+	void extractGifticonMetadataBatch_WhenTooManyImages_ThenThrowException() {
+		// given
+		List<MultipartFile> images = new ArrayList<>();
+		for (int i = 0; i < 21; i++) {
+			images.add(mock(MultipartFile.class));
+		}
+
+		// when & then
+		assertThatThrownBy(() -> gifticonAppService.extractGifticonMetadataBatch(images, GifticonType.PRODUCT,
+			result -> {
+			}))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.BATCH_EXTRACTION_SIZE_EXCEEDED);
+	}
+
 	@Test
 	@DisplayName("금액형 기프티콘 저장 - 성공적으로 저장되면 예외가 발생하지 않아야 한다")
 	void saveGifticon_WhenAmountTypeGifticon_ThenSuccessfullySave() {
@@ -103,16 +391,17 @@ class GifticonAppServiceImplTest {
 
 		User user = User.builder().id(1).name("테스트 사용자").build();
 		Brand brand = Brand.builder().id(1).name("테스트 브랜드").build();
-		Gifticon savedGifticon = Gifticon.builder().id(1).build();
 
 		// BDDMockito를 사용한 mock 설정
 		willDoNothing().given(fileDomainService).validateImageFile(any(MultipartFile.class));
 		willDoNothing().given(gifticonDomainService).validateGifticonAmount(any(), anyInt());
 		given(securityServicePort.getLoggedInUser()).willReturn(user);
-		given(gifticonRepository.existsByBarcode(anyString())).willReturn(false);
+		given(barcodeFingerprintPort.generateFingerprint(anyString())).willReturn("barcode-fingerprint");
+		given(gifticonRepository.existsByBarcodeFingerprint(anyString())).willReturn(false);
 		given(brandRepository.findById(anyInt())).willReturn(brand);
-		given(gifticonRepository.save(any(Gifticon.class))).willReturn(savedGifticon);
-		given(fileStoragePort.uploadFile(any(), any(), anyInt())).willReturn("test/path");
+		given(fileStoragePort.stageFiles(any(), anyMap(), anyMap())).willReturn(createStagedFiles());
+		givenTransactionTemplateExecutesCallback();
+		given(gifticonRepository.save(any(Gifticon.class))).willAnswer(invocation -> invocation.getArgument(0));
 
 		// when
 		gifticonAppService.saveGifticon(requestDto, originalImage, thumbnailImage, barcodeImage);
@@ -120,7 +409,8 @@ class GifticonAppServiceImplTest {
 		// then
 		verify(fileDomainService, times(3)).validateImageFile(any(MultipartFile.class));
 		verify(gifticonDomainService).validateGifticonAmount(eq(GifticonType.AMOUNT), eq(10000));
-		verify(gifticonRepository).existsByBarcode(eq("1234567890"));
+		verify(barcodeFingerprintPort).generateFingerprint(eq("1234567890"));
+		verify(gifticonRepository).existsByBarcodeFingerprint(eq("barcode-fingerprint"));
 		verify(brandRepository).findById(eq(1));
 
 		// Gifticon 저장 검증
@@ -130,13 +420,18 @@ class GifticonAppServiceImplTest {
 
 		assertThat(capturedGifticon.getName()).isEqualTo("테스트 기프티콘");
 		assertThat(capturedGifticon.getBarcode()).isEqualTo("1234567890");
+		assertThat(capturedGifticon.getBarcodeFingerprint()).isEqualTo("barcode-fingerprint");
 		assertThat(capturedGifticon.getType()).isEqualTo(GifticonType.AMOUNT);
 		assertThat(capturedGifticon.getOriginalAmount()).isEqualTo(10000);
 		assertThat(capturedGifticon.getRemainingAmount()).isEqualTo(10000);
 
-		// 파일 업로드 검증
-		verify(fileStoragePort, times(3)).uploadFile(any(), any(), eq(1));
+		// 파일 업로드 및 확정 검증
+		verify(fileStoragePort).stageFiles(any(), anyMap(), eq(Map.of()));
+		verify(imageProcessingPort, never()).generateImages(any(), anyBoolean(), any());
 		verify(fileRepository, times(3)).save(any(File.class));
+		verify(fileStoragePort).promoteStagedFile(eq("original.jpg"), eq(FileType.ORIGINAL));
+		verify(fileStoragePort).promoteStagedFile(eq("thumbnail.jpg"), eq(FileType.THUMBNAIL));
+		verify(fileStoragePort).promoteStagedFile(eq("barcode.jpg"), eq(FileType.BARCODE));
 
 		// 메타데이터 업데이트 검증
 		verify(ocrTrainingDataRepository).updateUserCorrectedForAmount(
@@ -160,16 +455,17 @@ class GifticonAppServiceImplTest {
 
 		User user = User.builder().id(1).name("테스트 사용자").build();
 		Brand brand = Brand.builder().id(1).name("테스트 브랜드").build();
-		Gifticon savedGifticon = Gifticon.builder().id(1).build();
 
 		// BDDMockito를 사용한 mock 설정
 		willDoNothing().given(fileDomainService).validateImageFile(any(MultipartFile.class));
 		willDoNothing().given(gifticonDomainService).validateGifticonAmount(any(), any());
 		given(securityServicePort.getLoggedInUser()).willReturn(user);
-		given(gifticonRepository.existsByBarcode(anyString())).willReturn(false);
+		given(barcodeFingerprintPort.generateFingerprint(anyString())).willReturn("barcode-fingerprint");
+		given(gifticonRepository.existsByBarcodeFingerprint(anyString())).willReturn(false);
 		given(brandRepository.findById(anyInt())).willReturn(brand);
-		given(gifticonRepository.save(any(Gifticon.class))).willReturn(savedGifticon);
-		given(fileStoragePort.uploadFile(any(), any(), anyInt())).willReturn("test/path");
+		given(fileStoragePort.stageFiles(any(), anyMap(), anyMap())).willReturn(createStagedFiles());
+		givenTransactionTemplateExecutesCallback();
+		given(gifticonRepository.save(any(Gifticon.class))).willAnswer(invocation -> invocation.getArgument(0));
 
 		// when
 		gifticonAppService.saveGifticon(requestDto, originalImage, thumbnailImage, barcodeImage);
@@ -188,6 +484,201 @@ class GifticonAppServiceImplTest {
 		);
 	}
 
+	@Test
+	@DisplayName("기프티콘 저장 - 원본 이미지만 보내면 썸네일과 바코드 이미지를 생성하여 함께 업로드해야 한다")
+	void saveGifticon_WhenOnlyOriginalImage_ThenGenerateThumbnailAndBarcodeImages() {
+		// given
+		GifticonSaveRequestDto requestDto = new GifticonSaveRequestDto(
+			"1234567890", 1, "테스트 기프티콘", LocalDate.now().plusMonths(3), GifticonType.PRODUCT,
+			null, null, "1", new BarcodeCropAreaDto(10, 20, 300, 100));
+		MultipartFile originalImage = mock(MultipartFile.class);
+
+		User user = User.builder().id(1).name("테스트 사용자").build();
+		Brand brand = Brand.builder().id(1).name("테스트 브랜드").build();
+		Map<FileType, GeneratedImageDto> generatedImages = Map.of(
+			FileType.THUMBNAIL, GeneratedImageDto.builder().content(new byte[] {1}).extension("jpg").build(),
+			FileType.BARCODE, GeneratedImageDto.builder().content(new byte[] {2}).extension("png").build());
+
+		willDoNothing().given(fileDomainService).validateImageFile(any(MultipartFile.class));
+		given(barcodeFingerprintPort.generateFingerprint(anyString())).willReturn("barcode-fingerprint");
+		given(imageProcessingPort.generateImages(eq(originalImage), eq(true), any(ImageCropAreaDto.class)))
+			.willReturn(generatedImages);
+		given(fileStoragePort.stageFiles(any(), anyMap(), anyMap())).willReturn(createStagedFiles());
+		givenTransactionTemplateExecutesCallback();
+		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(gifticonRepository.existsByBarcodeFingerprint(anyString())).willReturn(false);
+		given(brandRepository.findById(anyInt())).willReturn(brand);
+		given(gifticonRepository.save(any(Gifticon.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		gifticonAppService.saveGifticon(requestDto, originalImage, null, null);
+
+		// then
+		verify(fileDomainService, times(1)).validateImageFile(any(MultipartFile.class));
+
+		ArgumentCaptor<ImageCropAreaDto> cropAreaCaptor = ArgumentCaptor.forClass(ImageCropAreaDto.class);
+		verify(imageProcessingPort).generateImages(eq(originalImage), eq(true), cropAreaCaptor.capture());
+		assertThat(cropAreaCaptor.getValue().getX()).isEqualTo(10);
+		assertThat(cropAreaCaptor.getValue().getY()).isEqualTo(20);
+		assertThat(cropAreaCaptor.getValue().getWidth()).isEqualTo(300);
+		assertThat(cropAreaCaptor.getValue().getHeight()).isEqualTo(100);
+
+		// 업로드 파일은 원본만, 생성 이미지는 함께 업로드
+		verify(fileStoragePort).stageFiles(any(), eq(Map.of(FileType.ORIGINAL, originalImage)), eq(generatedImages));
+		verify(fileRepository, times(3)).save(any(File.class));
+	}
+
+	@Test
+	@DisplayName("기프티콘 저장 - 같은 내용의 파일이 이미 있으면 기존 경로를 참조하고 임시 업로드는 삭제해야 한다")
+	void saveGifticon_WhenSameContentFileExists_ThenReuseExistingPath() {
+		// given
+		GifticonSaveRequestDto requestDto = createProductTypeGifticonRequestDto();
+		MultipartFile originalImage = mock(MultipartFile.class);
+		MultipartFile thumbnailImage = mock(MultipartFile.class);
+		MultipartFile barcodeImage = mock(MultipartFile.class);
+
+		User user = User.builder().id(1).name("테스트 사용자").build();
+		Brand brand = Brand.builder().id(1).name("테스트 브랜드").build();
+		File existingOriginalFile = File.builder()
+			.path("existing-original.jpg")
+			.type(FileType.ORIGINAL)
+			.contentHash("original-hash")
+			.build();
+
+		willDoNothing().given(fileDomainService).validateImageFile(any(MultipartFile.class));
+		given(barcodeFingerprintPort.generateFingerprint(anyString())).willReturn("barcode-fingerprint");
+		given(fileStoragePort.stageFiles(any(), anyMap(), anyMap())).willReturn(createStagedFiles());
+		given(fileRepository.findAllByContentHashIn(anyCollection())).willReturn(List.of(existingOriginalFile));
+		givenTransactionTemplateExecutesCallback();
+		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(gifticonRepository.existsByBarcodeFingerprint(anyString())).willReturn(false);
+		given(brandRepository.findById(anyInt())).willReturn(brand);
+		given(gifticonRepository.save(any(Gifticon.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		gifticonAppService.saveGifticon(requestDto, originalImage, thumbnailImage, barcodeImage);
+
+		// then
+		ArgumentCaptor<File> fileCaptor = ArgumentCaptor.forClass(File.class);
+		verify(fileRepository, times(3)).save(fileCaptor.capture());
+		assertThat(fileCaptor.getAllValues())
+			.extracting(File::getType, File::getPath, File::getContentHash)
+			.containsExactlyInAnyOrder(
+				tuple(FileType.ORIGINAL, "existing-original.jpg", "original-hash"),
+				tuple(FileType.THUMBNAIL, "thumbnail.jpg", "thumbnail-hash"),
+				tuple(FileType.BARCODE, "barcode.jpg", "barcode-hash"));
+
+		// 기존 경로를 참조한 원본은 확정하지 않고 임시 업로드만 삭제
+		verify(fileStoragePort, never()).promoteStagedFile(eq("original.jpg"), any(FileType.class));
+		verify(fileStoragePort).deleteStagedFile(eq("original.jpg"), eq(FileType.ORIGINAL));
+		verify(fileStoragePort).promoteStagedFile(eq("thumbnail.jpg"), eq(FileType.THUMBNAIL));
+		verify(fileStoragePort).promoteStagedFile(eq("barcode.jpg"), eq(FileType.BARCODE));
+	}
+
+	@Test
+	@DisplayName("기프티콘 삭제 후 재등록, 재삭제 - 참조가 남은 공유 경로는 유지하고 마지막 참조가 해제되면 S3 객체를 삭제해야 한다")
+	void deleteGifticon_WhenDeletedReRegisteredAndDeleted_ThenDeleteObjectsOnlyWithoutReferences() {
+		// given
+		List<File> fileRows = new ArrayList<>();
+		AtomicInteger nextGifticonId = new AtomicInteger(1);
+		Map<Integer, Gifticon> gifticons = new HashMap<>();
+		FileReleaseEventListenerImpl fileReleaseEventListener = new FileReleaseEventListenerImpl(fileRepository,
+			fileStoragePort);
+		User user = User.builder().id(1).name("테스트 사용자").build();
+
+		willDoNothing().given(fileDomainService).validateImageFile(any(MultipartFile.class));
+		given(barcodeFingerprintPort.generateFingerprint(anyString())).willReturn("barcode-fingerprint");
+		givenTransactionTemplateExecutesCallback();
+		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(brandRepository.findById(anyInt())).willReturn(Brand.builder().id(1).name("테스트 브랜드").build());
+		given(gifticonRepository.save(any(Gifticon.class))).willAnswer(invocation -> {
+			Gifticon gifticon = invocation.getArgument(0);
+			ReflectionTestUtils.setField(gifticon, "id", nextGifticonId.getAndIncrement());
+			gifticons.put(gifticon.getId(), gifticon);
+			return gifticon;
+		});
+		given(gifticonRepository.findById(anyInt())).willAnswer(invocation -> gifticons.get(invocation.getArgument(0)));
+
+		// 파일 행 저장소 (같은 타입, 같은 내용 해시면 경로 공유)
+		given(fileRepository.save(any(File.class))).willAnswer(invocation -> {
+			fileRows.add(invocation.getArgument(0));
+			return invocation.getArgument(0);
+		});
+		given(fileRepository.findAllByContentHashIn(anyCollection())).willAnswer(invocation -> fileRows.stream()
+			.filter(file -> invocation.<Collection<String>>getArgument(0).contains(file.getContentHash()))
+			.toList());
+		given(fileRepository.findAllByReferenceEntityTypeAndReferenceEntityId(eq("gifticon"), anyInt()))
+			.willAnswer(invocation -> fileRows.stream()
+				.filter(file -> file.getReferenceEntityId().equals(invocation.getArgument(1)))
+				.toList());
+		willAnswer(invocation -> fileRows.removeAll(invocation.getArgument(0)))
+			.given(fileRepository).deleteAll(anyList());
+		given(fileRepository.existsByTypeAndContentHash(any(FileType.class), anyString())).willAnswer(invocation ->
+			fileRows.stream().anyMatch(file -> file.getType() == invocation.getArgument(0)
+				&& file.getContentHash().equals(invocation.getArgument(1))));
+
+		// 삭제 이벤트는 커밋 후 리스너가 처리
+		willAnswer(invocation -> {
+			fileReleaseEventListener.handleFileReleased(invocation.getArgument(0));
+			return null;
+		}).given(applicationEventPublisher).publishEvent(any(FileReleasedEvent.class));
+
+		given(fileStoragePort.stageFiles(any(), anyMap(), anyMap()))
+			.willReturn(createStagedFiles("first"))
+			.willReturn(createStagedFiles("second"))
+			.willReturn(createStagedFiles("third"));
+
+		// when
+		// 1. 등록(id 1) 후 삭제 - 참조가 없으므로 객체 삭제
+		saveGifticonWithImages();
+		gifticonAppService.deleteGifticon(1);
+		verify(fileStoragePort).deleteFile("first-original.jpg", FileType.ORIGINAL);
+		verify(fileStoragePort).deleteFile("first-thumbnail.jpg", FileType.THUMBNAIL);
+		verify(fileStoragePort).deleteFile("first-barcode.jpg", FileType.BARCODE);
+
+		// 2. 같은 내용으로 두 번 재등록 (id 2, 3) - 삭제된 경로가 아닌 새 경로를 두 기프티콘이 공유
+		saveGifticonWithImages();
+		saveGifticonWithImages();
+		assertThat(fileRows).extracting(File::getPath).containsOnly(
+			"second-original.jpg", "second-thumbnail.jpg", "second-barcode.jpg");
+		verify(fileStoragePort).promoteStagedFile("second-original.jpg", FileType.ORIGINAL);
+
+		// 3. 하나를 삭제 - 다른 기프티콘이 참조 중이므로 객체 유지
+		gifticonAppService.deleteGifticon(2);
+		verify(fileStoragePort, never()).deleteFile(startsWith("second-"), any(FileType.class));
+
+		// 4. 마지막 참조 삭제 - 객체 삭제
+		gifticonAppService.deleteGifticon(3);
+
+		// then
+		verify(fileStoragePort).deleteFile("second-original.jpg", FileType.ORIGINAL);
+		verify(fileStoragePort).deleteFile("second-thumbnail.jpg", FileType.THUMBNAIL);
+		verify(fileStoragePort).deleteFile("second-barcode.jpg", FileType.BARCODE);
+		verify(fileStoragePort, never()).deleteFile(startsWith("third-"), any(FileType.class));
+		assertThat(fileRows).isEmpty();
+	}
+
+	@Test
+	@DisplayName("기프티콘 저장 - 바코드 이미지와 바코드 영역이 모두 없으면 예외가 발생해야 한다")
+	void saveGifticon_WhenNoBarcodeImageAndNoCropArea_ThenThrowException() {
+		// given
+		GifticonSaveRequestDto requestDto = createProductTypeGifticonRequestDto();
+		MultipartFile originalImage = mock(MultipartFile.class);
+		MultipartFile thumbnailImage = mock(MultipartFile.class);
+
+		willDoNothing().given(fileDomainService).validateImageFile(any(MultipartFile.class));
+		given(barcodeFingerprintPort.generateFingerprint(anyString())).willReturn("barcode-fingerprint");
+
+		// when & then
+		assertThatThrownBy(() ->
+			gifticonAppService.saveGifticon(requestDto, originalImage, thumbnailImage, null))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.BARCODE_IMAGE_REQUIRED);
+
+		// 업로드하지 않았는지 검증
+		verify(fileStoragePort, never()).stageFiles(any(), anyMap(), anyMap());
+	}
+
 	@Test
 	@DisplayName("기프티콘 저장 - 중복된 바코드 번호가 있으면 예외가 발생해야 한다")
 	void saveGifticon_WhenBarcodeAlreadyExists_ThenThrowException() {
@@ -200,7 +691,10 @@ class GifticonAppServiceImplTest {
 		// BDDMockito를 사용한 mock 설정
 		willDoNothing().given(fileDomainService).validateImageFile(any(MultipartFile.class));
 		willDoNothing().given(gifticonDomainService).validateGifticonAmount(any(), anyInt());
-		given(gifticonRepository.existsByBarcode(anyString())).willReturn(true);
+		given(barcodeFingerprintPort.generateFingerprint(anyString())).willReturn("barcode-fingerprint");
+		given(fileStoragePort.stageFiles(any(), anyMap(), anyMap())).willReturn(createStagedFiles());
+		givenTransactionTemplateExecutesCallback();
+		given(gifticonRepository.existsByBarcodeFingerprint(anyString())).willReturn(true);
 
 		// when & then
 		assertThatThrownBy(() ->
@@ -208,8 +702,10 @@ class GifticonAppServiceImplTest {
 			.isInstanceOf(CustomException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.GIFTICON_BARCODE_DUPLICATE);
 
-		// 저장 메서드가 호출되지 않았는지 검증
+		// 저장 메서드가 호출되지 않고 임시 파일이 삭제되었는지 검증
 		verify(gifticonRepository, never()).save(any(Gifticon.class));
+		verify(fileStoragePort, times(3)).deleteStagedFile(anyString(), any(FileType.class));
+		verify(fileStoragePort, never()).promoteStagedFile(anyString(), any(FileType.class));
 	}
 
 	@Test
@@ -229,7 +725,10 @@ class GifticonAppServiceImplTest {
 		// BDDMockito를 사용한 mock 설정
 		willDoNothing().given(fileDomainService).validateImageFile(any(MultipartFile.class));
 		willDoNothing().given(gifticonDomainService).validateGifticonAmount(any(), anyInt());
-		given(gifticonRepository.existsByBarcode(anyString())).willReturn(false);
+		given(barcodeFingerprintPort.generateFingerprint(anyString())).willReturn("barcode-fingerprint");
+		given(fileStoragePort.stageFiles(any(), anyMap(), anyMap())).willReturn(createStagedFiles());
+		givenTransactionTemplateExecutesCallback();
+		given(gifticonRepository.existsByBarcodeFingerprint(anyString())).willReturn(false);
 		given(shareBoxRepository.findById(anyInt())).willReturn(shareBox);
 		given(participationRepository.checkParticipation(anyInt(), anyInt())).willReturn(false);
 
@@ -239,11 +738,51 @@ class GifticonAppServiceImplTest {
 			.isInstanceOf(CustomException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.UNAUTHORIZED_GIFTICON_ACCESS);
 
-		// 저장 메서드가 호출되지 않았는지 검증
+		// 저장 메서드가 호출되지 않고 임시 파일이 삭제되었는지 검증
 		verify(gifticonRepository, never()).save(any(Gifticon.class));
+		verify(fileStoragePort, times(3)).deleteStagedFile(anyString(), any(FileType.class));
 	}
 
 	// 테스트 헬퍼 메서드
+	private Map<FileType, StagedFileDto> createStagedFiles() {
+		return Map.of(
+			FileType.ORIGINAL, createStagedFile("original.jpg", FileType.ORIGINAL, "original-hash"),
+			FileType.THUMBNAIL, createStagedFile("thumbnail.jpg", FileType.THUMBNAIL, "thumbnail-hash"),
+			FileType.BARCODE, createStagedFile("barcode.jpg", FileType.BARCODE, "barcode-hash"));
+	}
+
+	// 같은 내용(해시)을 다른 임시 파일명으로 업로드한 결과
+	private Map<FileType, StagedFileDto> createStagedFiles(String prefix) {
+		return Map.of(
+			FileType.ORIGINAL, createStagedFile(prefix + "-original.jpg", FileType.ORIGINAL, "original-hash"),
+			FileType.THUMBNAIL, createStagedFile(prefix + "-thumbnail.jpg", FileType.THUMBNAIL, "thumbnail-hash"),
+			FileType.BARCODE, createStagedFile(prefix + "-barcode.jpg", FileType.BARCODE, "barcode-hash"));
+	}
+
+	// 등록 순서대로 기프티콘 id 1, 2, 3 ... 부여
+	private void saveGifticonWithImages() {
+		gifticonAppService.saveGifticon(createProductTypeGifticonRequestDto(), mock(MultipartFile.class),
+			mock(MultipartFile.class), mock(MultipartFile.class));
+	}
+
+	private StagedFileDto createStagedFile(String fileName, FileType fileType, String contentHash) {
+		return StagedFileDto.builder()
+			.fileName(fileName)
+			.fileType(fileType)
+			.contentHash(contentHash)
+			.build();
+	}
+
+	// 비동기 추출 작업을 호출 스레드에서 바로 실행
+	private void useDirectExtractionExecutor() {
+		ReflectionTestUtils.setField(gifticonAppService, "extractionTaskExecutor", (Executor)Runnable::run);
+	}
+
+	private void givenTransactionTemplateExecutesCallback() {
+		given(transactionTemplate.execute(any())).willAnswer(invocation ->
+			invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+	}
+
 	private GifticonSaveRequestDto createAmountTypeGifticonRequestDto() {
 		return new GifticonSaveRequestDto(
 			"1234567890",      // 바코드
@@ -253,7 +792,8 @@ class GifticonAppServiceImplTest {
 			GifticonType.AMOUNT, // 타입
 			10000,              // 금액
 			null,               // 공유박스 ID (없음)
-			"1"                 // OCR 학습 데이터 ID
+			"1",                // OCR 학습 데이터 ID
+			null                // 바코드 영역 (바코드 이미지 업로드)
 		);
 	}
 
@@ -266,7 +806,8 @@ class GifticonAppServiceImplTest {
 			GifticonType.PRODUCT, // 타입
 			null,               // 금액 (상품형은 null)
 			null,               // 공유박스 ID (없음)
-			"1"                 // OCR 학습 데이터 ID
+			"1",                // OCR 학습 데이터 ID
+			null                // 바코드 영역 (바코드 이미지 업로드)
 		);
 	}
 
@@ -279,7 +820,8 @@ class GifticonAppServiceImplTest {
 			GifticonType.AMOUNT, // 타입
 			10000,              // 금액
 			1,                  // 공유박스 ID
-			"1"                 // OCR 학습 데이터 ID
+			"1",                // OCR 학습 데이터 ID
+			null                // 바코드 영역 (바코드 이미지 업로드)
 		);
 	}
 
@@ -298,13 +840,6 @@ class GifticonAppServiceImplTest {
 			.user(user)  // 테스트 사용자가 소유자
 			.build();
 
-		File barcodeFile = File.builder()
-			.id(1)
-			.path("path/to/barcode.jpg")
-			.referenceEntityId(gifticonId)
-			.referenceEntityType("gifticon")
-			.build();
-
 		// Mock 설정
 		given(securityServicePort.getLoggedInUser()).willReturn(user);
 		given(gifticonRepository.findById(gifticonId)).willReturn(gifticon);
@@ -314,11 +849,8 @@ class GifticonAppServiceImplTest {
 		// userId와 gifticon.getUser().getId()가 동일하므로 true 반환해야 함
 		given(gifticonDomainService.hasAccess(eq(userId), eq(userId))).willReturn(true);
 
-		given(fileRepository.findByReferenceEntityTypeAndReferenceEntityIdAndType(eq("gifticon"), eq(gifticonId),
-			eq(FileType.BARCODE)))
-			.willReturn(java.util.Optional.of(barcodeFile));
-		given(fileStoragePort.generateFileUrl(anyString(), eq(FileType.BARCODE))).willReturn(
-			"https://example.com/barcode.jpg");
+		given(fileResolver.resolveUrl(FileKey.of("gifticon", gifticonId, FileType.BARCODE)))
+			.willReturn("https://example.com/barcode.jpg");
 
 		// 스케줄러 작업이 수행될 때는 기프티콘이 사용됨 상태로 변경
 		given(gifticonDomainService.isUsed(any(Gifticon.class))).willReturn(true);
@@ -352,13 +884,6 @@ class GifticonAppServiceImplTest {
 			.user(user)  // 테스트 사용자가 소유자
 			.build();
 
-		File barcodeFile = File.builder()
-			.id(1)
-			.path("path/to/barcode.jpg")
-			.referenceEntityId(gifticonId)
-			.referenceEntityType("gifticon")
-			.build();
-
 		NotificationType notificationType = NotificationType.builder()
 			.id(1)
 			.code(NotificationTypeCode.USAGE_COMPLETE)
@@ -372,11 +897,8 @@ class GifticonAppServiceImplTest {
 		// 중요: hasAccess 메서드를 올바르게 모킹
 		given(gifticonDomainService.hasAccess(eq(userId), eq(userId))).willReturn(true);
 
-		given(fileRepository.findByReferenceEntityTypeAndReferenceEntityIdAndType(eq("gifticon"), eq(gifticonId),
-			eq(FileType.BARCODE)))
-			.willReturn(java.util.Optional.of(barcodeFile));
-		given(fileStoragePort.generateFileUrl(anyString(), eq(FileType.BARCODE))).willReturn(
-			"https://example.com/barcode.jpg");
+		given(fileResolver.resolveUrl(FileKey.of("gifticon", gifticonId, FileType.BARCODE)))
+			.willReturn("https://example.com/barcode.jpg");
 
 		// 스케줄러 작업이 수행될 때 기프티콘이 미사용 상태
 		given(gifticonDomainService.isUsed(any(Gifticon.class))).willReturn(false);
@@ -472,13 +994,6 @@ class GifticonAppServiceImplTest {
 			.user(user)
 			.build();
 
-		File barcodeFile = File.builder()
-			.id(1)
-			.path("path/to/barcode.jpg")
-			.referenceEntityId(gifticonId)
-			.referenceEntityType("gifticon")
-			.build();
-
 		NotificationType notificationType = NotificationType.builder()
 			.id(1)
 			.code(NotificationTypeCode.USAGE_COMPLETE)
@@ -488,11 +1003,8 @@ class GifticonAppServiceImplTest {
 		given(securityServicePort.getLoggedInUser()).willReturn(user);
 		given(gifticonRepository.findById(gifticonId)).willReturn(gifticon);
 		willDoNothing().given(gifticonDomainService).validateGifticonIsAvailable(gifticon);
-		given(fileRepository.findByReferenceEntityTypeAndReferenceEntityIdAndType(eq("gifticon"), eq(gifticonId),
-			eq(FileType.BARCODE)))
-			.willReturn(java.util.Optional.of(barcodeFile));
-		given(fileStoragePort.generateFileUrl(anyString(), eq(FileType.BARCODE))).willReturn(
-			"https://example.com/barcode.jpg");
+		given(fileResolver.resolveUrl(FileKey.of("gifticon", gifticonId, FileType.BARCODE)))
+			.willReturn("https://example.com/barcode.jpg");
 
 		given(gifticonDomainService.hasAccess(userId, userId)).willReturn(true);
 		given(gifticonDomainService.isUsed(any(Gifticon.class))).willReturn(false);
@@ -532,13 +1044,6 @@ class GifticonAppServiceImplTest {
 			.sharebox(shareBox)
 			.build();
 
-		File barcodeFile = File.builder()
-			.id(1)
-			.path("path/to/barcode.jpg")
-			.referenceEntityId(gifticonId)
-			.referenceEntityType("gifticon")
-			.build();
-
 		NotificationType notificationType = NotificationType.builder()
 			.id(1)
 			.code(NotificationTypeCode.USAGE_COMPLETE)
@@ -548,14 +1053,11 @@ class GifticonAppServiceImplTest {
 		given(securityServicePort.getLoggedInUser()).willReturn(user);
 		given(gifticonRepository.findById(gifticonId)).willReturn(gifticon);
 		willDoNothing().given(gifticonDomainService).validateGifticonIsAvailable(gifticon);
-		given(fileRepository.findByReferenceEntityTypeAndReferenceEntityIdAndType(eq("gifticon"), eq(gifticonId),
-			eq(FileType.BARCODE)))
-			.willReturn(java.util.Optional.of(barcodeFile));
-		given(fileStoragePort.generateFileUrl(anyString(), eq(FileType.BARCODE))).willReturn(
-			"https://example.com/barcode.jpg");
+		given(fileResolver.resolveUrl(FileKey.of("gifticon", gifticonId, FileType.BARCODE)))
+			.willReturn("https://example.com/barcode.jpg");
 
-		// 쉐어박스 참여 확인
-		given(participationRepository.checkParticipation(userId, shareBoxId)).willReturn(true);
+		// 조회 모델 접근 확인
+		given(gifticonVisibilityRepository.existsByUserIdAndGifticonId(userId, gifticonId)).willReturn(true);
 		given(gifticonDomainService.isUsed(any(Gifticon.class))).willReturn(false);
 		given(notificationTypeRepository.findByCode(NotificationTypeCode.USAGE_COMPLETE)).willReturn(notificationType);
 
@@ -630,7 +1132,8 @@ class GifticonAppServiceImplTest {
 		given(gifticonRepository.findById(gifticonId)).willReturn(gifticon);
 		willDoNothing().given(gifticonDomainService).validateGifticonIsAvailable(gifticon);
 
-		// 쉐어박스 참여 확인 실패
+		// 조회 모델 접근 확인 실패, 참여 여부 확인 실패
+		given(gifticonVisibilityRepository.existsByUserIdAndGifticonId(userId, gifticonId)).willReturn(false);
 		given(participationRepository.checkParticipation(userId, shareBoxId)).willReturn(false);
 
 		// when & then
@@ -638,4 +1141,123 @@ class GifticonAppServiceImplTest {
 			.isInstanceOf(CustomException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.UNAUTHORIZED_GIFTICON_ACCESS);
 	}
+
+	@Test
+	@DisplayName("사용가능 바코드 조회 - 최초 재구성 전에는 조회 모델에 행이 없어도 쉐어박스 참여자라면 조회할 수 있어야 한다")
+	void getAvailableGifticonBarcode_WhenNotReadyAndParticipating_ThenSuccess() {
+		// given
+		Integer gifticonId = 1;
+		Integer userId = 1;
+		Integer ownerId = 2;
+		Integer shareBoxId = 1;
+
+		User user = User.builder().id(userId).name("테스트 사용자").build();
+		User owner = User.builder().id(ownerId).name("소유자").build();
+		ShareBox shareBox = ShareBox.builder().id(shareBoxId).name("테스트 쉐어박스").build();
+
+		Gifticon gifticon = Gifticon.builder()
+			.id(gifticonId)
+			.name("테스트 기프티콘")
+			.barcode("1234567890")
+			.user(owner)
+			.sharebox(shareBox)
+			.build();
+
+		// Mock 설정
+		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(gifticonRepository.findById(gifticonId)).willReturn(gifticon);
+		willDoNothing().given(gifticonDomainService).validateGifticonIsAvailable(gifticon);
+		given(fileResolver.resolveUrl(FileKey.of("gifticon", gifticonId, FileType.BARCODE)))
+			.willReturn("https://example.com/barcode.jpg");
+
+		// 조회 모델 최초 재구성 전 (행 없음), 참여 여부로 판단
+		given(gifticonVisibilityRepository.existsByUserIdAndGifticonId(userId, gifticonId)).willReturn(false);
+		given(gifticonVisibilityAppService.isReady()).willReturn(false);
+		given(participationRepository.checkParticipation(userId, shareBoxId)).willReturn(true);
+
+		// when
+		GifticonBarcodeResponseDto result = gifticonAppService.getAvailableGifticonBarcode(gifticonId);
+
+		// then
+		assertThat(result.getGifticonBarcodeNumber()).isEqualTo("1234567890");
+		assertThat(result.getBarcodePath()).isEqualTo("https://example.com/barcode.jpg");
+	}
+
+	@Test
+	@DisplayName("사용가능 바코드 조회 - 최초 재구성 후에는 조회 모델에 행이 없으면 참여 여부를 확인하지 않고 예외가 발생해야 한다")
+	void getAvailableGifticonBarcode_WhenReadyAndVisibilityRowMissing_ThenThrowWithoutParticipationCheck() {
+		// given
+		Integer gifticonId = 1;
+		Integer userId = 1;
+		User user = User.builder().id(userId).name("테스트 사용자").build();
+		User owner = User.builder().id(2).name("소유자").build();
+		ShareBox shareBox = ShareBox.builder().id(1).name("테스트 쉐어박스").build();
+
+		Gifticon gifticon = Gifticon.builder()
+			.id(gifticonId)
+			.name("테스트 기프티콘")
+			.barcode("1234567890")
+			.user(owner)
+			.sharebox(shareBox)
+			.build();
+
+		given(securityServicePort.getLoggedInUser()).willReturn(user);
+		given(gifticonRepository.findById(gifticonId)).willReturn(gifticon);
+		willDoNothing().given(gifticonDomainService).validateGifticonIsAvailable(gifticon);
+		given(gifticonVisibilityRepository.existsByUserIdAndGifticonId(userId, gifticonId)).willReturn(false);
+		given(gifticonVisibilityAppService.isReady()).willReturn(true);
+
+		// when & then
+		assertThatThrownBy(() -> gifticonAppService.getAvailableGifticonBarcode(gifticonId))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.UNAUTHORIZED_GIFTICON_ACCESS);
+		verify(participationRepository, never()).checkParticipation(anyInt(), anyInt());
+	}
+
+	@Test
+	@DisplayName("사용완료 기프티콘 상세 조회 - 뿌리기 후 받은 사용자가 사용해도 보낸 사용자의 사용완료 내역은 유지되어야 한다")
+	void getUsedGifticonDetail_WhenReceiverUsedAfterGiveAway_ThenGiverStillSeesGiveAway() {
+		// given
+		Integer gifticonId = 1;
+		User giver = User.builder().id(1).name("보낸 사용자").build();
+		User receiver = User.builder().id(2).name("받은 사용자").build();
+		Brand brand = Brand.builder().id(1).name("스타벅스").build();
+		LocalDateTime givenAt = LocalDateTime.of(2025, 5, 1, 12, 0);
+
+		// 받은 사용자가 이후에 전부 사용한 기프티콘
+		Gifticon gifticon = Gifticon.builder()
+			.id(gifticonId)
+			.name("아메리카노")
+			.type(GifticonType.PRODUCT)
+			.brand(brand)
+			.user(receiver)
+			.isUsed(true)
+			.build();
+
+		GifticonActivity giverActivity = GifticonActivity.builder()
+			.userId(giver.getId())
+			.gifticonId(gifticonId)
+			.usageType(UsageType.GIVE_AWAY)
+			.usedAt(givenAt)
+			.build();
+
+		FileKey thumbnailKey = FileKey.of("gifticon", gifticonId, FileType.THUMBNAIL);
+
+		given(securityServicePort.getLoggedInUser()).willReturn(giver);
+		given(gifticonRepository.getGifticonDetail(gifticonId)).willReturn(gifticon);
+		given(gifticonActivityRepository.findByUserIdAndGifticonId(giver.getId(), gifticonId))
+			.willReturn(Optional.of(giverActivity));
+		given(fileResolver.resolveUrls(List.of(thumbnailKey)))
+			.willReturn(Map.of(thumbnailKey, "https://example.com/thumbnail.jpg"));
+
+		// when
+		UsedGifticonDetailResponseDto result = gifticonAppService.getUsedGifticonDetail(gifticonId);
+
+		// then
+		assertThat(result.getUsageType()).isEqualTo(UsageType.GIVE_AWAY);
+		assertThat(result.getUsageHistoryCreatedAt()).isEqualTo(givenAt);
+		assertThat(result.getThumbnailPath()).isEqualTo("https://example.com/thumbnail.jpg");
+		assertThat(result.getOriginalImagePath()).isNull();
+		verify(participationRepository, never()).checkParticipation(any(), any());
+	}
 }
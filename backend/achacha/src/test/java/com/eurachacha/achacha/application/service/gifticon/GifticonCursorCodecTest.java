@@ -0,0 +1,78 @@
+package com.eurachacha.achacha.application.service.gifticon;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.eurachacha.achacha.application.port.output.gifticon.dto.GifticonCursor;
+import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
+import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonSortType;
+import com.eurachacha.achacha.web.common.exception.CustomException;
+import com.eurachacha.achacha.web.common.exception.ErrorCode;
+
+class GifticonCursorCodecTest {
+
+	@Test
+	@DisplayName("커서 인코딩 - 등록순 커서는 생성시각과 id를 그대로 복원해야 한다")
+	void encode_WhenCreatedDesc_ThenDecodeSameKeys() {
+		// given
+		LocalDateTime createdAt = LocalDateTime.of(2025, 5, 1, 12, 30, 15, 123456000);
+		Gifticon gifticon = Gifticon.builder().id(42).expiryDate(LocalDate.of(2025, 6, 1)).build();
+		gifticon.updateCreatedAt(createdAt);
+
+		// when
+		String token = GifticonCursorCodec.encode(GifticonCursor.of(gifticon, GifticonSortType.CREATED_DESC));
+		GifticonCursor decoded = GifticonCursorCodec.decode(token, GifticonSortType.CREATED_DESC);
+
+		// then
+		assertThat(decoded.getSortType()).isEqualTo(GifticonSortType.CREATED_DESC);
+		assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+		assertThat(decoded.getExpiryDate()).isNull();
+		assertThat(decoded.getId()).isEqualTo(42);
+	}
+
+	@Test
+	@DisplayName("커서 인코딩 - 만료순 커서는 만료일과 id를 그대로 복원해야 한다")
+	void encode_WhenExpiryAsc_ThenDecodeSameKeys() {
+		// given
+		LocalDate expiryDate = LocalDate.of(2025, 6, 1);
+		Gifticon gifticon = Gifticon.builder().id(7).expiryDate(expiryDate).build();
+		gifticon.updateCreatedAt(LocalDateTime.now());
+
+		// when
+		String token = GifticonCursorCodec.encode(GifticonCursor.of(gifticon, GifticonSortType.EXPIRY_ASC));
+		GifticonCursor decoded = GifticonCursorCodec.decode(token, GifticonSortType.EXPIRY_ASC);
+
+		// then
+		assertThat(decoded.getExpiryDate()).isEqualTo(expiryDate);
+		assertThat(decoded.getCreatedAt()).isNull();
+		assertThat(decoded.getId()).isEqualTo(7);
+	}
+
+	@Test
+	@DisplayName("커서 해석 - 요청 정렬과 커서 정렬이 다르면 예외가 발생해야 한다")
+	void decode_WhenSortTypeMismatch_ThenThrowException() {
+		// given
+		Gifticon gifticon = Gifticon.builder().id(1).expiryDate(LocalDate.of(2025, 6, 1)).build();
+		gifticon.updateCreatedAt(LocalDateTime.now());
+		String token = GifticonCursorCodec.encode(GifticonCursor.of(gifticon, GifticonSortType.CREATED_DESC));
+
+		// when & then
+		assertThatThrownBy(() -> GifticonCursorCodec.decode(token, GifticonSortType.EXPIRY_ASC))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PAGE_CURSOR);
+	}
+
+	@Test
+	@DisplayName("커서 해석 - 변조된 토큰이면 예외가 발생해야 한다")
+	void decode_WhenMalformedToken_ThenThrowException() {
+		// when & then
+		assertThatThrownBy(() -> GifticonCursorCodec.decode("not-a-cursor", GifticonSortType.CREATED_DESC))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PAGE_CURSOR);
+	}
+}
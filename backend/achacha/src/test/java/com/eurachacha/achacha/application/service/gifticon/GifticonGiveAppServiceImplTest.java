@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -18,12 +19,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
+import com.eurachacha.achacha.application.port.input.gifticon.GifticonVisibilityAppService;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.request.GifticonPresentRequestDto;
 import com.eurachacha.achacha.application.port.input.gifticon.dto.response.GifticonPresentResponseDto;
 import com.eurachacha.achacha.application.port.output.auth.SecurityServicePort;
 import com.eurachacha.achacha.application.port.output.ble.BleTokenRepository;
 import com.eurachacha.achacha.application.port.output.gifticon.GifticonRepository;
+import com.eurachacha.achacha.application.port.output.history.GifticonActivityRepository;
 import com.eurachacha.achacha.application.port.output.history.GifticonOwnerHistoryRepository;
+import com.eurachacha.achacha.application.port.output.history.UsageHistoryRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationSettingRepository;
 import com.eurachacha.achacha.application.port.output.notification.NotificationTypeRepository;
@@ -40,6 +44,7 @@ import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
 import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonType;
 import com.eurachacha.achacha.domain.model.history.GifticonOwnerHistory;
 import com.eurachacha.achacha.domain.model.history.enums.TransferType;
+import com.eurachacha.achacha.domain.model.history.enums.UsageType;
 import com.eurachacha.achacha.domain.model.notification.Notification;
 import com.eurachacha.achacha.domain.model.notification.NotificationSetting;
 import com.eurachacha.achacha.domain.model.notification.NotificationType;
@@ -82,6 +87,12 @@ public class GifticonGiveAppServiceImplTest {
 	@Mock
 	private GifticonOwnerHistoryRepository gifticonOwnerHistoryRepository;
 
+	@Mock
+	private GifticonActivityRepository gifticonActivityRepository;
+
+	@Mock
+	private UsageHistoryRepository usageHistoryRepository;
+
 	@Mock
 	private BleTokenRepository bleTokenRepository;
 
@@ -104,6 +115,9 @@ public class GifticonGiveAppServiceImplTest {
 	@Mock
 	private FcmTokenRepository fcmTokenRepository;
 
+	@Mock
+	private GifticonVisibilityAppService gifticonVisibilityAppService;
+
 	@InjectMocks
 	private GifticonGiveAppServiceImpl gifticonGiveAppService;
 
@@ -168,6 +182,10 @@ public class GifticonGiveAppServiceImplTest {
 		assertThat(capturedHistory.getToUser()).isNull(); // 선물의 경우 받는 사람은 null
 		assertThat(capturedHistory.getTransferType()).isEqualTo(TransferType.PRESENT);
 
+		// 보낸 사람 기준 사용완료 정보 기록 확인
+		verify(gifticonActivityRepository).record(eq(user.getId()), eq(gifticonId), eq(UsageType.PRESENT),
+			any(LocalDateTime.class));
+
 		// 5. 선물 카드 저장 확인
 		ArgumentCaptor<PresentCard> cardCaptor = ArgumentCaptor.forClass(PresentCard.class);
 		verify(presentCardRepository).save(cardCaptor.capture());
@@ -622,6 +640,10 @@ public class GifticonGiveAppServiceImplTest {
 
 		// 5. 기프티콘 소유자가 변경되었는지 확인
 		assertThat(validGifticon.getUser()).isEqualTo(receiverUser);
+
+		// 6. 보낸 사람 기준 사용완료 정보가 기록되었는지 확인
+		verify(gifticonActivityRepository).record(eq(loggedInUser.getId()), eq(validGifticon.getId()),
+			eq(UsageType.GIVE_AWAY), any(LocalDateTime.class));
 	}
 
 	@Test
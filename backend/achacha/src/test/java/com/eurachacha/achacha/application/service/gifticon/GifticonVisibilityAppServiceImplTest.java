@@ -0,0 +1,144 @@
+package com.eurachacha.achacha.application.service.gifticon;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eurachacha.achacha.application.port.output.gifticon.GifticonRepository;
+import com.eurachacha.achacha.application.port.output.gifticon.GifticonVisibilityCheckpointRepository;
+import com.eurachacha.achacha.application.port.output.gifticon.GifticonVisibilityRepository;
+import com.eurachacha.achacha.application.port.output.sharebox.ParticipationRepository;
+import com.eurachacha.achacha.domain.model.gifticon.Gifticon;
+import com.eurachacha.achacha.domain.model.gifticon.GifticonVisibilityCheckpoint;
+import com.eurachacha.achacha.domain.model.user.User;
+
+@ExtendWith(MockitoExtension.class)
+class GifticonVisibilityAppServiceImplTest {
+
+	private static final String JOB = GifticonVisibilityCheckpoint.INITIAL_REBUILD;
+
+	@Mock
+	private GifticonVisibilityRepository gifticonVisibilityRepository;
+
+	@Mock
+	private GifticonVisibilityCheckpointRepository checkpointRepository;
+
+	@Mock
+	private GifticonRepository gifticonRepository;
+
+	@Mock
+	private ParticipationRepository participationRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private GifticonVisibilityAppServiceImpl gifticonVisibilityAppService;
+
+	@BeforeEach
+	void setUp() {
+		gifticonVisibilityAppService = new GifticonVisibilityAppServiceImpl(gifticonVisibilityRepository,
+			checkpointRepository, gifticonRepository, participationRepository,
+			new TransactionTemplate(transactionManager));
+	}
+
+	@Test
+	@DisplayName("최초 재구성 - 체크포인트의 마지막 id부터 이어서 처리하고 완료 표시 후 준비 상태가 되어야 한다")
+	void initialize_WhenNotCompleted_ThenResumeFromCheckpointAndComplete() {
+		// given
+		GifticonVisibilityCheckpoint checkpoint = GifticonVisibilityCheckpoint.builder()
+			.jobName(JOB)
+			.lastId(10)
+			.build();
+		given(checkpointRepository.isCompleted(JOB)).willReturn(false);
+		given(checkpointRepository.getOrCreate(JOB)).willReturn(checkpoint);
+		given(gifticonRepository.findAvailableGifticonsAfterId(eq(10), anyInt()))
+			.willReturn(List.of(gifticon(11, 1), gifticon(12, 2)));
+		given(gifticonRepository.findAvailableGifticonsAfterId(eq(12), anyInt())).willReturn(List.of());
+		given(participationRepository.findAllByShareBoxIds(List.of())).willReturn(List.of());
+
+		// when
+		gifticonVisibilityAppService.initialize();
+
+		// then
+		verify(gifticonVisibilityRepository).upsertAll(argThat(visibilities -> visibilities.size() == 2));
+		verify(gifticonVisibilityRepository).deleteStaleByGifticonIds(List.of(11, 12));
+		assertThat(checkpoint.getLastId()).isEqualTo(12);
+		assertThat(checkpoint.getIsCompleted()).isTrue();
+		assertThat(gifticonVisibilityAppService.isReady()).isTrue();
+	}
+
+	@Test
+	@DisplayName("최초 재구성이 완료된 경우 서버 시작 시 다시 재구성하지 않아야 한다")
+	void initialize_WhenCompleted_ThenSkip() {
+		// given
+		given(checkpointRepository.isCompleted(JOB)).willReturn(true);
+
+		// when
+		gifticonVisibilityAppService.initialize();
+
+		// then
+		verify(gifticonRepository, never()).findAvailableGifticonsAfterId(anyInt(), anyInt());
+		verify(checkpointRepository, never()).getOrCreate(anyString());
+	}
+
+	@Test
+	@DisplayName("준비 상태 확인 - 완료가 한 번 확인되면 체크포인트를 다시 조회하지 않아야 한다")
+	void isReady_WhenCompletedOnce_ThenCached() {
+		// given
+		given(checkpointRepository.isCompleted(JOB)).willReturn(true);
+
+		// when
+		gifticonVisibilityAppService.isReady();
+		boolean ready = gifticonVisibilityAppService.isReady();
+
+		// then
+		assertThat(ready).isTrue();
+		verify(checkpointRepository, times(1)).isCompleted(JOB);
+	}
+
+	@Test
+	@DisplayName("사용된 기프티콘 갱신 - 행을 만들지 않고 남은 행만 정리해야 한다")
+	void refreshGifticon_WhenUsed_ThenOnlyDeleteStaleRows() {
+		// given
+		Gifticon gifticon = Gifticon.builder().id(1).user(User.builder().id(1).build()).isUsed(true).build();
+
+		// when
+		gifticonVisibilityAppService.refreshGifticon(gifticon);
+
+		// then
+		verify(gifticonVisibilityRepository, never()).upsertAll(anyList());
+		verify(gifticonVisibilityRepository).deleteStaleByGifticonIds(List.of(1));
+	}
+
+	@Test
+	@DisplayName("사용가능한 기프티콘 갱신 - 소유자 행을 upsert한 뒤 남은 행을 정리해야 한다")
+	void refreshGifticon_WhenAvailable_ThenUpsertOwnerRowAndDeleteStaleRows() {
+		// given
+		Gifticon gifticon = gifticon(1, 7);
+
+		// when
+		gifticonVisibilityAppService.refreshGifticon(gifticon);
+
+		// then
+		verify(gifticonVisibilityRepository).upsertAll(argThat(visibilities -> visibilities.size() == 1
+			&& visibilities.get(0).getUserId().equals(7)));
+		verify(gifticonVisibilityRepository).deleteStaleByGifticonIds(List.of(1));
+	}
+
+	private Gifticon gifticon(int id, int ownerId) {
+		return Gifticon.builder()
+			.id(id)
+			.user(User.builder().id(ownerId).build())
+			.build();
+	}
+}
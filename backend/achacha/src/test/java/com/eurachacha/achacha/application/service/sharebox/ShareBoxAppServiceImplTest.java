@@ -13,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.eurachacha.achacha.application.port.input.gifticon.GifticonVisibilityAppService;
 import com.eurachacha.achacha.application.port.input.sharebox.dto.request.ShareBoxNameUpdateRequestDto;
 import com.eurachacha.achacha.application.port.input.sharebox.dto.request.ShareBoxParticipationSettingRequestDto;
 import com.eurachacha.achacha.application.port.input.sharebox.dto.response.ShareBoxSettingsResponseDto;
@@ -54,6 +55,9 @@ class ShareBoxAppServiceImplTest {
 	@Mock
 	private SecurityServicePort securityServicePort;
 
+	@Mock
+	private GifticonVisibilityAppService gifticonVisibilityAppService;
+
 	@InjectMocks
 	private ShareBoxAppServiceImpl shareBoxAppService;
 
@@ -102,6 +106,7 @@ class ShareBoxAppServiceImplTest {
 		Gifticon capturedGifticon = gifticonCaptor.getValue();
 
 		assertThat(capturedGifticon.getSharebox()).isEqualTo(shareBox);
+		verify(gifticonVisibilityAppService).refreshGifticon(eq(gifticon));
 	}
 
 	@Test
@@ -245,6 +250,7 @@ class ShareBoxAppServiceImplTest {
 		verify(gifticonDomainService).validateGifticonSharedInShareBox(eq(gifticon), eq(shareBoxId));
 
 		assertThat(gifticon.getSharebox()).isNull();
+		verify(gifticonVisibilityAppService).refreshGifticon(eq(gifticon));
 	}
 
 	@DisplayName("기프티콘 공유 해제 - 쉐어박스가 존재하지 않으면 예외가 발생해야 한다.")
@@ -605,6 +611,7 @@ class ShareBoxAppServiceImplTest {
 		given(shareBoxRepository.findById(shareBoxId)).willReturn(shareBox);
 		given(participationRepository.checkParticipation(userId, shareBoxId)).willReturn(true);
 		given(shareBoxDomainService.isShareBoxOwner(shareBox, userId)).willReturn(false);
+		given(gifticonRepository.unshareAllAvailableGifticonsByUserIdAndShareBoxId(userId, shareBoxId)).willReturn(2);
 
 		// when
 		Throwable thrown = catchThrowable(() -> shareBoxAppService.leaveShareBox(shareBoxId));
@@ -612,7 +619,9 @@ class ShareBoxAppServiceImplTest {
 		// then
 		assertThat(thrown).isNull();
 		verify(gifticonRepository).unshareAllAvailableGifticonsByUserIdAndShareBoxId(eq(userId), eq(shareBoxId));
+		verify(shareBoxRepository).addGifticonCount(eq(shareBoxId), eq(-2L));
 		verify(participationRepository).deleteByUserIdAndShareBoxId(eq(userId), eq(shareBoxId));
+		verify(gifticonVisibilityAppService).removeParticipant(eq(userId), eq(shareBoxId));
 		verify(shareBoxRepository, never()).delete(any());
 	}
 
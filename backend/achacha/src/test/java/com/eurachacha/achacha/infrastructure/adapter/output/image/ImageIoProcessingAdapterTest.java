@@ -0,0 +1,162 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.image;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.eurachacha.achacha.application.port.output.file.dto.GeneratedImageDto;
+import com.eurachacha.achacha.application.port.output.file.dto.ImageCropAreaDto;
+import com.eurachacha.achacha.domain.model.file.enums.FileType;
+import com.eurachacha.achacha.web.common.exception.CustomException;
+import com.eurachacha.achacha.web.common.exception.ErrorCode;
+
+class ImageIoProcessingAdapterTest {
+
+	private final ImageIoProcessingAdapter imageIoProcessingAdapter = new ImageIoProcessingAdapter(Runnable::run);
+
+	@Test
+	@DisplayName("EXIF 방향이 없으면 저장된 픽셀 기준으로 잘라야 한다")
+	void generateImages_WhenNoOrientation_ThenCropRawPixels() throws IOException {
+		// given
+		MockMultipartFile image = createJpeg(createHalfColoredImage(), null);
+		ImageCropAreaDto cropArea = ImageCropAreaDto.builder().x(120).y(20).width(60).height(40).build();
+
+		// when
+		BufferedImage barcode = generateBarcode(image, cropArea);
+
+		// then
+		assertThat(barcode.getWidth()).isEqualTo(60);
+		assertThat(barcode.getHeight()).isEqualTo(40);
+		assertThat(isBlue(barcode.getRGB(30, 20))).isTrue();
+	}
+
+	@Test
+	@DisplayName("EXIF 방향이 90도 회전이면 화면에 보이는 방향 기준 영역을 잘라야 한다")
+	void generateImages_WhenRotated90_ThenCropDisplayedPixels() throws IOException {
+		// given
+		// 저장된 픽셀은 200x100 (왼쪽 빨강, 오른쪽 파랑), 화면에는 100x200 (위 빨강, 아래 파랑)
+		MockMultipartFile image = createJpeg(createHalfColoredImage(), 6);
+		ImageCropAreaDto cropArea = ImageCropAreaDto.builder().x(20).y(120).width(60).height(40).build();
+
+		// when
+		BufferedImage barcode = generateBarcode(image, cropArea);
+
+		// then
+		assertThat(barcode.getWidth()).isEqualTo(60);
+		assertThat(barcode.getHeight()).isEqualTo(40);
+		assertThat(isBlue(barcode.getRGB(30, 20))).isTrue();
+	}
+
+	@Test
+	@DisplayName("EXIF 방향이 90도 회전이면 저장된 픽셀 크기를 벗어나도 화면 크기 안의 영역은 잘라야 한다")
+	void generateImages_WhenRotated90AndAreaOutsideRawBounds_ThenStillCrop() throws IOException {
+		// given
+		MockMultipartFile image = createJpeg(createHalfColoredImage(), 6);
+		ImageCropAreaDto cropArea = ImageCropAreaDto.builder().x(0).y(150).width(100).height(50).build();
+
+		// when
+		BufferedImage barcode = generateBarcode(image, cropArea);
+
+		// then
+		assertThat(barcode.getWidth()).isEqualTo(100);
+		assertThat(barcode.getHeight()).isEqualTo(50);
+		assertThat(isBlue(barcode.getRGB(50, 25))).isTrue();
+	}
+
+	@Test
+	@DisplayName("자를 영역이 화면에 보이는 이미지 밖이면 예외가 발생해야 한다")
+	void generateImages_WhenAreaOutsideDisplayedImage_ThenThrowException() throws IOException {
+		// given
+		MockMultipartFile image = createJpeg(createHalfColoredImage(), 6);
+		ImageCropAreaDto cropArea = ImageCropAreaDto.builder().x(150).y(0).width(40).height(40).build();
+
+		// when & then
+		assertThatThrownBy(() -> imageIoProcessingAdapter.generateImages(image, false, cropArea))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.BARCODE_CROP_AREA_INVALID);
+	}
+
+	@Test
+	@DisplayName("썸네일은 EXIF 방향을 적용해 생성해야 한다")
+	void generateImages_WhenRotated90_ThenThumbnailIsOriented() throws IOException {
+		// given
+		// 저장된 픽셀은 위 빨강, 아래 파랑 -> 90도 회전하면 왼쪽 파랑, 오른쪽 빨강
+		BufferedImage source = new BufferedImage(400, 400, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = source.createGraphics();
+		graphics.setColor(Color.RED);
+		graphics.fillRect(0, 0, 400, 200);
+		graphics.setColor(Color.BLUE);
+		graphics.fillRect(0, 200, 400, 200);
+		graphics.dispose();
+		MockMultipartFile image = createJpeg(source, 6);
+
+		// when
+		Map<FileType, GeneratedImageDto> result = imageIoProcessingAdapter.generateImages(image, true, null);
+
+		// then
+		BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(result.get(FileType.THUMBNAIL).getContent()));
+		assertThat(isBlue(thumbnail.getRGB(50, 150))).isTrue();
+		assertThat(isBlue(thumbnail.getRGB(250, 150))).isFalse();
+	}
+
+	private BufferedImage generateBarcode(MockMultipartFile image, ImageCropAreaDto cropArea) throws IOException {
+		Map<FileType, GeneratedImageDto> result = imageIoProcessingAdapter.generateImages(image, false, cropArea);
+		return ImageIO.read(new ByteArrayInputStream(result.get(FileType.BARCODE).getContent()));
+	}
+
+	// 200x100, 왼쪽 절반 빨강, 오른쪽 절반 파랑
+	private BufferedImage createHalfColoredImage() {
+		BufferedImage image = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		graphics.setColor(Color.RED);
+		graphics.fillRect(0, 0, 100, 100);
+		graphics.setColor(Color.BLUE);
+		graphics.fillRect(100, 0, 100, 100);
+		graphics.dispose();
+		return image;
+	}
+
+	// JPEG 인코딩 후 SOI 바로 뒤에 방향 태그만 있는 EXIF(APP1) 삽입
+	private MockMultipartFile createJpeg(BufferedImage image, Integer orientation) throws IOException {
+		ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+		ImageIO.write(image, "jpg", encoded);
+		byte[] jpeg = encoded.toByteArray();
+		if (orientation == null) {
+			return new MockMultipartFile("image", "image.jpg", "image/jpeg", jpeg);
+		}
+
+		byte[] exif = {
+			'E', 'x', 'i', 'f', 0, 0,
+			'M', 'M', 0, 42, 0, 0, 0, 8,                       // TIFF 헤더 (big endian, IFD0 offset 8)
+			0, 1,                                              // 항목 수
+			0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, orientation.byteValue(), 0, 0, // Orientation, SHORT, 1개
+			0, 0, 0, 0                                         // 다음 IFD 없음
+		};
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		output.write(jpeg, 0, 2);
+		output.write(0xFF);
+		output.write(0xE1);
+		output.write((exif.length + 2) >> 8);
+		output.write((exif.length + 2) & 0xFF);
+		output.write(exif);
+		output.write(jpeg, 2, jpeg.length - 2);
+		return new MockMultipartFile("image", "image.jpg", "image/jpeg", output.toByteArray());
+	}
+
+	private boolean isBlue(int rgb) {
+		Color color = new Color(rgb);
+		return color.getBlue() > 200 && color.getRed() < 60;
+	}
+}
@@ -0,0 +1,107 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.ocr;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OcrImagePreprocessorTest {
+
+	private final OcrImagePreprocessor ocrImagePreprocessor = new OcrImagePreprocessor(new SimpleMeterRegistry());
+
+	@Test
+	@DisplayName("긴 변이 최대 길이를 넘으면 비율을 유지하며 최대 길이로 축소해야 한다")
+	void preprocess_WhenLongSideExceedsMax_ThenScaleDownToMax() throws IOException {
+		// given
+		MockMultipartFile image = createPng("large.png", createNoiseImage(3000, 900));
+
+		// when
+		OcrImagePreprocessor.OcrImage result = ocrImagePreprocessor.preprocess(image);
+
+		// then
+		BufferedImage decoded = decode(result.content());
+		assertThat(result.filename()).isEqualTo("large.jpg");
+		assertThat(decoded.getWidth()).isEqualTo(1600);
+		assertThat(decoded.getHeight()).isEqualTo(480);
+	}
+
+	@Test
+	@DisplayName("변환된 이미지는 흑백 JPEG이어야 한다")
+	void preprocess_WhenColorImage_ThenConvertToGrayscaleJpeg() throws IOException {
+		// given
+		MockMultipartFile image = createPng("color.png", createNoiseImage(400, 300));
+
+		// when
+		OcrImagePreprocessor.OcrImage result = ocrImagePreprocessor.preprocess(image);
+
+		// then
+		BufferedImage decoded = decode(result.content());
+		assertThat(result.filename()).isEqualTo("color.jpg");
+		assertThat(decoded.getColorModel().getNumColorComponents()).isEqualTo(1);
+		assertThat(decoded.getWidth()).isEqualTo(400);
+		assertThat(decoded.getHeight()).isEqualTo(300);
+	}
+
+	@Test
+	@DisplayName("변환 결과가 원본보다 크면 원본을 그대로 전송해야 한다")
+	void preprocess_WhenConvertedLarger_ThenSendOriginal() throws IOException {
+		// given
+		// 단색 PNG는 같은 크기의 JPEG보다 작음
+		MockMultipartFile image = createPng("solid.png", new BufferedImage(64, 64, BufferedImage.TYPE_BYTE_GRAY));
+
+		// when
+		OcrImagePreprocessor.OcrImage result = ocrImagePreprocessor.preprocess(image);
+
+		// then
+		assertThat(result.filename()).isEqualTo("solid.png");
+		assertThat(result.content()).isEqualTo(image.getBytes());
+	}
+
+	@Test
+	@DisplayName("디코딩할 수 없는 이미지는 원본을 그대로 전송해야 한다")
+	void preprocess_WhenUnsupportedFormat_ThenSendOriginal() throws IOException {
+		// given
+		byte[] content = "RIFF....WEBPVP8 ".getBytes();
+		MockMultipartFile image = new MockMultipartFile("image", "image.webp", "image/webp", content);
+
+		// when
+		OcrImagePreprocessor.OcrImage result = ocrImagePreprocessor.preprocess(image);
+
+		// then
+		assertThat(result.filename()).isEqualTo("image.webp");
+		assertThat(result.content()).isEqualTo(content);
+	}
+
+	// PNG로 무손실 압축되지 않는 컬러 이미지
+	private BufferedImage createNoiseImage(int width, int height) {
+		Random random = new Random(42);
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				image.setRGB(x, y, random.nextInt(0xFFFFFF));
+			}
+		}
+		return image;
+	}
+
+	private MockMultipartFile createPng(String filename, BufferedImage image) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", outputStream);
+		return new MockMultipartFile("image", filename, "image/png", outputStream.toByteArray());
+	}
+
+	private BufferedImage decode(byte[] content) throws IOException {
+		return ImageIO.read(new ByteArrayInputStream(content));
+	}
+}
@@ -0,0 +1,87 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.persistence.gifticon;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.eurachacha.achacha.application.port.output.gifticon.dto.AvailableGifticonSummaryDto;
+import com.eurachacha.achacha.domain.model.gifticon.enums.GifticonSortType;
+
+class GifticonSortedMergerTest {
+
+	private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 5, 1, 0, 0);
+	private static final LocalDate BASE_DATE = LocalDate.of(2025, 6, 1);
+
+	@Test
+	@DisplayName("등록순 병합 - 여러 분기를 (생성시각 DESC, id DESC) 순서로 병합해야 한다")
+	void merge_WhenCreatedDesc_ThenMergedInOrder() {
+		// given
+		List<AvailableGifticonSummaryDto> myBranch = List.of(gifticon(6, 6), gifticon(3, 3), gifticon(1, 1));
+		List<AvailableGifticonSummaryDto> shareBoxBranch1 = List.of(gifticon(5, 5), gifticon(2, 2));
+		List<AvailableGifticonSummaryDto> shareBoxBranch2 = List.of(gifticon(4, 4));
+		Comparator<AvailableGifticonSummaryDto> comparator = GifticonSortedMerger.comparatorOf(
+			GifticonSortType.CREATED_DESC.createSort());
+
+		// when
+		List<AvailableGifticonSummaryDto> result = GifticonSortedMerger.merge(
+			List.of(myBranch, shareBoxBranch1, shareBoxBranch2), comparator, 10);
+
+		// then
+		assertThat(result).extracting(AvailableGifticonSummaryDto::getGifticonId).containsExactly(6, 5, 4, 3, 2, 1);
+	}
+
+	@Test
+	@DisplayName("만료순 병합 - 만료일이 같으면 id 오름차순으로 병합해야 한다")
+	void merge_WhenExpiryAsc_ThenTieBrokenById() {
+		// given
+		List<AvailableGifticonSummaryDto> myBranch = List.of(expiring(1, BASE_DATE),
+			expiring(4, BASE_DATE.plusDays(1)));
+		List<AvailableGifticonSummaryDto> shareBoxBranch = List.of(expiring(2, BASE_DATE), expiring(3, BASE_DATE));
+		Comparator<AvailableGifticonSummaryDto> comparator = GifticonSortedMerger.comparatorOf(
+			GifticonSortType.EXPIRY_ASC.createSort());
+
+		// when
+		List<AvailableGifticonSummaryDto> result = GifticonSortedMerger.merge(
+			List.of(myBranch, shareBoxBranch), comparator, 10);
+
+		// then
+		assertThat(result).extracting(AvailableGifticonSummaryDto::getGifticonId).containsExactly(1, 2, 3, 4);
+	}
+
+	@Test
+	@DisplayName("병합 - 내 기프티콘이 공유된 경우 중복 없이 한 번만 포함하고 limit 개에서 중단해야 한다")
+	void merge_WhenDuplicatedAcrossBranches_ThenDeduplicatedAndBounded() {
+		// given
+		AvailableGifticonSummaryDto shared = gifticon(5, 5);
+		List<AvailableGifticonSummaryDto> myBranch = List.of(shared, gifticon(3, 3), gifticon(1, 1));
+		List<AvailableGifticonSummaryDto> shareBoxBranch = List.of(shared, gifticon(4, 4), gifticon(2, 2));
+		Comparator<AvailableGifticonSummaryDto> comparator = GifticonSortedMerger.comparatorOf(
+			GifticonSortType.CREATED_DESC.createSort());
+
+		// when
+		List<AvailableGifticonSummaryDto> result = GifticonSortedMerger.merge(
+			List.of(myBranch, shareBoxBranch), comparator, 3);
+
+		// then
+		assertThat(result).extracting(AvailableGifticonSummaryDto::getGifticonId).containsExactly(5, 4, 3);
+	}
+
+	private AvailableGifticonSummaryDto gifticon(int id, int minutes) {
+		return summary(id, BASE_DATE, BASE_TIME.plusMinutes(minutes));
+	}
+
+	private AvailableGifticonSummaryDto expiring(int id, LocalDate expiryDate) {
+		return summary(id, expiryDate, BASE_TIME);
+	}
+
+	private AvailableGifticonSummaryDto summary(int id, LocalDate expiryDate, LocalDateTime createdAt) {
+		return new AvailableGifticonSummaryDto(id, "gifticon" + id, null, expiryDate, createdAt,
+			null, null, null, null, null, null, null);
+	}
+}
@@ -0,0 +1,170 @@
+package com.eurachacha.achacha.infrastructure.adapter.output.storage;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.eurachacha.achacha.application.port.output.file.dto.GeneratedImageDto;
+import com.eurachacha.achacha.application.port.output.file.dto.SignedCookieDto;
+import com.eurachacha.achacha.domain.model.file.enums.FileType;
+import com.eurachacha.achacha.infrastructure.config.AwsCloudFrontProperties;
+import com.eurachacha.achacha.infrastructure.config.AwsS3Properties;
+import com.eurachacha.achacha.infrastructure.util.CloudFrontSigner;
+import com.eurachacha.achacha.web.common.exception.CustomException;
+
+@ExtendWith(MockitoExtension.class)
+class S3StorageAdapterTest {
+
+	private static final String DOMAIN = "cdn.example.com";
+	private static final String THUMBNAIL_URL = "https://" + DOMAIN + "/" + FileType.THUMBNAIL.getPathPrefix() + "/";
+
+	@Mock
+	private AmazonS3 amazonS3;
+
+	@Mock
+	private CloudFrontSigner cloudFrontSigner;
+
+	@Mock
+	private AwsS3Properties awsS3Properties;
+
+	private S3StorageAdapter s3StorageAdapter;
+
+	@BeforeEach
+	void setUp() {
+		AwsCloudFrontProperties cloudFrontProperties = new AwsCloudFrontProperties(DOMAIN, "keypair", "key", true,
+			null, Duration.ofHours(1));
+		s3StorageAdapter = new S3StorageAdapter(amazonS3, cloudFrontSigner, awsS3Properties, cloudFrontProperties,
+			Runnable::run);
+
+		// 리소스 URL 앞에 "signed:"를 붙여 입력 순서대로 반환
+		lenient().when(cloudFrontSigner.generateSignedUrls(anyList(), any(Date.class)))
+			.thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream()
+				.map(url -> "signed:" + url)
+				.toList());
+	}
+
+	@Test
+	@DisplayName("조회자 본인 경로의 썸네일만 서명 없이 반환하고 나머지 썸네일은 서명해야 한다")
+	void generateFileUrls_WhenMixedOwners_ThenSignOnlyOthers() {
+		// when
+		List<String> urls = s3StorageAdapter.generateFileUrls(List.of("7/own.jpg", "8/shared.jpg", "legacy.jpg"),
+			FileType.THUMBNAIL, 7);
+
+		// then
+		assertThat(urls).containsExactly(
+			THUMBNAIL_URL + "7/own.jpg",
+			"signed:" + THUMBNAIL_URL + "8/shared.jpg",
+			"signed:" + THUMBNAIL_URL + "legacy.jpg");
+		verify(cloudFrontSigner).generateSignedUrls(
+			eq(List.of(THUMBNAIL_URL + "8/shared.jpg", THUMBNAIL_URL + "legacy.jpg")), any(Date.class));
+	}
+
+	@Test
+	@DisplayName("조회자가 없으면 본인 경로 형식의 썸네일도 서명해야 한다")
+	void generateFileUrls_WhenNoViewer_ThenSignAll() {
+		// when
+		List<String> urls = s3StorageAdapter.generateFileUrls(List.of("7/own.jpg"), FileType.THUMBNAIL, null);
+
+		// then
+		assertThat(urls).containsExactly("signed:" + THUMBNAIL_URL + "7/own.jpg");
+	}
+
+	@Test
+	@DisplayName("id가 다른 사용자 id로 시작하는 경로는 본인 경로로 보지 않아야 한다")
+	void generateFileUrls_WhenViewerIdIsPrefixOfOtherId_ThenSign() {
+		// when
+		List<String> urls = s3StorageAdapter.generateFileUrls(List.of("70/other.jpg"), FileType.THUMBNAIL, 7);
+
+		// then
+		assertThat(urls).containsExactly("signed:" + THUMBNAIL_URL + "70/other.jpg");
+	}
+
+	@Test
+	@DisplayName("단건 URL은 서명 쿠키 타입이어도 항상 서명해야 한다")
+	void generateFileUrl_WhenCookieDeliveryType_ThenSign() {
+		// given
+		given(cloudFrontSigner.generateSignedUrl(anyString(), any(Date.class)))
+			.willAnswer(invocation -> "signed:" + invocation.getArgument(0));
+
+		// when
+		String url = s3StorageAdapter.generateFileUrl("7/own.jpg", FileType.THUMBNAIL);
+
+		// then
+		assertThat(url).isEqualTo("signed:" + THUMBNAIL_URL + "7/own.jpg");
+	}
+
+	@Test
+	@DisplayName("서명 쿠키 정책은 소유자 경로로 한정해야 한다")
+	void generateSignedCookie_WhenOwnerGiven_ThenScopePolicyToOwnerPrefix() {
+		// given
+		given(cloudFrontSigner.generateSignedCookies(anyString(), any(Date.class))).willReturn(Map.of());
+
+		// when
+		SignedCookieDto signedCookie = s3StorageAdapter.generateSignedCookie(FileType.THUMBNAIL, 7);
+
+		// then
+		assertThat(signedCookie.getCookies()).isEmpty();
+		verify(cloudFrontSigner).generateSignedCookies(eq(THUMBNAIL_URL + "7/*"), any(Date.class));
+	}
+
+	@Test
+	@DisplayName("소유자 없이 서명 쿠키를 요청하면 예외가 발생해야 한다")
+	void generateSignedCookie_WhenOwnerMissing_ThenThrow() {
+		assertThatThrownBy(() -> s3StorageAdapter.generateSignedCookie(FileType.THUMBNAIL, null))
+			.isInstanceOf(CustomException.class);
+		verify(cloudFrontSigner, never()).generateSignedCookies(anyString(), any(Date.class));
+	}
+
+	@Test
+	@DisplayName("업로드 스레드 풀이 가득 차면 거부하고 이미 업로드한 임시 파일은 삭제해야 한다")
+	void stageFiles_WhenExecutorRejects_ThenThrowAndDeleteStagedFiles() {
+		// given
+		AtomicInteger submitted = new AtomicInteger();
+		Executor saturatedExecutor = task -> {
+			// 첫 업로드만 실행하고 이후 작업은 거부
+			if (submitted.getAndIncrement() > 0) {
+				throw new RejectedExecutionException("saturated");
+			}
+			task.run();
+		};
+		S3StorageAdapter adapter = new S3StorageAdapter(amazonS3, cloudFrontSigner, awsS3Properties,
+			new AwsCloudFrontProperties(DOMAIN, "keypair", "key", true, null, Duration.ofHours(1)),
+			saturatedExecutor);
+		given(awsS3Properties.getBucket()).willReturn("bucket");
+		Map<FileType, GeneratedImageDto> generatedImages = new EnumMap<>(FileType.class);
+		generatedImages.put(FileType.THUMBNAIL, generatedImage());
+		generatedImages.put(FileType.BARCODE, generatedImage());
+
+		// when, then
+		assertThatThrownBy(() -> adapter.stageFiles(7, Map.of(), generatedImages))
+			.isInstanceOf(RejectedExecutionException.class);
+		verify(amazonS3).putObject(any(PutObjectRequest.class));
+		verify(amazonS3).deleteObject(eq("bucket"),
+			startsWith("staging/" + FileType.THUMBNAIL.getPathPrefix() + "/7/"));
+	}
+
+	private GeneratedImageDto generatedImage() {
+		return GeneratedImageDto.builder()
+			.content(new byte[] {1, 2, 3})
+			.contentType("image/jpeg")
+			.extension("jpg")
+			.build();
+	}
+}
@@ -0,0 +1,133 @@
+package com.eurachacha.achacha.infrastructure.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.amazonaws.services.cloudfront.CloudFrontUrlSigner;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CloudFrontSignerTest {
+
+	private static final String KEY_PAIR_ID = "K2JCJMDEHXQW5F";
+	private static final String RESOURCE_URL = "https://cdn.example.com/images/gifticons/original/a.jpg";
+	// 만료 시간 올림 구간(60초) 경계에 맞춘 시각
+	private static final Date EXPIRATION_DATE = new Date(1_900_000_020_000L);
+
+	private static KeyPair keyPair;
+
+	@BeforeAll
+	static void generateKeyPair() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		keyPair = generator.generateKeyPair();
+	}
+
+	@Test
+	@DisplayName("서명 URL은 AWS SDK의 canned policy 서명 URL과 같아야 한다")
+	void generateSignedUrl_WhenSameExpiration_ThenEqualsSdkCannedPolicyUrl() {
+		// given
+		CloudFrontSigner signer = createSigner();
+		String expected = CloudFrontUrlSigner.getSignedURLWithCannedPolicy(RESOURCE_URL, KEY_PAIR_ID,
+			keyPair.getPrivate(), EXPIRATION_DATE);
+
+		// when
+		String signedUrl = signer.generateSignedUrl(RESOURCE_URL, EXPIRATION_DATE);
+
+		// then
+		assertThat(signedUrl).isEqualTo(expected);
+	}
+
+	@Test
+	@DisplayName("쿼리 파라미터가 있는 URL도 AWS SDK 서명 URL과 같아야 한다")
+	void generateSignedUrl_WhenUrlHasQuery_ThenEqualsSdkCannedPolicyUrl() {
+		// given
+		CloudFrontSigner signer = createSigner();
+		String resourceUrl = RESOURCE_URL + "?w=200";
+		String expected = CloudFrontUrlSigner.getSignedURLWithCannedPolicy(resourceUrl, KEY_PAIR_ID,
+			keyPair.getPrivate(), EXPIRATION_DATE);
+
+		// when
+		String signedUrl = signer.generateSignedUrl(resourceUrl, EXPIRATION_DATE);
+
+		// then
+		assertThat(signedUrl).isEqualTo(expected);
+	}
+
+	@Test
+	@DisplayName("일괄 서명 결과는 개별 SDK 서명 URL과 입력 순서대로 같아야 한다")
+	void generateSignedUrls_WhenMultipleResources_ThenEqualsSdkUrlsInOrder() {
+		// given
+		CloudFrontSigner signer = createSigner();
+		List<String> resourceUrls = List.of(RESOURCE_URL, RESOURCE_URL.replace("a.jpg", "b.jpg"));
+
+		// when
+		List<String> signedUrls = signer.generateSignedUrls(resourceUrls, EXPIRATION_DATE);
+
+		// then
+		assertThat(signedUrls).containsExactly(
+			CloudFrontUrlSigner.getSignedURLWithCannedPolicy(resourceUrls.get(0), KEY_PAIR_ID,
+				keyPair.getPrivate(), EXPIRATION_DATE),
+			CloudFrontUrlSigner.getSignedURLWithCannedPolicy(resourceUrls.get(1), KEY_PAIR_ID,
+				keyPair.getPrivate(), EXPIRATION_DATE));
+	}
+
+	@Test
+	@DisplayName("만료 시간은 구간 경계로 올림되어 요청한 시간보다 짧아지지 않아야 한다")
+	void generateSignedUrl_WhenExpirationInsideBucket_ThenRoundUpToBucket() {
+		// given
+		CloudFrontSigner signer = createSigner();
+		Date insideBucket = new Date(EXPIRATION_DATE.getTime() - 30_000L);
+
+		// when
+		String signedUrl = signer.generateSignedUrl(RESOURCE_URL, insideBucket);
+
+		// then
+		assertThat(signedUrl).isEqualTo(CloudFrontUrlSigner.getSignedURLWithCannedPolicy(RESOURCE_URL, KEY_PAIR_ID,
+			keyPair.getPrivate(), EXPIRATION_DATE));
+	}
+
+	@Test
+	@DisplayName("서명 쿠키의 서명은 공개키로 policy에 대해 검증되어야 한다")
+	void generateSignedCookies_WhenSigned_ThenSignatureVerifiesAgainstPolicy() throws Exception {
+		// given
+		CloudFrontSigner signer = createSigner();
+		String resourcePattern = "https://cdn.example.com/images/gifticons/thumbnail/*";
+
+		// when
+		Map<String, String> cookies = signer.generateSignedCookies(resourcePattern, EXPIRATION_DATE);
+
+		// then
+		byte[] policy = fromUrlSafeBase64(cookies.get("CloudFront-Policy"));
+		assertThat(new String(policy, StandardCharsets.UTF_8)).isEqualTo(
+			"{\"Statement\":[{\"Resource\":\"" + resourcePattern
+				+ "\",\"Condition\":{\"DateLessThan\":{\"AWS:EpochTime\":" + EXPIRATION_DATE.getTime() / 1000
+				+ "}}}]}");
+		assertThat(cookies.get("CloudFront-Key-Pair-Id")).isEqualTo(KEY_PAIR_ID);
+
+		Signature verifier = Signature.getInstance("SHA1withRSA");
+		verifier.initVerify(keyPair.getPublic());
+		verifier.update(policy);
+		assertThat(verifier.verify(fromUrlSafeBase64(cookies.get("CloudFront-Signature")))).isTrue();
+	}
+
+	private CloudFrontSigner createSigner() {
+		return new CloudFrontSigner(KEY_PAIR_ID, keyPair.getPrivate().getEncoded(), new SimpleMeterRegistry());
+	}
+
+	private byte[] fromUrlSafeBase64(String value) {
+		return Base64.getDecoder().decode(value.replace('-', '+').replace('_', '=').replace('~', '/'));
+	}
+}
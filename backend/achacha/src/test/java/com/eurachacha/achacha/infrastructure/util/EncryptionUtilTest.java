@@ -0,0 +1,187 @@
+package com.eurachacha.achacha.infrastructure.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.eurachacha.achacha.infrastructure.config.EncryptionProperties;
+
+class EncryptionUtilTest {
+
+	private static final String CURRENT_KEY = "current-key";
+	private static final String PREVIOUS_KEY = "previous-key";
+	private static final String FINGERPRINT_KEY = "fingerprint-key";
+
+	private EncryptionUtil createEncryptionUtil(String previousKey) {
+		EncryptionUtil encryptionUtil = new EncryptionUtil(
+			new EncryptionProperties(CURRENT_KEY, FINGERPRINT_KEY, previousKey));
+		encryptionUtil.init();
+		return encryptionUtil;
+	}
+
+	@Test
+	@DisplayName("현재 키로 암호화한 값은 복호화되어야 한다")
+	void decrypt_WhenEncryptedWithCurrentKey_ThenDecrypt() {
+		// given
+		EncryptionUtil encryptionUtil = createEncryptionUtil(PREVIOUS_KEY);
+
+		// when
+		String decrypted = encryptionUtil.decrypt(encryptionUtil.encrypt("1234567890"));
+
+		// then
+		assertThat(decrypted).isEqualTo("1234567890");
+	}
+
+	@Test
+	@DisplayName("멀티바이트 문자와 버퍼 초기 크기보다 긴 값도 암복호화되어야 한다")
+	void encrypt_WhenMultibyteOrLongData_ThenRoundTrip() {
+		// given
+		EncryptionUtil encryptionUtil = createEncryptionUtil(null);
+		String multibyte = "바코드-1234-☕";
+		String longData = "9".repeat(1000);
+
+		// when & then
+		assertThat(encryptionUtil.decrypt(encryptionUtil.encrypt(multibyte))).isEqualTo(multibyte);
+		assertThat(encryptionUtil.decrypt(encryptionUtil.encrypt(longData))).isEqualTo(longData);
+		assertThat(encryptionUtil.decrypt(encryptionUtil.encrypt(""))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("기존 방식(byte[] 기반)으로 암호화한 값과 결과가 같아야 한다")
+	void encrypt_WhenSameKey_ThenMatchesByteArrayImplementation() throws Exception {
+		// given
+		EncryptionUtil encryptionUtil = createEncryptionUtil(null);
+		byte[] key = Arrays.copyOf(MessageDigest.getInstance("SHA-256")
+			.digest(CURRENT_KEY.getBytes(StandardCharsets.UTF_8)), 32);
+		Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+		cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"));
+		String expected = Base64.getEncoder().encodeToString(
+			cipher.doFinal("1234567890".getBytes(StandardCharsets.UTF_8)));
+
+		// when
+		String encrypted = encryptionUtil.encrypt("1234567890");
+
+		// then
+		assertThat(encrypted).isEqualTo(expected);
+	}
+
+	@Test
+	@DisplayName("Base64 형식이 아니면 복호화에 실패해야 한다")
+	void decrypt_WhenNotBase64_ThenFail() {
+		// given
+		EncryptionUtil encryptionUtil = createEncryptionUtil(PREVIOUS_KEY);
+
+		// when & then
+		assertThatThrownBy(() -> encryptionUtil.decrypt("바코드"))
+			.isInstanceOf(RuntimeException.class)
+			.hasMessage("복호화 실패");
+	}
+
+	@Test
+	@DisplayName("이전 키가 설정되어 있으면 이전 키로 암호화한 값도 복호화되어야 한다")
+	void decrypt_WhenEncryptedWithPreviousKey_ThenFallBackToPreviousKey() {
+		// given
+		EncryptionUtil encryptionUtil = createEncryptionUtil(PREVIOUS_KEY);
+		String encryptedWithPreviousKey = EncryptionUtil.forKey(PREVIOUS_KEY).encrypt("1234567890");
+
+		// when
+		String decrypted = encryptionUtil.decrypt(encryptedWithPreviousKey);
+
+		// then
+		assertThat(decrypted).isEqualTo("1234567890");
+	}
+
+	@Test
+	@DisplayName("이전 키가 없으면 다른 키로 암호화한 값은 복호화에 실패해야 한다")
+	void decrypt_WhenNoPreviousKey_ThenFail() {
+		// given
+		EncryptionUtil encryptionUtil = createEncryptionUtil(null);
+		String encryptedWithPreviousKey = EncryptionUtil.forKey(PREVIOUS_KEY).encrypt("1234567890");
+
+		// when & then
+		assertThatThrownBy(() -> encryptionUtil.decrypt(encryptedWithPreviousKey))
+			.isInstanceOf(RuntimeException.class)
+			.hasMessage("복호화 실패");
+	}
+
+	@Test
+	@DisplayName("이전 키로 암호화된 값을 복호화한 뒤에도 현재 키로 복호화가 계속 되어야 한다")
+	void decrypt_WhenAlternatingKeys_ThenKeepDecrypting() {
+		// given
+		EncryptionUtil encryptionUtil = createEncryptionUtil(PREVIOUS_KEY);
+		String encryptedWithPreviousKey = EncryptionUtil.forKey(PREVIOUS_KEY).encrypt("1111");
+		String encryptedWithCurrentKey = encryptionUtil.encrypt("2222");
+
+		// when & then
+		assertThat(encryptionUtil.decrypt(encryptedWithPreviousKey)).isEqualTo("1111");
+		assertThat(encryptionUtil.decrypt(encryptedWithCurrentKey)).isEqualTo("2222");
+		assertThat(encryptionUtil.decrypt(encryptedWithPreviousKey)).isEqualTo("1111");
+	}
+
+	@Test
+	@DisplayName("이전 키 암호문이 현재 키로도 패딩 검사를 통과하면 검증을 통과한 이전 키 평문을 반환해야 한다")
+	void decryptWithVerifier_WhenCurrentKeyPassesPaddingByChance_ThenReturnVerifiedPlainText() {
+		// given
+		EncryptionUtil encryptionUtil = createEncryptionUtil(PREVIOUS_KEY);
+		EncryptionUtil currentOnly = EncryptionUtil.forKey(CURRENT_KEY);
+		EncryptionUtil previousOnly = EncryptionUtil.forKey(PREVIOUS_KEY);
+
+		// 현재 키로도 복호화가 "성공"하는 이전 키 암호문 탐색 (약 1/256 확률)
+		String barcode = null;
+		String encryptedWithPreviousKey = null;
+		for (int i = 0; i < 100_000 && barcode == null; i++) {
+			String candidate = String.valueOf(1_000_000_000L + i);
+			String encrypted = previousOnly.encrypt(candidate);
+			try {
+				currentOnly.decrypt(encrypted);
+				barcode = candidate;
+				encryptedWithPreviousKey = encrypted;
+			} catch (RuntimeException ignored) {
+				// 현재 키로는 패딩 검사 실패
+			}
+		}
+		assertThat(barcode).isNotNull();
+		String expected = barcode;
+
+		// when
+		String unverified = encryptionUtil.decrypt(encryptedWithPreviousKey);
+		String verified = encryptionUtil.decrypt(encryptedWithPreviousKey, expected::equals);
+
+		// then
+		assertThat(unverified).isNotEqualTo(expected);
+		assertThat(verified).isEqualTo(expected);
+	}
+
+	@Test
+	@DisplayName("어느 키의 복호화 결과도 검증을 통과하지 못하면 실패해야 한다")
+	void decryptWithVerifier_WhenNoKeyVerified_ThenFail() {
+		// given
+		EncryptionUtil encryptionUtil = createEncryptionUtil(PREVIOUS_KEY);
+		String encrypted = encryptionUtil.encrypt("1234567890");
+
+		// when & then
+		assertThatThrownBy(() -> encryptionUtil.decrypt(encrypted, plainText -> false))
+			.isInstanceOf(RuntimeException.class)
+			.hasMessage("복호화 실패");
+	}
+
+	@Test
+	@DisplayName("이전 키만 설정하고 지문 키가 없으면 초기화에 실패해야 한다")
+	void init_WhenPreviousKeyWithoutFingerprintKey_ThenFail() {
+		// given
+		EncryptionUtil encryptionUtil = new EncryptionUtil(new EncryptionProperties(CURRENT_KEY, null, PREVIOUS_KEY));
+
+		// when & then
+		assertThatThrownBy(encryptionUtil::init)
+			.isInstanceOf(IllegalStateException.class);
+	}
+}
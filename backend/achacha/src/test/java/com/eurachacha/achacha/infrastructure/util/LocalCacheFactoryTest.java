@@ -0,0 +1,81 @@
+package com.eurachacha.achacha.infrastructure.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LocalCacheFactoryTest {
+
+	private static final String CACHE_NAME = "test.cache";
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	@DisplayName("보관 시간이 지난 항목은 조회되지 않아야 한다")
+	void create_WhenExpireAfterWriteElapsed_ThenEntryExpires() {
+		// given
+		AtomicLong nanos = new AtomicLong();
+		Cache<String, String> cache = LocalCacheFactory.create(CACHE_NAME, 10, Duration.ofMinutes(10),
+			meterRegistry, nanos::get);
+		cache.put("key", "value");
+
+		// when
+		nanos.addAndGet(Duration.ofMinutes(9).toNanos());
+		String beforeExpiry = cache.getIfPresent("key");
+		nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+		String afterExpiry = cache.getIfPresent("key");
+
+		// then
+		assertThat(beforeExpiry).isEqualTo("value");
+		assertThat(afterExpiry).isNull();
+	}
+
+	@Test
+	@DisplayName("최대 크기를 넘으면 항목이 제거되고 제거 지표에 기록되어야 한다")
+	void create_WhenMaximumSizeExceeded_ThenEvictsAndRecordsMetric() {
+		// given
+		Cache<Integer, Integer> cache = LocalCacheFactory.create(CACHE_NAME, 2, Duration.ofMinutes(10),
+			meterRegistry);
+
+		// when
+		for (int i = 0; i < 10; i++) {
+			cache.put(i, i);
+		}
+		cache.cleanUp();
+
+		// then
+		assertThat(cache.estimatedSize()).isEqualTo(2);
+		assertThat(meterRegistry.get("cache.evictions").tag("cache", CACHE_NAME).functionCounter().count())
+			.isEqualTo(8);
+		assertThat(meterRegistry.get("cache.size").tag("cache", CACHE_NAME).gauge().value()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("조회 결과가 캐시 이름으로 hit, miss 지표에 기록되어야 한다")
+	void create_WhenGet_ThenRecordsHitAndMissMetrics() {
+		// given
+		Cache<String, String> cache = LocalCacheFactory.create(CACHE_NAME, 10, Duration.ofMinutes(10),
+			meterRegistry);
+		cache.put("key", "value");
+
+		// when
+		cache.getIfPresent("key");
+		cache.getIfPresent("key");
+		cache.getIfPresent("missing");
+
+		// then
+		assertThat(meterRegistry.get("cache.gets").tags("cache", CACHE_NAME, "result", "hit")
+			.functionCounter().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("cache.gets").tags("cache", CACHE_NAME, "result", "miss")
+			.functionCounter().count()).isEqualTo(1);
+	}
+}